@@ -0,0 +1,96 @@
+package com.the_pathfinders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The memory-mapped {@link BlogBundle} against reading each article from its own classpath file,
+ * as BlogContentLoader did before the bundle (and still does when there is none).
+ *
+ *   mvn -Pbench test-compile exec:exec@bench -Dbench.main=org.openjdk.jmh.Main -Dbench.args=BlogBundleBenchmark
+ *
+ * Two shapes: one article opened from the blog page, and the whole corpus as the list page and the
+ * search index need it (before the bundle that also meant counting words per file).
+ * Needs target/classes/data/blogs.bundle, which the Maven build writes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlogBundleBenchmark {
+    private static final String BLOGS_DIR = "/data/blogs";
+
+    @Param({"anxiety-disorders"})
+    public String slug;
+
+    private Path bundlePath;
+    private BlogBundle bundle;
+    private List<String> slugs;
+
+    @Setup
+    public void setup() throws Exception {
+        bundlePath = Paths.get(BlogBundle.class.getResource(BlogBundle.RESOURCE).toURI());
+        bundle = BlogBundle.open(bundlePath);
+        slugs = bundle.entries().stream().map(BlogBundle.Entry::slug).toList();
+    }
+
+    @Benchmark
+    public String articleFromBundle() {
+        return bundle.text(slug);
+    }
+
+    @Benchmark
+    public String articleFromFile() throws IOException {
+        return readFile(slug);
+    }
+
+    /** Map the bundle, then take every article with its precomputed word count. */
+    @Benchmark
+    public void corpusFromBundle(Blackhole bh) throws IOException {
+        BlogBundle b = BlogBundle.open(bundlePath);
+        for (BlogBundle.Entry e : b.entries()) {
+            bh.consume(e.wordCount());
+            bh.consume(b.text(e.slug()));
+        }
+    }
+
+    /** Read every article file and count its words. */
+    @Benchmark
+    public void corpusFromFiles(Blackhole bh) throws IOException {
+        for (String s : slugs) {
+            String text = readFile(s);
+            bh.consume(text.split("\\s+").length);
+            bh.consume(text);
+        }
+    }
+
+    private static String readFile(String slug) throws IOException {
+        try (InputStream is = BlogBundleBenchmark.class.getResourceAsStream(BLOGS_DIR + "/" + slug + ".txt");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining(System.lineSeparator()));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.the_pathfinders.db;
+
+import com.the_pathfinders.util.Metrics;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Many souls loving one popular journal at once: compares the striped toggle in
+ * {@link JournalRepository#toggleLoveState} with the single-row counter update it replaced.
+ *
+ *   mvn -Pbench test-compile exec:exec@bench -Dbench.main=com.the_pathfinders.db.LoveContentionBench \
+ *       -Dbench.args="[jdbc url] [writers=64] [seconds=10]"
+ *
+ * Each writer is its own client with its own connection and soul, toggling love on the same journal as
+ * fast as it can. The schema comes from {@link DbMigrations}, so point the url at a scratch database.
+ * After each run the love count is checked against the rows in journal_loves.
+ */
+public final class LoveContentionBench {
+    private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/postgres?user=postgres&sslmode=disable";
+    private static final String JOURNAL_ID = "BENCH01";
+    private static final int WARMUP_SECONDS = 2;
+
+    /** The counter update before striping: every toggle updates the journal's own row. */
+    private static final String SINGLE_ROW_SQL = """
+        with removed as (
+          delete from journal_loves where journal_id = ? and soul_id = ?
+          returning 1
+        ), added as (
+          insert into journal_loves (journal_id, soul_id)
+          select ?, ? where not exists (select 1 from removed)
+          on conflict do nothing
+          returning 1
+        ), counted as (
+          update public_journals
+          set love_count = greatest(coalesce(love_count, 0) + (select count(*) from added) - (select count(*) from removed), 0)
+          where journal_id = ?
+          returning love_count
+        )
+        select exists (select 1 from added) as loved, (select love_count from counted) as love_count
+    """;
+
+    private interface Toggle {
+        void run(Connection conn, String soulId) throws SQLException;
+    }
+
+    private LoveContentionBench() {}
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : DEFAULT_URL;
+        int writers = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        DB.init(url);
+        DB.warmUp();
+        DbMigrations.runAll();
+
+        System.out.println(writers + " writers, " + seconds + "s per run, against " + url);
+        run("single-row", url, writers, seconds, (conn, soulId) -> {
+            try (PreparedStatement ps = conn.prepareStatement(SINGLE_ROW_SQL)) {
+                ps.setString(1, JOURNAL_ID);
+                ps.setString(2, soulId);
+                ps.setString(3, JOURNAL_ID);
+                ps.setString(4, soulId);
+                ps.setString(5, JOURNAL_ID);
+                ps.executeQuery().close();
+            }
+        });
+        run("striped", url, writers, seconds, (conn, soulId) -> JournalRepository.toggleLoveState(conn, JOURNAL_ID, soulId));
+
+        resetJournal();
+        DB.shutdown();
+    }
+
+    private static void run(String name, String url, int writers, int seconds, Toggle toggle) throws Exception {
+        resetJournal();
+        Metrics.Histogram latency = new Metrics.Histogram();
+        LongAdder toggles = new LongAdder();
+        LongAdder failed = new LongAdder();
+        CountDownLatch connected = new CountDownLatch(writers);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            String soulId = "bench-soul-" + i;
+            threads.add(Thread.ofPlatform().name("writer-" + i).start(() -> {
+                try (Connection conn = DriverManager.getConnection(url)) {
+                    connected.countDown();
+                    connected.await();
+                    // Everyone is connected by now; the first seconds are warm-up and not measured
+                    long start = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+                    long end = start + seconds * 1_000_000_000L;
+                    while (true) {
+                        long now = System.nanoTime();
+                        if (now - end >= 0) break;
+                        try {
+                            toggle.run(conn, soulId);
+                        } catch (SQLException e) {
+                            if (now - start >= 0) failed.increment();
+                            continue;
+                        }
+                        if (now - start >= 0) {
+                            latency.recordNanos(System.nanoTime() - now);
+                            toggles.increment();
+                        }
+                    }
+                } catch (Exception e) {
+                    System.err.println(Thread.currentThread().getName() + ": " + e);
+                }
+            }));
+        }
+        for (Thread t : threads) t.join();
+
+        System.out.printf("%-10s %8.0f toggles/s  p50=%dus p99=%dus max=%dus  failed=%d  %s%n", name,
+                toggles.sum() / (double) seconds, latency.percentileMicros(50), latency.percentileMicros(99),
+                latency.getMaxMicros(), failed.sum(), checkCount());
+    }
+
+    /** Fresh hot journal with no loves and no stripes. */
+    private static void resetJournal() throws SQLException {
+        try (Connection conn = DB.getConnection(); Statement st = conn.createStatement()) {
+            st.execute("delete from public_journals where journal_id = '" + JOURNAL_ID + "'");
+            st.execute("insert into public_journals (journal_id, soul_id, journal_text, love_count) values ('"
+                    + JOURNAL_ID + "', 'bench-author', 'A journal everyone loves', 0)");
+        }
+    }
+
+    /** Whether the counted loves match the love rows, as the journal page would show them. */
+    private static String checkCount() throws SQLException {
+        String sql = "select journal_love_total(journal_id, love_count), (select count(*) from journal_loves where journal_id = ?) "
+                + "from public_journals where journal_id = ?";
+        try (Connection conn = DB.getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, JOURNAL_ID);
+            ps.setString(2, JOURNAL_ID);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                int counted = rs.getInt(1);
+                int rows = rs.getInt(2);
+                return counted == rows ? "count ok (" + rows + ")" : "COUNT MISMATCH counted=" + counted + " rows=" + rows;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.the_pathfinders.db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * What schema setup costs at startup: {@link DbMigrations#runAll} on an empty database (cold) and on a
+ * current one (warm), next to running every DDL statement as startup did before versioning.
+ *
+ *   mvn -Pbench test-compile exec:exec@bench -Dbench.main=com.the_pathfinders.db.MigrationStartupBench \
+ *       -Dbench.args="[jdbc url] [runs=5]"
+ *
+ * The url's user must be allowed to create databases; each run uses a scratch database that is dropped
+ * afterwards. Timings are per startup; against a remote server each statement also pays a round trip,
+ * so the statement counts are printed too.
+ */
+public final class MigrationStartupBench {
+    private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/postgres?user=postgres&sslmode=disable";
+    private static final String SCRATCH_DB = "shelter_bench_migrations";
+
+    private interface Startup {
+        void run() throws Exception;
+    }
+
+    private MigrationStartupBench() {}
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : DEFAULT_URL;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        String scratchUrl = url.replaceFirst("(//[^/]+/)[^?]*", "$1" + SCRATCH_DB);
+        List<String> legacy = DbMigrations.allStatements();
+
+        System.out.println(runs + " startups each, against " + scratchUrl);
+        long[] cold = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            recreateScratch(url);
+            cold[i] = time(scratchUrl, DbMigrations::runAll);
+        }
+        report("cold", cold, "all " + DbMigrations.latestVersion() + " migrations in one transaction");
+
+        // The scratch database is now current
+        long[] warm = new long[runs];
+        for (int i = 0; i < runs; i++) warm[i] = time(scratchUrl, DbMigrations::runAll);
+        report("warm", warm, "1 query on schema_version");
+
+        long[] unversioned = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            unversioned[i] = time(scratchUrl, () -> {
+                try (Connection c = DB.getConnection(); Statement st = c.createStatement()) {
+                    for (String sql : legacy) st.executeUpdate(sql);
+                }
+            });
+        }
+        report("unversioned", unversioned, legacy.size() + " statements, each its own round trip");
+
+        dropScratch(url);
+    }
+
+    /** One startup: a fresh pool, as the app has, then the schema step. Only the schema step is timed. */
+    private static long time(String url, Startup startup) throws Exception {
+        DB.init(url);
+        try {
+            DB.warmUp();
+            long started = System.nanoTime();
+            startup.run();
+            return System.nanoTime() - started;
+        } finally {
+            DB.shutdown();
+        }
+    }
+
+    private static void report(String name, long[] nanos, String what) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-12s median=%.1fms min=%.1fms max=%.1fms  (%s)%n", name,
+                sorted[sorted.length / 2] / 1e6, sorted[0] / 1e6, sorted[sorted.length - 1] / 1e6, what);
+    }
+
+    private static void recreateScratch(String url) throws SQLException {
+        try (Connection c = DriverManager.getConnection(url); Statement st = c.createStatement()) {
+            st.execute("drop database if exists " + SCRATCH_DB + " with (force)");
+            st.execute("create database " + SCRATCH_DB);
+        }
+    }
+
+    private static void dropScratch(String url) throws SQLException {
+        try (Connection c = DriverManager.getConnection(url); Statement st = c.createStatement()) {
+            st.execute("drop database if exists " + SCRATCH_DB + " with (force)");
+        }
+    }
+}
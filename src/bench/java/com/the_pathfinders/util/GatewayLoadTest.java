@@ -0,0 +1,144 @@
+package com.the_pathfinders.util;
+
+import com.the_pathfinders.verification.VerificationServer;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load test for {@link HttpGateway}: sends requests at a fixed rate, whether or not earlier
+ * ones have been answered, and reports the rate achieved and latency percentiles.
+ *
+ *   mvn -Pbench test-compile exec:exec@bench -Dbench.main=com.the_pathfinders.util.GatewayLoadTest \
+ *       -Dbench.args="[rate=1000] [seconds=10] [url]"
+ *
+ * Without a url it starts the gateway on a free port with the verification routes and requests an
+ * unknown token, which is answered from a cached page. Exits non-zero if the rate or any request failed.
+ * Requests go over plain keep-alive sockets, reused between requests, so the client costs as little as
+ * possible next to the server being measured.
+ */
+public final class GatewayLoadTest {
+    private static final double MIN_RATE_RATIO = 0.95;
+
+    /** A kept-alive connection; used by one request at a time. */
+    private record Connection(Socket socket, InputStream in, OutputStream out) {
+        static Connection open(URI uri) throws IOException {
+            Socket socket = new Socket(uri.getHost(), uri.getPort());
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(10_000);
+            return new Connection(socket, new BufferedInputStream(socket.getInputStream()), socket.getOutputStream());
+        }
+
+        /** Send the request and read the response; returns the status code. */
+        int exchange(byte[] request) throws IOException {
+            out.write(request);
+            out.flush();
+            String status = readLine();
+            long length = 0;
+            String line;
+            while (!(line = readLine()).isEmpty()) {
+                if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) length = Long.parseLong(line.substring(15).trim());
+            }
+            in.skipNBytes(length);
+            return Integer.parseInt(status.substring(9, 12));
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b == -1) throw new EOFException();
+                if (b != '\r') sb.append((char) b);
+            }
+            return sb.toString();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private GatewayLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        int rate = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String url;
+        if (args.length > 2) {
+            url = args[2];
+        } else {
+            HttpGateway.start(0);
+            new VerificationServer(null).start();
+            url = HttpGateway.baseUrl() + "/verify?token=load-test&soul_id=load-test";
+        }
+
+        URI uri = URI.create(url);
+        byte[] request = ("GET " + uri.getRawPath() + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "")
+                + " HTTP/1.1\r\nHost: " + uri.getHost() + "\r\nConnection: keep-alive\r\n\r\n")
+                .getBytes(StandardCharsets.ISO_8859_1);
+        ConcurrentLinkedQueue<Connection> idle = new ConcurrentLinkedQueue<>();
+
+        Metrics.Histogram latency = new Metrics.Histogram();
+        LongAdder answered = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long total = (long) rate * seconds;
+        long intervalNanos = 1_000_000_000L / rate;
+
+        System.out.println("Sending " + total + " requests at " + rate + "/s to " + url);
+        long start = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long due = start + i * intervalNanos;
+                long wait = due - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                senders.execute(() -> {
+                    long sent = System.nanoTime();
+                    Connection conn = idle.poll();
+                    try {
+                        if (conn == null) conn = Connection.open(uri);
+                        int status = conn.exchange(request);
+                        latency.recordNanos(System.nanoTime() - sent);
+                        idle.add(conn);
+                        // The unknown token is expected to get the cached 400 page
+                        if (status >= 500) failed.increment();
+                        else answered.increment();
+                    } catch (Exception e) {
+                        if (conn != null) conn.close();
+                        failed.increment();
+                    }
+                });
+            }
+            senders.shutdown();
+            senders.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        double achieved = answered.sum() / elapsed;
+
+        System.out.printf("answered=%d failed=%d in %.2fs -> %.0f req/s%n", answered.sum(), failed.sum(), elapsed, achieved);
+        System.out.printf("latency p50=%dus p90=%dus p99=%dus p99.9=%dus max=%dus%n",
+                latency.percentileMicros(50), latency.percentileMicros(90), latency.percentileMicros(99),
+                latency.percentileMicros(99.9), latency.getMaxMicros());
+
+        System.out.println("connections used: " + idle.size());
+        idle.forEach(Connection::close);
+        HttpGateway.stop();
+        boolean ok = failed.sum() == 0 && achieved >= rate * MIN_RATE_RATIO;
+        System.out.println(ok ? "PASS" : "FAIL");
+        System.exit(ok ? 0 : 1);
+    }
+}
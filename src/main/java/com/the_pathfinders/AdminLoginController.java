@@ -1,5 +1,8 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
 import javafx.animation.*;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -20,6 +23,8 @@ import java.util.ResourceBundle;
 
 public class AdminLoginController implements Initializable {
 
+    private static final Log log = Log.get("auth");
+
     @FXML private Pane root;
     @FXML private Pane backgroundPane;
     @FXML private Rectangle gradientRect;
@@ -118,7 +123,7 @@ public class AdminLoginController implements Initializable {
             javafx.scene.Parent initialRoot = loader.load();
             if (root != null && root.getScene() != null) root.getScene().setRoot(initialRoot);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("handleBack failed", ex);
         }
     }
     
@@ -171,8 +176,8 @@ public class AdminLoginController implements Initializable {
     private void addLoginButtonHoverEffect() {
         if (loginButton == null) return;
         
-        // Use Platform.runLater to ensure button is fully rendered
-        javafx.application.Platform.runLater(() -> {
+        // Use FxQueue.runLater to ensure button is fully rendered
+        FxQueue.runLater(() -> {
             loginButton.setOnMouseEntered(e -> {
                 // On hover: text becomes bigger
                 ScaleTransition scale = new ScaleTransition(Duration.millis(200), loginButton);
@@ -213,7 +218,7 @@ public class AdminLoginController implements Initializable {
         loginButton.setDisable(true);
         
         // Perform authentication in background thread
-        new Thread(() -> {
+        TaskRunner.run(root, "performLogin", () -> {
             try {
                 // First check if keeper is approved
                 if (!com.the_pathfinders.db.KeeperRepository.isKeeperApproved(keeperId)) {
@@ -221,7 +226,7 @@ public class AdminLoginController implements Initializable {
                     com.the_pathfinders.db.KeeperRepository.KeeperSignupRequest request = 
                         com.the_pathfinders.db.KeeperRepository.getSignupRequest(keeperId);
                     
-                    javafx.application.Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         loginButton.setDisable(false);
                         if (request == null) {
                             showAlert("Account Not Found", "No keeper account found with this ID.\n\nPlease sign up first.");
@@ -239,14 +244,14 @@ public class AdminLoginController implements Initializable {
                 // Authenticate
                 boolean authenticated = com.the_pathfinders.db.KeeperRepository.authenticateKeeper(keeperId, keeperPass);
                 
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     loginButton.setDisable(false);
                     if (authenticated) {
                         // Update last login timestamp
                         try {
                             com.the_pathfinders.db.KeeperRepository.updateLastLogin(keeperId);
                         } catch (Exception e) {
-                            System.err.println("Failed to update last login: " + e.getMessage());
+                            log.error("Failed to update last login: " + e.getMessage());
                         }
                         
                         // Navigate to keeper dashboard
@@ -261,8 +266,7 @@ public class AdminLoginController implements Initializable {
                             
                             root.getScene().setRoot(dashboardRoot);
                         } catch (Exception ex) {
-                            System.err.println("Failed to load keeper dashboard: " + ex.getMessage());
-                            ex.printStackTrace();
+                            log.error("Failed to load keeper dashboard", ex);
                             showAlert("Error", "Failed to load keeper dashboard.");
                         }
                     } else {
@@ -271,14 +275,13 @@ public class AdminLoginController implements Initializable {
                 });
                 
             } catch (Exception e) {
-                System.err.println("Login error: " + e.getMessage());
-                e.printStackTrace();
-                javafx.application.Platform.runLater(() -> {
+                log.error("Login error", e);
+                FxQueue.runLater(() -> {
                     loginButton.setDisable(false);
                     showAlert("Login Error", "An error occurred during login: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
     
     private void handleSignup() {
@@ -313,7 +316,7 @@ public class AdminLoginController implements Initializable {
         loginButton.setDisable(true);
         
         // Perform signup in background thread
-        new Thread(() -> {
+        TaskRunner.run(null, "handleSignup", () -> {
             try {
                 // Check if keeper_id already exists
                 if (com.the_pathfinders.db.KeeperRepository.isKeeperIdExists(keeperId)) {
@@ -324,7 +327,7 @@ public class AdminLoginController implements Initializable {
                     if (existingRequest != null && existingRequest.status == com.the_pathfinders.db.KeeperRepository.KeeperStatus.REJECTED) {
                         // Check if 48 hours have passed
                         if (!com.the_pathfinders.db.KeeperRepository.canRetryAfterRejection(keeperId)) {
-                            javafx.application.Platform.runLater(() -> {
+                            FxQueue.runLater(() -> {
                                 loginButton.setDisable(false);
                                 showAlert("Retry Not Allowed", 
                                     "Your previous keeper application was rejected.\n\n" +
@@ -334,7 +337,7 @@ public class AdminLoginController implements Initializable {
                             return;
                         } else {
                             // 48 hours passed, offer to delete and retry
-                            javafx.application.Platform.runLater(() -> {
+                            FxQueue.runLater(() -> {
                                 loginButton.setDisable(false);
                                 
                                 javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.CONFIRMATION);
@@ -364,7 +367,7 @@ public class AdminLoginController implements Initializable {
                         }
                     } else if (existingRequest != null && !existingRequest.emailVerified) {
                         // Offer to resend verification email
-                        javafx.application.Platform.runLater(() -> {
+                        FxQueue.runLater(() -> {
                             loginButton.setDisable(false);
                             
                             javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.CONFIRMATION);
@@ -393,7 +396,7 @@ public class AdminLoginController implements Initializable {
                         });
                         return;
                     } else {
-                        javafx.application.Platform.runLater(() -> {
+                        FxQueue.runLater(() -> {
                             loginButton.setDisable(false);
                             showAlert("Keeper ID Taken", "This keeper ID is already registered. Please choose a different one.");
                         });
@@ -403,7 +406,7 @@ public class AdminLoginController implements Initializable {
                 
                 // Check if email already exists
                 if (com.the_pathfinders.db.KeeperRepository.isEmailExists(email)) {
-                    javafx.application.Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         loginButton.setDisable(false);
                         showAlert("Email Already Registered", "This email is already associated with another account.");
                     });
@@ -412,7 +415,7 @@ public class AdminLoginController implements Initializable {
                 
                 // Check if keeper has a verified signup already pending approval
                 if (com.the_pathfinders.db.KeeperRepository.hasVerifiedPendingSignup(keeperId)) {
-                    javafx.application.Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         loginButton.setDisable(false);
                         showAlert("Signup Already Verified", 
                             "Your email has already been verified and is awaiting approval from existing keepers.\n\n" +
@@ -433,8 +436,8 @@ public class AdminLoginController implements Initializable {
                         verificationManager.start();
                     }
                 } catch (java.io.IOException ioEx) {
-                    System.err.println("Failed to start verification server: " + ioEx.getMessage());
-                    javafx.application.Platform.runLater(() -> {
+                    log.error("Failed to start verification server: " + ioEx.getMessage());
+                    FxQueue.runLater(() -> {
                         loginButton.setDisable(false);
                         showAlert("Server Error", 
                             "The verification server could not start.\n\n" +
@@ -459,11 +462,10 @@ public class AdminLoginController implements Initializable {
                     // Send keeper verification email
                     com.the_pathfinders.verification.EmailService.sendKeeperVerificationEmail(email, keeperId, verifyToken);
                     emailSent = true;
-                    System.out.println("Verification email sent to: " + email);
+                    log.debug(() -> "Verification email sent to: " + email);
                 } catch (Exception e) {
-                    System.err.println("Failed to send keeper verification email: " + e.getMessage());
-                    e.printStackTrace();
-                    javafx.application.Platform.runLater(() -> {
+                    log.error("Failed to send keeper verification email", e);
+                    FxQueue.runLater(() -> {
                         loginButton.setDisable(false);
                         showAlert("Email Error", 
                             "Failed to send verification email. Please check your email configuration and try again.\n\n" +
@@ -476,20 +478,20 @@ public class AdminLoginController implements Initializable {
                 if (emailSent) {
                     try {
                         com.the_pathfinders.db.KeeperRepository.createSignupRequest(keeperId, email, passwordHash);
-                        System.out.println("Keeper signup request created: " + keeperId);
+                        log.debug(() -> "Keeper signup request created: " + keeperId);
                     } catch (java.sql.SQLException dbEx) {
                         // If DB insert fails after email sent, clean up
-                        System.err.println("DB insert failed, attempting cleanup: " + dbEx.getMessage());
+                        log.error("DB insert failed, attempting cleanup: " + dbEx.getMessage());
                         try {
                             com.the_pathfinders.db.KeeperRepository.deleteUnverifiedSignup(keeperId);
                         } catch (Exception cleanupEx) {
-                            System.err.println("Cleanup failed: " + cleanupEx.getMessage());
+                            log.error("Cleanup failed: " + cleanupEx.getMessage());
                         }
                         throw dbEx;
                     }
                 }
                 
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     loginButton.setDisable(false);
                     showAlert("Verification Email Sent", 
                         "A verification email has been sent to " + email + ".\n\n" +
@@ -506,14 +508,13 @@ public class AdminLoginController implements Initializable {
                 });
                 
             } catch (Exception e) {
-                System.err.println("Keeper signup error: " + e.getMessage());
-                e.printStackTrace();
-                javafx.application.Platform.runLater(() -> {
+                log.error("Keeper signup error", e);
+                FxQueue.runLater(() -> {
                     loginButton.setDisable(false);
                     showAlert("Signup Error", "An error occurred during signup: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
     
     private boolean isValidEmail(String email) {
@@ -599,7 +600,7 @@ public class AdminLoginController implements Initializable {
                          "\nPlease check your inbox and follow the link to reset your password.");
                          
             } catch (Exception e) {
-                e.printStackTrace();
+                log.error("handleForgotPassword failed", e);
                 showAlert("Error", "Failed to send password reset email: " + e.getMessage());
             }
         });
@@ -765,7 +766,7 @@ public class AdminLoginController implements Initializable {
     
     private void centerTitle() {
         // Center the title text based on its actual width
-        javafx.application.Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             double titleWidth = loginTitle.getLayoutBounds().getWidth();
             double cardWidth = mainCard.getPrefWidth();
             loginTitle.setLayoutX((cardWidth - titleWidth) / 2);
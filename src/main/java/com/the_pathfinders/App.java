@@ -2,7 +2,24 @@ package com.the_pathfinders;
 
 import com.the_pathfinders.db.DB;
 import com.the_pathfinders.db.DbMigrations;
+import com.the_pathfinders.db.JournalLoveRollup;
+import com.the_pathfinders.db.LocalStore;
+import com.the_pathfinders.db.SyncEngine;
+import com.the_pathfinders.util.ActivityTracker;
+import com.the_pathfinders.util.AppEvents;
+import com.the_pathfinders.util.EventHub;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.FxStallMonitor;
+import com.the_pathfinders.util.HttpGateway;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.Metrics;
+import com.the_pathfinders.util.MetricsServer;
 import com.the_pathfinders.util.PasswordResetServer;
+import com.the_pathfinders.util.SavedItemsStore;
+import com.the_pathfinders.util.StartupPipeline;
+import com.the_pathfinders.util.TaskRunner;
+import com.the_pathfinders.util.ViewLoader;
 import com.the_pathfinders.verification.VerificationManager;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -13,134 +30,182 @@ import javafx.scene.image.Image;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public class App extends Application {
 
+    private static final Log log = Log.get("app");
+
     private static Stage primaryStage;
 
+    private static final int DB_WARMUP_ATTEMPTS = 3;
+
+    private static final StartupPipeline startup = new StartupPipeline();
+
     @Override
     public void start(Stage stage) throws Exception {
         primaryStage = stage;
+
+        // -Dshelter.jfr=recording.jfr records a flight recording with the app events (see AppEvents)
+        String jfrFile = System.getProperty("shelter.jfr");
+        if (jfrFile != null && !jfrFile.isBlank()) {
+            AppEvents.startRecording(Paths.get(jfrFile));
+        }
         
         // Show splash screen immediately
         SplashScreen splash = new SplashScreen();
         splash.show();
         
-        // Initialize database in background thread to keep splash screen responsive
-        Thread initThread = new Thread(() -> {
-            try {
-                System.out.println("Initializing database...");
-                
-                // Try to initialize database with retries for Neon wake-up
-                int maxRetries = 3;
-                int retryCount = 0;
-                boolean dbInitialized = false;
-                
-                while (retryCount < maxRetries && !dbInitialized) {
-                    try {
-                        DB.init();
-                        DbMigrations.runAll();
-                        System.out.println("Database initialized successfully.");
-                        dbInitialized = true;
-                    } catch (Exception e) {
-                        retryCount++;
-                        System.err.println("Database connection attempt " + retryCount + " failed: " + e.getMessage());
-                        if (retryCount < maxRetries) {
-                            System.out.println("Retrying in 5 seconds... (Neon database might be waking up)");
-                            Thread.sleep(5000);
-                        } else {
-                            System.err.println("Failed to connect to database after " + maxRetries + " attempts.");
-                            System.err.println("The app will continue but some features may not work.");
-                            System.err.println("Please check your internet connection and Neon database status.");
-                        }
-                    }
-                }
-
-                // Start loading background music asynchronously (non-blocking)
-                System.out.println("Starting background music load (async)...");
+        // Phases run in parallel as far as their dependencies allow; the window only waits for its own FXML
+        startup
+            .phase("config", List.of(), DB::configure)
+            .phase("pool", List.of("config"), App::warmUpPool)
+            .phase("migrations", List.of("pool"), DbMigrations::runAll)
+            .phase("rollup", List.of("migrations"), JournalLoveRollup::start)
+            .phase("store", List.of(), LocalStore::getInstance)
+            .phase("sync", List.of("migrations", "store"), () -> SyncEngine.getInstance().start())
+            .phase("music", List.of(), MusicManager::preloadBackgroundMusic)
+            .phase("views", List.of(), () -> ViewLoader.prewarm(
+                // The most visited dashboard pages
+                "/com/the_pathfinders/fxml/blog.fxml",
+                "/com/the_pathfinders/fxml/public_journals_view.fxml",
+                "/com/the_pathfinders/fxml/private_journals_view.fxml",
+                "/com/the_pathfinders/fxml/profile.fxml"
+            ).join())
+            .phase("ui", List.of(), () -> showMainWindow(stage, splash))
+            .phase("music-play", List.of("ui", "music"), () -> FxQueue.runLater(() -> {
+                // Will play when ready if still loading
                 try {
-                    MusicManager.preloadBackgroundMusic(); // Loads in background thread, returns immediately
+                    MusicManager.playBackgroundMusic();
                 } catch (Exception e) {
-                    System.err.println("Could not start music load: " + e.getMessage());
+                    log.error("Could not play background music: " + e.getMessage());
                 }
+            }))
+            .phase("http", List.of(), () -> {
+                // Verification and /metrics register their routes on the same gateway
+                HttpGateway.start();
+                PasswordResetServer.start();
+            })
+            .phase("events", List.of("migrations", "http"), () -> EventHub.getInstance().start())
+            .phase("metrics", List.of(), () -> {
+                Metrics.startReporter();
+                MetricsServer.start();
+                FxStallMonitor.start();
+            });
+
+        startup.start().thenRun(() -> log.info(startup.report()));
+        startup.whenDone("ui").thenRun(() -> log.info("Time to first window: "
+                + (startup.launchDelayMillis() + startup.finishedAtMillis("ui")) + " ms after JVM start"));
+        // Logins made while the pool comes up wait for it; if it fails or is skipped, let them fail fast
+        startup.whenDone("pool").whenComplete((r, e) -> DB.markReady());
+        startup.whenDone("migrations").thenRun(() -> log.info("Database initialized successfully."));
+    }
 
-                // Load UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
-                    try {
-                        System.out.println("Loading user interface...");
-                        FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/initial.fxml"));
-                        Parent root = loader.load();
+    /**
+     * Create the pool and open one connection, retrying while a suspended Neon database wakes up.
+     */
+    private static void warmUpPool() throws Exception {
+        DB.init();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                DB.warmUp();
+                return;
+            } catch (Exception e) {
+                log.error("Database connection attempt " + attempt + " failed: " + e.getMessage());
+                if (attempt >= DB_WARMUP_ATTEMPTS) {
+                    log.error("Failed to connect to database after " + DB_WARMUP_ATTEMPTS + " attempts.");
+                    log.warn("The app will continue but some features may not work.");
+                    log.warn("Please check your internet connection and Neon database status.");
+                    throw e;
+                }
+                log.info("Retrying in 5 seconds... (Neon database might be waking up)");
+                Thread.sleep(5000);
+            }
+        }
+    }
 
-                        Scene scene = new Scene(root, 1280, 720);
-                        stage.setScene(scene);
-                        stage.setTitle("Shelter for Mind");
-                        
-                        // Set app icons - window icon and taskbar icon
-                        try {
-                            // Window icon (title bar)
-                            Image windowIcon = new Image(getClass().getResourceAsStream("/assets/images/shelter_for_mind.png"));
-                            stage.getIcons().add(windowIcon);
-                            
-                            // Taskbar icon (add smaller size for better taskbar appearance)
-                            Image taskbarIcon = new Image(getClass().getResourceAsStream("/assets/images/logo_taskbar.png"));
-                            stage.getIcons().add(taskbarIcon);
-                        } catch (Exception e) {
-                            System.err.println("Could not load app icon: " + e.getMessage());
-                        }
-                        
-                        stage.setMinWidth(1280);
-                        stage.setMinHeight(720);
-                        
-                        System.out.println("Showing window...");
-                        
-                        // Close splash screen before showing main window
-                        splash.close();
-                        
-                        // Manually calculate center position (same logic as splash screen)
-                        Rectangle2D screenBounds = Screen.getPrimary().getVisualBounds();
-                        double centerX = (screenBounds.getWidth() - 1280) / 2;
-                        double centerY = (screenBounds.getHeight() - 720) / 2;
-                        
-                        stage.setX(centerX);
-                        stage.setY(centerY);
-                        
-                        stage.show();
-                        
-                        // Request music playback (will play when ready if still loading)
-                        System.out.println("Requesting background music playback...");
-                        try {
-                            MusicManager.playBackgroundMusic();
-                        } catch (Exception e) {
-                            System.err.println("Could not play background music: " + e.getMessage());
-                        }
+    /**
+     * Load the first page and show the window, then wait until it is up.
+     * InitialController expects its scene to be set by its first runLater, so this all happens in one FX pass.
+     */
+    private void showMainWindow(Stage stage, SplashScreen splash) {
+        CompletableFuture<Void> shown = new CompletableFuture<>();
+        FxQueue.runLater(() -> {
+            try {
+                log.info("Loading user interface...");
+                FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/initial.fxml"));
+                Parent root = loader.load();
 
-                        // Start password reset server
-                        System.out.println("Starting password reset server...");
-                        PasswordResetServer.start();
+                Scene scene = new Scene(root, 1280, 720);
+                stage.setScene(scene);
+                stage.setTitle("Shelter for Mind");
+                
+                // Set app icons - window icon and taskbar icon
+                try {
+                    // Window icon (title bar)
+                    Image windowIcon = AppEvents.decode("/assets/images/shelter_for_mind.png",
+                            () -> new Image(getClass().getResourceAsStream("/assets/images/shelter_for_mind.png")));
+                    stage.getIcons().add(windowIcon);
+                    
+                    // Taskbar icon (add smaller size for better taskbar appearance)
+                    Image taskbarIcon = AppEvents.decode("/assets/images/logo_taskbar.png",
+                            () -> new Image(getClass().getResourceAsStream("/assets/images/logo_taskbar.png")));
+                    stage.getIcons().add(taskbarIcon);
+                } catch (Exception e) {
+                    log.error("Could not load app icon: " + e.getMessage());
+                }
+                
+                stage.setMinWidth(1280);
+                stage.setMinHeight(720);
+                
+                log.info("Showing window...");
+                
+                // Close splash screen before showing main window
+                splash.close();
+                
+                // Manually calculate center position (same logic as splash screen)
+                Rectangle2D screenBounds = Screen.getPrimary().getVisualBounds();
+                double centerX = (screenBounds.getWidth() - 1280) / 2;
+                double centerY = (screenBounds.getHeight() - 720) / 2;
+                
+                stage.setX(centerX);
+                stage.setY(centerY);
+                
+                stage.show();
 
-                        stage.setOnCloseRequest(e -> {
-                            DB.shutdown();
-                            MusicManager.stopBackgroundMusic();
-                            // Stop verification servers
-                            VerificationManager.getInstance().stop();
-                            // Stop password reset server
-                            PasswordResetServer.stop();
-                        });
-                        
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        System.err.println("Failed to load UI: " + e.getMessage());
-                        splash.close();
-                    }
+                stage.setOnCloseRequest(e -> {
+                    // Write buffered activity heartbeats while the pool is still open
+                    ActivityTracker.shutdown();
+                    // Upload what the local store still holds, if we're online
+                    SyncEngine.getInstance().shutdown();
+                    SavedItemsStore.flushAll();
+                    TaskRunner.shutdown();
+                    log.info("Image cache: " + ImageCache.getStats());
+                    FxStallMonitor.stop();
+                    Metrics.stopReporter();
+                    MetricsServer.stop();
+                    log.info("Metrics:\n" + Metrics.report());
+                    AppEvents.stopRecording();
+                    DB.shutdown();
+                    MusicManager.stopBackgroundMusic();
+                    // Stop verification servers
+                    VerificationManager.getInstance().stop();
+                    // Stop password reset server
+                    PasswordResetServer.stop();
+                    EventHub.getInstance().stop();
+                    HttpGateway.stop();
+                    Log.shutdown();
                 });
-                
+                shown.complete(null);
             } catch (Exception e) {
-                e.printStackTrace();
-                javafx.application.Platform.runLater(() -> splash.close());
+                log.error("Failed to load UI", e);
+                splash.close();
+                shown.completeExceptionally(e);
             }
         });
-        
-        initThread.setDaemon(false);
-        initThread.start();
+        shown.join();
     }
     
     public static void showPasswordResetPage(String token) {
@@ -152,15 +217,24 @@ public class App extends Application {
             controller.setResetToken(token);
             
             Scene scene = primaryStage.getScene();
+            if (scene == null) {
+                // The reset server starts alongside the window and may get a request first
+                log.warn("Password reset link opened before the main window was ready");
+                return;
+            }
             scene.setRoot(root);
             
         } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("Failed to load password reset page: " + e.getMessage());
+            log.error("Failed to load password reset page", e);
         }
     }
 
     public static void main(String[] args) {
+        // --verbose turns on debug logging everywhere, --verbose=blog,music for some categories
+        for (String arg : args) {
+            if (arg.equals("--verbose")) Log.enableVerbose("all");
+            else if (arg.startsWith("--verbose=")) Log.enableVerbose(arg.substring("--verbose=".length()));
+        }
         launch(args);
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ public class Blog {
     private String fullDescription;
     private String category;
     private boolean savedForLater;
+    private int wordCount;
 
     public Blog(String id, String title, String content, String category) {
         this.id = id;
@@ -35,6 +36,12 @@ public class Blog {
     public boolean isSavedForLater() { return savedForLater; }
     public void setSavedForLater(boolean savedForLater) { this.savedForLater = savedForLater; }
 
+    public int getWordCount() { return wordCount; }
+    public void setWordCount(int wordCount) { this.wordCount = wordCount; }
+
+    // Average reading speed: 200 words/min
+    public int getReadingMinutes() { return wordCount / 200; }
+
     @Override
     public String toString() {
         return title + " — " + category;
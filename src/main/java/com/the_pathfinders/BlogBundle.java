@@ -0,0 +1,224 @@
+package com.the_pathfinders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * The blog corpus packed into a single file, built by Maven from /data/blogs (see pom.xml)
+ * and read back through a memory-mapped buffer.
+ *
+ * Layout (big-endian):
+ *   int magic, short version, int count, long corpus CRC32,
+ *   count x { short slug length, slug UTF-8, int word count, int body offset, int body length },
+ *   UTF-8 bodies (lines joined with '\n').
+ *
+ * Articles are sliced from the mapping without copying; only decoding to a String allocates.
+ * When the bundle is inside the app jar it is extracted once to the app data directory,
+ * under a name that includes its CRC so a new build replaces it.
+ *
+ * This file is also the build step: it only uses the JDK so Maven can run it as a single-file program.
+ */
+public final class BlogBundle {
+    public static final String RESOURCE = "/data/blogs.bundle";
+
+    private static final int MAGIC = 0x53464D42; // "SFMB"
+    private static final short VERSION = 1;
+
+    /** Index entry for one article. */
+    public record Entry(String slug, int wordCount, int offset, int length) {}
+
+    private final ByteBuffer buffer;
+    private final Map<String, Entry> entries;
+    private final long corpusCrc;
+
+    private BlogBundle(ByteBuffer buffer, Map<String, Entry> entries, long corpusCrc) {
+        this.buffer = buffer;
+        this.entries = entries;
+        this.corpusCrc = corpusCrc;
+    }
+
+    /**
+     * Find the bundle on the classpath and map it.
+     * Failures are left to the caller to log, so this file stays JDK-only for the build step.
+     * @return The bundle, or null if the build didn't produce one (e.g. running from an IDE without Maven)
+     * @throws IOException If the bundle exists but could not be extracted, mapped or parsed
+     */
+    public static BlogBundle load() throws IOException {
+        URL url = BlogBundle.class.getResource(RESOURCE);
+        if (url == null) return null;
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return open(Paths.get(url.toURI()));
+            }
+            return open(extractToAppData(url));
+        } catch (URISyntaxException | RuntimeException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /** Map a bundle file read-only and parse its header. */
+    public static BlogBundle open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer buf = mapped.duplicate();
+        if (buf.getInt() != MAGIC) throw new IOException("Not a blog bundle: " + path);
+        short version = buf.getShort();
+        if (version != VERSION) throw new IOException("Unsupported blog bundle version " + version);
+        int count = buf.getInt();
+        long crc = buf.getLong();
+
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            byte[] slugBytes = new byte[buf.getShort()];
+            buf.get(slugBytes);
+            String slug = new String(slugBytes, StandardCharsets.UTF_8);
+            entries.put(slug, new Entry(slug, buf.getInt(), buf.getInt(), buf.getInt()));
+        }
+        return new BlogBundle(mapped, Collections.unmodifiableMap(entries), crc);
+    }
+
+    public Entry entry(String slug) {
+        return entries.get(slug);
+    }
+
+    public Collection<Entry> entries() {
+        return entries.values();
+    }
+
+    public long getCorpusCrc() {
+        return corpusCrc;
+    }
+
+    /**
+     * The article's UTF-8 bytes as a read-only view into the mapping (no copy).
+     * @return The slice, or null if the bundle has no such article
+     */
+    public ByteBuffer slice(String slug) {
+        Entry e = entries.get(slug);
+        if (e == null) return null;
+        return buffer.slice(e.offset(), e.length()).asReadOnlyBuffer();
+    }
+
+    /** Decode an article's text, or null if the bundle has no such article. */
+    public String text(String slug) {
+        ByteBuffer bytes = slice(slug);
+        return bytes == null ? null : StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    private static Path extractToAppData(URL url) throws IOException {
+        long crc;
+        try (DataInputStream in = new DataInputStream(url.openStream())) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a blog bundle: " + url);
+            in.readShort();
+            in.readInt();
+            crc = in.readLong();
+        }
+
+        Path dir = Paths.get(System.getProperty("user.home"), ".shelter_for_mind", "cache");
+        Path target = dir.resolve("blogs-" + Long.toHexString(crc) + ".bundle");
+        if (Files.exists(target)) return target;
+
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, "blogs-", ".tmp");
+        try (InputStream in = url.openStream()) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        // Drop bundles left behind by earlier builds
+        try (Stream<Path> old = Files.list(dir)) {
+            old.filter(p -> p.getFileName().toString().matches("blogs-[0-9a-f]+\\.bundle") && !p.equals(target))
+               .forEach(p -> p.toFile().delete());
+        }
+        return target;
+    }
+
+    /**
+     * Pack every .txt file in a directory into a bundle. The slug is the file name without extension.
+     */
+    public static void pack(Path sourceDir, Path out) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(sourceDir)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(".txt")).sorted().toList();
+        }
+
+        List<String> slugs = new ArrayList<>();
+        List<byte[]> bodies = new ArrayList<>();
+        List<Integer> wordCounts = new ArrayList<>();
+        CRC32 crc = new CRC32();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            String text = String.join("\n", Files.readAllLines(file, StandardCharsets.UTF_8));
+            byte[] body = text.getBytes(StandardCharsets.UTF_8);
+            slugs.add(name.substring(0, name.length() - ".txt".length()));
+            bodies.add(body);
+            wordCounts.add(text.isEmpty() ? 0 : text.split("\\s+").length);
+            crc.update(body);
+        }
+
+        int headerSize = 4 + 2 + 4 + 8;
+        for (String slug : slugs) {
+            headerSize += 2 + slug.getBytes(StandardCharsets.UTF_8).length + 12;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(bytes)) {
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            data.writeInt(slugs.size());
+            data.writeLong(crc.getValue());
+            int offset = headerSize;
+            for (int i = 0; i < slugs.size(); i++) {
+                byte[] slug = slugs.get(i).getBytes(StandardCharsets.UTF_8);
+                data.writeShort(slug.length);
+                data.write(slug);
+                data.writeInt(wordCounts.get(i));
+                data.writeInt(offset);
+                data.writeInt(bodies.get(i).length);
+                offset += bodies.get(i).length;
+            }
+            for (byte[] body : bodies) {
+                data.write(body);
+            }
+        }
+
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Files.write(out, bytes.toByteArray());
+    }
+
+    /** Build step: {@code java BlogBundle.java <blogs dir> <output file>}. */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BlogBundle <blogs dir> <output file>");
+            System.exit(2);
+        }
+        Path out = Paths.get(args[1]);
+        pack(Paths.get(args[0]), out);
+        System.out.println("Packed blog corpus into " + out + " (" + new File(args[1]).length() + " bytes)");
+    }
+}
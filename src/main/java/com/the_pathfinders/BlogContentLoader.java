@@ -1,21 +1,101 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * Loads blog article text.
+ *
+ * Articles come from the packed, memory-mapped {@link BlogBundle} when the build produced one,
+ * otherwise from the loose files in /data/blogs.
+ * Opening the library only needs metadata (see {@link #getMeta}), which the bundle carries precomputed.
+ * Full text is read on demand and kept in an LRU cache bounded by {@value #MAX_CACHED_CHARS} characters;
+ * {@link #prefetch} warms the cache in the background for the article the user is likely to open next.
+ */
 public class BlogContentLoader {
+    private static final Log log = Log.get("blog");
+
     private static final String BLOGS_DIR = "/data/blogs";
+    private static final int MAX_CACHED_CHARS = 512 * 1024;
+
+    /** Metadata for one article, available without reading its text. */
+    public record BlogMeta(String slug, int wordCount) {}
+
+    // slug -> text, in access order (eldest = least recently used)
+    private static final LinkedHashMap<String, String> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private static int cachedChars = 0;
+
+    private static final Map<String, BlogMeta> metaBySlug = new ConcurrentHashMap<>();
+    private static volatile BlogBundle bundle;
+    private static volatile boolean bundleChecked = false;
+    private static final Map<String, Boolean> prefetching = new ConcurrentHashMap<>();
 
     public static String loadContentForCategory(String category, String fallback) {
         if (category == null) return fallback == null ? "" : fallback;
+        String slug = slugify(category);
+        String content = getCached(slug);
+        if (content == null) {
+            content = readContent(slug);
+            if (content != null) putCached(slug, content);
+        }
+        return content != null ? content : (fallback == null ? "" : fallback);
+    }
+
+    /**
+     * Metadata for a category's article. Falls back to reading the text when there is no bundle
+     * or the bundle has no entry for it.
+     */
+    public static BlogMeta getMeta(String category) {
+        String slug = slugify(category);
+        return metaBySlug.computeIfAbsent(slug, s -> {
+            BlogBundle b = bundle();
+            BlogBundle.Entry entry = b == null ? null : b.entry(s);
+            if (entry != null) return new BlogMeta(s, entry.wordCount());
+            return new BlogMeta(s, countWords(loadContentForCategory(category, "")));
+        });
+    }
+
+    /**
+     * Load a category's text into the cache on a background thread, if it isn't cached already.
+     */
+    public static void prefetch(String category) {
+        if (category == null) return;
+        String slug = slugify(category);
+        if (getCached(slug) != null || prefetching.putIfAbsent(slug, Boolean.TRUE) != null) return;
+        TaskRunner.run(null, "prefetchBlog", () -> {
+            try {
+                loadContentForCategory(category, null);
+            } finally {
+                prefetching.remove(slug);
+            }
+        });
+    }
+
+    static int countWords(String content) {
+        if (content == null || content.isEmpty()) return 0;
+        return content.split("\\s+").length;
+    }
+
+    private static String readContent(String slug) {
+        BlogBundle b = bundle();
+        if (b != null) {
+            String text = b.text(slug);
+            if (text != null) return text;
+        }
+
+        String resourcePath = BLOGS_DIR + "/" + slug + ".txt";
         try {
-            String slug = slugify(category);
-            String resourcePath = BLOGS_DIR + "/" + slug + ".txt";
-            
             // Try to load from classpath (works in both development and packaged app)
             InputStream is = BlogContentLoader.class.getResourceAsStream(resourcePath);
             if (is != null) {
@@ -24,7 +104,50 @@ public class BlogContentLoader {
                 }
             }
         } catch (IOException ignored) {}
-        return fallback == null ? "" : fallback;
+        return null;
+    }
+
+    private static synchronized String getCached(String slug) {
+        return cache.get(slug);
+    }
+
+    private static synchronized void putCached(String slug, String content) {
+        if (content.length() > MAX_CACHED_CHARS) return; // Too large to cache; served uncached
+        String previous = cache.put(slug, content);
+        if (previous != null) cachedChars -= previous.length();
+        cachedChars += content.length();
+
+        // Evict least recently used articles until we are back under the bound
+        Iterator<Map.Entry<String, String>> it = cache.entrySet().iterator();
+        while (cachedChars > MAX_CACHED_CHARS && it.hasNext()) {
+            Map.Entry<String, String> eldest = it.next();
+            if (eldest.getKey().equals(slug)) continue;
+            cachedChars -= eldest.getValue().length();
+            it.remove();
+        }
+    }
+
+    private static BlogBundle bundle() {
+        if (!bundleChecked) {
+            synchronized (BlogContentLoader.class) {
+                if (!bundleChecked) {
+                    long started = System.nanoTime();
+                    try {
+                        bundle = BlogBundle.load();
+                    } catch (IOException e) {
+                        log.error("Could not load blog bundle: " + e.getMessage(), e);
+                    }
+                    bundleChecked = true;
+                    if (bundle != null) {
+                        log.info("Mapped blog bundle: " + bundle.entries().size() + " articles in "
+                                + (System.nanoTime() - started) / 1000 + " µs");
+                    } else {
+                        log.info("No usable blog bundle; reading loose files from " + BLOGS_DIR);
+                    }
+                }
+            }
+        }
+        return bundle;
     }
 
     private static String slugify(String s) {
@@ -1,5 +1,9 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
+import com.the_pathfinders.util.ViewLoader;
 import com.the_pathfinders.db.BlogHistoryRepository;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
@@ -11,11 +15,15 @@ import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
 import javafx.util.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
-public class BlogController {
+public class BlogController implements ViewLoader.Lifecycle {
+
+    private static final Log log = Log.get("blog");
 
     @FXML private VBox root;
     @FXML private TextField searchBar;
@@ -39,6 +47,7 @@ public class BlogController {
     private String soulId = "";
     private SavedBlogsManager savedBlogsManager;
     private BlogHistoryRepository blogHistoryRepo;
+    private String latestSearch; // Results for an older query that finish late are not shown
     private final ObservableList<Blog> allPosts = FXCollections.observableArrayList();
     private final List<Blog> filteredPosts = new ArrayList<>();
     private final Set<String> viewedArticlesToday = new HashSet<>();
@@ -117,9 +126,6 @@ public class BlogController {
             this.blogHistoryRepo = new BlogHistoryRepository();
         }
         
-        // Load reading history from database
-        loadReadingHistoryFromDatabase();
-        
         if (savedBlogsManager != null && !allPosts.isEmpty()) {
             for (Blog b : allPosts) {
                 b.setSavedForLater(savedBlogsManager.isBlogSaved(this.soulId, b.getId()));
@@ -128,23 +134,33 @@ public class BlogController {
         
         // Update progress labels with persisted data
         updateProgressLabels();
+
+        // Load reading history from database
+        loadReadingHistoryFromDatabase();
     }
     
     private void loadReadingHistoryFromDatabase() {
-        try {
-            if (blogHistoryRepo != null && soulId != null && !soulId.isEmpty()) {
-                viewedArticlesToday.clear();
-                viewedArticlesToday.addAll(blogHistoryRepo.getViewedTodayBlogIds(soulId));
-                
-                readingHistory.clear();
-                readingHistory.addAll(blogHistoryRepo.getReadingHistoryCategories(soulId, 50));
-                
-                System.out.println("✓ Loaded reading history: " + viewedArticlesToday.size() + " articles read today");
+        if (blogHistoryRepo == null || soulId == null || soulId.isEmpty()) return;
+        String id = soulId;
+        BlogHistoryRepository repo = blogHistoryRepo;
+        // No owner node: a cached page gets its soul while it is still off screen
+        TaskRunner.run(null, "loadReadingHistory", () -> {
+            try {
+                Set<String> viewedToday = repo.getViewedTodayBlogIds(id);
+                List<String> categories = repo.getReadingHistoryCategories(id, 50);
+                FxQueue.runLater(() -> {
+                    if (!id.equals(soulId)) return;
+                    viewedArticlesToday.clear();
+                    viewedArticlesToday.addAll(viewedToday);
+                    readingHistory.clear();
+                    readingHistory.addAll(categories);
+                    updateProgressLabels();
+                    log.debug(() -> "✓ Loaded reading history: " + viewedArticlesToday.size() + " articles read today");
+                });
+            } catch (Exception e) {
+                log.error("Failed to load reading history", e);
             }
-        } catch (Exception e) {
-            System.err.println("Failed to load reading history: " + e.getMessage());
-            e.printStackTrace();
-        }
+        });
     }
 
     @FXML
@@ -159,11 +175,15 @@ public class BlogController {
         // Initialize all blog posts
         initializeBlogPosts();
         
+        // Build the full-text search index in the background
+        BlogSearchIndex.prepare(allCategories());
+        
         // Build categorized UI
         buildCategorizedSections();
         
         // Setup side panel
         setupSidePanel();
+        setupSearch();
         
         // Back button
         if (backBtn != null) backBtn.setOnAction(e -> goBackToDashboard());
@@ -192,19 +212,10 @@ public class BlogController {
                 String shortIntro = "Comprehensive guide to " + category.toLowerCase();
                 Blog blog = new Blog("b" + id, title, shortIntro, category);
                 
-                // Load full content from file
-                String fullContent = BlogContentLoader.loadContentForCategory(category, 
-                    "A comprehensive guide to understanding " + category + ".\n\nContent file not found. Please check that the file exists in data/blogs/ directory.");
-                blog.setFullDescription(fullContent);
+                // Metadata only; the full text is loaded when the article is opened or read aloud
+                blog.setWordCount(BlogContentLoader.getMeta(category).wordCount());
                 blog.setSavedForLater(savedBlogsManager.isBlogSaved(soulId, blog.getId()));
                 
-                // Debug: Print if content loaded successfully
-                if (fullContent != null && fullContent.length() > 100) {
-                    System.out.println("✓ Loaded: " + category + " (" + fullContent.length() + " chars)");
-                } else {
-                    System.err.println("✗ Failed to load: " + category);
-                }
-                
                 allPosts.add(blog);
                 id++;
             }
@@ -212,6 +223,36 @@ public class BlogController {
         filteredPosts.addAll(allPosts);
     }
 
+    /**
+     * Make sure the blog carries its full article text (served from BlogContentLoader's cache).
+     */
+    private void loadFullContent(Blog blog) {
+        String fullContent = BlogContentLoader.loadContentForCategory(blog.getCategory(),
+            "A comprehensive guide to understanding " + blog.getCategory() + ".\n\nContent file not found. Please check that the file exists in data/blogs/ directory.");
+        blog.setFullDescription(fullContent);
+    }
+
+    private List<String> allCategories() {
+        List<String> categories = new ArrayList<>();
+        for (CategorySection section : sections) {
+            categories.addAll(section.categories);
+        }
+        return categories;
+    }
+
+    /**
+     * The category listed after this one in its section, i.e. the article most likely opened next.
+     */
+    private String nextCategory(String category) {
+        for (CategorySection section : sections) {
+            int i = section.categories.indexOf(category);
+            if (i >= 0) {
+                return i + 1 < section.categories.size() ? section.categories.get(i + 1) : null;
+            }
+        }
+        return null;
+    }
+
     private void buildCategorizedSections() {
         categoriesContainer.getChildren().clear();
         
@@ -267,6 +308,7 @@ public class BlogController {
         
         // Hover animation
         pill.setOnMouseEntered(e -> {
+            BlogContentLoader.prefetch(category);
             ScaleTransition st = new ScaleTransition(Duration.millis(150), pill);
             st.setToX(1.02);
             st.setToY(1.02);
@@ -281,13 +323,13 @@ public class BlogController {
         
         // Click to show blog detail
         pill.setOnAction(e -> {
-            System.out.println("Button clicked: " + category);
+            log.debug(() -> "Button clicked: " + category);
             Blog blog = findBlogByCategory(category);
             if (blog != null) {
-                System.out.println("Found blog, showing detail...");
+                log.debug("Found blog, showing detail...");
                 showBlogDetail(blog);
             } else {
-                System.err.println("ERROR: Blog not found for category: " + category);
+                log.error("ERROR: Blog not found for category: " + category);
                 Alert alert = new Alert(Alert.AlertType.ERROR);
                 alert.setTitle("Content Not Found");
                 alert.setHeaderText("Unable to load article");
@@ -357,7 +399,7 @@ public class BlogController {
     
     // TTS Helper Methods
     private void showTTSSelectionDialog() {
-        System.out.println("Opening TTS dialog with " + allPosts.size() + " articles");
+        log.debug(() -> "Opening TTS dialog with " + allPosts.size() + " articles");
         
         javafx.stage.Stage stage = new javafx.stage.Stage();
         stage.initStyle(javafx.stage.StageStyle.TRANSPARENT);
@@ -515,19 +557,20 @@ public class BlogController {
         card.setOnMouseClicked(e -> {
             parentStage.close();
             speakBlog(blog);
-            System.out.println("User selected: " + blog.getTitle());
+            log.debug(() -> "User selected: " + blog.getTitle());
         });
         
         return card;
     }
     
     private void speakBlog(Blog blog) {
-        if (blog == null || blog.getFullDescription() == null) {
-            System.err.println("ERROR: Cannot speak blog - null or no content");
+        if (blog == null) {
+            log.error("ERROR: Cannot speak blog - null or no content");
             return;
         }
+        loadFullContent(blog);
         
-        System.out.println("Starting TTS for: " + blog.getTitle());
+        log.debug(() -> "Starting TTS for: " + blog.getTitle());
         stopSpeaking(); // Stop any currently playing audio
         
         isSpeaking = true;
@@ -541,18 +584,18 @@ public class BlogController {
             textToSpeak = textToSpeak.substring(0, 3000) + "... Article truncated for audio playback.";
         }
         
-        System.out.println("Text to speak length: " + textToSpeak.length() + " chars");
+        if (log.isDebugEnabled()) log.debug("Text to speak length: " + textToSpeak.length() + " chars");
         
         // Save text to temp file to avoid command line length issues
         final String finalText = textToSpeak;
         
-        new Thread(() -> {
+        TaskRunner.run(root, "speakBlog", () -> {
             try {
                 // Create temp file with text
                 java.io.File tempFile = java.io.File.createTempFile("tts_", ".txt");
                 tempFile.deleteOnExit();
                 java.nio.file.Files.write(tempFile.toPath(), finalText.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                System.out.println("Created temp file: " + tempFile.getAbsolutePath());
+                log.debug(() -> "Created temp file: " + tempFile.getAbsolutePath());
                 
                 // Use PowerShell to read file and speak
                 String command = "$text = Get-Content -Path '" + tempFile.getAbsolutePath().replace("\\", "/") + "' -Raw; " +
@@ -564,7 +607,7 @@ public class BlogController {
                                "$speak.Speak($text); " +
                                "Write-Host 'Speech completed.';";
                 
-                System.out.println("Executing PowerShell command...");
+                log.debug("Executing PowerShell command...");
                 ProcessBuilder pb = new ProcessBuilder("powershell.exe", "-Command", command);
                 pb.redirectErrorStream(true);
                 
@@ -577,11 +620,11 @@ public class BlogController {
                     new java.io.InputStreamReader(ttsProcess.getInputStream()));
                 String line;
                 while ((line = reader.readLine()) != null) {
-                    System.out.println("TTS Output: " + line);
+                    if (log.isDebugEnabled()) log.debug("TTS Output: " + line);
                 }
                 
                 int exitCode = ttsProcess.waitFor();
-                System.out.println("TTS process finished with exit code: " + exitCode);
+                log.debug(() -> "TTS process finished with exit code: " + exitCode);
                 
             } catch (InterruptedException e) {
                 // Thread was interrupted - normal stop behavior
@@ -589,7 +632,7 @@ public class BlogController {
             } catch (Exception e) {
                 // Only show error if it's not a result of forcibly destroying the process
                 if (ttsProcess != null && ttsProcess.isAlive()) {
-                    javafx.application.Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         showModernError("TTS Error", "Unable to read the article aloud", e.getMessage());
                     });
                 }
@@ -598,13 +641,13 @@ public class BlogController {
                     isSpeaking = false;
                     ttsProcess = null;
                 }
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     if (listenModeBtn != null) {
                         listenModeBtn.setText("🎧 Listen Instead");
                     }
                 });
             }
-        }).start();
+        });
         
         showModernNowPlaying(blog.getTitle());
     }
@@ -622,6 +665,11 @@ public class BlogController {
     private void cleanupTTS() {
         stopSpeaking();
     }
+
+    @Override
+    public void onHide() {
+        cleanupTTS(); // Stop any playing audio when the page is left, however it is left
+    }
     
     private void showModernNowPlaying(String articleTitle) {
         javafx.stage.Stage popup = new javafx.stage.Stage();
@@ -809,9 +857,9 @@ public class BlogController {
             
             Set<String> matches = new LinkedHashSet<>();
             
-            // Search across all blog attributes
+            // Topics whose name contains the query
             for (Blog blog : allPosts) {
-                if (matches.size() >= 10) break;
+                if (matches.size() >= 6) break;
                 
                 String category = blog.getCategory();
                 if (category != null && category.toLowerCase().contains(query)) {
@@ -819,6 +867,23 @@ public class BlogController {
                 }
             }
             
+            // Words from the articles completing the last typed word (prefix trie)
+            BlogSearchIndex index = BlogSearchIndex.prepare(allCategories()).getNow(null);
+            if (index != null) {
+                int lastSpace = query.lastIndexOf(' ');
+                String head = query.substring(0, lastSpace + 1);
+                for (String word : index.suggest(query.substring(lastSpace + 1), 5)) {
+                    String completed = head + word;
+                    MenuItem item = new MenuItem("🔎 " + completed);
+                    item.setOnAction(e -> {
+                        searchBar.setText(completed);
+                        performSearch(completed);
+                        suggestions.hide();
+                    });
+                    suggestions.getItems().add(item);
+                }
+            }
+            
             for (String match : matches) {
                 MenuItem item = new MenuItem("📄 " + match);
                 item.setOnAction(e -> {
@@ -830,7 +895,7 @@ public class BlogController {
             }
             
             // Add a "Search All" option
-            if (!matches.isEmpty()) {
+            if (!suggestions.getItems().isEmpty()) {
                 MenuItem searchAll = new MenuItem("🔍 Search all for '" + query + "'");
                 searchAll.setStyle("-fx-font-weight: bold;");
                 searchAll.setOnAction(e -> {
@@ -854,40 +919,35 @@ public class BlogController {
     }
 
     private void performSearch(String query) {
+        latestSearch = query;
         if (query == null || query.trim().isEmpty()) {
             buildCategorizedSections();
             return;
         }
         
-        String q = query.trim().toLowerCase();
-        Set<String> matchingCategories = new LinkedHashSet<>();
-        
-        // Search across title, category, and content
-        for (Blog blog : allPosts) {
-            boolean matches = false;
-            
-            // Check category
-            if (blog.getCategory() != null && blog.getCategory().toLowerCase().contains(q)) {
-                matches = true;
-            }
-            
-            // Check title
-            if (blog.getTitle() != null && blog.getTitle().toLowerCase().contains(q)) {
-                matches = true;
-            }
-            
-            // Check content
-            if (blog.getFullDescription() != null && blog.getFullDescription().toLowerCase().contains(q)) {
-                matches = true;
-            }
-            
-            if (matches) {
-                matchingCategories.add(blog.getCategory());
-            }
+        BlogSearchIndex index = BlogSearchIndex.prepare(allCategories()).getNow(null);
+        if (index == null) {
+            // Still building in the background; never wait for it on the FX thread
+            categoriesContainer.getChildren().clear();
+            Label building = new Label("Building search index…");
+            building.setStyle("-fx-font-size: 16px; -fx-text-fill: #888; -fx-padding: 60px;");
+            categoriesContainer.getChildren().add(building);
+            BlogSearchIndex.prepare(allCategories()).thenAcceptAsync(built -> {
+                // Only if the user hasn't searched for something else meanwhile
+                if (query.equals(latestSearch)) showHits(query, built);
+            }, TaskRunner.FX);
+            return;
         }
+        showHits(query, index);
+    }
+
+    private void showHits(String query, BlogSearchIndex index) {
+        long started = System.nanoTime();
+        List<BlogSearchIndex.Hit> hits = index.search(query, 20);
+        long micros = (System.nanoTime() - started) / 1000;
         
-        if (!matchingCategories.isEmpty()) {
-            highlightCategories(new ArrayList<>(matchingCategories));
+        if (!hits.isEmpty()) {
+            showSearchResults(query.trim(), hits, micros);
         } else {
             // Show no results message
             categoriesContainer.getChildren().clear();
@@ -916,6 +976,51 @@ public class BlogController {
         }
     }
 
+    /**
+     * Ranked search results, each with a snippet of the article and the matched words in bold.
+     */
+    private void showSearchResults(String query, List<BlogSearchIndex.Hit> hits, long micros) {
+        categoriesContainer.getChildren().clear();
+        
+        Label summary = new Label(hits.size() + " article" + (hits.size() == 1 ? "" : "s") + " for '" + query
+            + "' (" + micros + " µs)");
+        summary.getStyleClass().add("search-summary");
+        categoriesContainer.getChildren().add(summary);
+        
+        for (BlogSearchIndex.Hit hit : hits) {
+            VBox card = new VBox(6);
+            card.getStyleClass().add("search-result-card");
+            card.setMaxWidth(Double.MAX_VALUE);
+            
+            Label title = new Label(hit.category());
+            title.getStyleClass().add("search-result-title");
+            
+            TextFlow snippet = new TextFlow();
+            String text = hit.snippet();
+            int pos = 0;
+            for (int[] range : hit.highlights()) {
+                if (range[0] > pos) snippet.getChildren().add(snippetText(text.substring(pos, range[0]), "search-snippet"));
+                snippet.getChildren().add(snippetText(text.substring(range[0], range[1]), "search-highlight"));
+                pos = range[1];
+            }
+            if (pos < text.length()) snippet.getChildren().add(snippetText(text.substring(pos), "search-snippet"));
+            
+            card.getChildren().addAll(title, snippet);
+            card.setOnMouseEntered(e -> BlogContentLoader.prefetch(hit.category()));
+            card.setOnMouseClicked(e -> {
+                Blog blog = findBlogByCategory(hit.category());
+                if (blog != null) showBlogDetail(blog);
+            });
+            categoriesContainer.getChildren().add(card);
+        }
+    }
+    
+    private Text snippetText(String value, String styleClass) {
+        Text text = new Text(value);
+        text.getStyleClass().add(styleClass);
+        return text;
+    }
+
     private void highlightCategories(List<String> categories) {
         // Rebuild sections highlighting only matching categories
         categoriesContainer.getChildren().clear();
@@ -1052,7 +1157,7 @@ public class BlogController {
         tipBox.getChildren().addAll(tipIcon, tipText);
         categoriesContainer.getChildren().add(tipBox);
         
-        System.out.println("Topic Shuffle: Displaying " + displayCount + " random articles");
+        log.debug(() -> "Topic Shuffle: Displaying " + displayCount + " random articles");
     }
 
     private void filterByExpertPick() {
@@ -1131,11 +1236,9 @@ public class BlogController {
     }
     
     private boolean matchesLengthFilter(Blog blog, String lengthFilter) {
-        if (blog == null || blog.getFullDescription() == null) return false;
+        if (blog == null) return false;
         
-        String content = blog.getFullDescription();
-        int wordCount = content.split("\\s+").length;
-        int readingTimeMinutes = wordCount / 200; // Average reading speed: 200 words/min
+        int readingTimeMinutes = blog.getReadingMinutes();
         
         switch (lengthFilter) {
             case "Quick Read (< 2 min)":
@@ -1281,25 +1384,28 @@ public class BlogController {
                     blogHistoryRepo.recordBlogView(soulId, blog.getId(), blog.getCategory());
                 }
             } catch (Exception e) {
-                System.err.println("Failed to record blog view: " + e.getMessage());
+                log.error("Failed to record blog view: " + e.getMessage());
             }
             
             updateProgressLabels();
             
-            System.out.println("=== showBlogDetail START ===");
-            System.out.println("Blog title: " + blog.getTitle());
-            System.out.println("Blog category: " + blog.getCategory());
-            System.out.println("Blog content length: " + (blog.getFullDescription() != null ? blog.getFullDescription().length() : "NULL"));
+            loadFullContent(blog);
+            BlogContentLoader.prefetch(nextCategory(blog.getCategory()));
+            
+            log.debug("=== showBlogDetail START ===");
+            log.debug(() -> "Blog title: " + blog.getTitle());
+            log.debug(() -> "Blog category: " + blog.getCategory());
+            log.debug(() -> "Blog content length: " + (blog.getFullDescription() != null ? blog.getFullDescription().length() : "NULL"));
             
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/blog_detail.fxml"));
             Parent detail = loader.load();
-            System.out.println("✓ FXML loaded successfully");
+            log.debug("✓ FXML loaded successfully");
             
             BlogDetailController controller = loader.getController();
-            System.out.println("✓ Controller obtained: " + (controller != null));
+            log.debug(() -> "✓ Controller obtained: " + (controller != null));
             
             controller.setBlog(blog);
-            System.out.println("✓ Blog set in controller");
+            log.debug("✓ Blog set in controller");
 
             javafx.scene.layout.StackPane popup = new javafx.scene.layout.StackPane();
             popup.setStyle("-fx-background-color: rgba(0, 0, 0, 0.45);"); // Softer overlay
@@ -1307,7 +1413,7 @@ public class BlogController {
             popup.setMouseTransparent(false);
             popup.getChildren().add(detail);
             javafx.scene.layout.StackPane.setAlignment(detail, Pos.CENTER);
-            System.out.println("✓ Popup created");
+            log.debug("✓ Popup created");
 
             if (detail instanceof javafx.scene.layout.Region && root != null) {
                 javafx.scene.layout.Region region = (javafx.scene.layout.Region) detail;
@@ -1319,22 +1425,22 @@ public class BlogController {
                 region.setStyle("-fx-background-color: #fafbfc; -fx-background-radius: 16; -fx-effect: dropshadow(gaussian, rgba(102, 126, 234, 0.25), 40, 0.3, 0, 8);");
                 region.setVisible(true);
                 region.setManaged(true);
-                System.out.println("✓ Region sized: " + region.getPrefWidth() + "x" + region.getPrefHeight());
+                log.debug(() -> "✓ Region sized: " + region.getPrefWidth() + "x" + region.getPrefHeight());
             }
 
             if (root != null && root.getScene() != null) {
                 javafx.scene.Scene scene = root.getScene();
                 javafx.scene.Parent sceneRoot = scene.getRoot();
-                System.out.println("✓ Scene root type: " + sceneRoot.getClass().getSimpleName());
+                if (log.isDebugEnabled()) log.debug("✓ Scene root type: " + sceneRoot.getClass().getSimpleName());
                 
                 // If root is NOT already a StackPane, we need to wrap it
                 if (!(sceneRoot instanceof javafx.scene.layout.StackPane)) {
-                    System.out.println("⚠ Scene root is not StackPane, wrapping it...");
+                    log.debug("⚠ Scene root is not StackPane, wrapping it...");
                     javafx.scene.layout.StackPane newRoot = new javafx.scene.layout.StackPane();
                     newRoot.getChildren().add(sceneRoot);
                     scene.setRoot(newRoot);
                     sceneRoot = newRoot;
-                    System.out.println("✓ Wrapped with StackPane");
+                    log.debug("✓ Wrapped with StackPane");
                 }
                 
                 javafx.scene.layout.StackPane stackRoot = (javafx.scene.layout.StackPane) sceneRoot;
@@ -1347,8 +1453,8 @@ public class BlogController {
                 stackRoot.getChildren().add(popup);
                 popup.toFront();
                 
-                System.out.println("✓ Popup added to StackPane root, children count: " + stackRoot.getChildren().size());
-                System.out.println("✓ Popup size: " + scene.getWidth() + "x" + scene.getHeight());
+                log.debug(() -> "✓ Popup added to StackPane root, children count: " + stackRoot.getChildren().size());
+                log.debug(() -> "✓ Popup size: " + scene.getWidth() + "x" + scene.getHeight());
                 
                 // Start with invisible popup for fade-in effect
                 popup.setOpacity(0.0);
@@ -1361,19 +1467,19 @@ public class BlogController {
                 fadeIn.play();
                 
                 // Force layout
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     popup.requestFocus();
                     popup.toFront();
-                    System.out.println("✓ Popup bounds after layout: " + popup.getBoundsInParent());
+                    log.debug(() -> "✓ Popup bounds after layout: " + popup.getBoundsInParent());
                 });
             } else {
-                System.err.println("ERROR: No valid scene found for popup!");
+                log.error("ERROR: No valid scene found for popup!");
             }
             
             // Click background to close
             popup.setOnMouseClicked(e -> {
                 if (e.getTarget() == popup) {
-                    System.out.println("Background clicked - closing popup (feature disabled - use X button)");
+                    log.debug("Background clicked - closing popup (feature disabled - use X button)");
                 }
             });
 
@@ -1381,13 +1487,13 @@ public class BlogController {
             controller.setOnClose(() -> {
                 if (isClosing[0]) return;
                 isClosing[0] = true;
-                System.out.println("Closing popup...");
+                log.debug("Closing popup...");
                 
                 FadeTransition fadeOut = new FadeTransition(Duration.millis(300), popup);
                 fadeOut.setFromValue(popup.getOpacity());
                 fadeOut.setToValue(0);
                 fadeOut.setOnFinished(e -> {
-                    javafx.application.Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         if (root != null && root.getScene() != null && root.getScene().getRoot() instanceof javafx.scene.layout.Pane) {
                             javafx.scene.layout.Pane container = (javafx.scene.layout.Pane) root.getScene().getRoot();
                             if (container.getChildren().contains(popup)) container.getChildren().remove(popup);
@@ -1415,11 +1521,10 @@ public class BlogController {
                 }
             });
             
-            System.out.println("=== showBlogDetail END - SUCCESS ===");
+            log.debug("=== showBlogDetail END - SUCCESS ===");
 
         } catch (Exception e) {
-            System.err.println("=== showBlogDetail ERROR ===");
-            e.printStackTrace();
+            log.error("=== showBlogDetail ERROR ===", e);
             Alert alert = new Alert(Alert.AlertType.ERROR);
             alert.setTitle("Error");
             alert.setHeaderText("Failed to show blog detail");
@@ -1429,17 +1534,18 @@ public class BlogController {
     }
 
     private void goBackToDashboard() {
-        cleanupTTS(); // Stop any playing audio before leaving
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/dashboard.fxml"));
-            Parent dash = loader.load();
-            DashboardController controller = loader.getController();
-            controller.setUser(this.soulId, "");
-            if (root != null && root.getScene() != null) {
-                root.getScene().setRoot(dash);
+        TaskRunner.run(root, "goBackToDashboard", () -> {
+            try {
+                ViewLoader.View<DashboardController> view = ViewLoader.load("/com/the_pathfinders/fxml/dashboard.fxml");
+                FxQueue.runLater(() -> {
+                    view.controller().setUser(this.soulId, "");
+                    if (root != null && root.getScene() != null) {
+                        root.getScene().setRoot(view.root());
+                    }
+                });
+            } catch (Exception ex) {
+                log.error("goBackToDashboard failed", ex);
             }
-        } catch (Exception ex) {
-            ex.printStackTrace();
-        }
+        });
     }
 }
@@ -0,0 +1,287 @@
+package com.the_pathfinders;
+
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Full-text search over the wellness library.
+ *
+ * The index is built once per app run in the background (see {@link #prepare}): every article is
+ * tokenized into an inverted index of term -> (article, term frequency, first offset). Queries are
+ * ranked with BM25; words in the topic name count extra so the "Depression" article outranks
+ * articles that merely mention depression. A prefix trie over all indexed terms backs autocomplete.
+ * Snippets are cut from the article text around the best match.
+ */
+public final class BlogSearchIndex {
+    private static final Log log = Log.get("blog");
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 5;        // Topic-name words count as this many occurrences
+    private static final int SNIPPET_RADIUS = 110;   // Characters of context on each side of the match
+    private static final int SUGGESTIONS_PER_NODE = 8;
+    private static final double PREFIX_WEIGHT = 0.5;  // Completions of a half-typed word count for less than exact words
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+        "its", "of", "on", "or", "that", "the", "their", "this", "to", "was", "were", "will", "with", "you", "your"
+    );
+
+    private static CompletableFuture<BlogSearchIndex> building;
+
+    /** One search result. Highlights are [start, end) character ranges within the snippet. */
+    public record Hit(String category, double score, String snippet, List<int[]> highlights) {}
+
+    private record Posting(int doc, int tf, int firstOffset) {}
+
+    private final List<String> categories = new ArrayList<>();
+    private final List<Integer> docLengths = new ArrayList<>();
+    private final Map<String, List<Posting>> postings = new HashMap<>();
+    private final TrieNode trie = new TrieNode();
+    private double avgDocLength;
+
+    private BlogSearchIndex() {}
+
+    /**
+     * Start building the index on a background thread. Safe to call repeatedly; only the first call builds.
+     */
+    public static synchronized CompletableFuture<BlogSearchIndex> prepare(Collection<String> categories) {
+        if (building == null) {
+            List<String> snapshot = List.copyOf(categories);
+            building = TaskRunner.supply(null, "buildBlogIndex", () -> build(snapshot));
+        }
+        return building;
+    }
+
+    private static BlogSearchIndex build(List<String> categories) {
+        long started = System.nanoTime();
+        BlogSearchIndex index = new BlogSearchIndex();
+        long totalLength = 0;
+        for (String category : categories) {
+            int doc = index.categories.size();
+            index.categories.add(category);
+
+            Map<String, int[]> terms = new LinkedHashMap<>(); // term -> {tf, firstOffset}
+            for (Token t : tokenize(category)) {
+                terms.computeIfAbsent(t.term, k -> new int[] {0, -1})[0] += TITLE_BOOST;
+            }
+            String text = BlogContentLoader.loadContentForCategory(category, "");
+            List<Token> tokens = tokenize(text);
+            for (Token t : tokens) {
+                int[] entry = terms.computeIfAbsent(t.term, k -> new int[] {0, -1});
+                entry[0]++;
+                if (entry[1] < 0) entry[1] = t.start;
+            }
+            for (Map.Entry<String, int[]> e : terms.entrySet()) {
+                index.postings.computeIfAbsent(e.getKey(), k -> new ArrayList<>())
+                        .add(new Posting(doc, e.getValue()[0], e.getValue()[1]));
+            }
+            index.docLengths.add(tokens.size());
+            totalLength += tokens.size();
+        }
+        index.avgDocLength = categories.isEmpty() ? 1 : Math.max(1.0, (double) totalLength / categories.size());
+
+        for (Map.Entry<String, List<Posting>> e : index.postings.entrySet()) {
+            index.trie.insert(e.getKey(), e.getValue().size());
+        }
+        index.trie.computeSuggestions();
+
+        log.debug(() -> "Blog search index: " + categories.size() + " articles, " + index.postings.size()
+                + " terms in " + (System.nanoTime() - started) / 1_000_000 + " ms");
+        return index;
+    }
+
+    /**
+     * Rank articles for a query with BM25. The last query word also matches as a prefix,
+     * so results keep up while the user is still typing.
+     */
+    public List<Hit> search(String query, int limit) {
+        Map<String, Double> terms = queryTerms(query);
+        if (terms.isEmpty()) return List.of();
+
+        double[] scores = new double[categories.size()];
+        int[] bestOffset = new int[categories.size()];
+        double[] bestTermScore = new double[categories.size()];
+        Arrays.fill(bestOffset, -1);
+
+        int n = categories.size();
+        for (Map.Entry<String, Double> term : terms.entrySet()) {
+            List<Posting> list = postings.get(term.getKey());
+            if (list == null) continue;
+            double idf = term.getValue() * Math.log(1 + (n - list.size() + 0.5) / (list.size() + 0.5));
+            for (Posting p : list) {
+                double norm = K1 * (1 - B + B * docLengths.get(p.doc) / avgDocLength);
+                double termScore = idf * (p.tf * (K1 + 1)) / (p.tf + norm);
+                scores[p.doc] += termScore;
+                if (p.firstOffset >= 0 && termScore > bestTermScore[p.doc]) {
+                    bestTermScore[p.doc] = termScore;
+                    bestOffset[p.doc] = p.firstOffset;
+                }
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>();
+        for (int doc = 0; doc < n; doc++) {
+            if (scores[doc] > 0) ranked.add(doc);
+        }
+        ranked.sort((a, b) -> Double.compare(scores[b], scores[a]));
+
+        List<Hit> hits = new ArrayList<>();
+        for (int doc : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            String category = categories.get(doc);
+            String text = BlogContentLoader.loadContentForCategory(category, "");
+            hits.add(buildHit(category, scores[doc], text, bestOffset[doc], terms.keySet()));
+        }
+        return hits;
+    }
+
+    /**
+     * Indexed words starting with the given prefix, most widely used first.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String p = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT).trim();
+        if (p.isEmpty()) return List.of();
+        TrieNode node = trie.find(p);
+        if (node == null) return List.of();
+        return node.suggestions.subList(0, Math.min(limit, node.suggestions.size()));
+    }
+
+    public int getArticleCount() {
+        return categories.size();
+    }
+
+    public int getTermCount() {
+        return postings.size();
+    }
+
+    /** Query terms with their weights. */
+    private Map<String, Double> queryTerms(String query) {
+        Map<String, Double> terms = new LinkedHashMap<>();
+        List<Token> tokens = tokenize(query);
+        for (Token t : tokens) {
+            terms.put(t.term, 1.0);
+        }
+        // Expand the last word to its completions unless the user already finished it with a space
+        if (!tokens.isEmpty() && !query.endsWith(" ")) {
+            for (String completion : suggest(tokens.get(tokens.size() - 1).term, SUGGESTIONS_PER_NODE)) {
+                terms.putIfAbsent(completion, PREFIX_WEIGHT);
+            }
+        }
+        return terms;
+    }
+
+    private static Hit buildHit(String category, double score, String text, int offset, Set<String> terms) {
+        if (text.isEmpty()) return new Hit(category, score, "", List.of());
+
+        int center = Math.max(offset, 0);
+        int start = Math.max(0, center - SNIPPET_RADIUS);
+        int end = Math.min(text.length(), center + SNIPPET_RADIUS);
+        // Snap to word boundaries so the snippet doesn't start or end mid-word
+        while (start > 0 && !Character.isWhitespace(text.charAt(start - 1))) start--;
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) end++;
+
+        String body = text.substring(start, end).replaceAll("\\s+", " ");
+        String prefix = start > 0 ? "… " : "";
+        String snippet = prefix + body.trim() + (end < text.length() ? " …" : "");
+
+        List<int[]> highlights = new ArrayList<>();
+        for (Token t : tokenize(snippet)) {
+            if (terms.contains(t.term)) {
+                highlights.add(new int[] {t.start, t.end});
+            }
+        }
+        return new Hit(category, score, snippet, highlights);
+    }
+
+    private record Token(String term, int start, int end) {}
+
+    private static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        int i = 0;
+        int len = text.length();
+        while (i < len) {
+            while (i < len && !Character.isLetterOrDigit(text.charAt(i))) i++;
+            int start = i;
+            while (i < len && (Character.isLetterOrDigit(text.charAt(i)) || isInnerApostrophe(text, i))) i++;
+            if (i > start) {
+                String term = normalize(text.substring(start, i));
+                if (term.length() > 1 && !STOP_WORDS.contains(term)) {
+                    tokens.add(new Token(term, start, i));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isInnerApostrophe(String text, int i) {
+        char c = text.charAt(i);
+        return (c == '\'' || c == '’') && i + 1 < text.length() && Character.isLetter(text.charAt(i + 1));
+    }
+
+    private static String normalize(String word) {
+        String w = word.toLowerCase(Locale.ROOT).replace("’", "'");
+        if (w.endsWith("'s")) w = w.substring(0, w.length() - 2);
+        return w.replace("'", "");
+    }
+
+    /**
+     * Prefix trie over indexed terms. Each node keeps its most frequent completions so
+     * autocomplete is a walk down the prefix, independent of vocabulary size.
+     */
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new TreeMap<>();
+        private String term;           // Set when a term ends here
+        private int documentFrequency;
+        private List<String> suggestions = List.of();
+
+        void insert(String word, int df) {
+            TrieNode node = this;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), c -> new TrieNode());
+            }
+            node.term = word;
+            node.documentFrequency = df;
+        }
+
+        TrieNode find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+
+        /** Fill in each node's top completions bottom-up; returns this node's candidates with their df. */
+        List<Map.Entry<String, Integer>> computeSuggestions() {
+            List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+            if (term != null) candidates.add(Map.entry(term, documentFrequency));
+            for (TrieNode child : children.values()) {
+                candidates.addAll(child.computeSuggestions());
+            }
+            candidates.sort((a, b) -> {
+                int byFrequency = Integer.compare(b.getValue(), a.getValue());
+                return byFrequency != 0 ? byFrequency : a.getKey().compareTo(b.getKey());
+            });
+            if (candidates.size() > SUGGESTIONS_PER_NODE) {
+                candidates = new ArrayList<>(candidates.subList(0, SUGGESTIONS_PER_NODE));
+            }
+            List<String> words = new ArrayList<>(candidates.size());
+            for (Map.Entry<String, Integer> e : candidates) words.add(e.getKey());
+            suggestions = List.copyOf(words);
+            return candidates;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+
 import javafx.animation.*;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -12,6 +14,8 @@ import javafx.util.Duration;
 
 public class BreathingBallController {
 
+    private static final Log log = Log.get("tranquil");
+
     private static String soulId = "";
     
     public static void setSoulId(String id) {
@@ -58,7 +62,7 @@ public class BreathingBallController {
             }
             backBtn.getScene().setRoot(calmActivities);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBack failed", ex);
         }
     }
 
@@ -1,5 +1,7 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+
 import javafx.animation.*;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -20,6 +22,8 @@ import java.util.Random;
 
 public class BubblePopperController {
 
+    private static final Log log = Log.get("tranquil");
+
     private static String soulId = "";
     
     public static void setSoulId(String id) {
@@ -88,7 +92,7 @@ public class BubblePopperController {
             }
             backBtn.getScene().setRoot(calmActivities);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBack failed", ex);
         }
     }
 
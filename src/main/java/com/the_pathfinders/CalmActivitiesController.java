@@ -1,5 +1,7 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+
 import javafx.animation.*;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -16,6 +18,8 @@ import java.util.*;
 
 public class CalmActivitiesController {
 
+    private static final Log log = Log.get("tranquil");
+
     private static String soulId = "";
     
     public static void setSoulId(String id) {
@@ -101,7 +105,7 @@ public class CalmActivitiesController {
                 root.getScene().setRoot(dashboard);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBack failed", ex);
         }
     }
     
@@ -130,7 +134,7 @@ public class CalmActivitiesController {
                 Desktop.getDesktop().browse(new URI(url));
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("openDrawingTool failed", ex);
         }
     }
 
@@ -152,7 +156,7 @@ public class CalmActivitiesController {
                 root.getScene().setRoot(p);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("loadActivity failed", ex);
         }
     }
     
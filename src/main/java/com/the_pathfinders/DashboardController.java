@@ -1,5 +1,12 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.AppEvents;
+import com.the_pathfinders.util.EventHub;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
+import com.the_pathfinders.util.ViewLoader;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.time.LocalTime;
@@ -16,7 +23,6 @@ import javafx.animation.Timeline;
 import javafx.animation.TranslateTransition;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.control.Alert;
@@ -45,6 +51,8 @@ import javafx.util.Duration;
 
 public class DashboardController {
 
+    private static final Log log = Log.get("ui");
+
     // Utility: Hide all button hover labels immediately
     private void hideAllButtonHoverLabels() {
         List<Button> buttons = Arrays.asList(journalBtn, blogBtn, moodBtn, insightsBtn, SocialWorkBtn,
@@ -220,6 +228,9 @@ public class DashboardController {
     private Button tranquilBackBtn;
 
     private String soulId;
+    // Messages badge in the open user menu (null when closed), kept current by this soul's message events
+    private Label messagesBadge;
+    private EventHub.Subscription messageEvents;
     private double dragStartX = 0;
 
     // Mood tracker state
@@ -255,7 +266,7 @@ public class DashboardController {
     public void initialize() {
         // Ensure root pane fills the scene for proper video background coverage
         if (root != null) {
-            javafx.application.Platform.runLater(() -> {
+            FxQueue.runLater(() -> {
                 if (root.getScene() != null && root.getScene().getWindow() != null) {
                     root.prefWidthProperty().bind(root.getScene().widthProperty());
                     root.prefHeightProperty().bind(root.getScene().heightProperty());
@@ -265,7 +276,7 @@ public class DashboardController {
                 }
             });
             // Attach scene-level mouse handlers when scene becomes available
-            javafx.application.Platform.runLater(() -> {
+            FxQueue.runLater(() -> {
                 if (root.getScene() != null) {
                     var scene = root.getScene();
                     scene.addEventHandler(javafx.scene.input.MouseEvent.MOUSE_MOVED, ev -> {
@@ -342,7 +353,7 @@ public class DashboardController {
             videoManager.initializeWithRetry(
                     3,
                     msg -> videoManager.attachToPane(root),
-                    err -> System.err.println("Failed to initialize video: " + err));
+                    err -> log.error("Failed to initialize video: " + err));
         }
 
         // Ensure user image is visible and clickable
@@ -353,9 +364,8 @@ public class DashboardController {
             // Set default image if not already set
             if (userImage.getImage() == null) {
                 try {
-                    URL u = getClass().getResource("/assets/icons/user.png");
-                    if (u != null) {
-                        Image img = new Image(u.toExternalForm(), 50, 50, true, true);
+                    Image img = ImageCache.icon("user.png", 50);
+                    if (img != null) {
                         userImage.setImage(img);
                     }
                 } catch (Exception ignored) {
@@ -374,44 +384,44 @@ public class DashboardController {
         } catch (Exception ignored) {
         }
 
-        System.out.println("=== Music Toggle Setup ===");
-        System.out.println("musicToggle is null: " + (musicToggle == null));
-        System.out.println("root children count: " + (root != null ? root.getChildren().size() : "null"));
+        log.debug("=== Music Toggle Setup ===");
+        log.debug(() -> "musicToggle is null: " + (musicToggle == null));
+        log.debug(() -> "root children count: " + (root != null ? root.getChildren().size() : "null"));
         if (root != null && root.getChildren().size() > 0) {
-            System.out.println("First child: " + root.getChildren().get(0).getClass().getSimpleName());
-            System.out.println("First child mouseTransparent: " + root.getChildren().get(0).isMouseTransparent());
+            log.debug(() -> "First child: " + root.getChildren().get(0).getClass().getSimpleName());
+            log.debug(() -> "First child mouseTransparent: " + root.getChildren().get(0).isMouseTransparent());
         }
 
         if (musicToggle != null) {
-            System.out.println("musicToggle found, setting up...");
-            System.out.println("musicToggle disabled: " + musicToggle.isDisabled());
-            System.out.println("musicToggle visible: " + musicToggle.isVisible());
-            System.out.println("musicToggle parent: "
+            log.debug("musicToggle found, setting up...");
+            log.debug(() -> "musicToggle disabled: " + musicToggle.isDisabled());
+            log.debug(() -> "musicToggle visible: " + musicToggle.isVisible());
+            log.debug(() -> "musicToggle parent: "
                     + (musicToggle.getParent() != null ? musicToggle.getParent().getClass().getSimpleName() : "null"));
 
             musicToggle.setSelected(MusicManager.isBackgroundMusicEnabled());
             updateMusicToggleText();
             musicToggle.setOnAction(e -> {
-                System.out.println(">>> MUSIC TOGGLE ACTION FIRED <<<");
+                log.debug(">>> MUSIC TOGGLE ACTION FIRED <<<");
                 handleMusicToggle();
             });
 
             // Test direct click handler
             musicToggle.setOnMouseClicked(e -> {
-                System.out.println(">>> MOUSE CLICKED ON TOGGLE <<<");
+                log.debug(">>> MOUSE CLICKED ON TOGGLE <<<");
             });
 
-            System.out.println("musicToggle setup complete");
+            log.debug("musicToggle setup complete");
         } else {
-            System.out.println("ERROR: musicToggle is NULL! Check FXML fx:id");
+            log.debug("ERROR: musicToggle is NULL! Check FXML fx:id");
         }
 
         // Initialize journaling popup
         if (journalingIcon != null) {
             try {
-                URL iconUrl = getClass().getResource("/assets/icons/ques.png");
-                if (iconUrl != null) {
-                    journalingIcon.setImage(new Image(iconUrl.toExternalForm()));
+                Image icon = ImageCache.icon("ques.png", journalingIcon.getFitWidth());
+                if (icon != null) {
+                    journalingIcon.setImage(icon);
                 }
             } catch (Exception ignored) {
             }
@@ -535,10 +545,10 @@ public class DashboardController {
         populateEmergencyHotlines();
 
         // ─── Tranquil Corner Popup Setup ───────────────────
-        System.out.println("Setting up tranquil corner buttons...");
-        System.out.println("meditationBtn: " + meditationBtn);
-        System.out.println("calmActivitiesBtn: " + calmActivitiesBtn);
-        System.out.println("pomodoroBtn: " + pomodoroBtn);
+        log.debug("Setting up tranquil corner buttons...");
+        log.debug(() -> "meditationBtn: " + meditationBtn);
+        log.debug(() -> "calmActivitiesBtn: " + calmActivitiesBtn);
+        log.debug(() -> "pomodoroBtn: " + pomodoroBtn);
 
         if (tranquilCornerBtn != null) {
             tranquilCornerBtn.setOnAction(e -> showTranquilPopup());
@@ -550,37 +560,34 @@ public class DashboardController {
 
         if (meditationBtn != null) {
             meditationBtn.setOnAction(e -> {
-                System.out.println("Meditation button clicked!");
+                log.debug("Meditation button clicked!");
                 try {
                     MeditationController.setSoulId(this.soulId);
                     loadPage("/com/the_pathfinders/fxml/Meditation.fxml");
                 } catch (Exception ex) {
-                    System.err.println("Error loading Meditation: " + ex.getMessage());
-                    ex.printStackTrace();
+                    log.error("Error loading Meditation", ex);
                 }
             });
         }
         if (calmActivitiesBtn != null) {
             calmActivitiesBtn.setOnAction(e -> {
-                System.out.println("Calm Activities button clicked!");
+                log.debug("Calm Activities button clicked!");
                 try {
                     CalmActivitiesController.setSoulId(this.soulId);
                     loadPage("/com/the_pathfinders/fxml/CalmActivities.fxml");
                 } catch (Exception ex) {
-                    System.err.println("Error loading Calm Activities: " + ex.getMessage());
-                    ex.printStackTrace();
+                    log.error("Error loading Calm Activities", ex);
                 }
             });
         }
         if (pomodoroBtn != null) {
             pomodoroBtn.setOnAction(e -> {
-                System.out.println("Pomodoro button clicked!");
+                log.debug("Pomodoro button clicked!");
                 try {
                     PomodoroController.setSoulId(this.soulId);
                     loadPage("/com/the_pathfinders/fxml/Pomodoro.fxml");
                 } catch (Exception ex) {
-                    System.err.println("Error loading Pomodoro: " + ex.getMessage());
-                    ex.printStackTrace();
+                    log.error("Error loading Pomodoro", ex);
                 }
             });
         }
@@ -699,26 +706,26 @@ public class DashboardController {
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "openSocialWork", () -> {
             try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/SocialWork.fxml"));
-                Parent p = loader.load();
+                ViewLoader.View<SocialWorkController> view = ViewLoader.load("/com/the_pathfinders/fxml/SocialWork.fxml");
+                Parent p = view.root();
 
-                SocialWorkController controller = loader.getController();
-                if (controller != null) {
-                    controller.setSoulId(this.soulId == null ? "" : this.soulId);
-                }
+                SocialWorkController controller = view.controller();
 
                 // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
+                    if (controller != null) {
+                        controller.setSoulId(this.soulId == null ? "" : this.soulId);
+                    }
                     if (root != null && root.getScene() != null) {
                         root.getScene().setRoot(p);
                     }
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("openSocialWork failed", ex);
             }
-        }).start();
+        });
     }
 
     private void showTranquilPopup() {
@@ -750,103 +757,87 @@ public class DashboardController {
     }
 
     private void loadPage(String path) {
-        System.out.println("loadPage called with path: " + path);
+        log.debug(() -> "loadPage called with path: " + path);
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "loadPage", () -> {
             try {
-                System.out.println("Getting resource for: " + path);
-                java.net.URL resourceUrl = getClass().getResource(path);
-                System.out.println("Resource URL: " + resourceUrl);
-
-                if (resourceUrl == null) {
-                    System.err.println("ERROR: Resource not found at path: " + path);
-                    return;
-                }
-
-                FXMLLoader loader = new FXMLLoader(resourceUrl);
-                System.out.println("Loading FXML...");
-                Parent p = loader.load();
-                System.out.println("FXML loaded successfully, setting scene root...");
+                log.debug("Loading FXML...");
+                Parent p = ViewLoader.load(path).root();
+                log.debug("FXML loaded successfully, setting scene root...");
 
                 // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     root.getScene().setRoot(p);
-                    System.out.println("Scene root set successfully!");
+                    log.debug("Scene root set successfully!");
                 });
             } catch (Exception ex) {
-                System.err.println("ERROR in loadPage: " + ex.getMessage());
-                ex.printStackTrace();
+                log.error("ERROR in loadPage", ex);
             }
-        }).start();
+        });
     }
 
     private void openToDo() {
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "openToDo", () -> {
             try {
-                System.out.println("=== Opening ToDo page ===");
-                URL fxmlUrl = getClass().getResource("/com/the_pathfinders/fxml/ToDo.fxml");
-                System.out.println("FXML URL: " + fxmlUrl);
-
-                FXMLLoader loader = new FXMLLoader(fxmlUrl);
-                Parent p = loader.load();
-                System.out.println("FXML loaded successfully");
-
-                ToDoController controller = loader.getController();
-                if (controller != null) {
-                    controller.setSoulId(this.soulId == null ? "" : this.soulId);
-                }
-                System.out.println("Controller: " + controller);
-
-                // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                log.debug("=== Opening ToDo page ===");
+                ViewLoader.View<ToDoController> view = ViewLoader.load("/com/the_pathfinders/fxml/ToDo.fxml");
+                Parent p = view.root();
+                log.debug("FXML loaded successfully");
+
+                ToDoController controller = view.controller();
+                log.debug(() -> "Controller: " + controller);
+
+                // Update UI on JavaFX thread; a cached controller may still be live, so it is only touched here
+                FxQueue.runLater(() -> {
+                    if (controller != null) {
+                        controller.setSoulId(this.soulId == null ? "" : this.soulId);
+                    }
                     if (root != null && root.getScene() != null) {
-                        System.out.println("Setting scene root...");
+                        log.debug("Setting scene root...");
                         root.getScene().setRoot(p);
-                        System.out.println("Scene root set successfully");
+                        log.debug("Scene root set successfully");
                     } else {
-                        System.err.println("ERROR: root or scene is null!");
+                        log.error("ERROR: root or scene is null!");
                     }
                 });
             } catch (Exception ex) {
-                System.err.println("ERROR in openToDo:");
-                ex.printStackTrace();
+                log.error("ERROR in openToDo:", ex);
             }
-        }).start();
+        });
     }
 
     private void openSeekHelp() {
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "openSeekHelp", () -> {
             try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/SeekHelp.fxml"));
-                Parent p = loader.load();
+                ViewLoader.View<SeekHelpController> view = ViewLoader.load("/com/the_pathfinders/fxml/SeekHelp.fxml");
+                Parent p = view.root();
 
-                SeekHelpController controller = loader.getController();
-                if (controller != null) {
-                    controller.setSoulId(this.soulId == null ? "" : this.soulId);
-                }
+                SeekHelpController controller = view.controller();
 
                 // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
+                    if (controller != null) {
+                        controller.setSoulId(this.soulId == null ? "" : this.soulId);
+                    }
                     var scene = root != null ? root.getScene() : (insightsBtn != null ? insightsBtn.getScene() : null);
                     if (scene != null) {
                         scene.setRoot(p);
                     } else {
-                        System.err.println("SeekHelp navigation failed: scene is null");
+                        log.error("SeekHelp navigation failed: scene is null");
                     }
                 });
             } catch (Exception ex) {
-                System.err.println("SeekHelp navigation error:");
-                ex.printStackTrace();
+                log.error("SeekHelp navigation error:", ex);
             }
-        }).start();
+        });
     }
 
     private void animateButtonsPopup() {
@@ -900,6 +891,17 @@ public class DashboardController {
         // Track activity when dashboard loads
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
+        if (messageEvents != null) {
+            messageEvents.close();
+            messageEvents = null;
+        }
+        if (!this.soulId.isEmpty()) {
+            messageEvents = EventHub.getInstance().subscribe(EventHub.soulTopic(this.soulId), (type, frame) ->
+                    FxQueue.runLater(() -> {
+                        if (messagesBadge != null) loadUnreadCount(messagesBadge);
+                    }));
+        }
+
         // Ensure greeting reflects current time when user is set (scene may be swapped
         // after initialize)
         try {
@@ -909,11 +911,10 @@ public class DashboardController {
         }
         try {
             URL u = getClass().getResource("/com/the_pathfinders/" + this.soulId + ".jpg");
-            if (u == null)
-                u = getClass().getResource("/assets/icons/user.png");
-            if (u != null && userImage != null) {
-                Image img = new Image(u.toExternalForm(), 50, 50, true, true);
-                userImage.setImage(img);
+            if (userImage != null) {
+                Image fallback = ImageCache.icon("user.png", 50);
+                if (u != null) ImageCache.loadInto(userImage, u, 50, 50, fallback);
+                else userImage.setImage(fallback);
                 userImage.setVisible(true);
                 userImage.setOpacity(1.0);
             }
@@ -969,7 +970,8 @@ public class DashboardController {
             URL outerArcUrl = getClass().getResource("/assets/images/outer_arc.png");
             ImageView outerArcView = null;
             if (outerArcUrl != null) {
-                outerArcView = new ImageView(new Image(outerArcUrl.toExternalForm()));
+                outerArcView = new ImageView(AppEvents.decode(outerArcUrl.toExternalForm(),
+                        () -> new Image(outerArcUrl.toExternalForm())));
                 outerArcView.setFitWidth(480); // Even larger outer ring
                 outerArcView.setFitHeight(480);
                 outerArcView.setPreserveRatio(true);
@@ -983,7 +985,8 @@ public class DashboardController {
             URL innerDonutUrl = getClass().getResource("/assets/images/inner_donut.png");
             ImageView innerDonutView = null;
             if (innerDonutUrl != null) {
-                innerDonutView = new ImageView(new Image(innerDonutUrl.toExternalForm()));
+                innerDonutView = new ImageView(AppEvents.decode(innerDonutUrl.toExternalForm(),
+                        () -> new Image(innerDonutUrl.toExternalForm())));
                 innerDonutView.setFitWidth(200); // Exact match to StackPane size
                 innerDonutView.setFitHeight(200);
                 innerDonutView.setPreserveRatio(true);
@@ -1018,7 +1021,7 @@ public class DashboardController {
 
                 // Attach click event to inner donut only - open assessment
                 finalInnerDonutView.setOnMouseClicked(e -> {
-                    System.out.println("Inner donut clicked!");
+                    log.debug("Inner donut clicked!");
                     showMoodTrackerPopup();
                     e.consume(); // Consume event to prevent button from receiving it
                 });
@@ -1033,8 +1036,7 @@ public class DashboardController {
             // No shape set - button doesn't handle clicks, only ImageView does
 
         } catch (Exception e) {
-            System.err.println("Error creating mood tracker button graphic: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error creating mood tracker button graphic", e);
         }
     }
 
@@ -1168,7 +1170,7 @@ public class DashboardController {
                     fadeOut.setFromValue(currentOpacity);
                     fadeOut.playFromStart();
                     scaleDown.playFromStart();
-                    javafx.application.Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         if (currentlyHoveredButton == button) {
                             currentlyHoveredButton = null;
                         }
@@ -1201,7 +1203,8 @@ public class DashboardController {
             u = getClass().getResource("/assets/images/logo_testing.png");
             if (u != null && logoImage != null) {
                 // Scale down 972x972px logo - keep at 100px for dashboard
-                Image img = new Image(u.toExternalForm(), 100, 100, true, true);
+                String logoUrl = u.toExternalForm();
+                Image img = AppEvents.decode(logoUrl, () -> new Image(logoUrl, 100, 100, true, true));
                 logoImage.setImage(img);
                 logoImage.setFitWidth(100);
                 logoImage.setFitHeight(100);
@@ -1219,6 +1222,7 @@ public class DashboardController {
             userDropdown.setVisible(false);
             userDropdown.setManaged(false);
             userDropdown.getChildren().clear();
+            messagesBadge = null;
             return;
         }
         userDropdown.setVisible(true);
@@ -1250,22 +1254,8 @@ public class DashboardController {
                 b.setGraphic(buttonContent);
                 b.setText("");
 
-                // Load unread count in background
-                new Thread(() -> {
-                    try {
-                        int unreadCount = com.the_pathfinders.db.ModerationRepository
-                                .getUnreadMessageCount(this.soulId);
-                        if (unreadCount > 0) {
-                            javafx.application.Platform.runLater(() -> {
-                                badge.setText(String.valueOf(unreadCount));
-                                badge.setVisible(true);
-                                badge.setManaged(true);
-                            });
-                        }
-                    } catch (Exception ex) {
-                        ex.printStackTrace();
-                    }
-                }).start();
+                messagesBadge = badge;
+                loadUnreadCount(badge);
             }
 
             userDropdown.getChildren().add(b);
@@ -1275,6 +1265,23 @@ public class DashboardController {
         userDropdown.getStyleClass().add("dropdown-container");
     }
 
+    /** Load the unread count in the background and show it on the badge, or hide the badge at zero. */
+    private void loadUnreadCount(Label badge) {
+        TaskRunner.run(root, "loadUnreadCount", () -> {
+            try {
+                int unreadCount = com.the_pathfinders.db.ModerationRepository
+                        .getUnreadMessageCount(this.soulId);
+                FxQueue.runLater(() -> {
+                    badge.setText(String.valueOf(unreadCount));
+                    badge.setVisible(unreadCount > 0);
+                    badge.setManaged(unreadCount > 0);
+                });
+            } catch (Exception ex) {
+                log.error("loadUnreadCount failed", ex);
+            }
+        });
+    }
+
     private void handleDropdownSelection(String which) {
         switch (which) {
             case "My Profile" -> openProfile();
@@ -1287,25 +1294,24 @@ public class DashboardController {
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "openMessages", () -> {
             try {
-                FXMLLoader loader = new FXMLLoader(
-                        getClass().getResource("/com/the_pathfinders/fxml/user_messages.fxml"));
-                Parent messagesRoot = loader.load();
-                Object controller = loader.getController();
-                if (controller instanceof UserMessagesController umc) {
-                    umc.setSoulId(this.soulId);
-                }
+                ViewLoader.View<Object> view = ViewLoader.load("/com/the_pathfinders/fxml/user_messages.fxml");
+                Parent messagesRoot = view.root();
+                Object controller = view.controller();
 
                 // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
+                    if (controller instanceof UserMessagesController umc) {
+                        umc.setSoulId(this.soulId);
+                    }
                     if (root != null && root.getScene() != null) {
                         root.getScene().setRoot(messagesRoot);
                     }
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
-                javafx.application.Platform.runLater(() -> {
+                log.error("openMessages failed", ex);
+                FxQueue.runLater(() -> {
                     Alert alert = new Alert(Alert.AlertType.ERROR);
                     alert.setTitle("Error");
                     alert.setHeaderText(null);
@@ -1313,38 +1319,38 @@ public class DashboardController {
                     alert.showAndWait();
                 });
             }
-        }).start();
+        });
     }
 
     private void openProfile() {
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "openProfile", () -> {
             try {
-                System.out.println("Opening profile for soulId: " + this.soulId);
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/profile.fxml"));
-                Parent profileRoot = loader.load();
-                Object controller = loader.getController();
-                if (controller instanceof ProfileController pc) {
-                    if (this.soulId == null || this.soulId.isEmpty()) {
-                        System.err.println("WARNING: soulId is empty in openProfile!");
-                    }
-                    pc.setSoulId(this.soulId);
-                    System.out.println("Set soulId in ProfileController: " + this.soulId);
-                    pc.onShown();
-                }
+                log.debug(() -> "Opening profile for soulId: " + this.soulId);
+                ViewLoader.View<Object> view = ViewLoader.load("/com/the_pathfinders/fxml/profile.fxml");
+                Parent profileRoot = view.root();
+                Object controller = view.controller();
 
                 // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
+                    if (controller instanceof ProfileController pc) {
+                        if (this.soulId == null || this.soulId.isEmpty()) {
+                            log.warn("WARNING: soulId is empty in openProfile!");
+                        }
+                        pc.setSoulId(this.soulId);
+                        log.debug(() -> "Set soulId in ProfileController: " + this.soulId);
+                        // ProfileController reloads its data in onShow once the view is on screen
+                    }
                     if (root != null && root.getScene() != null) {
                         root.getScene().setRoot(profileRoot);
                     }
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("openProfile failed", ex);
             }
-        }).start();
+        });
     }
 
     private void onLogout() {
@@ -1354,11 +1360,16 @@ public class DashboardController {
         a.setContentText("Do you want to log out?");
         Optional<ButtonType> res = a.showAndWait();
         if (res.isPresent() && res.get() == ButtonType.OK) {
+            if (messageEvents != null) {
+                messageEvents.close();
+                messageEvents = null;
+            }
+            // Cached pages hold this soul's data
+            ViewLoader.clear();
             try {
-                FXMLLoader loader = new FXMLLoader(
-                        getClass().getResource("/com/the_pathfinders/fxml/login_signup.fxml"));
-                Parent loginRoot = loader.load();
-                Object loginController = loader.getController();
+                ViewLoader.View<Object> view = ViewLoader.load("/com/the_pathfinders/fxml/login_signup.fxml");
+                Parent loginRoot = view.root();
+                Object loginController = view.controller();
                 if (loginController != null) {
                     try {
                         Method m = loginController.getClass().getMethod("setRepository", SoulRepository.class);
@@ -1370,7 +1381,7 @@ public class DashboardController {
                     root.getScene().setRoot(loginRoot);
                 }
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("onLogout failed", ex);
             }
         }
     }
@@ -1379,87 +1390,75 @@ public class DashboardController {
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "openPrivateJournals", () -> {
             try {
-                FXMLLoader loader = new FXMLLoader(
-                        getClass().getResource("/com/the_pathfinders/fxml/private_journals_view.fxml"));
-                Parent p = loader.load();
-                Object controller = loader.getController();
-                if (controller instanceof PrivateJournalsController pc)
-                    pc.setSoulId(this.soulId);
+                ViewLoader.View<Object> view = ViewLoader.load("/com/the_pathfinders/fxml/private_journals_view.fxml");
+                Parent p = view.root();
+                Object controller = view.controller();
 
                 // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
+                    if (controller instanceof PrivateJournalsController pc)
+                        pc.setSoulId(this.soulId);
                     if (root != null && root.getScene() != null)
                         root.getScene().setRoot(p);
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("openPrivateJournals failed", ex);
             }
-        }).start();
+        });
     }
 
     private void openPublicJournals() {
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "openPublicJournals", () -> {
             try {
-                FXMLLoader loader = new FXMLLoader(
-                        getClass().getResource("/com/the_pathfinders/fxml/public_journals_view.fxml"));
-                Parent p = loader.load();
-                Object controller = loader.getController();
-                if (controller != null) {
-                    try {
-                        Method m = controller.getClass().getMethod("setSoulId", String.class);
-                        m.invoke(controller, this.soulId == null ? "" : this.soulId);
-                    } catch (NoSuchMethodException ignored) {
-                    }
-                }
+                ViewLoader.View<Object> view = ViewLoader.load("/com/the_pathfinders/fxml/public_journals_view.fxml");
+                Parent p = view.root();
+                Object controller = view.controller();
 
                 // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
+                    if (controller instanceof PublicJournalsController pc)
+                        pc.setSoulId(this.soulId == null ? "" : this.soulId);
                     if (root != null && root.getScene() != null)
                         root.getScene().setRoot(p);
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("openPublicJournals failed", ex);
             }
-        }).start();
+        });
     }
 
     private void openBlogs() {
         com.the_pathfinders.util.ActivityTracker.updateActivity(this.soulId);
 
         // Load in background thread to prevent UI freezing
-        new Thread(() -> {
+        TaskRunner.run(root, "openBlogs", () -> {
             try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/blog.fxml"));
-                Parent p = loader.load();
-                Object controller = loader.getController();
-                if (controller != null) {
-                    try {
-                        Method m = controller.getClass().getMethod("setSoulId", String.class);
-                        m.invoke(controller, this.soulId == null ? "" : this.soulId);
-                    } catch (NoSuchMethodException ignored) {
-                    }
-                }
+                ViewLoader.View<Object> view = ViewLoader.load("/com/the_pathfinders/fxml/blog.fxml");
+                Parent p = view.root();
+                Object controller = view.controller();
 
                 // Update UI on JavaFX thread
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
+                    if (controller instanceof BlogController bc)
+                        bc.setSoulId(this.soulId == null ? "" : this.soulId);
                     if (root != null && root.getScene() != null)
                         root.getScene().setRoot(p);
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("openBlogs failed", ex);
             }
-        }).start();
+        });
     }
 
     private void handleMusicToggle() {
         if (musicToggle != null) {
             boolean enableMusic = musicToggle.isSelected();
-            System.out.println("Music toggle clicked: " + (enableMusic ? "ON" : "OFF"));
+            log.debug(() -> "Music toggle clicked: " + (enableMusic ? "ON" : "OFF"));
 
             // Set the preference first
             MusicManager.setBackgroundMusicEnabled(enableMusic);
@@ -1467,10 +1466,10 @@ public class DashboardController {
 
             // Apply the change
             if (enableMusic) {
-                System.out.println("Starting background music...");
+                log.debug("Starting background music...");
                 MusicManager.playBackgroundMusic();
             } else {
-                System.out.println("Stopping background music...");
+                log.debug("Stopping background music...");
                 MusicManager.stopBackgroundMusic();
             }
         }
@@ -1532,9 +1531,9 @@ public class DashboardController {
         hideJournalingPopup();
         // Navigate to journal creation page
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/Journal.fxml"));
-            Parent journRoot = loader.load();
-            Object controller = loader.getController();
+            ViewLoader.View<Object> view = ViewLoader.load("/com/the_pathfinders/fxml/Journal.fxml");
+            Parent journRoot = view.root();
+            Object controller = view.controller();
             if (controller instanceof JournalController jc) {
                 jc.setSoulId(this.soulId);
             }
@@ -1542,7 +1541,7 @@ public class DashboardController {
                 root.getScene().setRoot(journRoot);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("onCreateJournal failed", ex);
         }
     }
 
@@ -1608,14 +1607,14 @@ public class DashboardController {
 
         // Initialize overlay state
         moodTrackerOverlay.setMouseTransparent(true); // Don't block clicks when hidden
-        System.out.println("Mood tracker initialized. Overlay visible: " + moodTrackerOverlay.isVisible());
+        log.debug(() -> "Mood tracker initialized. Overlay visible: " + moodTrackerOverlay.isVisible());
 
         // Initialize progress circles only if they exist
         if (progress1 != null && progress2 != null && progress3 != null &&
                 progress4 != null && progress5 != null) {
             progressCircles = Arrays.asList(progress1, progress2, progress3, progress4, progress5);
         } else {
-            System.err.println("Warning: Some progress circle elements are null in dashboard.fxml");
+            log.warn("Warning: Some progress circle elements are null in dashboard.fxml");
             progressCircles = new ArrayList<>();
         }
 
@@ -1673,17 +1672,17 @@ public class DashboardController {
 
     private void showMoodTrackerPopup() {
         if (moodTrackerOverlay == null) {
-            System.err.println("Error: moodTrackerOverlay is null!");
+            log.error("Error: moodTrackerOverlay is null!");
             return;
         }
 
-        System.out.println("Opening mood tracker popup...");
-        System.out.println(
+        log.debug("Opening mood tracker popup...");
+        log.debug(() -> 
                 "Overlay visible: " + moodTrackerOverlay.isVisible() + ", managed: " + moodTrackerOverlay.isManaged());
 
         // Stop any running animation first
         if (moodTrackerFadeTransition != null) {
-            System.out.println("Stopping previous animation...");
+            log.debug("Stopping previous animation...");
             moodTrackerFadeTransition.stop();
             moodTrackerFadeTransition = null;
         }
@@ -1726,7 +1725,7 @@ public class DashboardController {
         moodTrackerFadeTransition.setToValue(1);
         moodTrackerFadeTransition.setOnFinished(e -> {
             moodTrackerFadeTransition = null;
-            System.out.println("Mood tracker fully opened. Opacity: " + moodTrackerOverlay.getOpacity());
+            log.debug(() -> "Mood tracker fully opened. Opacity: " + moodTrackerOverlay.getOpacity());
         });
         moodTrackerFadeTransition.play();
     }
@@ -1735,12 +1734,12 @@ public class DashboardController {
         if (moodTrackerOverlay == null)
             return;
 
-        System.out.println("Closing mood tracker popup...");
-        System.out.println("Current opacity: " + moodTrackerOverlay.getOpacity());
+        log.debug("Closing mood tracker popup...");
+        log.debug(() -> "Current opacity: " + moodTrackerOverlay.getOpacity());
 
         // Stop any running animation first
         if (moodTrackerFadeTransition != null) {
-            System.out.println("Stopping previous animation...");
+            log.debug("Stopping previous animation...");
             moodTrackerFadeTransition.stop();
             moodTrackerFadeTransition = null;
         }
@@ -1753,7 +1752,7 @@ public class DashboardController {
             moodTrackerOverlay.setManaged(false);
             moodTrackerOverlay.setMouseTransparent(true); // Don't block clicks when hidden
             moodTrackerFadeTransition = null;
-            System.out.println("Mood tracker popup closed. Visible: " + moodTrackerOverlay.isVisible());
+            log.debug(() -> "Mood tracker popup closed. Visible: " + moodTrackerOverlay.isVisible());
         });
         moodTrackerFadeTransition.play();
     }
@@ -1965,8 +1964,7 @@ public class DashboardController {
 
             moodRepository.saveMoodEntry(entry);
         } catch (Exception e) {
-            System.err.println("Error saving mood entry: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error saving mood entry", e);
         }
 
         // Update pie chart
@@ -2249,7 +2247,7 @@ public class DashboardController {
                 alert.showAndWait();
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("openEmail failed", ex);
             Alert alert = new Alert(Alert.AlertType.ERROR);
             alert.setTitle("Error");
             alert.setHeaderText(null);
@@ -2298,7 +2296,7 @@ public class DashboardController {
             hideSafetyPlanPopup();
 
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("saveSafetyPlan failed", ex);
             Alert alert = new Alert(Alert.AlertType.ERROR);
             alert.setTitle("Save Failed");
             alert.setHeaderText(null);
@@ -2328,7 +2326,7 @@ public class DashboardController {
             }
         } catch (Exception ex) {
             // Silently fail - safety plan is optional
-            ex.printStackTrace();
+            log.error("loadSafetyPlan failed", ex);
         }
     }
 
@@ -1,5 +1,7 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+
 import javafx.animation.*;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -16,6 +18,8 @@ import java.util.*;
 
 public class GratitudeGardenController {
 
+    private static final Log log = Log.get("tranquil");
+
     private static String soulId = "";
     
     public static void setSoulId(String id) {
@@ -70,7 +74,7 @@ public class GratitudeGardenController {
             }
             backBtn.getScene().setRoot(calmActivities);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBack failed", ex);
         }
     }
 
@@ -2,12 +2,13 @@ package com.the_pathfinders;
 
 import com.the_pathfinders.db.SoulRepository;
 import javafx.animation.*;
-import javafx.application.Platform;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.Parent;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.scene.shape.Rectangle;
@@ -18,6 +19,8 @@ import java.util.ResourceBundle;
 
 public class InitialController implements Initializable {
 
+    private static final Log log = Log.get("ui");
+
     @FXML private Pane root;
 
     @FXML private ImageView bgImage;
@@ -71,7 +74,7 @@ public class InitialController implements Initializable {
             "/assets/images/logo_testing.png",
             "/logo_testing.png");
 
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             // Scale down the 972x972px logo to fit within bounds
             logoImage.setFitHeight(300);
             logoImage.setFitWidth(300);
@@ -104,7 +107,7 @@ public class InitialController implements Initializable {
             contentPane.layoutBoundsProperty().addListener((o, ov, nv) -> centerContent());
             
             // Delay intro animation until after scene is fully rendered (or skip if requested)
-            Platform.runLater(() -> {
+            FxQueue.runLater(() -> {
                 if (skipIntro) {
                     applyFinalState();
                     skipIntro = false;
@@ -156,7 +159,7 @@ public class InitialController implements Initializable {
             500, // max retries
             (successMsg) -> {
                 // On success
-                System.out.println("Video initialization succeeded: " + successMsg);
+                log.debug(() -> "Video initialization succeeded: " + successMsg);
                 // Wait for the please-wait fade-in to complete before navigating
                 hidePleaseWaitAndRun(() -> {
                     videoReady = true;
@@ -165,7 +168,7 @@ public class InitialController implements Initializable {
             },
             (failureMsg) -> {
                 // On failure - still navigate but without video
-                System.err.println("Video initialization failed: " + failureMsg);
+                log.error("Video initialization failed: " + failureMsg);
                 videoReady = true; // Allow navigation anyway
                 hidePleaseWaitAndRun(() -> goToLoginSignup());
             }
@@ -192,7 +195,7 @@ public class InitialController implements Initializable {
 
     private void startPingPongLoop() {
         // Initial fixed fade-in (2000ms)
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             try { pleaseWaitText.setOpacity(0.0); } catch (Exception ignored) {}
             if (currentFadeIn != null) currentFadeIn.stop();
             currentFadeIn = new FadeTransition(Duration.millis(pleaseWaitFadeDurationMs), pleaseWaitText);
@@ -222,7 +225,7 @@ public class InitialController implements Initializable {
         // Fade-out (random 1-2s)
         if (!pingPongRunning) return;
         long outMs = 1000 + (long) (Math.random() * 1000.0);
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             if (currentFadeOut != null) currentFadeOut.stop();
             currentFadeOut = new FadeTransition(Duration.millis(outMs), pleaseWaitText);
             currentFadeOut.setFromValue(1.0);
@@ -266,7 +269,7 @@ public class InitialController implements Initializable {
      */
     private void hidePleaseWait(Runnable after) {
         if (pleaseWaitText == null) {
-            if (after != null) Platform.runLater(after);
+            if (after != null) FxQueue.runLater(after);
             return;
         }
         // Stop the ping-pong loop so we can perform final fade-out
@@ -277,7 +280,7 @@ public class InitialController implements Initializable {
             currentFadeOut = null;
         }
         // Start final fade-out immediately (random 1-2s)
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             try { pleaseWaitText.setOpacity(1.0); } catch (Exception ignored) {}
             long fadeOutMs = 1000 + (long) (Math.random() * 1000.0);
             fadeOutMs = Math.max(800, fadeOutMs);
@@ -295,7 +298,7 @@ public class InitialController implements Initializable {
             currentFadeOut = fade;
             fade.play();
             // Run follow-up action immediately when fade-out starts
-            if (after != null) Platform.runLater(after);
+            if (after != null) FxQueue.runLater(after);
         });
         
     }
@@ -306,7 +309,7 @@ public class InitialController implements Initializable {
      */
     private void hidePleaseWaitAndRun(Runnable after) {
         if (pleaseWaitText == null) {
-            if (after != null) Platform.runLater(after);
+            if (after != null) FxQueue.runLater(after);
             return;
         }
 
@@ -316,7 +319,7 @@ public class InitialController implements Initializable {
         if (pleaseWaitShownAt == 0) remaining = pleaseWaitFadeDurationMs;
         if (remaining <= 0) {
             // Enough time already elapsed, hide immediately then run after fade finishes
-            Platform.runLater(() -> hidePleaseWait(after));
+            FxQueue.runLater(() -> hidePleaseWait(after));
         } else {
             PauseTransition wait = new PauseTransition(Duration.millis(remaining));
             wait.setOnFinished(ev -> hidePleaseWait(after));
@@ -434,7 +437,7 @@ public class InitialController implements Initializable {
             controller.setRepository(new SoulRepository());
             root.getScene().setRoot(loginRoot);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goToLoginSignup failed", ex);
         }
     }
 
@@ -444,7 +447,7 @@ public class InitialController implements Initializable {
             Parent adminRoot = loader.load();
             root.getScene().setRoot(adminRoot);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goToAdminLogin failed", ex);
         }
     }
 
@@ -493,7 +496,7 @@ public class InitialController implements Initializable {
             try {
                 URL u = getClass().getResource(p);
                 if (u != null) {
-                    iv.setImage(new Image(u.toExternalForm(), true));
+                    iv.setImage(ImageCache.get(u, 0, 0));
                     return;
                 }
             } catch (Exception ignored) {}
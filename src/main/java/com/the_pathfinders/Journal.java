@@ -15,16 +15,15 @@ public class Journal {
     private String fontFamily;
     private Integer fontSize;
     private Integer loveCount;
-    private String[] lovedBy;
     private Boolean isPublic;
     private boolean savedForLater; // For UI star button state
+    private boolean lovedByMe; // For UI heart button state
 
     public Journal() {
         this.createdAt = LocalDateTime.now();
         this.fontFamily = "System";
         this.fontSize = 14;
         this.loveCount = 0;
-        this.lovedBy = new String[0];
         this.isPublic = true;
     }
 
@@ -37,7 +36,6 @@ public class Journal {
         this.fontFamily = "System";
         this.fontSize = 14;
         this.loveCount = 0;
-        this.lovedBy = new String[0];
     }
 
     public String getId() { return id; }
@@ -67,15 +65,15 @@ public class Journal {
     public Integer getLoveCount() { return loveCount; }
     public void setLoveCount(Integer loveCount) { this.loveCount = loveCount; }
 
-    public String[] getLovedBy() { return lovedBy; }
-    public void setLovedBy(String[] lovedBy) { this.lovedBy = lovedBy; }
-
     public Boolean getIsPublic() { return isPublic; }
     public void setIsPublic(Boolean isPublic) { this.isPublic = isPublic; }
 
     public boolean isSavedForLater() { return savedForLater; }
     public void setSavedForLater(boolean savedForLater) { this.savedForLater = savedForLater; }
 
+    public boolean isLovedByMe() { return lovedByMe; }
+    public void setLovedByMe(boolean lovedByMe) { this.lovedByMe = lovedByMe; }
+
     @Override
     public String toString() {
         return "Journal{" +
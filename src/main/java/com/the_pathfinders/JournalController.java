@@ -1,8 +1,12 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
 import com.the_pathfinders.db.JournalRepository;
+import com.the_pathfinders.db.LocalStore;
+import com.the_pathfinders.db.SyncEngine;
 import javafx.animation.TranslateTransition;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
@@ -17,6 +21,8 @@ import java.util.List;
 
 public class JournalController {
 
+    private static final Log log = Log.get("journal");
+
     @FXML private StackPane mainContainer;
     @FXML private VBox root;
     @FXML private VBox menuPanel;
@@ -36,7 +42,8 @@ public class JournalController {
 
     private String soulId = "";
     private JournalRepository journalRepo;
-    private String currentJournalId = null;
+    // Local store key of the journal being edited; null until the first save of a new journal
+    private String currentJournalKey = null;
     private boolean isPublic = true; // Default to public
     private boolean menuOpen = false; // Track menu state
 
@@ -48,15 +55,15 @@ public class JournalController {
         // Initialize repository
         journalRepo = new JournalRepository();
         
-        System.out.println("🎨 JournalController initializing...");
+        log.debug("🎨 JournalController initializing...");
 
         // Apply default theme to mainContainer at startup
         if (mainContainer != null) {
             mainContainer.getStyleClass().add("theme-default");
-            System.out.println("✅ Default theme applied to mainContainer");
-            System.out.println("   MainContainer style classes: " + mainContainer.getStyleClass());
+            log.debug("✅ Default theme applied to mainContainer");
+            log.debug(() -> "   MainContainer style classes: " + mainContainer.getStyleClass());
         } else {
-            System.err.println("❌ ERROR: mainContainer is null during initialization!");
+            log.error("❌ ERROR: mainContainer is null during initialization!");
         }
 
         // Populate theme options
@@ -129,7 +136,7 @@ public class JournalController {
             JournalRepository repo = new JournalRepository();
             Journal j = repo.getJournalById(journalId);
             if (j != null) {
-                this.currentJournalId = j.getId();
+                this.currentJournalKey = LocalStore.SERVER_ID_PREFIX + j.getId();
                 // populate fields
                 if (titleField != null && j.getTitle() != null) {
                     titleField.setText(j.getTitle());
@@ -145,7 +152,7 @@ public class JournalController {
                 }
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("loadJournal failed", ex);
         }
     }
 
@@ -200,42 +207,38 @@ public class JournalController {
         final String finalFontFamily = fontFamily;
         final Integer finalFontSize = fontSize;
 
-            // Run database operations in background thread to keep UI responsive
-            new Thread(() -> {
+            // Written to the local store (a quick disk write); SyncEngine uploads it in the background
+            TaskRunner.run(null, "onSave", () -> {
                 try {
-                    String journalId;
-                    if (currentJournalId != null) {
-                        // update existing
-                        boolean ok = journalRepo.updateJournal(currentJournalId, content, finalFontFamily, finalFontSize, isPublic);
-                        journalId = currentJournalId;
-                        if (!ok) throw new RuntimeException("Failed to update journal");
-                    } else {
-                        journalId = journalRepo.saveJournal(soulId, content, finalFontFamily, finalFontSize, isPublic);
-                        currentJournalId = journalId;
+                    if (currentJournalKey == null) {
+                        currentJournalKey = LocalStore.newKey();
                     }
-
-                    final String finalJournalId = journalId;
-                    Platform.runLater(() -> {
-                        System.out.println("Journal saved successfully!");
-                        System.out.println("Journal ID: " + finalJournalId);
-                        System.out.println("Soul ID: " + soulId);
-                        System.out.println("Visibility: " + (isPublic ? "Public" : "Private"));
-                        System.out.println("Font: " + finalFontFamily + " " + finalFontSize + "px");
-                        System.out.println("Text: " + content);
-
-                        showAlert("Success", "Journal saved successfully as " + (isPublic ? "Public" : "Private") + "!\nJournal ID: " + finalJournalId, Alert.AlertType.INFORMATION);
+                    journalRepo.queueJournal(currentJournalKey, soulId, content, finalFontFamily, finalFontSize, isPublic);
+
+                    FxQueue.runLater(() -> {
+                        log.debug("Journal saved successfully!");
+                        log.debug(() -> "Journal key: " + currentJournalKey);
+                        log.debug(() -> "Soul ID: " + soulId);
+                        log.debug(() -> "Visibility: " + (isPublic ? "Public" : "Private"));
+                        log.debug(() -> "Font: " + finalFontFamily + " " + finalFontSize + "px");
+                        log.debug(() -> "Text: " + content);
+
+                        String message = "Journal saved successfully as " + (isPublic ? "Public" : "Private") + "!";
+                        if (!SyncEngine.getInstance().isOnline()) {
+                            message += "\nYou're offline right now; it will be uploaded when the connection is back.";
+                        }
+                        showAlert("Success", message, Alert.AlertType.INFORMATION);
                         saveBtn.setDisable(false);
                     });
 
                 } catch (Exception ex) {
-                    Platform.runLater(() -> {
-                        System.err.println("Failed to save journal: " + ex.getMessage());
-                        ex.printStackTrace();
+                    FxQueue.runLater(() -> {
+                        log.error("Failed to save journal", ex);
                         showAlert("Error", "Failed to save journal: " + ex.getMessage(), Alert.AlertType.ERROR);
                         saveBtn.setDisable(false);
                     });
                 }
-            }).start();
+            });
     }
 
     private void showAlert(String title, String content, Alert.AlertType type) {
@@ -248,7 +251,7 @@ public class JournalController {
 
     private void applyTheme(String theme) {
         if (theme == null || mainContainer == null) {
-            System.err.println("ERROR: Cannot apply theme - theme=" + theme + ", mainContainer=" + mainContainer);
+            log.error("ERROR: Cannot apply theme - theme=" + theme + ", mainContainer=" + mainContainer);
             return;
         }
 
@@ -280,8 +283,8 @@ public class JournalController {
                 break;
         }
 
-        System.out.println("✅ Theme applied: " + theme + " (class: " + themeClass + ")");
-        System.out.println("   MainContainer style classes: " + mainContainer.getStyleClass());
+        if (log.isDebugEnabled()) log.debug("✅ Theme applied: " + theme + " (class: " + themeClass + ")");
+        log.debug(() -> "   MainContainer style classes: " + mainContainer.getStyleClass());
     }
 
     @FXML
@@ -351,7 +354,7 @@ public class JournalController {
                 root.getScene().setRoot(dash);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBackToDashboard failed", ex);
         }
     }
 }
@@ -1,7 +1,11 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.IconResolver;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
 import javafx.animation.*;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -28,6 +32,8 @@ import java.util.Optional;
 
 public class KeeperDashboardController implements Initializable {
 
+    private static final Log log = Log.get("keeper");
+
     @FXML private Pane root;
     @FXML private Pane backgroundPane;
     @FXML private Rectangle gradientRect;
@@ -106,7 +112,7 @@ public class KeeperDashboardController implements Initializable {
             // Load profile image
             loadKeeperProfileImage(keeperId);
         } catch (Exception e) {
-            System.err.println("Failed to load keeper profile: " + e.getMessage());
+            log.error("Failed to load keeper profile: " + e.getMessage());
             keeperNameLabel.setText("Keeper");
             loadKeeperProfileImage(keeperId);
         }
@@ -119,29 +125,29 @@ public class KeeperDashboardController implements Initializable {
             URL imageUrl = getClass().getResource(imagePath);
             
             if (imageUrl != null) {
-                javafx.scene.image.Image profileImage = new javafx.scene.image.Image(imageUrl.toExternalForm());
-                keeperProfileImage.setImage(profileImage);
-                System.out.println("Loaded keeper profile image: " + imagePath);
+                // Decode at display size in the background, showing the default icon meanwhile
+                double px = Math.ceil(keeperProfileImage.getFitWidth() * IconResolver.screenScale());
+                ImageCache.loadInto(keeperProfileImage, imageUrl, px, px,
+                        ImageCache.icon("username.png", keeperProfileImage.getFitWidth()));
+                log.debug(() -> "Loaded keeper profile image: " + imagePath);
             } else {
                 // Fallback to default username icon
-                URL defaultUrl = getClass().getResource("/assets/icons/username.png");
-                if (defaultUrl != null) {
-                    javafx.scene.image.Image defaultImage = new javafx.scene.image.Image(defaultUrl.toExternalForm());
+                javafx.scene.image.Image defaultImage = ImageCache.icon("username.png", keeperProfileImage.getFitWidth());
+                if (defaultImage != null) {
                     keeperProfileImage.setImage(defaultImage);
                 }
-                System.out.println("Keeper profile image not found, using default icon");
+                log.debug("Keeper profile image not found, using default icon");
             }
         } catch (Exception e) {
-            System.err.println("Failed to load keeper profile image: " + e.getMessage());
+            log.error("Failed to load keeper profile image: " + e.getMessage());
             // Use default icon on error
             try {
-                URL defaultUrl = getClass().getResource("/assets/icons/username.png");
-                if (defaultUrl != null) {
-                    javafx.scene.image.Image defaultImage = new javafx.scene.image.Image(defaultUrl.toExternalForm());
+                javafx.scene.image.Image defaultImage = ImageCache.icon("username.png", keeperProfileImage.getFitWidth());
+                if (defaultImage != null) {
                     keeperProfileImage.setImage(defaultImage);
                 }
             } catch (Exception ex) {
-                System.err.println("Failed to load default icon: " + ex.getMessage());
+                log.error("Failed to load default icon: " + ex.getMessage());
             }
         }
     }
@@ -348,11 +354,11 @@ public class KeeperDashboardController implements Initializable {
         rotate.play();
         
         // Load data in background
-        new Thread(() -> {
+        TaskRunner.run(root, "refreshPendingSignups", () -> {
             try {
                 List<KeeperRepository.KeeperSignupRequest> requests = KeeperRepository.getPendingSignups();
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     // Stop rotation
                     rotate.stop();
                     refreshLoadingIcon.setVisible(false);
@@ -376,9 +382,8 @@ public class KeeperDashboardController implements Initializable {
                     }
                 });
             } catch (Exception e) {
-                System.err.println("Failed to load pending signups: " + e.getMessage());
-                e.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("Failed to load pending signups", e);
+                FxQueue.runLater(() -> {
                     rotate.stop();
                     refreshLoadingIcon.setVisible(false);
                     refreshLoadingIcon.setManaged(false);
@@ -387,7 +392,7 @@ public class KeeperDashboardController implements Initializable {
                     showAlert("Error", "Failed to load pending signups: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
     
     private void loadPendingSignups() {
@@ -395,11 +400,11 @@ public class KeeperDashboardController implements Initializable {
         pendingSignupsContainer.getChildren().clear();
         
         // Load in background thread
-        new Thread(() -> {
+        TaskRunner.run(root, "loadPendingSignups", () -> {
             try {
                 List<KeeperRepository.KeeperSignupRequest> requests = KeeperRepository.getPendingSignups();
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     pendingSignupsContainer.getChildren().clear();
                     
                     if (requests.isEmpty()) {
@@ -415,13 +420,12 @@ public class KeeperDashboardController implements Initializable {
                     }
                 });
             } catch (Exception e) {
-                System.err.println("Failed to load pending signups: " + e.getMessage());
-                e.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("Failed to load pending signups", e);
+                FxQueue.runLater(() -> {
                     showAlert("Error", "Failed to load pending signups: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
     
     private VBox createSignupCard(KeeperRepository.KeeperSignupRequest request) {
@@ -506,7 +510,7 @@ public class KeeperDashboardController implements Initializable {
         confirm.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
                 // Disable button to prevent double-clicks
-                new Thread(() -> {
+                TaskRunner.run(null, "handleApprove", () -> {
                     try {
                         // Approve signup
                         KeeperRepository.approveSignup(request.keeperId, currentKeeperId);
@@ -514,18 +518,17 @@ public class KeeperDashboardController implements Initializable {
                         // Send approval email
                         EmailService.sendKeeperApprovalNotification(request.email, request.keeperId);
                         
-                        Platform.runLater(() -> {
+                        FxQueue.runLater(() -> {
                             showAlert("Success", "Keeper " + request.keeperId + " has been approved!\n\nApproval email sent to " + request.email);
                             loadPendingSignups(); // Refresh list
                         });
                     } catch (Exception e) {
-                        System.err.println("Failed to approve keeper: " + e.getMessage());
-                        e.printStackTrace();
-                        Platform.runLater(() -> {
+                        log.error("Failed to approve keeper", e);
+                        FxQueue.runLater(() -> {
                             showAlert("Error", "Failed to approve keeper: " + e.getMessage());
                         });
                     }
-                }).start();
+                });
             }
         });
     }
@@ -542,7 +545,7 @@ public class KeeperDashboardController implements Initializable {
         
         confirm.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                new Thread(() -> {
+                TaskRunner.run(null, "handleReject", () -> {
                     try {
                         // Reject signup
                         KeeperRepository.rejectSignup(request.keeperId, currentKeeperId);
@@ -553,13 +556,13 @@ public class KeeperDashboardController implements Initializable {
                                 request.email, 
                                 request.keeperId
                             );
-                            System.out.println("Rejection email sent to: " + request.email);
+                            log.debug(() -> "Rejection email sent to: " + request.email);
                         } catch (Exception emailEx) {
-                            System.err.println("Failed to send rejection email: " + emailEx.getMessage());
+                            log.error("Failed to send rejection email: " + emailEx.getMessage());
                             // Continue anyway - rejection was saved to DB
                         }
                         
-                        Platform.runLater(() -> {
+                        FxQueue.runLater(() -> {
                             showAlert("Keeper Rejected", 
                                 "Keeper " + request.keeperId + " has been rejected.\n\n" +
                                 "They can reapply after 48 hours.");
@@ -567,13 +570,12 @@ public class KeeperDashboardController implements Initializable {
                         });
                         
                     } catch (SQLException e) {
-                        System.err.println("Failed to reject keeper: " + e.getMessage());
-                        e.printStackTrace();
-                        Platform.runLater(() -> {
+                        log.error("Failed to reject keeper", e);
+                        FxQueue.runLater(() -> {
                             showAlert("Error", "Failed to reject keeper: " + e.getMessage());
                         });
                     }
-                }).start();
+                });
             }
         });
     }
@@ -591,11 +593,11 @@ public class KeeperDashboardController implements Initializable {
         }
         
         // Load in background thread
-        new Thread(() -> {
+        TaskRunner.run(root, "loadSoulModeration", () -> {
             try {
                 List<KeeperRepository.SoulInfo> souls = KeeperRepository.getAllSouls();
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     soulsListContainer.getChildren().clear();
                     
                     if (souls.isEmpty()) {
@@ -629,16 +631,15 @@ public class KeeperDashboardController implements Initializable {
                     }
                 });
             } catch (Exception e) {
-                System.err.println("Failed to load souls: " + e.getMessage());
-                e.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("Failed to load souls", e);
+                FxQueue.runLater(() -> {
                     showAlert("Error", "Failed to load souls: " + e.getMessage());
                     if (refreshSoulsBtn != null) {
                         refreshSoulsBtn.setDisable(false);
                     }
                 });
             }
-        }).start();
+        });
     }
     
     private HBox createSoulCard(KeeperRepository.SoulInfo soul) {
@@ -722,8 +723,7 @@ public class KeeperDashboardController implements Initializable {
             
             root.getScene().setRoot(profileRoot);
         } catch (Exception e) {
-            System.err.println("Failed to load keeper profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to load keeper profile", e);
             showAlert("Error", "Failed to load profile page: " + e.getMessage());
         }
     }
@@ -742,8 +742,7 @@ public class KeeperDashboardController implements Initializable {
                     Parent loginRoot = loader.load();
                     root.getScene().setRoot(loginRoot);
                 } catch (Exception e) {
-                    System.err.println("Failed to load login page: " + e.getMessage());
-                    e.printStackTrace();
+                    log.error("Failed to load login page", e);
                 }
             }
         });
@@ -762,11 +761,11 @@ public class KeeperDashboardController implements Initializable {
         }
         
         // Load in background thread
-        new Thread(() -> {
+        TaskRunner.run(root, "loadPublicJournals", () -> {
             try {
                 List<ModerationRepository.Journal> journals = ModerationRepository.getPublicJournalsForModeration();
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     journalsListContainer.getChildren().clear();
                     
                     if (journals.isEmpty()) {
@@ -799,16 +798,15 @@ public class KeeperDashboardController implements Initializable {
                     }
                 });
             } catch (Exception e) {
-                System.err.println("Failed to load journals: " + e.getMessage());
-                e.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("Failed to load journals", e);
+                FxQueue.runLater(() -> {
                     showAlert("Error", "Failed to load public journals: " + e.getMessage());
                     if (refreshJournalsBtn != null) {
                         refreshJournalsBtn.setDisable(false);
                     }
                 });
             }
-        }).start();
+        });
     }
     
     private VBox createJournalCard(ModerationRepository.Journal journal) {
@@ -872,12 +870,12 @@ public class KeeperDashboardController implements Initializable {
         content.setPrefWidth(500);
         
         // Load history
-        new Thread(() -> {
+        TaskRunner.run(root, "viewModerationHistory", () -> {
             try {
                 List<ModerationRepository.ModerationMessage> history = 
                     ModerationRepository.getModerationHistoryForJournal(journal.journalId);
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     if (history.isEmpty()) {
                         Label emptyLabel = new Label("No moderation messages sent yet.");
                         emptyLabel.setStyle("-fx-font-size: 14px;");
@@ -909,13 +907,13 @@ public class KeeperDashboardController implements Initializable {
                     }
                 });
             } catch (Exception e) {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     Label errorLabel = new Label("Error loading history: " + e.getMessage());
                     errorLabel.setStyle("-fx-text-fill: red;");
                     content.getChildren().add(errorLabel);
                 });
             }
-        }).start();
+        });
         
         ScrollPane scrollPane = new ScrollPane(content);
         scrollPane.setFitToWidth(true);
@@ -968,7 +966,7 @@ public class KeeperDashboardController implements Initializable {
         Optional<String> result = dialog.showAndWait();
         result.ifPresent(message -> {
             // Send message in background
-            new Thread(() -> {
+            TaskRunner.run(null, "sendModerationMessage", () -> {
                 try {
                     ModerationRepository.sendModerationMessage(
                         journal.journalId, 
@@ -977,16 +975,16 @@ public class KeeperDashboardController implements Initializable {
                         message
                     );
                     
-                    Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         showAlert("Success", "Moderation message sent successfully!");
                         loadPublicJournals(); // Refresh the list
                     });
                 } catch (Exception e) {
-                    Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         showAlert("Error", "Failed to send message: " + e.getMessage());
                     });
                 }
-            }).start();
+            });
         });
     }
     
@@ -1028,20 +1026,20 @@ public class KeeperDashboardController implements Initializable {
     // ========================================
 
     private void loadAppointments() {
-        new Thread(() -> {
+        TaskRunner.run(root, "loadAppointments", () -> {
             try {
                 com.the_pathfinders.db.AppointmentRepository repo = new com.the_pathfinders.db.AppointmentRepository();
                 List<com.the_pathfinders.db.AppointmentRepository.AppointmentDetails> appointments = repo.getPendingAppointments();
 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     displayAppointments(appointments);
                     updateAppointmentStats();
                 });
             } catch (Exception e) {
-                e.printStackTrace();
-                Platform.runLater(() -> showError("Failed to load appointments: " + e.getMessage()));
+                log.error("loadAppointments failed", e);
+                FxQueue.runLater(() -> showError("Failed to load appointments: " + e.getMessage()));
             }
-        }).start();
+        });
     }
 
     @FXML
@@ -1177,7 +1175,7 @@ public class KeeperDashboardController implements Initializable {
 
         Optional<ButtonType> result = confirmation.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
-            new Thread(() -> {
+            TaskRunner.run(null, "confirmAppointment", () -> {
                 try {
                     com.the_pathfinders.db.AppointmentRepository repo = new com.the_pathfinders.db.AppointmentRepository();
 
@@ -1197,21 +1195,21 @@ public class KeeperDashboardController implements Initializable {
                                 details.appointmentDate
                             );
 
-                            Platform.runLater(() -> {
+                            FxQueue.runLater(() -> {
                                 showSuccess("Appointment confirmed successfully!\nConfirmation message sent to user.");
                                 loadAppointments();
                             });
                         } else {
-                            Platform.runLater(() -> showError("Failed to confirm appointment"));
+                            FxQueue.runLater(() -> showError("Failed to confirm appointment"));
                         }
                     } else {
-                        Platform.runLater(() -> showError("Appointment not found"));
+                        FxQueue.runLater(() -> showError("Appointment not found"));
                     }
                 } catch (Exception e) {
-                    e.printStackTrace();
-                    Platform.runLater(() -> showError("Error: " + e.getMessage()));
+                    log.error("confirmAppointment failed", e);
+                    FxQueue.runLater(() -> showError("Error: " + e.getMessage()));
                 }
-            }).start();
+            });
         }
     }
 
@@ -1336,7 +1334,7 @@ public class KeeperDashboardController implements Initializable {
         Optional<java.util.List<String>> result = dialog.showAndWait();
         result.ifPresent(selectedDates -> {
             if (!selectedDates.isEmpty()) {
-                new Thread(() -> {
+                TaskRunner.run(null, "rescheduleAppointment", () -> {
                     try {
                         com.the_pathfinders.db.AppointmentRepository repo = new com.the_pathfinders.db.AppointmentRepository();
 
@@ -1366,21 +1364,21 @@ public class KeeperDashboardController implements Initializable {
                                     availableDates.toString()
                                 );
 
-                                Platform.runLater(() -> {
+                                FxQueue.runLater(() -> {
                                     showSuccess("Reschedule request sent to user!\n\nAvailable dates:\n" + availableDates.toString());
                                     loadAppointments();
                                 });
                             } else {
-                                Platform.runLater(() -> showError("Failed to update appointment status"));
+                                FxQueue.runLater(() -> showError("Failed to update appointment status"));
                             }
                         } else {
-                            Platform.runLater(() -> showError("Appointment not found"));
+                            FxQueue.runLater(() -> showError("Appointment not found"));
                         }
                     } catch (Exception e) {
-                        e.printStackTrace();
-                        Platform.runLater(() -> showError("Error: " + e.getMessage()));
+                        log.error("rescheduleAppointment failed", e);
+                        FxQueue.runLater(() -> showError("Error: " + e.getMessage()));
                     }
-                }).start();
+                });
             }
         });
     }
@@ -1392,7 +1390,7 @@ public class KeeperDashboardController implements Initializable {
     }
 
     private void updateAppointmentStats() {
-        new Thread(() -> {
+        TaskRunner.run(root, "updateAppointmentStats", () -> {
             try {
                 com.the_pathfinders.db.AppointmentRepository repo = new com.the_pathfinders.db.AppointmentRepository();
                 List<com.the_pathfinders.db.AppointmentRepository.AppointmentDetails> allAppointments = repo.getAllAppointments();
@@ -1401,15 +1399,15 @@ public class KeeperDashboardController implements Initializable {
                 long confirmed = allAppointments.stream().filter(a -> "CONFIRMED".equals(a.status)).count();
                 long total = allAppointments.size();
 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     pendingAppointmentsCount.setText(String.valueOf(pending));
                     confirmedAppointmentsCount.setText(String.valueOf(confirmed));
                     totalAppointmentsCount.setText(String.valueOf(total));
                 });
             } catch (Exception e) {
-                e.printStackTrace();
+                log.error("updateAppointmentStats failed", e);
             }
-        }).start();
+        });
     }
 
     private void showSuccess(String message) {
@@ -1,7 +1,12 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.AppEvents;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.IconResolver;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
 import javafx.animation.*;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -30,6 +35,8 @@ import java.util.ResourceBundle;
 
 public class KeeperProfileController implements Initializable {
 
+    private static final Log log = Log.get("keeper");
+
     @FXML private Pane root;
     @FXML private Pane backgroundPane;
     @FXML private Rectangle gradientRect;
@@ -99,8 +106,7 @@ public class KeeperProfileController implements Initializable {
             // Load profile image
             loadProfileImage();
         } catch (Exception e) {
-            System.err.println("Failed to load keeper profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to load keeper profile", e);
         }
     }
     
@@ -244,16 +250,16 @@ public class KeeperProfileController implements Initializable {
             URL imageUrl = getClass().getResource(imagePath);
             
             if (imageUrl != null) {
-                Image profileImage = new Image(imageUrl.toExternalForm());
-                profileImageView.setImage(profileImage);
+                double px = Math.ceil(profileImageView.getFitWidth() * IconResolver.screenScale());
+                ImageCache.loadInto(profileImageView, imageUrl, px, px,
+                        ImageCache.icon("user.png", profileImageView.getFitWidth()));
                 hasCustomImage = true;
                 removeImageBtn.setVisible(true);
                 removeImageBtn.setManaged(true);
             } else {
                 // Use default icon
-                URL defaultUrl = getClass().getResource("/assets/icons/user.png");
-                if (defaultUrl != null) {
-                    Image defaultImage = new Image(defaultUrl.toExternalForm());
+                Image defaultImage = ImageCache.icon("user.png", profileImageView.getFitWidth());
+                if (defaultImage != null) {
                     profileImageView.setImage(defaultImage);
                 }
                 hasCustomImage = false;
@@ -261,7 +267,7 @@ public class KeeperProfileController implements Initializable {
                 removeImageBtn.setManaged(false);
             }
         } catch (Exception e) {
-            System.err.println("Failed to load profile image: " + e.getMessage());
+            log.error("Failed to load profile image: " + e.getMessage());
         }
     }
     
@@ -305,7 +311,8 @@ public class KeeperProfileController implements Initializable {
                 
                 // Image is valid - preview it
                 selectedImageFile = file;
-                Image image = new Image(file.toURI().toString());
+                String imageUrl = file.toURI().toString();
+                Image image = AppEvents.decode(imageUrl, () -> new Image(imageUrl));
                 profileImageView.setImage(image);
                 
                 removeImageBtn.setVisible(true);
@@ -331,9 +338,8 @@ public class KeeperProfileController implements Initializable {
             if (response == ButtonType.OK) {
                 // Load default icon
                 try {
-                    URL defaultUrl = getClass().getResource("/assets/icons/user.png");
-                    if (defaultUrl != null) {
-                        Image defaultImage = new Image(defaultUrl.toExternalForm());
+                    Image defaultImage = ImageCache.icon("user.png", profileImageView.getFitWidth());
+                    if (defaultImage != null) {
                         profileImageView.setImage(defaultImage);
                     }
                     
@@ -364,11 +370,12 @@ public class KeeperProfileController implements Initializable {
             Path imagePath = Paths.get(resourcesPath, "assets", "keeper_img", currentKeeperId + ".jpg");
             
             if (Files.exists(imagePath)) {
+                ImageCache.invalidate("/assets/keeper_img/" + currentKeeperId + ".jpg");
                 Files.delete(imagePath);
-                System.out.println("Deleted keeper image: " + imagePath);
+                log.debug(() -> "Deleted keeper image: " + imagePath);
             }
         } catch (Exception e) {
-            System.err.println("Failed to delete keeper image: " + e.getMessage());
+            log.error("Failed to delete keeper image: " + e.getMessage());
         }
     }
     
@@ -382,7 +389,7 @@ public class KeeperProfileController implements Initializable {
         // Disable save button
         saveBtn.setDisable(true);
         
-        new Thread(() -> {
+        TaskRunner.run(null, "handleSave", () -> {
             try {
                 // Extract country code from dropdown selection
                 String selectedCountryCode = null;
@@ -408,7 +415,7 @@ public class KeeperProfileController implements Initializable {
                     saveKeeperImage();
                 }
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     saveBtn.setDisable(false);
                     showAlert("Success", "Profile updated successfully!");
                     
@@ -416,14 +423,13 @@ public class KeeperProfileController implements Initializable {
                     loadProfileImage();
                 });
             } catch (Exception e) {
-                System.err.println("Failed to save profile: " + e.getMessage());
-                e.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("Failed to save profile", e);
+                FxQueue.runLater(() -> {
                     saveBtn.setDisable(false);
                     showAlert("Error", "Failed to save profile: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
     
     private boolean validateFields() {
@@ -472,6 +478,8 @@ public class KeeperProfileController implements Initializable {
             // Copy image to target resources
             Path targetImagePath = targetDir.resolve(currentKeeperId + ".jpg");
             Files.copy(selectedImageFile.toPath(), targetImagePath, StandardCopyOption.REPLACE_EXISTING);
+            // Cached decodes of the old picture are stale now
+            ImageCache.invalidate("/assets/keeper_img/" + currentKeeperId + ".jpg");
             
             // Also copy to src resources for persistence
             String srcResourcesPath = "src/main/resources/assets/keeper_img/";
@@ -484,8 +492,8 @@ public class KeeperProfileController implements Initializable {
             Path srcImagePath = srcDir.resolve(currentKeeperId + ".jpg");
             Files.copy(selectedImageFile.toPath(), srcImagePath, StandardCopyOption.REPLACE_EXISTING);
             
-            System.out.println("Saved keeper image to: " + targetImagePath);
-            System.out.println("Saved keeper image to: " + srcImagePath);
+            log.debug(() -> "Saved keeper image to: " + targetImagePath);
+            log.debug(() -> "Saved keeper image to: " + srcImagePath);
             
             hasCustomImage = true;
             selectedImageFile = null;
@@ -494,8 +502,7 @@ public class KeeperProfileController implements Initializable {
             imageInfoLabel.setStyle("");
             
         } catch (Exception e) {
-            System.err.println("Failed to save keeper image: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to save keeper image", e);
             throw new RuntimeException("Failed to save image: " + e.getMessage());
         }
     }
@@ -557,8 +564,7 @@ public class KeeperProfileController implements Initializable {
             
             root.getScene().setRoot(dashboardRoot);
         } catch (Exception e) {
-            System.err.println("Failed to navigate back: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to navigate back", e);
         }
     }
     
@@ -1,9 +1,12 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.AppEvents;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
 import com.the_pathfinders.db.SoulRepository;
 import com.the_pathfinders.db.SoulRepository.DuplicateIdException;
 import javafx.animation.*;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
@@ -19,6 +22,8 @@ import java.util.ResourceBundle;
 
 public class LoginSignupController implements Initializable {
 
+    private static final Log log = Log.get("auth");
+
     /* Repo */
     private SoulRepository repo;
     public void setRepository(SoulRepository repo) { this.repo = repo; }
@@ -70,7 +75,8 @@ public class LoginSignupController implements Initializable {
             a = getClass().getResource("/assets/images/logo_testing.png");
             if (a != null) {
                 // Scale down 972x972px logo to 120px (1.2x from original 100px)
-                Image img = new Image(a.toExternalForm(), 120, 120, true, true);
+                String logoUrl = a.toExternalForm();
+                Image img = AppEvents.decode(logoUrl, () -> new Image(logoUrl, 120, 120, true, true));
                 logoImage.setImage(img);
                 logoImage.setFitHeight(120);
                 logoImage.setFitWidth(120);
@@ -281,7 +287,7 @@ public class LoginSignupController implements Initializable {
         btnLoginSubmit.setDisable(true);
         
         // Run database operations in background thread to keep UI and video responsive
-        new Thread(() -> {
+        TaskRunner.run(root, "onSubmitLogin", () -> {
             try {
                 if (repo == null) throw new IllegalStateException("Repository not set");
                 
@@ -289,7 +295,7 @@ public class LoginSignupController implements Initializable {
                 boolean isValid = repo.verify(id, key);
                 
                 if (!isValid) {
-                    Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         setErr(lblLoginStatus, "Invalid ID or Key.");
                         btnLoginSubmit.setDisable(false);
                     });
@@ -303,18 +309,18 @@ public class LoginSignupController implements Initializable {
                 String name = fetchNameForId(id);
                 
                 // Switch to dashboard on FX thread
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     openDashboard(id, name);
                     btnLoginSubmit.setDisable(false);
                 });
                 
             } catch (Exception ex) {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     setErr(lblLoginStatus, "Server error!");
                     btnLoginSubmit.setDisable(false);
                 });
             }
-        }).start();
+        });
     }
 
     // Fetch soul_name from DB (returns id if name not found)
@@ -340,7 +346,7 @@ public class LoginSignupController implements Initializable {
             
             if (!videoManager.isInitialized()) {
                 // Show loading indicator (optional)
-                javafx.application.Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     if (lblLoginStatus != null) {
                         lblLoginStatus.setText("Loading...");
                         lblLoginStatus.setStyle("-fx-text-fill: #3498db;");
@@ -348,26 +354,26 @@ public class LoginSignupController implements Initializable {
                 });
                 
                 // Load video in background thread
-                new Thread(() -> {
+                TaskRunner.run(root, "loadVideo", () -> {
                     videoManager.initializeWithRetry(
                         3,
                         msg -> {
                             // Video loaded successfully - now open dashboard
-                            javafx.application.Platform.runLater(() -> loadDashboardUI(id, name));
+                            FxQueue.runLater(() -> loadDashboardUI(id, name));
                         },
                         err -> {
                             // Video failed - still open dashboard (fallback)
-                            System.err.println("Video load failed, opening dashboard anyway: " + err);
-                            javafx.application.Platform.runLater(() -> loadDashboardUI(id, name));
+                            log.error("Video load failed, opening dashboard anyway: " + err);
+                            FxQueue.runLater(() -> loadDashboardUI(id, name));
                         }
                     );
-                }).start();
+                });
             } else {
                 // Video already loaded
                 loadDashboardUI(id, name);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("openDashboard failed", ex);
             setErr(lblLoginStatus, "Failed to open dashboard: " + ex.getMessage());
         }
     }
@@ -386,7 +392,7 @@ public class LoginSignupController implements Initializable {
                 root.getScene().setRoot(dashRoot);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("loadDashboardUI failed", ex);
             setErr(lblLoginStatus, "Failed to open dashboard: " + ex.getMessage());
         }
     }
@@ -396,7 +402,7 @@ public class LoginSignupController implements Initializable {
         try {
             VideoManager.getInstance().detachFromPane(root);
         } catch (Exception ex) {
-            System.err.println("Error during video detach: " + ex.getMessage());
+            log.error("Error during video detach: " + ex.getMessage());
         }
     }
 
@@ -417,7 +423,7 @@ public class LoginSignupController implements Initializable {
                             "-fx-background-position: center;");
             }
         } catch (Exception e) {
-            System.err.println("Failed to load background image: " + e.getMessage());
+            log.error("Failed to load background image: " + e.getMessage());
         }
     }
 
@@ -432,7 +438,7 @@ public class LoginSignupController implements Initializable {
             javafx.scene.Parent initialRoot = loader.load();
             if (root != null && root.getScene() != null) root.getScene().setRoot(initialRoot);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("handleBack failed", ex);
         }
     }
     
@@ -503,13 +509,13 @@ public class LoginSignupController implements Initializable {
         
         // Run database operations in background thread to keep UI and video responsive
         final LocalDate finalDobDate = dobDate;
-        new Thread(() -> {
+        TaskRunner.run(null, "onSubmitSignup", () -> {
             try {
                 if (repo==null) throw new IllegalStateException("Repository not set");
                 
                 // Check for duplicate ID (blocking operation)
                 if (repo.idExists(id)) {
-                    Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         setErr(lblSubmitStatus,"Duplicate ID!");
                         btnSubmit.setDisable(false);
                     });
@@ -519,22 +525,22 @@ public class LoginSignupController implements Initializable {
                 // Create new soul record (blocking operation)
                 repo.create(new SoulRepository.Soul(id, key, n, finalDobDate, mob, cbCountryCode.getSelectionModel().getSelectedItem()));
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     setOk(lblSubmitStatus,"Success! Your data is saved!");
                     btnSubmit.setDisable(false);
                 });
                 
             } catch (DuplicateIdException d) {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     setErr(lblSubmitStatus,"Duplicate ID!");
                     btnSubmit.setDisable(false);
                 });
             } catch (Exception ex) {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     setErr(lblSubmitStatus,"Server error!");
                     btnSubmit.setDisable(false);
                 });
             }
-        }).start();
+        });
     }
 }
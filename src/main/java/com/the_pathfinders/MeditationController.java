@@ -1,5 +1,7 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+
 import javafx.animation.*;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -17,6 +19,8 @@ import java.util.Map;
 
 public class MeditationController {
 
+    private static final Log log = Log.get("tranquil");
+
     @FXML private Button backBtn;
     @FXML private ToggleButton musicToggle;
     @FXML private Label sessionTitle;
@@ -147,7 +151,7 @@ public class MeditationController {
             }
             backBtn.getScene().setRoot(dashboard);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBack failed", ex);
         }
     }
 
@@ -213,7 +217,7 @@ public class MeditationController {
                 soundPlayers.values().forEach(player -> updateVolume(player));
             });
         } catch (Exception e) {
-            System.err.println("Could not load ambient sounds: " + e.getMessage());
+            log.error("Could not load ambient sounds: " + e.getMessage());
         }
     }
 
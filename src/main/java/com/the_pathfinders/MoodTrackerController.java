@@ -1,5 +1,7 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+
 import com.the_pathfinders.db.MoodTrackerRepository;
 import javafx.animation.FadeTransition;
 import javafx.fxml.FXML;
@@ -13,6 +15,8 @@ import java.util.*;
 
 public class MoodTrackerController {
 
+    private static final Log log = Log.get("ui");
+
     @FXML private VBox contentBox;
     @FXML private VBox resultsBox;
     @FXML private Button backBtn;
@@ -277,8 +281,7 @@ public class MoodTrackerController {
 
             repository.saveMoodEntry(entry);
         } catch (Exception e) {
-            System.err.println("Error saving mood entry: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error saving mood entry", e);
         }
 
         // Calculate percentages for pie chart
@@ -406,7 +409,7 @@ public class MoodTrackerController {
 
                     contentBox.getScene().setRoot(dashboardRoot);
                 } catch (Exception ex) {
-                    ex.printStackTrace();
+                    log.error("closePopup failed", ex);
                 }
             });
             fadeOut.play();
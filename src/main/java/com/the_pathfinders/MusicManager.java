@@ -1,10 +1,14 @@
 package com.the_pathfinders;
 
-import javafx.application.Platform;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
 public class MusicManager {
+    private static final Log log = Log.get("music");
+
     private static MediaPlayer mediaPlayer;
     private static volatile boolean isLoading = false;
     private static volatile boolean shouldPlayWhenReady = false;
@@ -18,58 +22,54 @@ public class MusicManager {
         if (mediaPlayer == null && !isLoading) {
             isLoading = true;
             
-            System.out.println("  - Starting async music load...");
+            log.debug("  - Starting async music load...");
             
             // Use a background thread to load the media
-            Thread loadThread = new Thread(() -> {
+            TaskRunner.run(null, "MusicLoader", () -> {
                 try {
-                    System.out.println("  - Creating Media object (background thread)...");
+                    log.debug("  - Creating Media object (background thread)...");
                     String musicFile = MusicManager.class.getResource("/assets/audio/bg_music.wav").toExternalForm();
                     Media sound = new Media(musicFile);
                     
-                    System.out.println("  - Creating MediaPlayer on JavaFX thread...");
+                    log.debug("  - Creating MediaPlayer on JavaFX thread...");
                     
                     // MediaPlayer must be created on JavaFX thread
-                    Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         try {
                             mediaPlayer = new MediaPlayer(sound);
                             mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);
                             mediaPlayer.setVolume(0.9);
                             
                             mediaPlayer.setOnReady(() -> {
-                                System.out.println("  - Media is ready!");
+                                log.debug("  - Media is ready!");
                                 isLoading = false;
                                 
                                 // If play was requested before ready, play now
                                 if (shouldPlayWhenReady) {
                                     mediaPlayer.play();
-                                    System.out.println("  - Started playing (deferred)");
+                                    log.debug("  - Started playing (deferred)");
                                     shouldPlayWhenReady = false;
                                 }
                             });
                             
                             mediaPlayer.setOnError(() -> {
-                                System.err.println("  - Media error: " + mediaPlayer.getError().getMessage());
+                                log.error("  - Media error: " + mediaPlayer.getError().getMessage());
                                 isLoading = false;
                             });
                         } catch (Exception e) {
-                            System.err.println("  - Error creating MediaPlayer: " + e.getMessage());
+                            log.error("  - Error creating MediaPlayer: " + e.getMessage());
                             isLoading = false;
                         }
                     });
                     
                 } catch (Exception e) {
-                    System.err.println("  - Error loading music: " + e.getMessage());
+                    log.error("  - Error loading music: " + e.getMessage());
                     isLoading = false;
                 }
             });
             
-            loadThread.setName("MusicLoader");
-            loadThread.setDaemon(true);
-            loadThread.start();
-            
             // DO NOT wait - return immediately!
-            System.out.println("  - Music loading started in background (non-blocking)");
+            log.debug("  - Music loading started in background (non-blocking)");
         }
     }
 
@@ -82,19 +82,19 @@ public class MusicManager {
         // If not preloaded, preload first
         if (mediaPlayer == null) {
             if (!isLoading) {
-                System.out.println("  - Music not preloaded, starting load now...");
+                log.debug("  - Music not preloaded, starting load now...");
                 shouldPlayWhenReady = true;
                 preloadBackgroundMusic();
             } else {
                 // Still loading, defer play
-                System.out.println("  - Music still loading, will play when ready...");
+                log.debug("  - Music still loading, will play when ready...");
                 shouldPlayWhenReady = true;
             }
         } else {
             // Already loaded, play immediately
             if (mediaPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
                 mediaPlayer.play();
-                System.out.println("  - Started playing immediately (already loaded)");
+                log.debug("  - Started playing immediately (already loaded)");
             }
         }
     }
@@ -11,9 +11,10 @@ import javafx.scene.layout.Pane;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 import javafx.util.Duration;
-import javafx.application.Platform;
 
 import com.the_pathfinders.db.KeeperRepository;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
 import com.the_pathfinders.util.ThemeManager;
 
 import java.io.IOException;
@@ -23,6 +24,8 @@ import java.util.ResourceBundle;
 
 public class PasswordResetController implements Initializable {
 
+    private static final Log log = Log.get("auth");
+
     @FXML private Pane root;
     @FXML private Pane backgroundPane;
     @FXML private Rectangle gradientRect;
@@ -95,7 +98,7 @@ public class PasswordResetController implements Initializable {
     }
     
     private void centerTitle() {
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             double cardWidth = mainCard.getPrefWidth();
             double titleWidth = resetTitle.getLayoutBounds().getWidth();
             resetTitle.setLayoutX((cardWidth - titleWidth) / 2);
@@ -115,7 +118,7 @@ public class PasswordResetController implements Initializable {
             }
             // Token is valid, keeper can proceed
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("setResetToken failed", e);
             showAlert("Error", "Failed to validate reset token: " + e.getMessage());
             handleBackToLogin();
         }
@@ -167,7 +170,7 @@ public class PasswordResetController implements Initializable {
             }
             
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("handleResetPassword failed", e);
             showAlert("Error", "Failed to reset password: " + e.getMessage());
         }
     }
@@ -182,7 +185,7 @@ public class PasswordResetController implements Initializable {
             scene.setRoot(adminLoginRoot);
             
         } catch (IOException e) {
-            e.printStackTrace();
+            log.error("handleBackToLogin failed", e);
             showAlert("Error", "Failed to load login page");
         }
     }
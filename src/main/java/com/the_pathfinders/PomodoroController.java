@@ -1,5 +1,7 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+
 import javafx.animation.*;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -11,6 +13,8 @@ import javafx.util.Duration;
 
 public class PomodoroController {
 
+    private static final Log log = Log.get("tranquil");
+
     private static String soulId = "";
     
     public static void setSoulId(String id) {
@@ -93,7 +97,7 @@ public class PomodoroController {
             }
             backBtn.getScene().setRoot(dashboard);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBack failed", ex);
         }
     }
 
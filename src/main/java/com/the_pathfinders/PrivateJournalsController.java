@@ -1,8 +1,13 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.RelativeTimeTicker;
+import com.the_pathfinders.util.TaskRunner;
+import com.the_pathfinders.util.ViewLoader;
 import com.the_pathfinders.db.JournalRepository;
 import javafx.animation.ScaleTransition;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
@@ -20,10 +25,13 @@ import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 import com.the_pathfinders.util.JournalUtils;
 
-import java.net.URL;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-public class PrivateJournalsController {
+public class PrivateJournalsController implements ViewLoader.Lifecycle {
+
+    private static final Log log = Log.get("journal");
 
     @FXML private VBox root;
     @FXML private ScrollPane scrollPane;
@@ -32,6 +40,8 @@ public class PrivateJournalsController {
 
     private String currentSoulId = "";
     private JournalRepository journalRepo;
+    private final Map<String, Journal> journalDataMap = new HashMap<>();
+    private final Map<String, JournalUtils.LoveControls> pendingLoveStates = new HashMap<>();
 
     public void setSoulId(String id) { this.currentSoulId = id == null ? "" : id; }
 
@@ -40,16 +50,22 @@ public class PrivateJournalsController {
         journalRepo = new JournalRepository();
 
         if (backBtn != null) backBtn.setOnAction(e -> goBackToDashboard());
+    }
 
+    @Override
+    public void onShow() {
+        // Reload on every visit; journals may have been edited since the view was cached
         loadJournals();
     }
 
     private void loadJournals() {
-        new Thread(() -> {
+        TaskRunner.run(root, "loadJournals", () -> {
             try {
                 List<Journal> journals = journalRepo.getJournalsBySoulId(currentSoulId);
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     journalsContainer.getChildren().clear();
+                    journalDataMap.clear();
+                    pendingLoveStates.clear();
                     
                     for (Journal journal : journals) {
                         VBox journalBox = createJournalBox(journal);
@@ -66,16 +82,18 @@ public class PrivateJournalsController {
                         bump.setDelay(Duration.millis(journalsContainer.getChildren().indexOf(journalBox) * 50));
                         bump.play();
                     }
+                    JournalUtils.hydrateLoveStates(currentSoulId, pendingLoveStates, journalDataMap);
+                    pendingLoveStates.clear();
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("loadJournals failed", ex);
+                FxQueue.runLater(() -> {
                     Label error = new Label("Failed to load journals: " + ex.getMessage());
                     error.setStyle("-fx-text-fill: red;");
                     journalsContainer.getChildren().add(error);
                 });
             }
-        }).start();
+        });
     }
 
     private VBox createJournalBox(Journal journal) {
@@ -97,13 +115,12 @@ public class PrivateJournalsController {
         // User icon
         ImageView userIcon = new ImageView();
         try {
-            URL iconUrl = getClass().getResource("/assets/icons/user.png");
-            if (iconUrl != null) {
-                Image img = new Image(iconUrl.toExternalForm(), 40, 40, true, true);
+            Image img = ImageCache.icon("user.png", 40);
+            if (img != null) {
                 userIcon.setImage(img);
             }
         } catch (Exception e) {
-            System.err.println("Failed to load user icon: " + e.getMessage());
+            log.error("Failed to load user icon: " + e.getMessage());
         }
         userIcon.setFitWidth(40);
         userIcon.setFitHeight(40);
@@ -121,7 +138,8 @@ public class PrivateJournalsController {
         usernameLabel.getStyleClass().add("journal-username");
         usernameLabel.setStyle("-fx-font-weight: bold;");
         
-        Label timeLabel = new Label(JournalUtils.getRelativeTime(journal.getCreatedAt()));
+        Label timeLabel = new Label();
+        RelativeTimeTicker.getInstance().register(timeLabel, journal.getCreatedAt());
         timeLabel.getStyleClass().add("journal-time");
 
         userTextBox.getChildren().addAll(usernameLabel, timeLabel);
@@ -173,8 +191,9 @@ public class PrivateJournalsController {
         Label loveCountLabel = new Label(String.valueOf(journal.getLoveCount() == null ? 0 : journal.getLoveCount()));
         loveCountLabel.getStyleClass().add("love-count");
 
-        // Set initial loved state
-        JournalUtils.setInitialLoveState(journal.getId(), currentSoulId, loveBtn, heartOutline, heartFilled);
+        // Initial love state is hydrated for the whole list at once
+        journalDataMap.put(journal.getId(), journal);
+        pendingLoveStates.put(journal.getId(), new JournalUtils.LoveControls(loveBtn, loveCountLabel, heartOutline, heartFilled));
 
         // Love button action
         loveBtn.setOnAction(e -> JournalUtils.toggleLove(journal.getId(), currentSoulId, loveBtn, loveCountLabel, journal, heartOutline, heartFilled));
@@ -200,7 +219,7 @@ public class PrivateJournalsController {
             if (root != null && root.getScene() != null) {
                 root.getScene().setRoot(journRoot);
             }
-        } catch (Exception ex) { ex.printStackTrace(); }
+        } catch (Exception ex) { log.error("openJournalForEditing failed", ex); }
     }
 
     private void goBackToDashboard() {
@@ -210,6 +229,6 @@ public class PrivateJournalsController {
             DashboardController controller = loader.getController();
             controller.setUser(this.currentSoulId, "");
             if (root != null && root.getScene() != null) root.getScene().setRoot(dash);
-        } catch (Exception ex) { ex.printStackTrace(); }
+        } catch (Exception ex) { log.error("goBackToDashboard failed", ex); }
     }
 }
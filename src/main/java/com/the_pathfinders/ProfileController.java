@@ -1,13 +1,20 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.EventHub;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.RelativeTimeTicker;
+import com.the_pathfinders.util.TaskRunner;
+import com.the_pathfinders.util.ViewLoader;
+import com.the_pathfinders.db.JournalEventHub;
 import com.the_pathfinders.db.JournalRepository;
 import com.the_pathfinders.db.MoodTrackerRepository;
 import com.the_pathfinders.db.SoulInfoRepository;
 import com.the_pathfinders.db.SoulInfoRepository.SoulInfo;
 import com.the_pathfinders.util.JournalUtils;
 import com.the_pathfinders.verification.VerificationManager;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
+import com.the_pathfinders.verification.VerificationWebSocketServer;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -28,7 +35,9 @@ import java.util.HashMap;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.handshake.ServerHandshake;
 
-public class ProfileController {
+public class ProfileController implements ViewLoader.Lifecycle {
+    private static final Log log = Log.get("ui");
+
     // Root + structural containers
     @FXML private AnchorPane root;
     @FXML private AnchorPane contentWrapper; // blurred only
@@ -86,11 +95,10 @@ public class ProfileController {
     private boolean editMode = false;
 
     // Real-time update tracking
-    private final Map<String, Label> timestampLabels = new HashMap<>();
     private final Map<String, Label> loveCountLabels = new HashMap<>();
     private final Map<String, Journal> journalDataMap = new HashMap<>();
-    private Timeline timestampTimeline;
-    private Timeline loveCountTimeline;
+    private final Map<String, JournalUtils.LoveControls> pendingLoveStates = new HashMap<>();
+    private JournalEventHub.Subscription loveCountSubscription;
     
     // WebSocket for email verification
     private WebSocketClient verificationWebSocket;
@@ -107,7 +115,7 @@ public class ProfileController {
 
     public void setSoulId(String id) { 
         this.soulId = id == null ? "" : id; 
-        System.out.println("ProfileController.setSoulId called with: " + this.soulId);
+        log.debug(() -> "ProfileController.setSoulId called with: " + this.soulId);
     }
 
     @FXML
@@ -138,9 +146,8 @@ public class ProfileController {
             menuBtn.setOnAction(e -> toggleSidePanel());
             // Replace text with menu icon
             try {
-                java.net.URL iconUrl = getClass().getResource("/assets/icons/menu.png");
-                if (iconUrl != null) {
-                    javafx.scene.image.Image menuImage = new javafx.scene.image.Image(iconUrl.toExternalForm());
+                javafx.scene.image.Image menuImage = ImageCache.icon("menu.png", 24);
+                if (menuImage != null) {
                     javafx.scene.image.ImageView menuIcon = new javafx.scene.image.ImageView(menuImage);
                     menuIcon.setFitWidth(24);
                     menuIcon.setFitHeight(24);
@@ -149,7 +156,7 @@ public class ProfileController {
                     menuBtn.setText("");
                 }
             } catch (Exception ex) {
-                System.err.println("Could not load menu icon: " + ex.getMessage());
+                log.error("Could not load menu icon: " + ex.getMessage());
             }
         }
         if (basicInfoMenuBtn != null) basicInfoMenuBtn.setOnAction(e -> showBasicInfo());
@@ -166,37 +173,46 @@ public class ProfileController {
     }
 
     @FXML
-    public void onShown() {
-        // Called after soulId is set externally
-        System.out.println("ProfileController.onShown called with soulId: " + soulId);
+    @Override
+    public void onShow() {
+        // Called each time the (possibly cached) view is put on screen, after soulId is set
+        log.debug(() -> "ProfileController.onShow called with soulId: " + soulId);
         loadProfileImage();
         checkFirstTimeAndLoad();
         // Default page
         showBasicInfo();
     }
 
+    @Override
+    public void onHide() {
+        // Stop real-time updates and the verification socket while the view is off screen
+        stopRealTimeUpdates();
+        closeVerificationWebSocket();
+    }
+
     private void loadProfileImage() {
         try {
+            Image fallback = ImageCache.icon("user.png", 64);
             URL u = getClass().getResource("/com/the_pathfinders/" + soulId + ".jpg");
-            if (u == null) u = getClass().getResource("/assets/icons/user.png");
-            if (u != null) profileImage.setImage(new Image(u.toExternalForm(), 64, 64, true, true));
+            if (u != null) ImageCache.loadInto(profileImage, u, 64, 64, fallback);
+            else profileImage.setImage(fallback);
         } catch (Exception ignored) {}
     }
 
     private void checkFirstTimeAndLoad() {
-        new Thread(() -> {
+        TaskRunner.run(root, "checkFirstTimeAndLoad", () -> {
             try {
                 boolean exists = soulInfoRepo.exists(soulId);
                 if (!exists) {
-                    Platform.runLater(() -> showFirstTimeOverlayAnimated());
+                    FxQueue.runLater(() -> showFirstTimeOverlayAnimated());
                 } else {
                     currentInfo = soulInfoRepo.getBySoulId(soulId);
-                    Platform.runLater(this::renderInfoRows);
+                    FxQueue.runLater(this::renderInfoRows);
                 }
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("checkFirstTimeAndLoad failed", ex);
             }
-        }).start();
+        });
     }
 
     private void showFirstTimeOverlayAnimated() {
@@ -238,40 +254,40 @@ public class ProfileController {
 
     private void onFirstTimeYes() {
         // Fetch auth record for defaults and enable edit mode
-        new Thread(() -> {
+        TaskRunner.run(null, "onFirstTimeYes", () -> {
             try {
                 var auth = soulInfoRepo.getAuthRecord(soulId);
                 soulInfoRepo.insertBasic(soulId, auth == null ? null : auth.name(), auth == null ? null : auth.dob(), auth == null ? null : auth.mobile(), auth == null ? null : auth.countryCode());
                 currentInfo = soulInfoRepo.getBySoulId(soulId);
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     hideFirstTimeOverlayAnimated();
                     renderInfoRows();
                     toggleEdit(); // Auto-enable edit mode
                 });
-            } catch (Exception ex) { ex.printStackTrace(); }
-        }).start();
+            } catch (Exception ex) { log.error("onFirstTimeYes failed", ex); }
+        });
     }
 
     private void onFirstTimeNo() {
-        new Thread(() -> {
+        TaskRunner.run(null, "onFirstTimeNo", () -> {
             try {
                 var auth = soulInfoRepo.getAuthRecord(soulId);
                 soulInfoRepo.insertBasic(soulId, auth == null ? null : auth.name(), auth == null ? null : auth.dob(), auth == null ? null : auth.mobile(), auth == null ? null : auth.countryCode());
                 currentInfo = soulInfoRepo.getBySoulId(soulId);
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     hideFirstTimeOverlayAnimated();
                     renderInfoRows();
                     // Don't enable edit mode
                 });
-            } catch (Exception ex) { ex.printStackTrace(); }
-        }).start();
+            } catch (Exception ex) { log.error("onFirstTimeNo failed", ex); }
+        });
     }
 
     private void setWarningIcon() {
         try {
             if (warningIcon != null) {
-                URL u = getClass().getResource("/assets/icons/exc.png");
-                if (u != null) warningIcon.setImage(new Image(u.toExternalForm(), 48, 48, true, true));
+                Image icon = ImageCache.icon("exc.png", 48);
+                if (icon != null) warningIcon.setImage(icon);
             }
         } catch (Exception ignored) {}
     }
@@ -426,13 +442,13 @@ public class ProfileController {
         }
 
         saveInfoBtn.setDisable(true);
-        new Thread(() -> {
+        TaskRunner.run(null, "saveInfo", () -> {
             try {
                 soulInfoRepo.upsert(soulId, name, dob, email, phone, address, countryCode);
                 // Reload current info to get updated emailVerified status
                 currentInfo = soulInfoRepo.getBySoulId(soulId);
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     // Update view labels with new values
                     for (InfoRow r : rows) {
                         if (r.isComboBox && r.valueCombo != null) {
@@ -449,7 +465,7 @@ public class ProfileController {
                     String savedEmail = currentInfo != null ? currentInfo.email : null;
                     if (savedEmail != null && !savedEmail.isEmpty() && isValidEmail(savedEmail)) {
                         boolean emailVerified = currentInfo.emailVerified != null && currentInfo.emailVerified;
-                        System.out.println("After save - Email: " + savedEmail + ", Verified: " + emailVerified);
+                        log.debug(() -> "After save - Email: " + savedEmail + ", Verified: " + emailVerified);
                         
                         // Show button if email is not verified
                         verifyEmailBtn.setVisible(!emailVerified);
@@ -461,14 +477,14 @@ public class ProfileController {
                     }
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("saveInfo failed", ex);
+                FxQueue.runLater(() -> {
                     Alert a = new Alert(Alert.AlertType.ERROR, "Failed to save info: " + ex.getMessage(), ButtonType.OK);
                     a.showAndWait();
                     saveInfoBtn.setDisable(false);
                 });
             }
-        }).start();
+        });
     }
 
     private String getValue(String key) {
@@ -493,45 +509,38 @@ public class ProfileController {
         
         // Clear previous data
         journalsList.getChildren().clear();
-        timestampLabels.clear();
         loveCountLabels.clear();
         journalDataMap.clear();
+        pendingLoveStates.clear();
         
-        new Thread(() -> {
+        TaskRunner.run(root, "loadJournals", () -> {
             try {
                 List<com.the_pathfinders.Journal> userJournals = journalRepo.getJournalsBySoulId(soulId);
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     for (var j : userJournals) {
                         journalsList.getChildren().add(createJournalBox(j));
                     }
+                    JournalUtils.hydrateLoveStates(soulId, pendingLoveStates, journalDataMap);
+                    pendingLoveStates.clear();
                     
                     // Start real-time updates
                     startRealTimeUpdates();
                 });
-            } catch (Exception ex) { ex.printStackTrace(); }
-        }).start();
+            } catch (Exception ex) { log.error("loadJournals failed", ex); }
+        });
     }
 
     
     
     private void startRealTimeUpdates() {
-        // Timestamp updates every 1 second
-        timestampTimeline = JournalUtils.createTimestampUpdateTimeline(timestampLabels, journalDataMap);
-        timestampTimeline.play();
-        
-        // Love count updates every 2 seconds
-        loveCountTimeline = JournalUtils.createLoveCountUpdateTimeline(loveCountLabels, journalDataMap);
-        loveCountTimeline.play();
+        // Love counts are pushed from the database, no polling
+        loveCountSubscription = JournalUtils.subscribeLoveCountUpdates(loveCountLabels, journalDataMap);
     }
     
     private void stopRealTimeUpdates() {
-        if (timestampTimeline != null) {
-            timestampTimeline.stop();
-            timestampTimeline = null;
-        }
-        if (loveCountTimeline != null) {
-            loveCountTimeline.stop();
-            loveCountTimeline = null;
+        if (loveCountSubscription != null) {
+            loveCountSubscription.close();
+            loveCountSubscription = null;
         }
     }
 
@@ -540,8 +549,11 @@ public class ProfileController {
         
         savedBlogsList.getChildren().clear();
         
-        new Thread(() -> {
+        TaskRunner.run(root, "loadSavedBlogs", () -> {
             try {
+                // Get saved blog IDs for this user
+                java.util.Set<String> savedIds = savedBlogsManager.loadSavedBlogIds(soulId);
+                
                 // Load all available blogs (predefined list from BlogController)
                 java.util.List<Blog> allBlogs = new java.util.ArrayList<>();
                 java.util.List<String> categories = java.util.Arrays.asList(
@@ -555,16 +567,16 @@ public class ProfileController {
                 for (String cat : categories) {
                     String shortIntro = "A short introduction to " + cat + ".";
                     Blog blog = new Blog("b" + i, cat + " — Understanding", shortIntro, cat);
-                    String full = com.the_pathfinders.BlogContentLoader.loadContentForCategory(cat, "A comprehensive guide to understanding " + cat + ".");
-                    blog.setFullDescription(full);
+                    if (savedIds.contains(blog.getId())) {
+                        // Only saved articles are shown, so only their text is read
+                        String full = com.the_pathfinders.BlogContentLoader.loadContentForCategory(cat, "A comprehensive guide to understanding " + cat + ".");
+                        blog.setFullDescription(full);
+                    }
                     allBlogs.add(blog);
                     i++;
                 }
                 
-                // Get saved blog IDs for this user
-                java.util.Set<String> savedIds = savedBlogsManager.loadSavedBlogIds(soulId);
-                
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     for (Blog blog : allBlogs) {
                         if (savedIds.contains(blog.getId())) {
                             savedBlogsList.getChildren().add(createSavedBlogBox(blog));
@@ -579,9 +591,9 @@ public class ProfileController {
                     }
                 });
             } catch (Exception ex) { 
-                ex.printStackTrace(); 
+                log.error("loadSavedBlogs failed", ex); 
             }
-        }).start();
+        });
     }
 
     private void loadSavedJournals() {
@@ -589,20 +601,15 @@ public class ProfileController {
         
         savedJournalsList.getChildren().clear();
         
-        new Thread(() -> {
+        TaskRunner.run(root, "loadSavedJournals", () -> {
             try {
-                // Load all public journals from database
-                com.the_pathfinders.db.JournalRepository journalRepo = new com.the_pathfinders.db.JournalRepository();
-                java.util.List<Journal> allJournals = journalRepo.getAllPublicJournals();
-                
-                // Get saved journal IDs for this user
+                // Fetch only this user's saved journals
                 java.util.Set<String> savedIds = savedJournalsManager.loadSavedJournalIds(soulId);
+                java.util.List<Journal> savedJournals = journalRepo.getPublicJournalsByIds(savedIds);
                 
-                Platform.runLater(() -> {
-                    for (Journal journal : allJournals) {
-                        if (savedIds.contains(String.valueOf(journal.getId()))) {
-                            savedJournalsList.getChildren().add(createSavedJournalBox(journal));
-                        }
+                FxQueue.runLater(() -> {
+                    for (Journal journal : savedJournals) {
+                        savedJournalsList.getChildren().add(createSavedJournalBox(journal));
                     }
                     
                     // If no saved journals, show a message
@@ -613,9 +620,9 @@ public class ProfileController {
                     }
                 });
             } catch (Exception ex) { 
-                ex.printStackTrace(); 
+                log.error("loadSavedJournals failed", ex); 
             }
-        }).start();
+        });
     }
 
     private VBox createSavedBlogBox(Blog blog) {
@@ -787,12 +794,12 @@ public class ProfileController {
 
         moodAnalysisList.getChildren().addAll(headerLabel, descLabel);
 
-        new Thread(() -> {
+        TaskRunner.run(root, "loadMoodAnalysis", () -> {
             try {
                 // Get last 10 mood entries
                 List<MoodTrackerRepository.MoodEntry> entries = moodTrackerRepo.getMoodHistory(soulId, 10);
 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     if (entries.isEmpty()) {
                         Label noDataLabel = new Label("No mood data available yet.\nComplete a mood tracker assessment to see your analysis here!");
                         noDataLabel.getStyleClass().add("mood-no-data");
@@ -811,14 +818,14 @@ public class ProfileController {
                     }
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("loadMoodAnalysis failed", ex);
+                FxQueue.runLater(() -> {
                     Label errorLabel = new Label("Failed to load mood analysis: " + ex.getMessage());
                     errorLabel.setStyle("-fx-text-fill: #e74c3c; -fx-font-style: italic; -fx-padding: 20;");
                     moodAnalysisList.getChildren().add(errorLabel);
                 });
             }
-        }).start();
+        });
     }
 
     private VBox createMoodEntryBox(MoodTrackerRepository.MoodEntry entry, int number) {
@@ -1035,9 +1042,10 @@ public class ProfileController {
 
         ImageView userIcon = new ImageView();
         try {
+            Image fallback = ImageCache.icon("user.png", 40);
             URL iconUrl = getClass().getResource("/com/the_pathfinders/" + journal.getSoulId() + ".jpg");
-            if (iconUrl == null) iconUrl = getClass().getResource("/assets/icons/user.png");
-            if (iconUrl != null) userIcon.setImage(new Image(iconUrl.toExternalForm(), 40, 40, true, true));
+            if (iconUrl != null) ImageCache.loadInto(userIcon, iconUrl, 40, 40, fallback);
+            else userIcon.setImage(fallback);
         } catch (Exception ignored) {}
         userIcon.setFitWidth(40);
         userIcon.setFitHeight(40);
@@ -1046,7 +1054,8 @@ public class ProfileController {
         VBox userInfo = new VBox(2);
         Label username = new Label(journal.getSoulId());
         username.getStyleClass().add("journal-username");
-        Label timestamp = new Label(JournalUtils.getRelativeTime(journal.getCreatedAt()));
+        Label timestamp = new Label();
+        RelativeTimeTicker.getInstance().register(timestamp, journal.getCreatedAt());
         timestamp.getStyleClass().add("journal-time");
         userInfo.getChildren().addAll(username, timestamp);
 
@@ -1083,14 +1092,13 @@ public class ProfileController {
         loveBtn.setFocusTraversable(false); // Prevent scroll jumping
         loveBtn.setGraphic(heartOutline);
 
-        int loveCount = journal.getLoveCount() != null ? journal.getLoveCount() : 
-                        (journal.getLovedBy() == null ? 0 : journal.getLovedBy().length);
+        int loveCount = journal.getLoveCount() != null ? journal.getLoveCount() : 0;
         journal.setLoveCount(loveCount);
         Label countLabel = new Label(String.valueOf(loveCount));
         countLabel.getStyleClass().add("love-count");
 
-        // Set initial love state
-        JournalUtils.setInitialLoveState(journal.getId(), soulId, loveBtn, heartOutline, heartFilled);
+        // Initial love state is hydrated for the whole list at once
+        pendingLoveStates.put(journal.getId(), new JournalUtils.LoveControls(loveBtn, countLabel, heartOutline, heartFilled));
 
         // Love button click handler (aligned with public journal logic)
         loveBtn.setOnAction(e -> JournalUtils.toggleLove(journal.getId(), soulId, loveBtn, countLabel, journal, heartOutline, heartFilled));
@@ -1098,7 +1106,6 @@ public class ProfileController {
         loveBox.getChildren().addAll(loveBtn, countLabel);
 
         // Track for real-time updates
-        timestampLabels.put(journal.getId(), timestamp);
         loveCountLabels.put(journal.getId(), countLabel);
         journalDataMap.put(journal.getId(), journal);
 
@@ -1236,8 +1243,7 @@ public class ProfileController {
                 }
             }
         } catch (Exception ex) {
-            System.err.println("Failed to load safety plan: " + ex.getMessage());
-            ex.printStackTrace();
+            log.error("Failed to load safety plan", ex);
         }
     }
     
@@ -1452,7 +1458,7 @@ public class ProfileController {
         verifyEmailBtn.setText("Sending...");
         
         // Send verification email in background thread
-        new Thread(() -> {
+        TaskRunner.run(null, "onVerifyEmail", () -> {
             try {
                 // Start servers and send email
                 VerificationManager.getInstance().sendVerificationEmail(soulId, email);
@@ -1461,9 +1467,9 @@ public class ProfileController {
                 Thread.sleep(500);
                 
                 // Now connect to WebSocket for real-time updates
-                Platform.runLater(() -> connectVerificationWebSocket());
+                FxQueue.runLater(() -> connectVerificationWebSocket());
                 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     verifyEmailBtn.setText("Email Sent!");
                     
                     // Create and store alert reference
@@ -1481,8 +1487,8 @@ public class ProfileController {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("onVerifyEmail failed", e);
+                FxQueue.runLater(() -> {
                     verifyEmailBtn.setDisable(false);
                     verifyEmailBtn.setText("Verify Email");
                     
@@ -1494,7 +1500,7 @@ public class ProfileController {
                     alert.showAndWait();
                 });
             }
-        }).start();
+        });
     }
     
     private void connectVerificationWebSocket() {
@@ -1503,29 +1509,29 @@ public class ProfileController {
                 return; // Already connected
             }
             
-            URI serverUri = new URI("ws://localhost:8081/" + soulId);
+            URI serverUri = new URI(VerificationWebSocketServer.urlFor(soulId));
             
-            System.out.println("Attempting to connect WebSocket to: " + serverUri);
+            log.debug(() -> "Attempting to connect WebSocket to: " + serverUri);
             
             verificationWebSocket = new WebSocketClient(serverUri) {
                 @Override
                 public void onOpen(ServerHandshake handshake) {
-                    System.out.println("WebSocket connected for verification");
+                    log.debug("WebSocket connected for verification");
                 }
                 
                 @Override
                 public void onMessage(String message) {
-                    if ("VERIFIED".equals(message)) {
-                        System.out.println("Email verified via WebSocket!");
+                    if ("VERIFIED".equals(EventHub.typeOf(message))) {
+                        log.debug("Email verified via WebSocket!");
                         
                         // Reload data from database in background
-                        new Thread(() -> {
+                        TaskRunner.run(root, "reloadVerifiedProfile", () -> {
                             try {
                                 currentInfo = soulInfoRepo.getBySoulId(soulId);
-                                System.out.println("Reloaded info - Email verified: " + 
+                                log.debug(() -> "Reloaded info - Email verified: " + 
                                     (currentInfo != null && currentInfo.emailVerified != null && currentInfo.emailVerified));
                                 
-                                Platform.runLater(() -> {
+                                FxQueue.runLater(() -> {
                                     // Close the "Email Sent" alert if it's still open
                                     if (emailSentAlert != null) {
                                         emailSentAlert.close();
@@ -1547,36 +1553,36 @@ public class ProfileController {
                                     close();
                                 });
                             } catch (Exception e) {
-                                System.err.println("Failed to reload info: " + e.getMessage());
-                                e.printStackTrace();
+                                log.error("Failed to reload info", e);
                             }
-                        }).start();
+                        });
                     }
                 }
                 
                 @Override
                 public void onClose(int code, String reason, boolean remote) {
-                    System.out.println("WebSocket closed: " + reason);
+                    log.debug(() -> "WebSocket closed: " + reason);
                 }
                 
                 @Override
                 public void onError(Exception ex) {
-                    System.err.println("WebSocket error: " + ex.getMessage());
+                    log.error("WebSocket error: " + ex.getMessage());
                     
                     // Retry connection after 1 second if connection refused (server not ready)
                     if (ex.getMessage() != null && ex.getMessage().contains("Connection refused")) {
-                        System.out.println("WebSocket server not ready, retrying in 1 second...");
-                        new Thread(() -> {
+                        log.debug("WebSocket server not ready, retrying in 1 second...");
+                        TaskRunner.run(root, "reconnectVerificationSocket", () -> {
                             try {
                                 Thread.sleep(1000);
-                                Platform.runLater(() -> {
+                                if (TaskRunner.isCancelled()) return; // Profile page was left meanwhile
+                                FxQueue.runLater(() -> {
                                     verificationWebSocket = null;
                                     connectVerificationWebSocket();
                                 });
                             } catch (InterruptedException ie) {
-                                ie.printStackTrace();
+                                log.error("onError failed", ie);
                             }
-                        }).start();
+                        });
                     }
                 }
             };
@@ -1584,8 +1590,7 @@ public class ProfileController {
             verificationWebSocket.connect();
             
         } catch (Exception e) {
-            System.err.println("Failed to connect WebSocket: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to connect WebSocket", e);
         }
     }
     
@@ -1597,18 +1602,13 @@ public class ProfileController {
     }
 
     private void goBack() {
-        // Stop real-time updates before leaving
-        stopRealTimeUpdates();
-        
-        // Close verification WebSocket
-        closeVerificationWebSocket();
-        
+        // Real-time updates stop in onHide
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/dashboard.fxml"));
             Parent dash = loader.load();
             DashboardController dc = loader.getController();
             dc.setUser(soulId, soulId);
             if (root.getScene() != null) root.getScene().setRoot(dash);
-        } catch (Exception ex) { ex.printStackTrace(); }
+        } catch (Exception ex) { log.error("goBack failed", ex); }
     }
 }
@@ -1,49 +1,80 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
+import com.the_pathfinders.util.ViewLoader;
+import com.the_pathfinders.db.JournalEventHub;
 import com.the_pathfinders.db.JournalRepository;
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.ScaleTransition;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 import com.the_pathfinders.util.JournalUtils;
+import com.the_pathfinders.util.RelativeTimeTicker;
 
-import java.net.URL;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-public class PublicJournalsController {
+public class PublicJournalsController implements ViewLoader.Lifecycle {
+
+    private static final Log log = Log.get("journal");
+
+    // Journals fetched per keyset page
+    private static final int PAGE_SIZE = 20;
+    // Fetch the next page when a cell this close to the end is shown
+    private static final int PREFETCH_THRESHOLD = 5;
+
+    private static final String SAVED_STYLE = "-fx-font-size: 14px; -fx-padding: 8px 16px; -fx-background-color: #4caf50; -fx-text-fill: white; -fx-cursor: hand; -fx-background-radius: 5; -fx-border-radius: 5;";
+    private static final String UNSAVED_STYLE = "-fx-font-size: 14px; -fx-padding: 8px 16px; -fx-background-color: #e8f5e9; -fx-text-fill: #2e7d32; -fx-cursor: hand; -fx-background-radius: 5; -fx-border-radius: 5;";
 
     @FXML private VBox root;
-    @FXML private ScrollPane scrollPane;
-    @FXML private VBox journalsContainer;
+    @FXML private ListView<Journal> journalsList;
     @FXML private Button backBtn;
 
     private String currentSoulId = "";
     private JournalRepository journalRepo;
     private SavedJournalsManager savedJournalsManager;
-    private Timeline timestampUpdateTimeline;
-    private Timeline loveCountUpdateTimeline;
-    private Timeline newJournalCheckTimeline;
-    private String latestJournalId = null; // Track the most recent journal ID
+    private JournalEventHub.Subscription loveCountSubscription;
+    private JournalEventHub.Subscription newJournalSubscription;
+
+    // Feed state; only touched on the FX thread
+    private final ObservableList<Journal> journals = FXCollections.observableArrayList();
+    private JournalRepository.FeedCursor nextCursor = null;
+    // Newest journal shown, for catching up after coming back from the view cache
+    private JournalRepository.FeedCursor newestCursor = null;
+    private boolean hasMorePages = true;
+    private boolean loadingPage = false;
+    private boolean firstPageRequested = false;
+
+    // Love count labels of the currently bound cells and journal data by ID, touched only on the FX thread
+    private final Map<String, Label> loveCountLabels = new HashMap<>();
+    private final Map<String, Journal> journalDataMap = new HashMap<>();
 
     public void setSoulId(String id) {
         this.currentSoulId = id == null ? "" : id;
+        // The loved/saved state depends on the soul, so the first page waits for it
+        FxQueue.runLater(() -> {
+            if (!firstPageRequested) {
+                firstPageRequested = true;
+                loadNextPage();
+            }
+        });
     }
 
     @FXML
@@ -55,401 +86,414 @@ public class PublicJournalsController {
             backBtn.setOnAction(e -> goBackToJournal());
         }
 
-        // Load journals in background
-        loadJournals();
-        
-        // Start timeline for real-time timestamp updates (every second)
-        startTimestampUpdateTimeline();
-        
-        // Start timeline for real-time love count updates (every 2 seconds)
-        startLoveCountUpdateTimeline();
-        
-        // Start timeline for checking new journals (every 3 seconds)
-        startNewJournalCheckTimeline();
+        // Virtualized feed: cells are recycled as the user scrolls
+        journalsList.setItems(journals);
+        journalsList.setFocusTraversable(false);
+        journalsList.setPlaceholder(new Label("Loading journals..."));
+        journalsList.setCellFactory(lv -> new JournalCell());
+    }
+
+    @Override
+    public void onShow() {
+        // Love counts and new journals are pushed from the database instead of polled
+        if (loveCountSubscription == null) {
+            loveCountSubscription = JournalUtils.subscribeLoveCountUpdates(loveCountLabels, journalDataMap);
+        }
+        if (newJournalSubscription == null) {
+            subscribeToNewJournals();
+        }
+        // Coming back from the view cache: pick up what was published while we were away
+        if (!journals.isEmpty()) {
+            checkForNewJournals();
+        }
     }
 
-    private void loadJournals() {
-        new Thread(() -> {
+    @Override
+    public void onHide() {
+        if (loveCountSubscription != null) {
+            loveCountSubscription.close();
+            loveCountSubscription = null;
+        }
+        if (newJournalSubscription != null) {
+            newJournalSubscription.close();
+            newJournalSubscription = null;
+        }
+    }
+
+    /**
+     * Fetch the next keyset page in the background and append it to the feed.
+     */
+    private void loadNextPage() {
+        if (loadingPage || !hasMorePages) return;
+        loadingPage = true;
+        JournalRepository.FeedCursor cursor = nextCursor;
+        String soulId = currentSoulId;
+
+        TaskRunner.run(root, "loadNextPage", () -> {
             try {
-                List<Journal> journals = journalRepo.getAllPublicJournals();
-
-                Platform.runLater(() -> {
-                    journalsContainer.getChildren().clear();
-                    
-                    // Track the latest journal ID (first in list since ordered DESC)
-                    if (!journals.isEmpty()) {
-                        latestJournalId = journals.get(0).getId();
+                JournalRepository.JournalPage page = journalRepo.getPublicJournalsPage(cursor, PAGE_SIZE);
+                hydrate(page.journals(), soulId);
+
+                FxQueue.runLater(() -> {
+                    for (Journal journal : page.journals()) {
+                        journalDataMap.put(journal.getId(), journal);
+                    }
+                    if (cursor == null && !page.journals().isEmpty()) {
+                        noteNewest(page.journals().get(0));
                     }
-                    
-                    for (Journal journal : journals) {
-                        VBox journalBox = createJournalBox(journal);
-                        journalsContainer.getChildren().add(journalBox);
-                        
-                        // Smooth bump animation
-                        journalBox.setScaleX(0);
-                        journalBox.setScaleY(0);
-                        ScaleTransition bump = new ScaleTransition(Duration.seconds(1), journalBox);
-                        bump.setFromX(0);
-                        bump.setFromY(0);
-                        bump.setToX(1);
-                        bump.setToY(1);
-                        bump.setDelay(Duration.millis(journalsContainer.getChildren().indexOf(journalBox) * 50));
-                        bump.play();
+                    journals.addAll(page.journals());
+                    nextCursor = page.next();
+                    hasMorePages = page.next() != null;
+                    loadingPage = false;
+                    if (journals.isEmpty()) {
+                        journalsList.setPlaceholder(new Label("No public journals yet."));
                     }
                 });
 
             } catch (Exception ex) {
-                ex.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("loadNextPage failed", ex);
+                FxQueue.runLater(() -> {
+                    loadingPage = false;
                     Label error = new Label("Failed to load journals: " + ex.getMessage());
                     error.setStyle("-fx-text-fill: red;");
-                    journalsContainer.getChildren().add(error);
+                    journalsList.setPlaceholder(error);
                 });
             }
-        }).start();
+        });
     }
 
-    private VBox createJournalBox(Journal journal) {
-        // Outer VBox (solid gray)
-        VBox outerBox = new VBox(10);
-        outerBox.getStyleClass().add("journal-outer-box");
-        outerBox.setPadding(new Insets(15));
-        VBox.setMargin(outerBox, new Insets(10, 10, 10, 10));
-
-        // Inner VBox (glassy)
-        VBox innerBox = new VBox(10);
-        innerBox.getStyleClass().add("journal-inner-box");
-        innerBox.setPadding(new Insets(15));
-
-        // Top section: User info
-        HBox userInfoBox = new HBox(10);
-        userInfoBox.setAlignment(Pos.CENTER_LEFT);
-
-        // User icon
-        ImageView userIcon = new ImageView();
-        try {
-            URL iconUrl = getClass().getResource("/assets/icons/user.png");
-            if (iconUrl != null) {
-                Image img = new Image(iconUrl.toExternalForm(), 40, 40, true, true);
-                userIcon.setImage(img);
+    /**
+     * Fill in per-viewer state (loved, saved) for a page before it is shown.
+     * Runs on a background thread; one query for the whole page.
+     */
+    private void hydrate(List<Journal> page, String soulId) throws Exception {
+        if (page.isEmpty()) return;
+        List<String> ids = new ArrayList<>(page.size());
+        for (Journal journal : page) ids.add(journal.getId());
+        Map<String, JournalRepository.LoveState> states = journalRepo.getLoveStates(ids, soulId);
+        for (Journal journal : page) {
+            JournalRepository.LoveState state = states.get(journal.getId());
+            if (state != null) {
+                journal.setLoveCount(state.loveCount());
+                journal.setLovedByMe(state.lovedByMe());
+            }
+            journal.setSavedForLater(savedJournalsManager.isJournalSaved(soulId, journal.getId()));
+        }
+    }
+
+    /**
+     * A recycled feed card. The node tree is built once per cell and rebound to each journal it shows.
+     */
+    private final class JournalCell extends ListCell<Journal> {
+        private final VBox outerBox = new VBox(10);
+        private final Label usernameLabel = new Label();
+        private final Label timeLabel = new Label();
+        private final Label journalText = new Label();
+        private final Button loveBtn = new Button();
+        private final Label loveCountLabel = new Label();
+        private final Button saveBtn = new Button();
+        private final ImageView heartOutline = JournalUtils.createHeartIcon("/assets/icons/heart_outline.png", 24);
+        private final ImageView heartFilled = JournalUtils.createHeartIcon("/assets/icons/heart_filled.png", 24);
+
+        JournalCell() {
+            // Outer VBox (solid gray)
+            outerBox.getStyleClass().add("journal-outer-box");
+            outerBox.setPadding(new Insets(15));
+
+            // Inner VBox (glassy)
+            VBox innerBox = new VBox(10);
+            innerBox.getStyleClass().add("journal-inner-box");
+            innerBox.setPadding(new Insets(15));
+
+            // Top section: User info
+            HBox userInfoBox = new HBox(10);
+            userInfoBox.setAlignment(Pos.CENTER_LEFT);
+
+            // User icon
+            ImageView userIcon = new ImageView();
+            try {
+                Image img = ImageCache.icon("user.png", 40);
+                if (img != null) {
+                    userIcon.setImage(img);
+                }
+            } catch (Exception e) {
+                log.error("Failed to load user icon: " + e.getMessage());
+            }
+            userIcon.setFitWidth(40);
+            userIcon.setFitHeight(40);
+            userIcon.setPreserveRatio(true);
+
+            // Clip to circle
+            Rectangle clip = new Rectangle(40, 40);
+            clip.setArcWidth(40);
+            clip.setArcHeight(40);
+            userIcon.setClip(clip);
+
+            // Username and time
+            VBox userTextBox = new VBox(2);
+            usernameLabel.getStyleClass().add("journal-username");
+            usernameLabel.setStyle("-fx-font-weight: bold;"); // Bold username
+            timeLabel.getStyleClass().add("journal-time");
+
+            userTextBox.getChildren().addAll(usernameLabel, timeLabel);
+            userInfoBox.getChildren().addAll(userIcon, userTextBox);
+
+            // Gray separator line
+            Region separator = new Region();
+            separator.getStyleClass().add("journal-separator");
+            separator.setPrefHeight(1);
+            separator.setMaxHeight(1);
+
+            // Journal text
+            journalText.setWrapText(true);
+            journalText.getStyleClass().add("journal-text");
+
+            // Love section
+            HBox loveBox = new HBox(8);
+            loveBox.setAlignment(Pos.CENTER_LEFT);
+
+            loveBtn.getStyleClass().add("love-button");
+            // Ensure no border/background even if CSS isn't loaded
+            loveBtn.setBackground(javafx.scene.layout.Background.EMPTY);
+            loveBtn.setBorder(javafx.scene.layout.Border.EMPTY);
+            loveBtn.setPadding(javafx.geometry.Insets.EMPTY);
+            loveBtn.setFocusTraversable(false); // Prevent scroll jumping
+            loveBtn.setGraphic(heartOutline);
+            loveBtn.setOnAction(e -> toggleLove());
+
+            loveCountLabel.getStyleClass().add("love-count");
+
+            // Add spacer to push save button to the right
+            Region spacer = new Region();
+            HBox.setHgrow(spacer, javafx.scene.layout.Priority.ALWAYS);
+
+            // Save for Later button (matching BlogDetailController style with green background and text)
+            saveBtn.setFocusTraversable(false);
+            saveBtn.setOnAction(e -> toggleSaved());
+
+            loveBox.getChildren().addAll(loveBtn, loveCountLabel, spacer, saveBtn);
+
+            // Assemble inner box
+            innerBox.getChildren().addAll(userInfoBox, separator, journalText, loveBox);
+            outerBox.getChildren().add(innerBox);
+
+            // Let wrapped text size the cell to the list width instead of the widest line
+            setPrefWidth(0);
+            setPadding(new Insets(10));
+        }
+
+        @Override
+        protected void updateItem(Journal journal, boolean empty) {
+            Journal previous = getItem();
+            if (previous != null && loveCountLabels.get(previous.getId()) == loveCountLabel) {
+                loveCountLabels.remove(previous.getId());
+            }
+            super.updateItem(journal, empty);
+
+            if (empty || journal == null) {
+                RelativeTimeTicker.getInstance().unregister(timeLabel);
+                setGraphic(null);
+                return;
+            }
+
+            usernameLabel.setText(journal.getSoulId());
+            // The shared ticker keeps the timestamp current while the cell is on screen
+            RelativeTimeTicker.getInstance().register(timeLabel, journal.getCreatedAt());
+
+            // Apply saved font family and size
+            journalText.setText(journal.getText());
+            String fontFamily = journal.getFontFamily() != null ? journal.getFontFamily() : "System";
+            Integer fontSize = journal.getFontSize() != null ? journal.getFontSize() : 14;
+            journalText.setStyle(String.format("-fx-font-family: '%s'; -fx-font-size: %dpx;", fontFamily, fontSize));
+
+            renderLoveState(journal);
+            renderSavedState(journal);
+            loveCountLabels.put(journal.getId(), loveCountLabel); // Receive pushed love counts while bound
+
+            setGraphic(outerBox);
+
+            // Fetch the next page before the user reaches the end
+            if (getIndex() >= journals.size() - PREFETCH_THRESHOLD) {
+                loadNextPage();
             }
-        } catch (Exception e) {
-            System.err.println("Failed to load user icon: " + e.getMessage());
         }
-        userIcon.setFitWidth(40);
-        userIcon.setFitHeight(40);
-        userIcon.setPreserveRatio(true);
-        
-        // Clip to circle
-        Rectangle clip = new Rectangle(40, 40);
-        clip.setArcWidth(40);
-        clip.setArcHeight(40);
-        userIcon.setClip(clip);
-
-        // Username and time
-        VBox userTextBox = new VBox(2);
-        Label usernameLabel = new Label(journal.getSoulId());
-        usernameLabel.getStyleClass().add("journal-username");
-        usernameLabel.setStyle("-fx-font-weight: bold;"); // Bold username
-        
-        Label timeLabel = new Label(JournalUtils.getRelativeTime(journal.getCreatedAt()));
-        timeLabel.getStyleClass().add("journal-time");
-        timeLabel.setUserData(journal.getCreatedAt()); // Store timestamp for updates
-
-        userTextBox.getChildren().addAll(usernameLabel, timeLabel);
-        userInfoBox.getChildren().addAll(userIcon, userTextBox);
-
-        // Gray separator line
-        Region separator = new Region();
-        separator.getStyleClass().add("journal-separator");
-        separator.setPrefHeight(1);
-        separator.setMaxHeight(1);
-
-        // Journal text - apply saved font
-        Label journalText = new Label(journal.getText());
-        journalText.setWrapText(true);
-        journalText.getStyleClass().add("journal-text");
-        
-        // Apply saved font family and size
-        String fontFamily = journal.getFontFamily() != null ? journal.getFontFamily() : "System";
-        Integer fontSize = journal.getFontSize() != null ? journal.getFontSize() : 14;
-        journalText.setStyle(String.format("-fx-font-family: '%s'; -fx-font-size: %dpx;", fontFamily, fontSize));
-
-        // Love section
-        HBox loveBox = new HBox(8);
-        loveBox.setAlignment(Pos.CENTER_LEFT);
-
-        Button loveBtn = new Button();
-        loveBtn.getStyleClass().add("love-button");
-        // Ensure no border/background even if CSS isn't loaded
-        loveBtn.setBackground(javafx.scene.layout.Background.EMPTY);
-        loveBtn.setBorder(javafx.scene.layout.Border.EMPTY);
-        loveBtn.setPadding(javafx.geometry.Insets.EMPTY);
-        loveBtn.setFocusTraversable(false); // Prevent scroll jumping
-        
-        // Create ImageViews for heart icons
-        ImageView heartOutline = JournalUtils.createHeartIcon("/assets/icons/heart_outline.png",24);
-        ImageView heartFilled = JournalUtils.createHeartIcon("/assets/icons/heart_filled.png",24);
-        
-        // Initial placeholder graphic
-        loveBtn.setGraphic(heartOutline);
-        
-        Label loveCountLabel = new Label(String.valueOf(journal.getLoveCount() == null ? 0 : journal.getLoveCount()));
-        loveCountLabel.getStyleClass().add("love-count");
-        loveCountLabel.setUserData(journal.getId()); // Store journal ID for real-time updates
-
-        // Set initial loved state using JournalUtils
-        JournalUtils.setInitialLoveState(journal.getId(), currentSoulId, loveBtn, heartOutline, heartFilled);
-
-        // Love button action using shared toggle
-        loveBtn.setOnAction(e -> JournalUtils.toggleLove(journal.getId(), currentSoulId, loveBtn, loveCountLabel, journal, heartOutline, heartFilled));
-
-        // Add spacer to push save button to the right
-        Region spacer = new Region();
-        HBox.setHgrow(spacer, javafx.scene.layout.Priority.ALWAYS);
-        
-        // Save for Later button (matching BlogDetailController style with green background and text)
-        Button saveBtn = new Button();
-        saveBtn.setFocusTraversable(false);
-        
-        // Set initial state
-        boolean isSaved = savedJournalsManager.isJournalSaved(currentSoulId, journal.getId());
-        journal.setSavedForLater(isSaved);
-        
-        if (isSaved) {
-            saveBtn.setText("★ Saved");
-            saveBtn.setStyle("-fx-font-size: 14px; -fx-padding: 8px 16px; -fx-background-color: #4caf50; -fx-text-fill: white; -fx-cursor: hand; -fx-background-radius: 5; -fx-border-radius: 5;");
-        } else {
-            saveBtn.setText("☆ Save for Later");
-            saveBtn.setStyle("-fx-font-size: 14px; -fx-padding: 8px 16px; -fx-background-color: #e8f5e9; -fx-text-fill: #2e7d32; -fx-cursor: hand; -fx-background-radius: 5; -fx-border-radius: 5;");
+
+        private void renderLoveState(Journal journal) {
+            loveBtn.setGraphic(journal.isLovedByMe() ? heartFilled : heartOutline);
+            if (journal.isLovedByMe()) {
+                if (!loveBtn.getStyleClass().contains("loved")) loveBtn.getStyleClass().add("loved");
+            } else {
+                loveBtn.getStyleClass().remove("loved");
+            }
+            loveCountLabel.setText(String.valueOf(journal.getLoveCount() == null ? 0 : journal.getLoveCount()));
+        }
+
+        private void renderSavedState(Journal journal) {
+            if (journal.isSavedForLater()) {
+                saveBtn.setText("★ Saved");
+                saveBtn.setStyle(SAVED_STYLE);
+            } else {
+                saveBtn.setText("☆ Save for Later");
+                saveBtn.setStyle(UNSAVED_STYLE);
+            }
         }
-        
-        // Save button action with smooth transition
-        saveBtn.setOnAction(e -> {
-            boolean currentlySaved = journal.isSavedForLater();
-            
+
+        private void toggleLove() {
+            Journal journal = getItem();
+            if (journal == null) return;
+            loveBtn.setDisable(true);
+            TaskRunner.run(null, "toggleLove", () -> {
+                try {
+                    JournalRepository.LoveState state = journalRepo.toggleLoveState(journal.getId(), currentSoulId);
+                    FxQueue.runLater(() -> {
+                        journal.setLovedByMe(state.lovedByMe());
+                        journal.setLoveCount(state.loveCount());
+                        // The cell may have been recycled for another journal meanwhile
+                        if (getItem() == journal) renderLoveState(journal);
+                        loveBtn.setDisable(false);
+                    });
+                } catch (Exception ex) {
+                    log.error("toggleLove failed", ex);
+                    FxQueue.runLater(() -> loveBtn.setDisable(false));
+                }
+            });
+        }
+
+        private void toggleSaved() {
+            Journal journal = getItem();
+            if (journal == null) return;
+
             // Create fade transition
             javafx.animation.FadeTransition fade = new javafx.animation.FadeTransition(javafx.util.Duration.millis(150), saveBtn);
             fade.setFromValue(1.0);
             fade.setToValue(0.3);
-            
+
             fade.setOnFinished(evt -> {
-                if (currentlySaved) {
+                if (journal.isSavedForLater()) {
                     // Unsave
                     savedJournalsManager.removeSavedJournal(currentSoulId, journal.getId());
                     journal.setSavedForLater(false);
-                    saveBtn.setText("☆ Save for Later");
-                    saveBtn.setStyle("-fx-font-size: 14px; -fx-padding: 8px 16px; -fx-background-color: #e8f5e9; -fx-text-fill: #2e7d32; -fx-cursor: hand; -fx-background-radius: 5; -fx-border-radius: 5;");
                 } else {
                     // Save
                     savedJournalsManager.saveJournal(currentSoulId, journal);
                     journal.setSavedForLater(true);
-                    saveBtn.setText("★ Saved");
-                    saveBtn.setStyle("-fx-font-size: 14px; -fx-padding: 8px 16px; -fx-background-color: #4caf50; -fx-text-fill: white; -fx-cursor: hand; -fx-background-radius: 5; -fx-border-radius: 5;");
                 }
-                
+                if (getItem() == journal) renderSavedState(journal);
+
                 // Fade back in
                 javafx.animation.FadeTransition fadeIn = new javafx.animation.FadeTransition(javafx.util.Duration.millis(150), saveBtn);
                 fadeIn.setFromValue(0.3);
                 fadeIn.setToValue(1.0);
                 fadeIn.play();
             });
-            
-            fade.play();
-        });
 
-        loveBox.getChildren().addAll(loveBtn, loveCountLabel, spacer, saveBtn);
+            fade.play();
+        }
+    }
 
-        // Assemble inner box
-        innerBox.getChildren().addAll(userInfoBox, separator, journalText, loveBox);
-        outerBox.getChildren().add(innerBox);
 
-        return outerBox;
+    private void subscribeToNewJournals() {
+        // Fetch the new row only when the database announces a published journal
+        newJournalSubscription = JournalEventHub.getInstance().subscribe(new JournalEventHub.Listener() {
+            @Override
+            public void onJournalPublished(String journalId) {
+                FxQueue.runLater(() -> addPublishedJournal(journalId));
+            }
+        });
     }
 
-    
-    private void startTimestampUpdateTimeline() {
-        // Create a timeline that updates all timestamps every second
-        timestampUpdateTimeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
-            updateAllTimestamps();
-        }));
-        timestampUpdateTimeline.setCycleCount(Animation.INDEFINITE);
-        timestampUpdateTimeline.play();
-    }
-    
-    private void updateAllTimestamps() {
-        // Iterate through all journal boxes and update time labels
-        for (javafx.scene.Node outerNode : journalsContainer.getChildren()) {
-            if (outerNode instanceof VBox outerBox) {
-                for (javafx.scene.Node innerNode : outerBox.getChildren()) {
-                    if (innerNode instanceof VBox innerBox) {
-                        for (javafx.scene.Node child : innerBox.getChildren()) {
-                            if (child instanceof HBox hbox) {
-                                for (javafx.scene.Node hboxChild : hbox.getChildren()) {
-                                    if (hboxChild instanceof VBox userTextBox) {
-                                        for (javafx.scene.Node textChild : userTextBox.getChildren()) {
-                                            if (textChild instanceof Label label && label.getStyleClass().contains("journal-time")) {
-                                                // Get the journal object from user data
-                                                LocalDateTime timestamp = (LocalDateTime) label.getUserData();
-                                                if (timestamp != null) {
-                                                        label.setText(JournalUtils.getRelativeTime(timestamp));
-                                                }
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+    private void addPublishedJournal(String journalId) {
+        // Already on screen, e.g. it landed in a page loaded after the event was sent
+        if (journalDataMap.containsKey(journalId)) {
+            return;
         }
-    }
-    
-    private void startLoveCountUpdateTimeline() {
-        // Create a timeline that syncs love counts from database every 2 seconds
-        loveCountUpdateTimeline = new Timeline(new KeyFrame(Duration.seconds(2), event -> {
-            updateAllLoveCounts();
-        }));
-        loveCountUpdateTimeline.setCycleCount(Animation.INDEFINITE);
-        loveCountUpdateTimeline.play();
-    }
-    
-    private void updateAllLoveCounts() {
-        // Run database queries in background thread
-        new Thread(() -> {
+        String soulId = currentSoulId;
+
+        // Run database query in background thread
+        TaskRunner.run(root, "addPublishedJournal", () -> {
             try {
-                // Iterate through all journal boxes and update love counts
-                for (javafx.scene.Node outerNode : journalsContainer.getChildren()) {
-                    if (outerNode instanceof VBox outerBox) {
-                        for (javafx.scene.Node innerNode : outerBox.getChildren()) {
-                            if (innerNode instanceof VBox innerBox) {
-                                for (javafx.scene.Node child : innerBox.getChildren()) {
-                                    if (child instanceof HBox loveBox && !loveBox.getChildren().isEmpty()) {
-                                        // Check if this is the love box (has button and label)
-                                        for (javafx.scene.Node loveChild : loveBox.getChildren()) {
-                                            if (loveChild instanceof Label loveCountLabel && 
-                                                loveCountLabel.getStyleClass().contains("love-count")) {
-                                                
-                                                String journalId = (String) loveCountLabel.getUserData();
-                                                if (journalId != null) {
-                                                    try {
-                                                        // Fetch latest count from database
-                                                        int latestCount = journalRepo.getLoveCount(journalId);
-                                                        
-                                                        // Update UI on JavaFX thread
-                                                        Platform.runLater(() -> {
-                                                            String currentText = loveCountLabel.getText();
-                                                            int currentCount = 0;
-                                                            try {
-                                                                currentCount = Integer.parseInt(currentText);
-                                                            } catch (NumberFormatException ignored) {}
-                                                            
-                                                            // Only update if count changed (avoid unnecessary UI updates)
-                                                            if (currentCount != latestCount) {
-                                                                loveCountLabel.setText(String.valueOf(latestCount));
-                                                            }
-                                                        });
-                                                    } catch (Exception ignored) {}
-                                                }
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+                // Load the journal named in the event; IDs don't follow creation order
+                Journal journal = journalRepo.getPublicJournal(journalId);
+                if (journal == null) return;
+                hydrate(List.of(journal), soulId);
+
+                FxQueue.runLater(() -> {
+                    if (journalDataMap.putIfAbsent(journal.getId(), journal) != null) return;
+                    // Newest first
+                    journals.add(0, journal);
+                    noteNewest(journal);
+                    log.debug(() -> "Added journal " + journalId + " in real-time");
+                });
             } catch (Exception ex) {
-                // Silently handle errors to avoid disrupting the timeline
-        }
-    }).start();
-}
+                // Log and wait for the next published-journal event
+                log.error("Error loading new journal " + journalId + ": " + ex.getMessage());
+            }
+        });
+    }
 
-private void startNewJournalCheckTimeline() {
-    // Create a timeline that checks for new journals every 3 seconds
-    newJournalCheckTimeline = new Timeline(new KeyFrame(Duration.seconds(3), event -> {
-        checkForNewJournals();
-    }));
-    newJournalCheckTimeline.setCycleCount(Animation.INDEFINITE);
-    newJournalCheckTimeline.play();
-}
+    private void checkForNewJournals() {
+        JournalRepository.FeedCursor since = newestCursor;
+        if (since == null) return;
+        String soulId = currentSoulId;
 
-private void checkForNewJournals() {
-    // Skip check if we don't have a reference point yet
-    if (latestJournalId == null) {
-        return;
-    }
-    
-    // Run database query in background thread
-    new Thread(() -> {
-        try {
-            // Get journals newer than the current latest
-            List<Journal> newJournals = journalRepo.getNewJournalsSince(latestJournalId);
-            
-            if (!newJournals.isEmpty()) {
-                Platform.runLater(() -> {
-                    // Add new journals to the top of the list (reverse order since we got DESC from DB)
-                    for (int i = newJournals.size() - 1; i >= 0; i--) {
-                        Journal journal = newJournals.get(i);
-                        VBox journalBox = createJournalBox(journal);
-                        
-                        // Add to the beginning of the container
-                        journalsContainer.getChildren().add(0, journalBox);
-                        
-                        // Smooth bump animation for new journals
-                        journalBox.setScaleX(0);
-                        journalBox.setScaleY(0);
-                        ScaleTransition bump = new ScaleTransition(Duration.seconds(0.5), journalBox);
-                        bump.setFromX(0);
-                        bump.setFromY(0);
-                        bump.setToX(1);
-                        bump.setToY(1);
-                        bump.play();
-                        
-                        // Update latest journal ID to the newest one
-                        if (i == 0) {
-                            latestJournalId = journal.getId();
-                        }
+        TaskRunner.run(root, "checkForNewJournals", () -> {
+            try {
+                // Oldest first, a page at a time, until caught up; none may be skipped
+                List<Journal> newJournals = new ArrayList<>();
+                JournalRepository.FeedCursor cursor = since;
+                while (!TaskRunner.isCancelled()) {
+                    List<Journal> batch = journalRepo.getPublicJournalsSince(cursor, PAGE_SIZE);
+                    hydrate(batch, soulId);
+                    newJournals.addAll(batch);
+                    if (batch.size() < PAGE_SIZE) break;
+                    Journal last = batch.get(batch.size() - 1);
+                    cursor = new JournalRepository.FeedCursor(java.sql.Timestamp.valueOf(last.getCreatedAt()), last.getId());
+                }
+
+                FxQueue.runLater(() -> {
+                    // Skip any that arrived through an event meanwhile
+                    List<Journal> added = new ArrayList<>();
+                    for (Journal journal : newJournals) {
+                        if (journalDataMap.putIfAbsent(journal.getId(), journal) == null) added.add(journal);
                     }
-                    
-                    System.out.println("Added " + newJournals.size() + " new journal(s) in real-time!");
+                    if (added.isEmpty()) return;
+                    noteNewest(added.get(added.size() - 1));
+                    // Newest first
+                    Collections.reverse(added);
+                    journals.addAll(0, added);
+                    log.debug(() -> "Added " + added.size() + " journal(s) published while away");
                 });
+            } catch (Exception ex) {
+                log.error("Error checking for new journals: " + ex.getMessage());
             }
-        } catch (Exception ex) {
-            // Silently handle errors to avoid disrupting the timeline
-            System.err.println("Error checking for new journals: " + ex.getMessage());
-        }
-    }).start();
-}
+        });
+    }
 
-    private void goBackToJournal() {
-        // Stop all timelines when leaving the view
-        if (timestampUpdateTimeline != null) {
-            timestampUpdateTimeline.stop();
+    /** Move the catch-up cursor forward if this journal is newer than any shown. */
+    private void noteNewest(Journal journal) {
+        if (journal.getCreatedAt() == null) return;
+        JournalRepository.FeedCursor c = new JournalRepository.FeedCursor(
+                java.sql.Timestamp.valueOf(journal.getCreatedAt()), journal.getId());
+        if (newestCursor == null || c.createdAt().compareTo(newestCursor.createdAt()) > 0
+                || (c.createdAt().equals(newestCursor.createdAt()) && c.journalId().compareTo(newestCursor.journalId()) > 0)) {
+            newestCursor = c;
         }
-        if (loveCountUpdateTimeline != null) {
-            loveCountUpdateTimeline.stop();
-        }
-        if (newJournalCheckTimeline != null) {
-            newJournalCheckTimeline.stop();
-        }
-        
-        // Go back to Dashboard instead of Journal
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/the_pathfinders/fxml/dashboard.fxml"));
-            Parent dashRoot = loader.load();
-
-            Object controller = loader.getController();
-            if (controller instanceof DashboardController dc) {
-                dc.setUser(this.currentSoulId, "");
-            }
+    }
 
-            if (root != null && root.getScene() != null) {
-                root.getScene().setRoot(dashRoot);
+    private void goBackToJournal() {
+        // Go back to Dashboard instead of Journal; pushed updates stop in onHide
+        TaskRunner.run(root, "goBackToJournal", () -> {
+            try {
+                ViewLoader.View<DashboardController> view = ViewLoader.load("/com/the_pathfinders/fxml/dashboard.fxml");
+                FxQueue.runLater(() -> {
+                    view.controller().setUser(this.currentSoulId, "");
+                    if (root != null && root.getScene() != null) {
+                        root.getScene().setRoot(view.root());
+                    }
+                });
+            } catch (Exception ex) {
+                log.error("goBackToJournal failed", ex);
             }
-        } catch (Exception ex) {
-            ex.printStackTrace();
-        }
+        });
     }
 }
@@ -1,98 +1,48 @@
 package com.the_pathfinders;
 
-import java.io.*;
-import java.nio.file.*;
+import com.the_pathfinders.util.SavedItemsStore;
+
 import java.util.*;
 
+/**
+ * Saved blogs per soul, backed by the shared {@link SavedItemsStore}.
+ */
 public class SavedBlogsManager {
-    private static final String SAVED_BLOGS_DIR = getAppDataDirectory();
-    private static final java.util.List<Runnable> listeners = new java.util.ArrayList<>();
-
-    public SavedBlogsManager() {
-        // Create directory if it doesn't exist
-        try {
-            Files.createDirectories(Paths.get(SAVED_BLOGS_DIR));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Get the application data directory for saved blogs
-     */
-    private static String getAppDataDirectory() {
-        String userHome = System.getProperty("user.home");
-        String appDataDir = userHome + File.separator + ".shelter_for_mind" + File.separator + "saved_blogs";
-        return appDataDir;
-    }
+    private final SavedItemsStore store = SavedItemsStore.forKind(SavedItemsStore.BLOGS);
 
     /**
      * Save a blog as saved for the given user
      */
     public void saveBlog(String soulId, Blog blog) {
-        try {
-            String filePath = getSavedBlogsFilePath(soulId);
-            Set<String> savedBlogIds = loadSavedBlogIds(soulId);
-            savedBlogIds.add(blog.getId());
-            writeSavedBlogIds(filePath, savedBlogIds);
-            notifyListeners();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        store.add(soulId, blog.getId());
     }
 
     /**
      * Remove a blog from saved list for the given user
      */
     public void removeSavedBlog(String soulId, String blogId) {
-        try {
-            String filePath = getSavedBlogsFilePath(soulId);
-            Set<String> savedBlogIds = loadSavedBlogIds(soulId);
-            savedBlogIds.remove(blogId);
-            writeSavedBlogIds(filePath, savedBlogIds);
-            notifyListeners();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        store.remove(soulId, blogId);
     }
 
     /**
      * Load all saved blog IDs for a user
      */
     public Set<String> loadSavedBlogIds(String soulId) {
-        try {
-            String filePath = getSavedBlogsFilePath(soulId);
-            File file = new File(filePath);
-            if (!file.exists()) {
-                return new HashSet<>();
-            }
-            Set<String> blogIds = new HashSet<>();
-            List<String> lines = Files.readAllLines(Paths.get(filePath));
-            for (String line : lines) {
-                String id = line.trim();
-                if (!id.isEmpty()) {
-                    blogIds.add(id);
-                }
-            }
-            return blogIds;
-        } catch (IOException e) {
-            e.printStackTrace();
-            return new HashSet<>();
-        }
+        return new HashSet<>(store.ids(soulId));
     }
 
     /**
      * Check if a blog is saved for a user
      */
     public boolean isBlogSaved(String soulId, String blogId) {
-        return loadSavedBlogIds(soulId).contains(blogId);
+        return store.contains(soulId, blogId);
     }
 
     /**
      * Load saved blogs list as a formatted string for display in profile
      */
     public List<String> loadSavedBlogsInfo(String soulId, List<Blog> allBlogs) {
-        Set<String> savedIds = loadSavedBlogIds(soulId);
+        Set<String> savedIds = store.ids(soulId);
         List<String> result = new ArrayList<>();
         
         for (Blog blog : allBlogs) {
@@ -104,29 +54,12 @@ public class SavedBlogsManager {
         return result;
     }
 
-    private String getSavedBlogsFilePath(String soulId) {
-        return SAVED_BLOGS_DIR + File.separator + soulId + "_saved_blogs.txt";
-    }
-
-    private void writeSavedBlogIds(String filePath, Set<String> blogIds) throws IOException {
-        Files.write(Paths.get(filePath), String.join("\n", blogIds).getBytes());
-    }
-
+    /** Called off the FX thread after every change. */
     public static void addListener(Runnable r) {
-        if (r == null) return;
-        synchronized (listeners) { listeners.add(r); }
+        SavedItemsStore.forKind(SavedItemsStore.BLOGS).addListener(r);
     }
 
     public static void removeListener(Runnable r) {
-        if (r == null) return;
-        synchronized (listeners) { listeners.remove(r); }
-    }
-
-    private static void notifyListeners() {
-        synchronized (listeners) {
-            for (Runnable r : new java.util.ArrayList<>(listeners)) {
-                try { r.run(); } catch (Exception ignored) {}
-            }
-        }
+        SavedItemsStore.forKind(SavedItemsStore.BLOGS).removeListener(r);
     }
 }
@@ -1,5 +1,8 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
 import com.the_pathfinders.db.*;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -21,6 +24,8 @@ import java.util.List;
 
 public class SeekHelpController {
 
+    private static final Log log = Log.get("ui");
+
     @FXML private BorderPane root;
     @FXML private Button backBtn;
     @FXML private Button consultancyBtn;
@@ -92,7 +97,7 @@ public class SeekHelpController {
                 root.getScene().setRoot(dash);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBack failed", ex);
         }
     }
 
@@ -143,7 +148,7 @@ public class SeekHelpController {
             List<BloodDonor> donors = bloodRepository.findDonorsByBloodGroup(bloodGroup);
             renderDonorMatches(donors, bloodGroup);
         } catch (SQLException ex) {
-            ex.printStackTrace();
+            log.error("submitBloodRequest failed", ex);
             showFeedback("Could not save request. Please try again.", false);
         }
     }
@@ -217,7 +222,7 @@ public class SeekHelpController {
                 doctorsListBox.getChildren().add(doctorCard);
             }
         } catch (SQLException ex) {
-            ex.printStackTrace();
+            log.error("loadDoctors failed", ex);
             Label error = new Label("Error loading doctors. Please try again later.");
             error.setStyle("-fx-text-fill: #b91c1c;");
             doctorsListBox.getChildren().add(error);
@@ -331,16 +336,16 @@ public class SeekHelpController {
                 feedbackLabel.setManaged(true);
 
                 // Close dialog after 1.5 seconds
-                new Thread(() -> {
+                TaskRunner.run(root, "closeBookingDialog", () -> {
                     try {
                         Thread.sleep(1500);
-                        javafx.application.Platform.runLater(dialog::close);
+                        FxQueue.runLater(dialog::close);
                     } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                        log.error("updateItem failed", ex);
                     }
-                }).start();
+                });
             } catch (SQLException ex) {
-                ex.printStackTrace();
+                log.error("updateItem failed", ex);
                 feedbackLabel.setText("Error booking appointment. Please try again.");
                 feedbackLabel.setStyle("-fx-text-fill: #b91c1c; -fx-font-weight: 700;");
                 feedbackLabel.setVisible(true);
@@ -1,5 +1,9 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.ImageCache;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
 import com.the_pathfinders.db.BloodDonor;
 import com.the_pathfinders.db.BloodSupportRepository;
 import javafx.animation.FadeTransition;
@@ -8,7 +12,6 @@ import javafx.animation.KeyValue;
 import javafx.animation.PauseTransition;
 import javafx.animation.ScaleTransition;
 import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -25,10 +28,11 @@ import javafx.scene.layout.VBox;
 import javafx.scene.web.WebView;
 import javafx.util.Duration;
 
-import java.net.URL;
 import java.sql.SQLException;
 
 public class SocialWorkController {
+    private static final Log log = Log.get("ui");
+
     @FXML private ScrollPane scrollWrapper;
     @FXML private VBox contentWrapper;
     @FXML private Button backBtn;
@@ -229,13 +233,13 @@ public class SocialWorkController {
         setQuestionIcon();
 
         // Preload WebView asynchronously in background after UI is fully loaded
-        new Thread(() -> {
+        TaskRunner.run(contentWrapper, "preloadWebView", () -> {
             try {
                 // Small delay to ensure UI is fully rendered first
                 Thread.sleep(100);
 
                 // Queue WebView creation when UI thread is idle
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     if (browserContainer != null && webView == null) {
                         webView = new WebView();
                         javafx.scene.layout.VBox.setVgrow(webView, javafx.scene.layout.Priority.ALWAYS);
@@ -243,9 +247,9 @@ public class SocialWorkController {
                     }
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("initialize failed", ex);
             }
-        }).start();
+        });
     }
 
     private void goBack() {
@@ -258,7 +262,7 @@ public class SocialWorkController {
                 contentWrapper.getScene().setRoot(dash);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBack failed", ex);
         }
     }
 
@@ -280,9 +284,8 @@ public class SocialWorkController {
     
     private void setQuestionIcon() {
         try {
-            URL iconUrl = getClass().getResource("/assets/icons/ques.png");
-            if (iconUrl != null) {
-                Image quesImage = new Image(iconUrl.toExternalForm(), 56, 56, true, true);
+            Image quesImage = ImageCache.icon("ques.png", 56);
+            if (quesImage != null) {
                 if (questionIcon != null) {
                     questionIcon.setImage(quesImage);
                 }
@@ -297,7 +300,7 @@ public class SocialWorkController {
                 }
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("setQuestionIcon failed", ex);
         }
     }
     
@@ -720,7 +723,7 @@ public class SocialWorkController {
             if (donorAreaField != null) donorAreaField.clear();
             if (donorContactField != null) donorContactField.clear();
         } catch (SQLException ex) {
-            ex.printStackTrace();
+            log.error("submitDonorDetails failed", ex);
             setDonorFeedback("Could not save right now. Please try again.", false);
         }
     }
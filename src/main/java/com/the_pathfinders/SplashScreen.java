@@ -1,6 +1,8 @@
 package com.the_pathfinders;
 
-import javafx.application.Platform;
+import com.the_pathfinders.util.AppEvents;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Scene;
@@ -19,6 +21,8 @@ import javafx.stage.StageStyle;
  * Shows the app logo and loading message.
  */
 public class SplashScreen {
+    private static final Log log = Log.get("app");
+
     private Stage splashStage;
     private boolean closed = false;
 
@@ -26,23 +30,26 @@ public class SplashScreen {
      * Show the splash screen
      */
     public void show() {
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             try {
                 splashStage = new Stage();
                 splashStage.initStyle(StageStyle.UNDECORATED); // No window decorations
                 
                 // Set app icons for splash screen (taskbar icon)
                 try {
-                    Image windowIcon = new Image(getClass().getResourceAsStream("/assets/images/shelter_for_mind.png"));
+                    Image windowIcon = AppEvents.decode("/assets/images/shelter_for_mind.png",
+                            () -> new Image(getClass().getResourceAsStream("/assets/images/shelter_for_mind.png")));
                     splashStage.getIcons().add(windowIcon);
-                    Image taskbarIcon = new Image(getClass().getResourceAsStream("/assets/images/logo_taskbar.png"));
+                    Image taskbarIcon = AppEvents.decode("/assets/images/logo_taskbar.png",
+                            () -> new Image(getClass().getResourceAsStream("/assets/images/logo_taskbar.png")));
                     splashStage.getIcons().add(taskbarIcon);
                 } catch (Exception e) {
-                    System.err.println("Could not load splash screen icon: " + e.getMessage());
+                    log.error("Could not load splash screen icon: " + e.getMessage());
                 }
                 
                 // Load the app icon
-                Image logo = new Image(getClass().getResourceAsStream("/assets/images/app-icon.png"));
+                Image logo = AppEvents.decode("/assets/images/app-icon.png",
+                        () -> new Image(getClass().getResourceAsStream("/assets/images/app-icon.png")));
                 ImageView logoView = new ImageView(logo);
                 
                 // Set logo size (adjust as needed)
@@ -77,8 +84,7 @@ public class SplashScreen {
                 splashStage.show();
                 
             } catch (Exception e) {
-                System.err.println("Failed to show splash screen: " + e.getMessage());
-                e.printStackTrace();
+                log.error("Failed to show splash screen", e);
             }
         });
     }
@@ -90,7 +96,7 @@ public class SplashScreen {
         if (closed) return;
         closed = true;
         
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             if (splashStage != null) {
                 splashStage.close();
             }
@@ -2,6 +2,9 @@ package com.the_pathfinders;
 
 import com.the_pathfinders.db.ToDoItem;
 import com.the_pathfinders.db.ToDoRepository;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
+import com.the_pathfinders.util.ViewLoader;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -35,13 +38,13 @@ import javafx.scene.text.FontWeight;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
-import java.sql.SQLException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
-public class ToDoController {
+public class ToDoController implements ViewLoader.Lifecycle {
+
+    private static final Log log = Log.get("ui");
 
     @FXML private AnchorPane rootPane;
     @FXML private MenuButton taskMenu;
@@ -53,14 +56,15 @@ public class ToDoController {
     @FXML private TableColumn<ToDo, String> taskCol;
 
     private final ObservableList<ToDo> items = FXCollections.observableArrayList();
-    private final Map<ToDo, Long> todoToIdMap = new HashMap<>();
+    // Local store key of each row
+    private final Map<ToDo, String> todoToKey = new HashMap<>();
     private ToDoRepository repo = new ToDoRepository();
     private String soulId = "";
     private Stage completionPopup;
 
     @FXML
     public void initialize() {
-        System.out.println("=== ToDoController initialize() called ===");
+        log.debug("=== ToDoController initialize() called ===");
 
         // Populate menu with common tasks
         String[] defaults = {"Water a plant", "Breathe deeply", "Stretch", "Take a short walk", "Drink water", "Write 3 things you're grateful for"};
@@ -69,7 +73,7 @@ public class ToDoController {
             mi.setOnAction(e -> addToDo(t));
             taskMenu.getItems().add(mi);
         }
-        System.out.println("Menu populated with " + defaults.length + " items");
+        log.debug(() -> "Menu populated with " + defaults.length + " items");
 
         // Table setup
         doneCol.setCellValueFactory(c -> c.getValue().doneProperty());
@@ -101,14 +105,8 @@ public class ToDoController {
                 if (ev.getClickCount() == 2 && !row.isEmpty()) {
                     ToDo t = row.getItem();
                     items.remove(t);
-                    Long id = todoToIdMap.remove(t);
-                    if (id != null) {
-                        try {
-                            repo.delete(id);
-                        } catch (SQLException e) {
-                            e.printStackTrace();
-                        }
-                    }
+                    String key = todoToKey.remove(t);
+                    if (key != null) repo.delete(key);
                 }
             });
             return row;
@@ -120,23 +118,34 @@ public class ToDoController {
     }
 
     public void setSoulId(String soulId) {
-        this.soulId = soulId == null ? "" : soulId;
+        String id = soulId == null ? "" : soulId;
+        // A cached view already holds this soul's list; every change since went through this controller
+        if (id.equals(this.soulId) && !id.isEmpty()) return;
+        this.soulId = id;
+        items.clear();
+        todoToKey.clear();
         loadTodos();
     }
 
+    @Override
+    public void onHide() {
+        if (completionPopup != null) completionPopup.close();
+    }
+
     private void loadTodos() {
         if (soulId == null || soulId.isEmpty()) return;
-        try {
-            List<ToDoItem> persisted = repo.loadForSoul(soulId);
+        String id = soulId;
+        // The first load on a device waits for the server. No owner node: a cached page gets its
+        // soul while it is still off screen
+        TaskRunner.supply(null, "loadTodos", () -> repo.loadForSoul(id)).thenAcceptAsync(persisted -> {
+            if (!id.equals(soulId)) return;
             for (ToDoItem ti : persisted) {
                 ToDo t = new ToDo(ti.isDone(), ti.getTask());
                 attachCompletionListener(t);
                 items.add(t);
-                todoToIdMap.put(t, ti.getId());
+                todoToKey.put(t, ti.getClientKey());
             }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
+        }, TaskRunner.FX);
     }
 
     private void addCustom() {
@@ -152,13 +161,8 @@ public class ToDoController {
         attachCompletionListener(todo);
         items.add(todo);
 
-        ToDoItem ti = new ToDoItem(soulId, taskText, false);
-        try {
-            repo.insert(ti);
-            todoToIdMap.put(todo, ti.getId());
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        ToDoItem ti = repo.insert(new ToDoItem(soulId, taskText, false));
+        todoToKey.put(todo, ti.getClientKey());
     }
 
     private void goBackToDashboard() {
@@ -171,7 +175,7 @@ public class ToDoController {
                 rootPane.getScene().setRoot(dash);
             }
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("goBackToDashboard failed", ex);
         }
     }
 
@@ -180,14 +184,11 @@ public class ToDoController {
             if (!Boolean.TRUE.equals(wasDone) && Boolean.TRUE.equals(isNowDone)) {
                 showCompletionPopup();
             }
-            Long id = todoToIdMap.get(todo);
-            if (id != null) {
-                ToDoItem ti = new ToDoItem(id, soulId, todo.getTask(), todo.isDone(), null);
-                try {
-                    repo.update(ti);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
+            String key = todoToKey.get(todo);
+            if (key != null) {
+                ToDoItem ti = new ToDoItem(soulId, todo.getTask(), todo.isDone());
+                ti.setClientKey(key);
+                repo.update(ti);
             }
         });
     }
@@ -1,5 +1,7 @@
 package com.the_pathfinders;
 
+import com.the_pathfinders.util.Log;
+
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -7,6 +9,8 @@ import javafx.scene.control.Button;
 
 public class TranquilOptionsPopupController {
 
+    private static final Log log = Log.get("tranquil");
+
     @FXML private Button meditationBtn;
     @FXML private Button calmActivitiesBtn;
     @FXML private Button pomodoroBtn;
@@ -28,7 +32,7 @@ public class TranquilOptionsPopupController {
             Parent p = loader.load();
             backBtn.getScene().setRoot(p);
         } catch (Exception ex) {
-            ex.printStackTrace();
+            log.error("load failed", ex);
         }
     }
 }
@@ -1,6 +1,10 @@
 package com.the_pathfinders;
 
-import javafx.application.Platform;
+import com.the_pathfinders.util.EventHub;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TaskRunner;
+import com.the_pathfinders.util.ViewLoader;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -17,7 +21,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.ResourceBundle;
 
-public class UserMessagesController implements Initializable {
+public class UserMessagesController implements Initializable, ViewLoader.Lifecycle {
+
+    private static final Log log = Log.get("ui");
 
     @FXML private Pane root;
     @FXML private Pane backgroundPane;
@@ -34,11 +40,31 @@ public class UserMessagesController implements Initializable {
     @FXML private Button markAllReadBtn;
     
     private String soulId;
+    private EventHub.Subscription messageEvents;
     
     public void setSoulId(String soulId) {
         this.soulId = soulId;
         loadMessages();
     }
+
+    @Override
+    public void onShow() {
+        // New messages from keepers or bookings appear while the page is open
+        if (soulId == null || messageEvents != null) return;
+        messageEvents = EventHub.getInstance().subscribe(EventHub.soulTopic(soulId), (type, frame) -> {
+            if ("MODERATION_MESSAGE".equals(type) || "USER_MESSAGE".equals(type)) {
+                FxQueue.runLater(this::loadMessages);
+            }
+        });
+    }
+
+    @Override
+    public void onHide() {
+        if (messageEvents != null) {
+            messageEvents.close();
+            messageEvents = null;
+        }
+    }
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -75,7 +101,7 @@ public class UserMessagesController implements Initializable {
                 });
                 
                 // Initialize dimensions
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     double width = newScene.getWidth();
                     double height = newScene.getHeight();
                     
@@ -113,27 +139,27 @@ public class UserMessagesController implements Initializable {
                 root.getScene().setRoot(dashboardRoot);
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("handleBack failed", e);
             showAlert("Error", "Failed to return to dashboard: " + e.getMessage());
         }
     }
     
     @FXML
     private void handleMarkAllRead() {
-        new Thread(() -> {
+        TaskRunner.run(null, "handleMarkAllRead", () -> {
             try {
                 // Mark both moderation messages and user messages as read
                 ModerationRepository.markAllMessagesAsRead(this.soulId);
                 com.the_pathfinders.db.UserMessageRepository.markAllAsRead(this.soulId);
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     loadMessages();
                 });
             } catch (Exception e) {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     showAlert("Error", "Failed to mark messages as read: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
     
     private void loadMessages() {
@@ -145,7 +171,7 @@ public class UserMessagesController implements Initializable {
         emptyState.setVisible(false);
         emptyState.setManaged(false);
         
-        new Thread(() -> {
+        TaskRunner.run(root, "loadMessages", () -> {
             try {
                 // Load both moderation messages AND appointment messages
                 List<ModerationRepository.ModerationMessage> moderationMessages =
@@ -158,7 +184,7 @@ public class UserMessagesController implements Initializable {
                 int userUnread = (int) userMessages.stream().filter(m -> !m.isRead()).count();
                 int totalUnread = moderationUnread + userUnread;
 
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     if (moderationMessages.isEmpty() && userMessages.isEmpty()) {
                         emptyState.setVisible(true);
                         emptyState.setManaged(true);
@@ -188,13 +214,12 @@ public class UserMessagesController implements Initializable {
                     }
                 });
             } catch (Exception e) {
-                System.err.println("Failed to load messages: " + e.getMessage());
-                e.printStackTrace();
-                Platform.runLater(() -> {
+                log.error("Failed to load messages", e);
+                FxQueue.runLater(() -> {
                     showAlert("Error", "Failed to load messages: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
     
     private VBox createMessageCard(ModerationRepository.ModerationMessage msg) {
@@ -255,33 +280,33 @@ public class UserMessagesController implements Initializable {
     }
     
     private void markMessageAsRead(int messageId) {
-        new Thread(() -> {
+        TaskRunner.run(null, "markMessageAsRead", () -> {
             try {
                 ModerationRepository.markMessageAsRead(messageId);
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     loadMessages();
                 });
             } catch (Exception e) {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     showAlert("Error", "Failed to mark message as read: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
 
     private void markUserMessageAsRead(long messageId) {
-        new Thread(() -> {
+        TaskRunner.run(null, "markUserMessageAsRead", () -> {
             try {
                 com.the_pathfinders.db.UserMessageRepository.markAsRead(messageId);
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     loadMessages();
                 });
             } catch (Exception e) {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     showAlert("Error", "Failed to mark message as read: " + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
 
     private VBox createUserMessageCard(com.the_pathfinders.db.UserMessage msg) {
@@ -366,18 +391,18 @@ public class UserMessagesController implements Initializable {
 
         confirm.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                new Thread(() -> {
+                TaskRunner.run(null, "deleteUserMessage", () -> {
                     try {
                         com.the_pathfinders.db.UserMessageRepository.deleteMessage(messageId);
-                        Platform.runLater(() -> {
+                        FxQueue.runLater(() -> {
                             loadMessages();
                         });
                     } catch (Exception e) {
-                        Platform.runLater(() -> {
+                        FxQueue.runLater(() -> {
                             showAlert("Error", "Failed to delete message: " + e.getMessage());
                         });
                     }
-                }).start();
+                });
             }
         });
     }
@@ -1,6 +1,8 @@
 package com.the_pathfinders;
 
-import javafx.application.Platform;
+import com.the_pathfinders.util.AppEvents;
+import com.the_pathfinders.util.FxQueue;
+import com.the_pathfinders.util.Log;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.AnchorPane;
@@ -19,6 +21,8 @@ import java.util.function.Consumer;
  * across multiple scene transitions. Falls back to static image if video fails on Linux.
  */
 public class VideoManager {
+    private static final Log log = Log.get("video");
+
     
     private static VideoManager instance;
     
@@ -79,39 +83,39 @@ public class VideoManager {
             
             // Success handler
             bgPlayer.setOnReady(() -> {
-                System.out.println("✓ Video ready on attempt " + (attemptNumber + 1));
+                log.debug(() -> "✓ Video ready on attempt " + (attemptNumber + 1));
                 initialized = true;
                 usingFallback = false;
                 isInitializing.set(false);
                 bgPlayer.play();
-                Platform.runLater(() -> onSuccess.accept("Video initialized successfully"));
+                FxQueue.runLater(() -> onSuccess.accept("Video initialized successfully"));
             });
             
             // Error handler with retry
             bgPlayer.setOnError(() -> {
-                System.err.println("✗ Video error on attempt " + (attemptNumber + 1) + ": " + bgPlayer.getError());
+                log.error("✗ Video error on attempt " + (attemptNumber + 1) + ": " + bgPlayer.getError());
                 cleanup();
                 
                 if (attemptNumber < maxRetries - 1) {
                     // Retry after delay
-                    Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         try {
                             Thread.sleep(500);
                         } catch (InterruptedException ignored) {}
                         attemptInitialization(attemptNumber + 1, maxRetries, onSuccess, onFailure);
                     });
                 } else {
-                    System.out.println("→ Video failed after " + maxRetries + " attempts, using fallback image");
+                    log.debug(() -> "→ Video failed after " + maxRetries + " attempts, using fallback image");
                     useFallbackImage(onSuccess);
                 }
             });
             
         } catch (Exception ex) {
-            System.err.println("Exception during video init attempt " + (attemptNumber + 1) + ": " + ex.getMessage());
+            log.error("Exception during video init attempt " + (attemptNumber + 1) + ": " + ex.getMessage());
             if (attemptNumber < maxRetries - 1) {
                 attemptInitialization(attemptNumber + 1, maxRetries, onSuccess, onFailure);
             } else {
-                System.out.println("→ Video failed with exception, using fallback image");
+                log.debug("→ Video failed with exception, using fallback image");
                 useFallbackImage(onSuccess);
             }
         }
@@ -121,7 +125,7 @@ public class VideoManager {
         try {
             URL imageUrl = getClass().getResource("/assets/images/background.jpg");
             if (imageUrl != null) {
-                Image bgImage = new Image(imageUrl.toExternalForm());
+                Image bgImage = AppEvents.decode(imageUrl.toExternalForm(), () -> new Image(imageUrl.toExternalForm()));
                 fallbackImageView = new ImageView(bgImage);
                 fallbackImageView.setPreserveRatio(false);
                 fallbackImageView.setSmooth(true);
@@ -135,19 +139,19 @@ public class VideoManager {
                 usingFallback = true;
                 initFailed = true;
                 isInitializing.set(false);
-                System.out.println("✓ Fallback image loaded successfully");
-                Platform.runLater(() -> onSuccess.accept("Using fallback background image"));
+                log.debug("✓ Fallback image loaded successfully");
+                FxQueue.runLater(() -> onSuccess.accept("Using fallback background image"));
             } else {
                 handleInitFailure("Fallback image not found");
             }
         } catch (Exception e) {
-            System.err.println("Failed to load fallback image: " + e.getMessage());
+            log.error("Failed to load fallback image: " + e.getMessage());
             handleInitFailure("Fallback image load failed");
         }
     }
     
     private void handleInitFailure(String reason) {
-        System.err.println("✗ Complete initialization failure: " + reason);
+        log.error("✗ Complete initialization failure: " + reason);
         initFailed = true;
         isInitializing.set(false);
     }
@@ -157,11 +161,11 @@ public class VideoManager {
      */
     public void attachToPane(AnchorPane root) {
         if (!initialized) {
-            System.err.println("Cannot attach - not initialized");
+            log.error("Cannot attach - not initialized");
             return;
         }
         
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             if (usingFallback) {
                 attachFallbackImage(root);
             } else {
@@ -216,7 +220,7 @@ public class VideoManager {
             // Listen for scene to become available
             root.sceneProperty().addListener((obs, oldScene, newScene) -> {
                 if (newScene != null) {
-                    Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         try {
                             fallbackImageView.fitWidthProperty().unbind();
                             fallbackImageView.fitHeightProperty().unbind();
@@ -303,13 +307,13 @@ public class VideoManager {
             sizeListenersAdded = true;
             // React to root size changes
             root.widthProperty().addListener((obs, oldV, newV) -> {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     if (bgView != null) bgView.setFitWidth(newV.doubleValue());
                     if (videoOverlay != null) videoOverlay.setWidth(newV.doubleValue());
                 });
             });
             root.heightProperty().addListener((obs, oldV, newV) -> {
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     if (bgView != null) bgView.setFitHeight(newV.doubleValue());
                     if (videoOverlay != null) videoOverlay.setHeight(newV.doubleValue());
                 });
@@ -330,14 +334,14 @@ public class VideoManager {
 
         // Also listen for the scene to become available later and rebind to it
         root.sceneProperty().addListener((obs, oldScene, newScene) -> {
-            Platform.runLater(() -> {
+            FxQueue.runLater(() -> {
                 if (newScene != null) {
                     try { bgView.fitWidthProperty().unbind(); } catch (Exception ignored) {}
                     try { bgView.fitHeightProperty().unbind(); } catch (Exception ignored) {}
                     try { videoOverlay.widthProperty().unbind(); } catch (Exception ignored) {}
                     try { videoOverlay.heightProperty().unbind(); } catch (Exception ignored) {}
                     // Also listen to scene size changes so maximizing/restoring is handled
-                    Platform.runLater(() -> {
+                    FxQueue.runLater(() -> {
                         if (newScene != null) {
                             double w = newScene.getWidth();
                             double h = newScene.getHeight();
@@ -346,13 +350,13 @@ public class VideoManager {
                             videoOverlay.setWidth(w);
                             videoOverlay.setHeight(h);
                             newScene.widthProperty().addListener((o, ov, nv) -> {
-                                Platform.runLater(() -> {
+                                FxQueue.runLater(() -> {
                                     if (bgView != null) bgView.setFitWidth(nv.doubleValue());
                                     if (videoOverlay != null) videoOverlay.setWidth(nv.doubleValue());
                                 });
                             });
                             newScene.heightProperty().addListener((o, ov, nv) -> {
-                                Platform.runLater(() -> {
+                                FxQueue.runLater(() -> {
                                     if (bgView != null) bgView.setFitHeight(nv.doubleValue());
                                     if (videoOverlay != null) videoOverlay.setHeight(nv.doubleValue());
                                 });
@@ -403,7 +407,7 @@ public class VideoManager {
     public void detachFromPane(AnchorPane root) {
         if (root == null) return;
         
-        Platform.runLater(() -> {
+        FxQueue.runLater(() -> {
             if (usingFallback && fallbackImageView != null) {
                 fallbackImageView.fitWidthProperty().unbind();
                 fallbackImageView.fitHeightProperty().unbind();
@@ -3,13 +3,26 @@ package com.the_pathfinders.db;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.the_pathfinders.util.EncryptedConfig;
+import com.the_pathfinders.util.Log;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public final class DB {
-    private static HikariDataSource ds;
+    private static final Log log = Log.get("db");
+
+    // How long a query made during startup waits for the pool before giving up
+    private static final long READY_WAIT_SECONDS = 60;
+
+    private static volatile HikariDataSource ds;
+    // Completed once the pool has reached the server, or startup gave up trying (see App.warmUpPool)
+    private static final CompletableFuture<Void> ready = new CompletableFuture<>();
 
     // Database configuration loaded from encrypted config
     private static String DB_HOST;
@@ -19,13 +32,20 @@ public final class DB {
     private static String DB_SSL_MODE;
     private static String DB_SSL_CHANNEL_BINDING;
     private static String JDBC_URL;
+    private static volatile String activeJdbcUrl;
+    private static volatile boolean configured = false;
     
-    static {
-        // Load configuration on class initialization
+    /**
+     * Decrypt and load the database configuration. The key derivation is slow, so startup runs this
+     * as its own phase; init() calls it too and it only does the work once.
+     */
+    public static synchronized void configure() {
+        if (configured) return;
         try {
             loadConfiguration();
+            configured = true;
         } catch (Exception e) {
-            System.err.println("Failed to load database configuration: " + e.getMessage());
+            log.error("Failed to load database configuration: " + e.getMessage());
             throw new RuntimeException("Database configuration error", e);
         }
     }
@@ -54,13 +74,14 @@ public final class DB {
             DB_HOST, DB_NAME, DB_USER, DB_PASSWORD, DB_SSL_MODE, DB_SSL_CHANNEL_BINDING
         );
         
-        System.out.println("✓ Database configuration loaded successfully");
+        log.debug("✓ Database configuration loaded successfully");
     }
 
     private DB() {}
 
     /** Initialize the connection pool with default settings */
     public static void init() {
+        configure();
         init(JDBC_URL);
     }
 
@@ -78,15 +99,67 @@ public final class DB {
         cfg.addDataSourceProperty("ssl", "true");
         cfg.addDataSourceProperty("sslmode", "require");
         cfg.addDataSourceProperty("connectTimeout", "30");
+        cfg.setMetricsTrackerFactory(QueryMetrics.POOL_TRACKER);
         ds = new HikariDataSource(cfg);
+        activeJdbcUrl = jdbcUrl;
+    }
+
+    /**
+     * Open and validate one pooled connection, e.g. to wake a suspended server before the first query.
+     */
+    public static void warmUp() throws SQLException {
+        if (ds == null) throw new IllegalStateException("DB.init() not called");
+        try (Connection c = QueryMetrics.wrap(ds.getConnection())) {
+            if (!c.isValid(5)) throw new SQLException("Connection failed validation");
+        }
+        markReady();
+    }
+
+    /** Let waiting callers through, whether or not the server could be reached. */
+    public static void markReady() {
+        ready.complete(null);
     }
 
+    /**
+     * A pooled connection. The window opens before the pool is up, so during startup this waits
+     * (off the FX thread) until the pool has reached the server, e.g. while Neon wakes up.
+     */
     public static Connection getConnection() throws SQLException {
+        if (!ready.isDone()) awaitReady();
         if (ds == null) throw new IllegalStateException("DB.init() not called");
-        return ds.getConnection();
+        return QueryMetrics.wrap(ds.getConnection());
+    }
+
+    private static void awaitReady() throws SQLException {
+        try {
+            ready.get(READY_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new SQLException("Database is still starting up", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for the database", e);
+        } catch (ExecutionException e) {
+            throw new SQLException("Database startup failed", e.getCause());
+        }
+    }
+
+    /**
+     * Open a connection outside the pool for long-lived sessions (e.g. LISTEN).
+     * The caller owns the connection and must close it.
+     */
+    public static Connection openDedicatedConnection() throws SQLException {
+        if (activeJdbcUrl == null) throw new IllegalStateException("DB.init() not called");
+        Properties props = new Properties();
+        props.setProperty("ssl", "true");
+        props.setProperty("sslmode", "require");
+        props.setProperty("connectTimeout", "30");
+        props.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(activeJdbcUrl, props);
     }
 
     public static void shutdown() {
+        JournalEventHub.getInstance().stop();
+        JournalLoveRollup.stop();
         if (ds != null) ds.close();
     }
 }
\ No newline at end of file
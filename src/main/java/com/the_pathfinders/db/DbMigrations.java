@@ -1,15 +1,54 @@
 package com.the_pathfinders.db;
 
+import com.the_pathfinders.util.Log;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+/**
+ * Versioned schema migrations.
+ *
+ * Each step has a version number and a checksum of its SQL; applied steps are recorded in
+ * schema_version. When the schema is current, startup costs a single SELECT on that table.
+ * Pending steps run together in one transaction, serialized across clients by an advisory lock.
+ *
+ * Steps are append-only: never edit one that has shipped, add a new version instead.
+ * Statements stay idempotent so databases created before versioning can adopt it safely.
+ */
 public final class DbMigrations {
-    private DbMigrations() {}
+    private static final Log log = Log.get("db");
 
-    public static void runAll() throws Exception {
-        try (Connection c = DB.getConnection(); Statement st = c.createStatement()) {
+    private static final long MIGRATION_LOCK_KEY = 0x534348454D41L; // "SCHEMA"
+
+    private record Migration(int version, String description, List<String> statements) {
+        String checksum() {
+            try {
+                MessageDigest md = MessageDigest.getInstance("SHA-256");
+                for (String sql : statements) {
+                    md.update(sql.getBytes(StandardCharsets.UTF_8));
+                    md.update((byte) 0);
+                }
+                return HexFormat.of().formatHex(md.digest());
+            } catch (Exception e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+
+    private static final List<Migration> MIGRATIONS = List.of(
+        new Migration(1, "Soul, journal and profile tables", List.of(
             // Create the table if it doesn't exist; keep soul_id lowercase for consistency
-            st.executeUpdate("""
+            """
                 create table if not exists soul_id_and_soul_key (
                   soul_id        text primary key,
                   soul_key_hash  text not null,
@@ -20,10 +59,10 @@ public final class DbMigrations {
                   created_at     timestamptz default now(),
                   constraint soul_id_is_lower check (soul_id = lower(soul_id))
                 )
-            """);
-            
+            """,
+
             // Create public journals table for journal entries
-            st.executeUpdate("""
+            """
                 create table if not exists public_journals (
                   journal_id   char(7) primary key not null,
                   soul_id      text,
@@ -34,12 +73,10 @@ public final class DbMigrations {
                   font_size    integer default 14,
                   created_at   timestamptz default now()
                 )
-            """);
-
+            """,
 
-            
             // Create soul_info table to store user profile information
-            st.executeUpdate("""
+            """
                 create table if not exists soul_info (
                   soul_id     text primary key,
                   name        text,
@@ -51,9 +88,10 @@ public final class DbMigrations {
                   created_at  timestamptz default now(),
                   updated_at  timestamptz default now()
                 )
-            """);
+            """,
+
             // Create todo_items table for storing user tasks
-            st.executeUpdate("""
+            """
                 create table if not exists todo_items (
                   id          bigserial primary key,
                   soul_id     text not null,
@@ -61,14 +99,13 @@ public final class DbMigrations {
                   done        boolean default false,
                   created_at  timestamptz default now()
                 )
-            """);
-
-            st.executeUpdate("""
+            """,
+            """
                 create index if not exists idx_todo_soul on todo_items(soul_id)
-            """);
+            """,
 
             // Create mood_tracker table for storing mood assessments
-            st.executeUpdate("""
+            """
                 create table if not exists mood_tracker (
                   id          bigserial primary key,
                   soul_id     text not null,
@@ -81,14 +118,13 @@ public final class DbMigrations {
                   answers     text,
                   created_at  timestamptz default now()
                 )
-            """);
-
-            st.executeUpdate("""
+            """,
+            """
                 create index if not exists idx_mood_soul on mood_tracker(soul_id)
-            """);
-            
+            """,
+
             // Create blog_reading_history table for tracking article views
-            st.executeUpdate("""
+            """
                 create table if not exists blog_reading_history (
                   id            bigserial primary key,
                   soul_id       text not null,
@@ -96,18 +132,16 @@ public final class DbMigrations {
                   blog_category text not null,
                   viewed_at     timestamptz default now()
                 )
-            """);
-            
-            st.executeUpdate("""
+            """,
+            """
                 create index if not exists idx_blog_history_soul on blog_reading_history(soul_id)
-            """);
-            
-            st.executeUpdate("""
+            """,
+            """
                 create index if not exists idx_blog_history_date on blog_reading_history(soul_id, viewed_at)
-            """);
-            
+            """,
+
             // Add loved_by column if it doesn't exist (for existing tables)
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (
@@ -117,10 +151,10 @@ public final class DbMigrations {
                     alter table public_journals add column loved_by text[] default '{}';
                   end if;
                 end $$
-            """);
-            
+            """,
+
             // Add font columns if they don't exist (for existing tables)
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (
@@ -136,10 +170,10 @@ public final class DbMigrations {
                     alter table public_journals add column font_size integer default 14;
                   end if;
                 end $$
-            """);
-            
+            """,
+
             // Add missing columns for soul_info if needed (for existing installations)
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (
@@ -177,15 +211,15 @@ public final class DbMigrations {
                     end if;
                   end if;
                 end $$
-            """);
-            
+            """,
+
             // Create GIN index on loved_by array for fast searches (binary search-like performance)
-            st.executeUpdate("""
+            """
                 create index if not exists idx_loved_by_gin on public_journals using gin (loved_by)
-            """);
-            
+            """,
+
             // Add isPublic column for visibility control
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (
@@ -195,10 +229,10 @@ public final class DbMigrations {
                     alter table public_journals add column is_public boolean default true;
                   end if;
                 end $$
-            """);
-            
+            """,
+
             // Add email_verified column to track email verification status
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (
@@ -208,9 +242,12 @@ public final class DbMigrations {
                     alter table soul_info add column email_verified boolean default false;
                   end if;
                 end $$
-            """);
+            """
+        )),
+
+        new Migration(2, "Keeper accounts, password resets and moderation", List.of(
             // Create keeper_signups table for admin registration requests
-            st.executeUpdate("""
+            """
                 create table if not exists keeper_signups (
                   keeper_id       text primary key,
                   email           text not null unique,
@@ -224,10 +261,10 @@ public final class DbMigrations {
                   rejected_by     text,
                   constraint keeper_id_is_lower check (keeper_id = lower(keeper_id))
                 )
-            """);
-            
+            """,
+
             // Create keepers table for approved admins
-            st.executeUpdate("""
+            """
                 create table if not exists keepers (
                   keeper_id       text primary key,
                   email           text not null unique,
@@ -242,18 +279,18 @@ public final class DbMigrations {
                   last_login      timestamptz,
                   constraint keeper_id_is_lower check (keeper_id = lower(keeper_id))
                 )
-            """);
-            
+            """,
+
             // Create index on email for fast lookups
-            st.executeUpdate("""
+            """
                 create index if not exists idx_keeper_signups_email on keeper_signups(email)
-            """);
-            st.executeUpdate("""
+            """,
+            """
                 create index if not exists idx_keepers_email on keepers(email)
-            """);
-            
+            """,
+
             // Add profile columns to keepers table if they don't exist
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (select 1 from information_schema.columns where table_name='keepers' and column_name='short_name') then
@@ -269,10 +306,10 @@ public final class DbMigrations {
                     alter table keepers add column blood_group text;
                   end if;
                 end $$
-            """);
-            
+            """,
+
             // Add rejection columns to keeper_signups table if they don't exist
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (select 1 from information_schema.columns where table_name='keeper_signups' and column_name='rejected_at') then
@@ -282,25 +319,25 @@ public final class DbMigrations {
                     alter table keeper_signups add column rejected_by text;
                   end if;
                 end $$
-            """);
-            
+            """,
+
             // Add last_activity column to soul_id_and_soul_key table for tracking active users
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (select 1 from information_schema.columns where table_name='soul_id_and_soul_key' and column_name='last_activity') then
                     alter table soul_id_and_soul_key add column last_activity timestamptz;
                   end if;
                 end $$
-            """);
-            
+            """,
+
             // Create index on last_activity for fast active user queries
-            st.executeUpdate("""
+            """
                 create index if not exists idx_soul_last_activity on soul_id_and_soul_key(last_activity)
-            """);
-            
+            """,
+
             // Create password reset tokens table
-            st.executeUpdate("""
+            """
                 create table if not exists keeper_password_resets (
                   token         text primary key,
                   keeper_id     text not null references keepers(keeper_id) on delete cascade,
@@ -308,20 +345,20 @@ public final class DbMigrations {
                   used          boolean default false,
                   created_at    timestamptz default now()
                 )
-            """);
-            
+            """,
+
             // Create index on keeper_id for password reset lookups
-            st.executeUpdate("""
+            """
                 create index if not exists idx_password_resets_keeper on keeper_password_resets(keeper_id)
-            """);
-            
+            """,
+
             // Create index on expires_at and used for cleanup
-            st.executeUpdate("""
+            """
                 create index if not exists idx_password_resets_expiry on keeper_password_resets(expires_at, used)
-            """);
-            
+            """,
+
             // Create moderation messages table for journal moderation
-            st.executeUpdate("""
+            """
                 create table if not exists moderation_messages (
                   message_id      serial primary key,
                   journal_id      int not null,
@@ -331,30 +368,32 @@ public final class DbMigrations {
                   is_read         boolean default false,
                   created_at      timestamptz default now()
                 )
-            """);
-            
+            """,
+
             // Create index on soul_id for fetching user messages
-            st.executeUpdate("""
+            """
                 create index if not exists idx_moderation_messages_soul on moderation_messages(soul_id)
-            """);
-            
+            """,
+
             // Create index on journal_id for checking moderation history
-            st.executeUpdate("""
+            """
                 create index if not exists idx_moderation_messages_journal on moderation_messages(journal_id)
-            """);
-            
+            """,
+
             // Create index on keeper_id for admin tracking
-            st.executeUpdate("""
+            """
                 create index if not exists idx_moderation_messages_keeper on moderation_messages(keeper_id)
-            """);
-            
+            """,
+
             // Create index on is_read for unread message counts
-            st.executeUpdate("""
+            """
                 create index if not exists idx_moderation_messages_read on moderation_messages(soul_id, is_read)
-            """);
-            
+            """
+        )),
+
+        new Migration(3, "Blood support, consultations and user messages", List.of(
             // Blood support tables
-            st.executeUpdate("""
+            """
                 create table if not exists blood_requests (
                   id          bigserial primary key,
                   soul_id     text,
@@ -363,9 +402,8 @@ public final class DbMigrations {
                   phone       text not null,
                   created_at  timestamptz default now()
                 )
-            """);
-
-            st.executeUpdate("""
+            """,
+            """
                 create table if not exists blood_donors (
                   id                 bigserial primary key,
                   soul_id            text,
@@ -375,15 +413,14 @@ public final class DbMigrations {
                   area               text not null,
                   created_at         timestamptz default now()
                 )
-            """);
-
-            st.executeUpdate("create index if not exists idx_blood_requests_soul on blood_requests(soul_id)");
-            st.executeUpdate("create index if not exists idx_blood_requests_group on blood_requests(blood_group)");
-            st.executeUpdate("create index if not exists idx_blood_donors_group on blood_donors(blood_group)");
-            st.executeUpdate("create index if not exists idx_blood_donors_area on blood_donors(area)");
+            """,
+            "create index if not exists idx_blood_requests_soul on blood_requests(soul_id)",
+            "create index if not exists idx_blood_requests_group on blood_requests(blood_group)",
+            "create index if not exists idx_blood_donors_group on blood_donors(blood_group)",
+            "create index if not exists idx_blood_donors_area on blood_donors(area)",
 
             // Consultation tables
-            st.executeUpdate("""
+            """
                 create table if not exists doctors (
                   id              bigserial primary key,
                   name            text not null,
@@ -393,9 +430,8 @@ public final class DbMigrations {
                   specialization  text,
                   created_at      timestamptz default now()
                 )
-            """);
-
-            st.executeUpdate("""
+            """,
+            """
                 create table if not exists appointments (
                   id                bigserial primary key,
                   soul_id           text not null,
@@ -404,13 +440,12 @@ public final class DbMigrations {
                   status            text default 'PENDING' check (status in ('PENDING', 'CONFIRMED', 'CANCELLED', 'RESCHEDULED')),
                   created_at        timestamptz default now()
                 )
-            """);
+            """,
+            "create index if not exists idx_appointments_soul on appointments(soul_id)",
+            "create index if not exists idx_appointments_doctor on appointments(doctor_id)",
 
-            st.executeUpdate("create index if not exists idx_appointments_soul on appointments(soul_id)");
-            st.executeUpdate("create index if not exists idx_appointments_doctor on appointments(doctor_id)");
-            
             // Alter existing appointments table to update status constraint if it exists
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   -- Drop old constraint if exists
@@ -430,10 +465,10 @@ public final class DbMigrations {
                     check (status in ('PENDING', 'CONFIRMED', 'CANCELLED', 'RESCHEDULED'));
                   end if;
                 end $$
-            """);
+            """,
 
             // Add safety plan columns to soul_id_and_soul_key table
-            st.executeUpdate("""
+            """
                 do $$
                 begin
                   if not exists (
@@ -446,10 +481,10 @@ public final class DbMigrations {
                     add column safety_plan_place text;
                   end if;
                 end $$
-            """);
+            """,
 
             // Create user_messages table for appointment notifications and system messages
-            st.executeUpdate("""
+            """
                 create table if not exists user_messages (
                   id              bigserial primary key,
                   soul_id         text not null,
@@ -460,11 +495,277 @@ public final class DbMigrations {
                   is_read         boolean default false,
                   created_at      timestamptz default now()
                 )
+            """,
+            "create index if not exists idx_user_messages_soul on user_messages(soul_id)",
+            "create index if not exists idx_user_messages_read on user_messages(soul_id, is_read)",
+            "create index if not exists idx_user_messages_appointment on user_messages(appointment_id)"
+        )),
+
+        new Migration(4, "Journal ID sequence and keyset feed index", List.of(
+            // Journal ID sequence; increments by JournalIdAllocator.BLOCK_SIZE so each nextval reserves a block.
+            // Seeded once past the highest existing 7-digit ID.
+            """
+                do $$
+                begin
+                  if not exists (select 1 from pg_class where relkind = 'S' and relname = 'public_journals_id_seq') then
+                    create sequence public_journals_id_seq increment by %d minvalue 0 maxvalue 9999999 start with 0;
+                    perform setval('public_journals_id_seq',
+                      coalesce((select max(journal_id::int) + 1 from public_journals where journal_id ~ '^[0-9]{7}$'), 0),
+                      false);
+                  end if;
+                end $$
+            """.formatted(JournalIdAllocator.BLOCK_SIZE),
+
+            // Keyset index for the paginated public feed (created_at, journal_id)
+            """
+                create index if not exists idx_public_journals_feed
+                on public_journals(created_at desc, journal_id desc) where is_public
+            """
+        )),
+
+        new Migration(5, "Normalized journal loves", List.of(
+            // Normalized loves: one row per (journal, soul). Backfilled once from loved_by when the
+            // table is first created; loved_by and its GIN index are kept but no longer read or written.
+            """
+                do $$
+                begin
+                  if not exists (
+                    select 1 from information_schema.tables where table_name = 'journal_loves'
+                  ) then
+                    create table journal_loves (
+                      journal_id  char(7) not null references public_journals(journal_id) on delete cascade,
+                      soul_id     text not null,
+                      created_at  timestamptz default now(),
+                      primary key (journal_id, soul_id)
+                    );
+                    insert into journal_loves (journal_id, soul_id)
+                    select distinct pj.journal_id, l.soul_id
+                    from public_journals pj, unnest(pj.loved_by) as l(soul_id)
+                    where l.soul_id is not null
+                    on conflict do nothing;
+                    update public_journals pj
+                    set love_count = (select count(*) from journal_loves jl where jl.journal_id = pj.journal_id)
+                    where pj.love_count is distinct from (select count(*) from journal_loves jl where jl.journal_id = pj.journal_id);
+                  end if;
+                end $$
+            """,
+            "create index if not exists idx_journal_loves_soul on journal_loves(soul_id)"
+        )),
+
+        new Migration(6, "Striped love counters", List.of(
+            // Striped love counters: toggles add +1/-1 to one of several stripe rows instead of
+            // updating the hot public_journals row; JournalLoveRollup folds stripes back into love_count
+            """
+                create table if not exists journal_love_stripes (
+                  journal_id  char(7) not null references public_journals(journal_id) on delete cascade,
+                  stripe      smallint not null,
+                  delta       integer not null default 0,
+                  primary key (journal_id, stripe)
+                )
+            """,
+            """
+                create or replace function journal_love_total(jid char(7), base integer) returns integer as $$
+                  select greatest(coalesce(base, 0) + coalesce((select sum(delta) from journal_love_stripes where journal_id = jid), 0), 0)::integer
+                $$ language sql stable
+            """
+        )),
+
+        new Migration(7, "Journal event notifications", List.of(
+            // Publish journal changes to JournalEventHub listeners (LISTEN journal_events)
+            """
+                create or replace function notify_journal_event() returns trigger as $$
+                begin
+                  if tg_op = 'INSERT' then
+                    if coalesce(new.is_public, true) then
+                      perform pg_notify('journal_events', 'NEW ' || new.journal_id);
+                    end if;
+                  elsif new.love_count is distinct from old.love_count then
+                    perform pg_notify('journal_events', 'LOVE ' || new.journal_id || ' ' || journal_love_total(new.journal_id, new.love_count));
+                  end if;
+                  return null;
+                end $$ language plpgsql
+            """,
+            "drop trigger if exists trg_public_journals_notify on public_journals",
+            """
+                create trigger trg_public_journals_notify
+                after insert or update of love_count on public_journals
+                for each row execute function notify_journal_event()
+            """,
+            """
+                create or replace function notify_journal_stripe_event() returns trigger as $$
+                begin
+                  perform pg_notify('journal_events', 'LOVE ' || new.journal_id || ' ' ||
+                    journal_love_total(new.journal_id, (select love_count from public_journals where journal_id = new.journal_id)));
+                  return null;
+                end $$ language plpgsql
+            """,
+            "drop trigger if exists trg_journal_love_stripes_notify on journal_love_stripes",
+            """
+                create trigger trg_journal_love_stripes_notify
+                after insert or update of delta on journal_love_stripes
+                for each row execute function notify_journal_stripe_event()
+            """
+        )),
+
+        new Migration(8, "Client keys for offline sync", List.of(
+            // Rows written through LocalStore carry the client's key, so SyncEngine can upsert them
+            // idempotently; updated_at is the client's write time, used for last-writer-wins
+            "alter table public_journals add column if not exists client_key text",
+            "alter table public_journals add column if not exists updated_at timestamptz",
+            "create unique index if not exists idx_public_journals_client_key on public_journals(client_key)",
+            "alter table todo_items add column if not exists client_key text",
+            "alter table todo_items add column if not exists updated_at timestamptz",
+            "create unique index if not exists idx_todo_client_key on todo_items(client_key)",
+            "alter table mood_tracker add column if not exists client_key text",
+            "create unique index if not exists idx_mood_client_key on mood_tracker(client_key)"
+        )),
+
+        new Migration(9, "Per-soul message notifications", List.of(
+            // Publish "<topic> <json frame>" to EventHub listeners (LISTEN app_events) when a soul gets a
+            // message or reads them; the read payload carries no id so a mark-all sends one notification
+            """
+                create or replace function notify_soul_message_event() returns trigger as $$
+                declare
+                  topic text := 'soul:' || lower(new.soul_id);
+                  frame json;
+                begin
+                  if tg_op = 'INSERT' then
+                    if tg_table_name = 'moderation_messages' then
+                      frame := json_build_object('topic', topic, 'type', 'MODERATION_MESSAGE', 'id', new.message_id,
+                                                 'journal_id', new.journal_id);
+                    else
+                      frame := json_build_object('topic', topic, 'type', 'USER_MESSAGE', 'id', new.id,
+                                                 'kind', new.message_type, 'appointment_id', new.appointment_id);
+                    end if;
+                  elsif new.is_read is distinct from old.is_read then
+                    frame := json_build_object('topic', topic, 'type', 'MESSAGES_READ');
+                  else
+                    return null;
+                  end if;
+                  perform pg_notify('app_events', topic || ' ' || frame::text);
+                  return null;
+                end $$ language plpgsql
+            """,
+            "drop trigger if exists trg_moderation_messages_notify on moderation_messages",
+            """
+                create trigger trg_moderation_messages_notify
+                after insert or update of is_read on moderation_messages
+                for each row execute function notify_soul_message_event()
+            """,
+            "drop trigger if exists trg_user_messages_notify on user_messages",
+            """
+                create trigger trg_user_messages_notify
+                after insert or update of is_read on user_messages
+                for each row execute function notify_soul_message_event()
+            """
+        ))
+    );
+
+    private DbMigrations() {}
+
+    public static void runAll() throws Exception {
+        long started = System.nanoTime();
+        try (Connection c = DB.getConnection()) {
+            List<Migration> pending = pendingMigrations(readApplied(c));
+            if (pending.isEmpty()) {
+                log.info("Schema is current at version " + latestVersion()
+                        + " (checked in " + elapsedMillis(started) + " ms)");
+                return;
+            }
+            int applied = migrate(c);
+            log.info("Applied " + applied + " schema migration(s), now at version " + latestVersion()
+                    + " (" + elapsedMillis(started) + " ms)");
+        }
+    }
+
+    /** Every statement of every step in order, i.e. what each startup ran before versioning. */
+    static List<String> allStatements() {
+        return MIGRATIONS.stream().flatMap(m -> m.statements().stream()).toList();
+    }
+
+    /** Highest version known to this build. */
+    public static int latestVersion() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1).version();
+    }
+
+    /**
+     * Run every pending step in one transaction. Re-reads schema_version under the lock,
+     * so a client that lost the race to another one applies nothing.
+     * @return Number of steps applied
+     */
+    private static int migrate(Connection c) throws Exception {
+        boolean autoCommit = c.getAutoCommit();
+        c.setAutoCommit(false);
+        try (Statement st = c.createStatement()) {
+            st.executeUpdate("""
+                create table if not exists schema_version (
+                  version       integer primary key,
+                  description   text not null,
+                  checksum      text not null,
+                  execution_ms  integer,
+                  applied_at    timestamptz default now()
+                )
             """);
+            st.execute("select pg_advisory_xact_lock(" + MIGRATION_LOCK_KEY + ")");
+
+            List<Migration> pending = pendingMigrations(readApplied(c));
+            String insert = "insert into schema_version (version, description, checksum, execution_ms) values (?, ?, ?, ?)";
+            try (PreparedStatement ps = c.prepareStatement(insert)) {
+                for (Migration m : pending) {
+                    long stepStarted = System.nanoTime();
+                    for (String sql : m.statements()) {
+                        st.executeUpdate(sql);
+                    }
+                    ps.setInt(1, m.version());
+                    ps.setString(2, m.description());
+                    ps.setString(3, m.checksum());
+                    ps.setInt(4, (int) elapsedMillis(stepStarted));
+                    ps.executeUpdate();
+                    log.info("  - Migration " + m.version() + " (" + m.description() + ") took "
+                            + elapsedMillis(stepStarted) + " ms");
+                }
+            }
+            c.commit();
+            return pending.size();
+        } catch (Exception e) {
+            c.rollback();
+            throw e;
+        } finally {
+            c.setAutoCommit(autoCommit);
+        }
+    }
 
-            st.executeUpdate("create index if not exists idx_user_messages_soul on user_messages(soul_id)");
-            st.executeUpdate("create index if not exists idx_user_messages_read on user_messages(soul_id, is_read)");
-            st.executeUpdate("create index if not exists idx_user_messages_appointment on user_messages(appointment_id)");
+    /**
+     * Applied versions and their checksums; empty if schema_version does not exist yet.
+     */
+    private static Map<Integer, String> readApplied(Connection c) throws SQLException {
+        Map<Integer, String> applied = new TreeMap<>();
+        try (Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery("select version, checksum from schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getString(2));
+            }
+        } catch (SQLException e) {
+            if (!"42P01".equals(e.getSQLState())) throw e; // undefined_table: nothing applied yet
         }
+        return applied;
+    }
+
+    private static List<Migration> pendingMigrations(Map<Integer, String> applied) {
+        List<Migration> pending = new ArrayList<>();
+        for (Migration m : MIGRATIONS) {
+            String checksum = applied.get(m.version());
+            if (checksum == null) {
+                pending.add(m);
+            } else if (!checksum.equals(m.checksum())) {
+                log.warn("Warning: schema migration " + m.version() + " (" + m.description()
+                        + ") was changed after it was applied; add a new version instead.");
+            }
+        }
+        return pending;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
     }
 }
@@ -0,0 +1,157 @@
+package com.the_pathfinders.db;
+
+import com.the_pathfinders.util.Log;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Push-based change feed for public journals.
+ *
+ * Triggers on public_journals publish to the {@value #CHANNEL} channel (see DbMigrations).
+ * A single dedicated connection, kept next to the Hikari pool, LISTENs on that channel
+ * and fans events out to subscribed controllers, so screens no longer poll the database.
+ *
+ * Payload format: "LOVE &lt;journal_id&gt; &lt;love_count&gt;" or "NEW &lt;journal_id&gt;".
+ * Listeners are invoked on the listener thread; UI code must hop to the FX thread itself.
+ */
+public final class JournalEventHub {
+    private static final Log log = Log.get("db");
+
+    public static final String CHANNEL = "journal_events";
+
+    private static final long POLL_TIMEOUT_MS = 10_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private static JournalEventHub instance;
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running = false;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    /** Receives journal change events. Both methods are called off the FX thread. */
+    public interface Listener {
+        default void onLoveCountChanged(String journalId, int loveCount) {}
+        default void onJournalPublished(String journalId) {}
+    }
+
+    /** Handle returned by {@link #subscribe(Listener)}; closing it removes the listener. */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private JournalEventHub() {}
+
+    public static synchronized JournalEventHub getInstance() {
+        if (instance == null) {
+            instance = new JournalEventHub();
+        }
+        return instance;
+    }
+
+    /**
+     * Register a listener. The listener connection is opened lazily on first subscription.
+     */
+    public Subscription subscribe(Listener listener) {
+        listeners.add(listener);
+        start();
+        return () -> listeners.remove(listener);
+    }
+
+    private synchronized void start() {
+        if (running) return;
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "journal-events");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        closeConnection();
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try {
+                connection = DB.openDedicatedConnection();
+                try (Statement st = connection.createStatement()) {
+                    st.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                log.info("Listening for journal changes on channel '" + CHANNEL + "'");
+
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications((int) POLL_TIMEOUT_MS);
+                    if (notifications == null) continue;
+                    for (PGNotification n : notifications) {
+                        dispatch(n.getParameter());
+                    }
+                }
+            } catch (SQLException | IllegalStateException e) {
+                if (!running) break;
+                log.warn("Journal event listener disconnected: " + e.getMessage());
+            } finally {
+                closeConnection();
+            }
+
+            try {
+                Thread.sleep(RECONNECT_DELAY_MS);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        if (payload == null || payload.isEmpty()) return;
+        String[] parts = payload.trim().split(" ");
+        try {
+            switch (parts[0]) {
+                case "LOVE" -> {
+                    String journalId = parts[1];
+                    int count = Integer.parseInt(parts[2]);
+                    for (Listener l : listeners) safely(() -> l.onLoveCountChanged(journalId, count));
+                }
+                case "NEW" -> {
+                    String journalId = parts[1];
+                    for (Listener l : listeners) safely(() -> l.onJournalPublished(journalId));
+                }
+                default -> log.warn("Unknown journal event: " + payload);
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("Malformed journal event: " + payload);
+        }
+    }
+
+    private static void safely(Runnable r) {
+        try {
+            r.run();
+        } catch (Exception e) {
+            log.error("Journal event listener failed: " + e.getMessage());
+        }
+    }
+
+    private void closeConnection() {
+        Connection c = connection;
+        connection = null;
+        if (c != null) {
+            try {
+                c.close();
+            } catch (SQLException ignored) {}
+        }
+    }
+}
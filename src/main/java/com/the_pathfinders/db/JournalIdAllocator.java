@@ -0,0 +1,53 @@
+package com.the_pathfinders.db;
+
+/**
+ * Hands out 7-digit journal IDs from blocks reserved on the public_journals_id_seq sequence.
+ *
+ * The sequence increments by {@value #BLOCK_SIZE}, so each nextval() reserves a whole block
+ * for this client: the value itself plus the next BLOCK_SIZE - 1 numbers. Most saves take an
+ * ID from the local block without touching the database; when the block runs out, the insert
+ * itself calls nextval() (see JournalRepository.syncWrite) and hands the new block back here.
+ */
+public final class JournalIdAllocator {
+    /** Must match the sequence's INCREMENT BY (see DbMigrations). */
+    public static final int BLOCK_SIZE = 32;
+    public static final String SEQUENCE = "public_journals_id_seq";
+
+    private static final long MAX_ID = 9_999_999L; // journal_id is char(7)
+
+    private static final JournalIdAllocator INSTANCE = new JournalIdAllocator();
+
+    private long next = 0;
+    private long end = 0; // exclusive
+
+    private JournalIdAllocator() {}
+
+    public static JournalIdAllocator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Take the next ID from the local block.
+     * @return A formatted 7-digit ID, or null when the block is used up
+     */
+    public synchronized String tryNext() {
+        if (next >= end) return null;
+        return format(next++);
+    }
+
+    /**
+     * Adopt a freshly reserved block whose first value was already used by the caller.
+     * @param blockStart Value returned by nextval() on the sequence
+     */
+    public synchronized void acceptBlock(long blockStart) {
+        next = blockStart + 1;
+        end = Math.min(blockStart + BLOCK_SIZE, MAX_ID + 1);
+    }
+
+    public static String format(long id) {
+        if (id < 0 || id > MAX_ID) {
+            throw new IllegalStateException("Journal ID out of range: " + id);
+        }
+        return String.format("%07d", id);
+    }
+}
@@ -0,0 +1,80 @@
+package com.the_pathfinders.db;
+
+import com.the_pathfinders.util.Log;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job that folds journal_love_stripes back into public_journals.love_count.
+ *
+ * Toggles only touch stripe rows, so readers sum love_count with the stripes
+ * (journal_love_total). Folding periodically keeps the number of stripe rows small.
+ * Every client may run this; an advisory lock lets only one fold at a time.
+ */
+public final class JournalLoveRollup {
+    private static final Log log = Log.get("db");
+
+    private static final long INTERVAL_SECONDS = 30;
+    private static final long ROLLUP_LOCK_KEY = 0x4C4F5645L; // "LOVE"
+
+    private static ScheduledExecutorService scheduler;
+
+    private JournalLoveRollup() {}
+
+    public static synchronized void start() {
+        if (scheduler != null) {
+            return; // Already running
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "journal-love-rollup");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(JournalLoveRollup::runSafely, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private static void runSafely() {
+        try {
+            rollup();
+        } catch (Exception e) {
+            log.error("Love counter rollup failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fold all stripe deltas into love_count in one statement.
+     * @return Number of journals whose love_count changed
+     */
+    public static int rollup() throws Exception {
+        String sql = """
+            with folded as (
+              delete from journal_love_stripes
+              where pg_try_advisory_xact_lock(?)
+              returning journal_id, delta
+            ), totals as (
+              select journal_id, sum(delta) as delta from folded group by journal_id
+            )
+            update public_journals pj
+            set love_count = greatest(coalesce(pj.love_count, 0) + totals.delta, 0)
+            from totals
+            where pj.journal_id = totals.journal_id and totals.delta <> 0
+        """;
+
+        try (Connection conn = DB.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, ROLLUP_LOCK_KEY);
+            return ps.executeUpdate();
+        }
+    }
+}
@@ -4,61 +4,113 @@ import com.the_pathfinders.Journal;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class JournalRepository {
 
-    /**
-     * Get the next journal ID in descending format (starting from 0000000).
-     * Fetches the highest ID from the database and increments it.
-     */
-    public String getNextJournalId() throws SQLException {
-        String sql = "SELECT journal_id FROM public_journals ORDER BY journal_id DESC LIMIT 1";
-        
-        try (Connection conn = DB.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
-            
-            if (rs.next()) {
-                String lastId = rs.getString("journal_id");
-                // Parse the numeric part and increment
-                int num = Integer.parseInt(lastId);
-                int nextNum = num + 1;
-                // Format back to 7-digit string with leading zeros
-                return String.format("%07d", nextNum);
-            } else {
-                // No journals yet, start from 0000000
-                return "0000000";
-            }
-        }
-    }
+    /** Number of counter stripes per journal in journal_love_stripes. */
+    public static final int LOVE_STRIPES = 16;
+
+    /** Love count plus whether the requesting soul has loved the journal. */
+    public record LoveState(int loveCount, boolean lovedByMe) {}
+
+    /** Keyset position in the public feed: the last (created_at, journal_id) already shown. */
+    public record FeedCursor(Timestamp createdAt, String journalId) {}
+
+    /** One page of the public feed plus the cursor for the next page (null when exhausted). */
+    public record JournalPage(List<Journal> journals, FeedCursor next) {}
 
     /**
-     * Save a journal entry to the database.
-     * @param soulId The ID of the user creating the journal
+     * Save a new journal or an edit through the local store; it reaches the server with the next sync.
+     * @param key LocalStore.newKey() for a new journal, or LocalStore.SERVER_ID_PREFIX + journal id to edit one
+     * @param soulId The ID of the user writing the journal
      * @param journalText The journal content text
      * @param fontFamily The font family used when writing
      * @param fontSize The font size used when writing
      * @param isPublic Whether the journal is public or private
-     * @return The generated journal ID
      */
-    public String saveJournal(String soulId, String journalText, String fontFamily, Integer fontSize, boolean isPublic) throws SQLException {
-        String journalId = getNextJournalId();
-        
-        String sql = "INSERT INTO public_journals (journal_id, soul_id, journal_text, love_count, font_family, font_size, is_public) VALUES (?, ?, ?, 0, ?, ?, ?)";
-        
-        try (Connection conn = DB.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            
-            ps.setString(1, journalId);
-            ps.setString(2, soulId);
-            ps.setString(3, journalText);
-            ps.setString(4, fontFamily);
-            ps.setInt(5, fontSize);
-            ps.setBoolean(6, isPublic);
-            ps.executeUpdate();
-            
-            return journalId;
+    public void queueJournal(String key, String soulId, String journalText, String fontFamily, Integer fontSize, boolean isPublic) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("text", journalText);
+        fields.put("fontFamily", fontFamily);
+        fields.put("fontSize", String.valueOf(fontSize));
+        fields.put("isPublic", String.valueOf(isPublic));
+        LocalStore.getInstance().put(LocalStore.JOURNALS, key, soulId, fields);
+    }
+
+    /**
+     * Apply one queued journal write (called by SyncEngine inside its batch transaction).
+     * A new journal takes an ID from the reserved block when one is left; otherwise the insert draws a
+     * new block from the sequence itself. Edits are last-writer-wins on updated_at.
+     * @return The journal ID, or null if the server has a newer version
+     */
+    static Map<String, String> syncWrite(Connection conn, LocalStore.Record r) throws SQLException {
+        boolean byId = r.key().startsWith(LocalStore.SERVER_ID_PREFIX);
+        String key = byId ? r.key().substring(LocalStore.SERVER_ID_PREFIX.length()) : r.key();
+        if (r.deleted()) {
+            String sql = "DELETE FROM public_journals WHERE " + (byId ? "journal_id" : "client_key") + " = ?";
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setString(1, key);
+                ps.executeUpdate();
+            }
+            return Map.of();
+        }
+
+        Timestamp updated = new Timestamp(r.updatedAt());
+        String fontFamily = r.field("fontFamily");
+        int fontSize = Integer.parseInt(r.field("fontSize"));
+        boolean isPublic = Boolean.parseBoolean(r.field("isPublic"));
+
+        if (byId) {
+            String sql = "UPDATE public_journals SET journal_text = ?, font_family = ?, font_size = ?, is_public = ?, updated_at = ? "
+                    + "WHERE journal_id = ? AND (updated_at IS NULL OR updated_at <= ?)";
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setString(1, r.field("text"));
+                ps.setString(2, fontFamily);
+                ps.setInt(3, fontSize);
+                ps.setBoolean(4, isPublic);
+                ps.setTimestamp(5, updated);
+                ps.setString(6, key);
+                ps.setTimestamp(7, updated);
+                return ps.executeUpdate() > 0 ? Map.of("journalId", key) : null;
+            }
+        }
+
+        JournalIdAllocator allocator = JournalIdAllocator.getInstance();
+        String reservedId = allocator.tryNext();
+
+        String idExpr = reservedId != null ? "?" : "lpad(nextval('" + JournalIdAllocator.SEQUENCE + "')::text, 7, '0')";
+        String sql = "INSERT INTO public_journals (journal_id, client_key, soul_id, journal_text, love_count, font_family, font_size, is_public, updated_at) VALUES ("
+                + idExpr + ", ?, ?, ?, 0, ?, ?, ?, ?) "
+                + "ON CONFLICT (client_key) DO UPDATE SET journal_text = EXCLUDED.journal_text, font_family = EXCLUDED.font_family, "
+                + "font_size = EXCLUDED.font_size, is_public = EXCLUDED.is_public, updated_at = EXCLUDED.updated_at "
+                + "WHERE public_journals.updated_at IS NULL OR public_journals.updated_at <= EXCLUDED.updated_at "
+                + "RETURNING journal_id, (xmax = 0) AS inserted";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            int i = 1;
+            if (reservedId != null) ps.setString(i++, reservedId);
+            ps.setString(i++, key);
+            ps.setString(i++, r.soulId());
+            ps.setString(i++, r.field("text"));
+            ps.setString(i++, fontFamily);
+            ps.setInt(i++, fontSize);
+            ps.setBoolean(i++, isPublic);
+            ps.setTimestamp(i, updated);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return null;
+                String journalId = rs.getString("journal_id");
+                // An update of an earlier attempt's row didn't use the new block's first ID
+                if (reservedId == null && rs.getBoolean("inserted")) {
+                    allocator.acceptBlock(Long.parseLong(journalId));
+                }
+                return Map.of("journalId", journalId);
+            }
         }
     }
 
@@ -66,7 +118,7 @@ public class JournalRepository {
      * Load a journal entry by ID.
      */
     public Journal getJournalById(String journalId) throws SQLException {
-        String sql = "SELECT journal_id, soul_id, journal_text, love_count, loved_by, font_family, font_size, created_at, is_public FROM public_journals WHERE journal_id = ?";
+        String sql = "SELECT journal_id, soul_id, journal_text, journal_love_total(journal_id, love_count) as love_count, font_family, font_size, created_at, is_public FROM public_journals WHERE journal_id = ?";
         
         try (Connection conn = DB.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
@@ -79,8 +131,6 @@ public class JournalRepository {
                     journal.setSoulId(rs.getString("soul_id"));
                     journal.setText(rs.getString("journal_text"));
                     journal.setLoveCount(rs.getInt("love_count"));
-                    Array lovedArr = rs.getArray("loved_by");
-                    if (lovedArr != null) journal.setLovedBy((String[]) lovedArr.getArray());
                     journal.setFontFamily(rs.getString("font_family"));
                     journal.setFontSize(rs.getInt("font_size"));
                     journal.setIsPublic(rs.getBoolean("is_public"));
@@ -90,6 +140,7 @@ public class JournalRepository {
                         journal.setCreatedAt(ts.toLocalDateTime());
                         journal.setEntryDate(ts.toLocalDateTime().toLocalDate());
                     }
+                    applyUnsyncedEdit(journal);
                     return journal;
                 }
             }
@@ -97,29 +148,25 @@ public class JournalRepository {
         return null;
     }
 
-    /**
-     * Update an existing journal's text, style properties, and visibility.
-     * @return true if update affected a row
-     */
-    public boolean updateJournal(String journalId, String journalText, String fontFamily, Integer fontSize, boolean isPublic) throws SQLException {
-        String sql = "UPDATE public_journals SET journal_text = ?, font_family = ?, font_size = ?, is_public = ? WHERE journal_id = ?";
-        try (Connection conn = DB.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, journalText);
-            ps.setString(2, fontFamily);
-            ps.setInt(3, fontSize);
-            ps.setBoolean(4, isPublic);
-            ps.setString(5, journalId);
-            int updated = ps.executeUpdate();
-            return updated > 0;
-        }
+    /** Show an edit that is still waiting in the local store instead of the server's older text. */
+    private static void applyUnsyncedEdit(Journal journal) {
+        String key = LocalStore.SERVER_ID_PREFIX + journal.getId();
+        LocalStore store = LocalStore.getInstance();
+        if (!store.hasPending(LocalStore.JOURNALS, key)) return;
+        LocalStore.Record edit = store.get(LocalStore.JOURNALS, key);
+        if (edit == null) return;
+        journal.setText(edit.field("text"));
+        journal.setFontFamily(edit.field("fontFamily"));
+        journal.setFontSize(Integer.parseInt(edit.field("fontSize")));
+        journal.setIsPublic(Boolean.parseBoolean(edit.field("isPublic")));
     }
 
     /**
-     * Load the latest journal entry for a specific user.
+     * Load the latest journal entry for a specific user. Journal IDs come from per-client blocks
+     * (see JournalIdAllocator) and don't follow creation order, so this orders by created_at.
      */
     public Journal getLatestJournalForUser(String soulId) throws SQLException {
-        String sql = "SELECT journal_id, soul_id, journal_text, love_count, loved_by, font_family, font_size, created_at, is_public FROM public_journals WHERE soul_id = ? ORDER BY journal_id DESC LIMIT 1";
+        String sql = "SELECT journal_id, soul_id, journal_text, journal_love_total(journal_id, love_count) as love_count, font_family, font_size, created_at, is_public FROM public_journals WHERE soul_id = ? ORDER BY created_at DESC, journal_id DESC LIMIT 1";
         
         try (Connection conn = DB.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
@@ -132,8 +179,6 @@ public class JournalRepository {
                     journal.setSoulId(rs.getString("soul_id"));
                     journal.setText(rs.getString("journal_text"));
                     journal.setLoveCount(rs.getInt("love_count"));
-                    Array lovedArr = rs.getArray("loved_by");
-                    if (lovedArr != null) journal.setLovedBy((String[]) lovedArr.getArray());
                     journal.setFontFamily(rs.getString("font_family"));
                     journal.setFontSize(rs.getInt("font_size"));
                     journal.setIsPublic(rs.getBoolean("is_public"));
@@ -151,55 +196,147 @@ public class JournalRepository {
     }
     
     /**
-     * Get all public journals ordered by creation time (newest first).
+     * Get the public journals among the given IDs in one round trip, newest first.
+     * @param journalIds Journals to fetch, e.g. a soul's saved journals
+     * @return The journals that still exist and are public
      */
-    public List<Journal> getAllPublicJournals() throws SQLException {
+    public List<Journal> getPublicJournalsByIds(Collection<String> journalIds) throws SQLException {
         List<Journal> journals = new ArrayList<>();
-        String sql = "SELECT journal_id, soul_id, journal_text, love_count, loved_by, font_family, font_size, created_at, is_public FROM public_journals WHERE is_public = true ORDER BY created_at DESC";
+        if (journalIds == null || journalIds.isEmpty()) return journals;
+
+        String sql = "SELECT journal_id, soul_id, journal_text, journal_love_total(journal_id, love_count) as love_count, font_family, font_size, created_at, is_public FROM public_journals WHERE journal_id = ANY(?::char(7)[]) AND is_public = true ORDER BY created_at DESC";
         
         try (Connection conn = DB.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
-            
-            while (rs.next()) {
-                Journal journal = new Journal();
-                journal.setId(rs.getString("journal_id"));
-                journal.setSoulId(rs.getString("soul_id"));
-                journal.setText(rs.getString("journal_text"));
-                journal.setFontFamily(rs.getString("font_family"));
-                journal.setFontSize(rs.getInt("font_size"));
-                journal.setLoveCount(rs.getInt("love_count"));
-                Array lovedArr = rs.getArray("loved_by");
-                if (lovedArr != null) journal.setLovedBy((String[]) lovedArr.getArray());
-                journal.setIsPublic(rs.getBoolean("is_public"));
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setArray(1, conn.createArrayOf("text", journalIds.toArray()));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Journal journal = new Journal();
+                    journal.setId(rs.getString("journal_id"));
+                    journal.setSoulId(rs.getString("soul_id"));
+                    journal.setText(rs.getString("journal_text"));
+                    journal.setFontFamily(rs.getString("font_family"));
+                    journal.setFontSize(rs.getInt("font_size"));
+                    journal.setLoveCount(rs.getInt("love_count"));
+                    journal.setIsPublic(rs.getBoolean("is_public"));
                 
-                Timestamp ts = rs.getTimestamp("created_at");
-                if (ts != null) {
-                    journal.setCreatedAt(ts.toLocalDateTime());
-                    journal.setEntryDate(ts.toLocalDateTime().toLocalDate());
-                }
+                    Timestamp ts = rs.getTimestamp("created_at");
+                    if (ts != null) {
+                        journal.setCreatedAt(ts.toLocalDateTime());
+                        journal.setEntryDate(ts.toLocalDateTime().toLocalDate());
+                    }
                 
-                journals.add(journal);
+                    journals.add(journal);
+                }
             }
         }
         return journals;
     }
     
     /**
-     * Get journals newer than a specific journal ID (for real-time updates).
-     * @param sinceJournalId The journal ID to get newer journals after
-     * @return List of journals created after the specified ID
+     * Get one page of public journals ordered newest first, using keyset pagination on
+     * (created_at, journal_id) so every page costs the same regardless of depth.
+     * Loved state is hydrated separately with {@link #getLoveStates}.
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of journals to return
      */
-    public List<Journal> getNewJournalsSince(String sinceJournalId) throws SQLException {
+    public JournalPage getPublicJournalsPage(FeedCursor after, int pageSize) throws SQLException {
         List<Journal> journals = new ArrayList<>();
-        String sql = "SELECT journal_id, soul_id, journal_text, love_count, loved_by, font_family, font_size, created_at, is_public FROM public_journals WHERE journal_id > ? AND is_public = true ORDER BY created_at DESC";
+        String sql = after == null
+            ? "SELECT journal_id, soul_id, journal_text, journal_love_total(journal_id, love_count) as love_count, font_family, font_size, created_at, is_public FROM public_journals WHERE is_public = true ORDER BY created_at DESC, journal_id DESC LIMIT ?"
+            : "SELECT journal_id, soul_id, journal_text, journal_love_total(journal_id, love_count) as love_count, font_family, font_size, created_at, is_public FROM public_journals WHERE is_public = true AND (created_at, journal_id) < (?, ?) ORDER BY created_at DESC, journal_id DESC LIMIT ?";
+
+        FeedCursor next = null;
+        try (Connection conn = DB.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            int i = 1;
+            if (after != null) {
+                ps.setTimestamp(i++, after.createdAt());
+                ps.setString(i++, after.journalId());
+            }
+            ps.setInt(i, pageSize);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Journal journal = new Journal();
+                    journal.setId(rs.getString("journal_id"));
+                    journal.setSoulId(rs.getString("soul_id"));
+                    journal.setText(rs.getString("journal_text"));
+                    journal.setFontFamily(rs.getString("font_family"));
+                    journal.setFontSize(rs.getInt("font_size"));
+                    journal.setLoveCount(rs.getInt("love_count"));
+                    journal.setIsPublic(rs.getBoolean("is_public"));
+
+                    Timestamp ts = rs.getTimestamp("created_at");
+                    if (ts != null) {
+                        journal.setCreatedAt(ts.toLocalDateTime());
+                        journal.setEntryDate(ts.toLocalDateTime().toLocalDate());
+                    }
+
+                    journals.add(journal);
+                    next = new FeedCursor(ts, journal.getId());
+                }
+            }
+        }
+        return new JournalPage(journals, journals.size() < pageSize ? null : next);
+    }
+
+    /**
+     * Public journals newer than a cursor, oldest first, at most {@code limit}: what was published
+     * while the feed was off screen. Filters on (created_at, journal_id) like the pages; call again
+     * from the last one returned until fewer than {@code limit} come back.
+     * @param since Cursor of the newest journal already shown
+     */
+    public List<Journal> getPublicJournalsSince(FeedCursor since, int limit) throws SQLException {
+        List<Journal> journals = new ArrayList<>();
+        String sql = "SELECT journal_id, soul_id, journal_text, journal_love_total(journal_id, love_count) as love_count, font_family, font_size, created_at, is_public FROM public_journals WHERE is_public = true AND (created_at, journal_id) > (?, ?) ORDER BY created_at, journal_id LIMIT ?";
+
+        try (Connection conn = DB.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setTimestamp(1, since.createdAt());
+            ps.setString(2, since.journalId());
+            ps.setInt(3, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Journal journal = new Journal();
+                    journal.setId(rs.getString("journal_id"));
+                    journal.setSoulId(rs.getString("soul_id"));
+                    journal.setText(rs.getString("journal_text"));
+                    journal.setFontFamily(rs.getString("font_family"));
+                    journal.setFontSize(rs.getInt("font_size"));
+                    journal.setLoveCount(rs.getInt("love_count"));
+                    journal.setIsPublic(rs.getBoolean("is_public"));
+
+                    Timestamp ts = rs.getTimestamp("created_at");
+                    if (ts != null) {
+                        journal.setCreatedAt(ts.toLocalDateTime());
+                        journal.setEntryDate(ts.toLocalDateTime().toLocalDate());
+                    }
+
+                    journals.add(journal);
+                }
+            }
+        }
+        return journals;
+    }
+
+    /**
+     * Get one public journal by ID, e.g. the one named in a NEW journal event (for real-time updates).
+     * IDs are handed out in per-client blocks, so "newer than ID x" is not a usable filter.
+     * @return The journal, or null if it doesn't exist or isn't public
+     */
+    public Journal getPublicJournal(String journalId) throws SQLException {
+        String sql = "SELECT journal_id, soul_id, journal_text, journal_love_total(journal_id, love_count) as love_count, font_family, font_size, created_at, is_public FROM public_journals WHERE journal_id = ? AND is_public = true";
         
         try (Connection conn = DB.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, sinceJournalId);
+            ps.setString(1, journalId);
             
             try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
+                if (rs.next()) {
                     Journal journal = new Journal();
                     journal.setId(rs.getString("journal_id"));
                     journal.setSoulId(rs.getString("soul_id"));
@@ -207,8 +344,6 @@ public class JournalRepository {
                     journal.setFontFamily(rs.getString("font_family"));
                     journal.setFontSize(rs.getInt("font_size"));
                     journal.setLoveCount(rs.getInt("love_count"));
-                    Array lovedArr = rs.getArray("loved_by");
-                    if (lovedArr != null) journal.setLovedBy((String[]) lovedArr.getArray());
                     journal.setIsPublic(rs.getBoolean("is_public"));
                     
                     Timestamp ts = rs.getTimestamp("created_at");
@@ -217,11 +352,11 @@ public class JournalRepository {
                         journal.setEntryDate(ts.toLocalDateTime().toLocalDate());
                     }
                     
-                    journals.add(journal);
+                    return journal;
                 }
             }
         }
-        return journals;
+        return null;
     }
 
     /**
@@ -229,7 +364,7 @@ public class JournalRepository {
      */
     public List<Journal> getJournalsBySoulId(String soulId) throws SQLException {
         List<Journal> journals = new ArrayList<>();
-        String sql = "SELECT journal_id, soul_id, journal_text, love_count, loved_by, font_family, font_size, created_at, is_public FROM public_journals WHERE lower(soul_id) = lower(?) ORDER BY created_at DESC";
+        String sql = "SELECT journal_id, soul_id, journal_text, journal_love_total(journal_id, love_count) as love_count, font_family, font_size, created_at, is_public FROM public_journals WHERE lower(soul_id) = lower(?) ORDER BY created_at DESC";
         try (Connection conn = DB.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, soulId);
@@ -242,8 +377,6 @@ public class JournalRepository {
                     journal.setFontFamily(rs.getString("font_family"));
                     journal.setFontSize(rs.getInt("font_size"));
                     journal.setLoveCount(rs.getInt("love_count"));
-                    Array lovedArr = rs.getArray("loved_by");
-                    if (lovedArr != null) journal.setLovedBy((String[]) lovedArr.getArray());
                     journal.setIsPublic(rs.getBoolean("is_public"));
                     Timestamp ts = rs.getTimestamp("created_at");
                     if (ts != null) {
@@ -258,72 +391,78 @@ public class JournalRepository {
     }
     
     /**
-     * Toggle love for a journal. Adds or removes the user from the loved_by array.
+     * Toggle love for a journal. Adds or removes the user's row in journal_loves.
      * @param journalId The journal to love/unlove
      * @param soulId The user performing the action
      * @return true if loved, false if unloved
      */
     public boolean toggleLove(String journalId, String soulId) throws SQLException {
-        // Check if user already loved this journal
-        boolean isLoved = hasUserLoved(journalId, soulId);
-        
-        if (isLoved) {
-            // Remove from loved_by array and decrement count
-            String sql = "UPDATE public_journals SET loved_by = array_remove(loved_by, ?), love_count = love_count - 1 WHERE journal_id = ?";
-            try (Connection conn = DB.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setString(1, soulId);
-                ps.setString(2, journalId);
-                ps.executeUpdate();
-            }
-            return false;
-        } else {
-            // Add to loved_by array (keeping it sorted) and increment count
-            String sql = "UPDATE public_journals SET loved_by = array_append(loved_by, ?), love_count = love_count + 1 WHERE journal_id = ?";
-            try (Connection conn = DB.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setString(1, soulId);
-                ps.setString(2, journalId);
-                ps.executeUpdate();
-            }
-            
-            // Sort the array after adding
-            String sortSql = "UPDATE public_journals SET loved_by = (SELECT array_agg(elem ORDER BY elem) FROM unnest(loved_by) elem) WHERE journal_id = ?";
-            try (Connection conn = DB.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(sortSql)) {
-                ps.setString(1, journalId);
-                ps.executeUpdate();
-            }
-            return true;
-        }
+        return toggleLoveState(journalId, soulId).lovedByMe();
     }
-    
+
     /**
-     * Check if a user has loved a specific journal.
+     * Toggle love for a journal in a single statement and round trip.
+     * The delete, insert and counter bump run in one CTE, so concurrent toggles
+     * are serialized by the (journal_id, soul_id) primary key instead of racing.
+     * If a concurrent toggle by the same soul inserted the row first, the insert locks and
+     * returns that row instead of doing nothing, so the result is loved with no count change.
+     * The count change goes to a random stripe row in journal_love_stripes, so writers
+     * on a popular journal spread over {@value #LOVE_STRIPES} rows instead of locking one.
+     * @return The new loved state and love count
      */
-    public boolean hasUserLoved(String journalId, String soulId) throws SQLException {
-        String sql = "SELECT ? = ANY(loved_by) as has_loved FROM public_journals WHERE journal_id = ?";
-        
-        try (Connection conn = DB.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            
-            ps.setString(1, soulId);
-            ps.setString(2, journalId);
-            
+    public LoveState toggleLoveState(String journalId, String soulId) throws SQLException {
+        try (Connection conn = DB.getConnection()) {
+            return toggleLoveState(conn, journalId, soulId);
+        }
+    }
+
+    /** {@link #toggleLoveState(String, String)} on a connection the caller owns. */
+    static LoveState toggleLoveState(Connection conn, String journalId, String soulId) throws SQLException {
+        String sql = """
+            with removed as (
+              delete from journal_loves where journal_id = ? and soul_id = ?
+              returning 1
+            ), added as (
+              insert into journal_loves (journal_id, soul_id)
+              select ?, ? where not exists (select 1 from removed)
+              on conflict (journal_id, soul_id) do update set soul_id = excluded.soul_id
+              returning (xmax = 0) as inserted
+            ), change as (
+              select (select count(*) from added where inserted) - (select count(*) from removed) as delta
+            ), bumped as (
+              insert into journal_love_stripes (journal_id, stripe, delta)
+              select ?, ?, delta from change where delta <> 0
+              on conflict (journal_id, stripe) do update set delta = journal_love_stripes.delta + excluded.delta
+              returning 1
+            )
+            select exists (select 1 from added) as loved,
+                   greatest((select journal_love_total(journal_id, love_count) from public_journals where journal_id = ?)
+                            + (select delta from change), 0) as love_count
+        """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, journalId);
+            ps.setString(2, soulId);
+            ps.setString(3, journalId);
+            ps.setString(4, soulId);
+            ps.setString(5, journalId);
+            ps.setInt(6, ThreadLocalRandom.current().nextInt(LOVE_STRIPES));
+            ps.setString(7, journalId);
+
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
-                    return rs.getBoolean("has_loved");
+                    return new LoveState(rs.getInt("love_count"), rs.getBoolean("loved"));
                 }
             }
         }
-        return false;
+        return new LoveState(0, false);
     }
     
     /**
      * Get love count for a journal.
      */
     public int getLoveCount(String journalId) throws SQLException {
-        String sql = "SELECT love_count FROM public_journals WHERE journal_id = ?";
+        String sql = "SELECT journal_love_total(journal_id, love_count) as love_count FROM public_journals WHERE journal_id = ?";
         
         try (Connection conn = DB.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
@@ -338,4 +477,32 @@ public class JournalRepository {
         }
         return 0;
     }
+
+    /**
+     * Get love counts and the caller's loved flag for a whole page of journals in one round trip.
+     * @param journalIds Journals to hydrate
+     * @param soulId The user viewing the page
+     * @return Map of journal ID to love state; journals that no longer exist are absent
+     */
+    public Map<String, LoveState> getLoveStates(Collection<String> journalIds, String soulId) throws SQLException {
+        Map<String, LoveState> states = new HashMap<>();
+        if (journalIds == null || journalIds.isEmpty()) return states;
+
+        String sql = "SELECT p.journal_id, journal_love_total(p.journal_id, p.love_count) as love_count, exists(SELECT 1 FROM journal_loves l WHERE l.journal_id = p.journal_id AND l.soul_id = ?) as has_loved FROM public_journals p WHERE p.journal_id = ANY(?::char(7)[])";
+
+        try (Connection conn = DB.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, soulId);
+            ps.setArray(2, conn.createArrayOf("text", journalIds.toArray()));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    states.put(rs.getString("journal_id"),
+                               new LoveState(rs.getInt("love_count"), rs.getBoolean("has_loved")));
+                }
+            }
+        }
+        return states;
+    }
 }
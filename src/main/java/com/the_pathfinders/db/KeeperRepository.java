@@ -1,11 +1,17 @@
 package com.the_pathfinders.db;
 
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TokenStore;
+
 import java.sql.*;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 public class KeeperRepository {
+    private static final Log log = Log.get("db");
+
     
     /**
      * Status of a keeper signup request:
@@ -374,7 +380,7 @@ public class KeeperRepository {
              PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setString(1, keeperId.toLowerCase());
             ps.executeUpdate();
-            System.out.println("Updated last login for keeper: " + keeperId);
+            log.debug(() -> "Updated last login for keeper: " + keeperId);
         }
     }
     
@@ -516,7 +522,7 @@ public class KeeperRepository {
             ps.setString(5, profile.keeperId.toLowerCase());
             
             int rowsUpdated = ps.executeUpdate();
-            System.out.println("Updated keeper profile for: " + profile.keeperId + " (rows: " + rowsUpdated + ")");
+            log.debug(() -> "Updated keeper profile for: " + profile.keeperId + " (rows: " + rowsUpdated + ")");
         }
     }
     
@@ -584,6 +590,12 @@ public class KeeperRepository {
         
         public PasswordResetToken() {}
     }
+
+    private static final Duration RESET_TOKEN_TTL = Duration.ofHours(1);
+
+    // Live reset tokens created or looked up by this process, so opening a reset link doesn't need the
+    // database; keeper_password_resets stays the record of truth and is checked again when the password changes
+    private static final TokenStore<PasswordResetToken> resetTokens = new TokenStore<>("keeper.password_resets");
     
     /**
      * Generate and store a password reset token for a keeper
@@ -604,7 +616,12 @@ public class KeeperRepository {
             ps.setString(2, keeperId.toLowerCase());
             ps.executeUpdate();
         }
-        
+
+        PasswordResetToken resetToken = new PasswordResetToken();
+        resetToken.token = token;
+        resetToken.keeperId = keeperId.toLowerCase();
+        resetToken.expiresAt = LocalDateTime.now().plus(RESET_TOKEN_TTL);
+        resetTokens.put(token, resetToken, RESET_TOKEN_TTL);
         return token;
     }
     
@@ -612,6 +629,11 @@ public class KeeperRepository {
      * Validate a password reset token
      */
     public static PasswordResetToken validateResetToken(String token) throws SQLException {
+        PasswordResetToken cached = resetTokens.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
         String sql = """
             SELECT token, keeper_id, expires_at, used
             FROM keeper_password_resets
@@ -629,6 +651,10 @@ public class KeeperRepository {
                     resetToken.keeperId = rs.getString("keeper_id");
                     resetToken.expiresAt = rs.getTimestamp("expires_at").toLocalDateTime();
                     resetToken.used = rs.getBoolean("used");
+                    Duration left = Duration.between(LocalDateTime.now(), resetToken.expiresAt);
+                    if (!left.isNegative()) {
+                        resetTokens.put(token, resetToken, left);
+                    }
                     return resetToken;
                 }
             }
@@ -651,6 +677,17 @@ public class KeeperRepository {
             c = DB.getConnection();
             c.setAutoCommit(false);
             
+            // Mark token as used; the row decides, in case another instance used it first
+            String markUsedSql = "UPDATE keeper_password_resets SET used = true WHERE token = ? AND used = false AND expires_at > NOW()";
+            try (PreparedStatement ps = c.prepareStatement(markUsedSql)) {
+                ps.setString(1, token);
+                if (ps.executeUpdate() == 0) {
+                    c.rollback();
+                    resetTokens.remove(token);
+                    return false;
+                }
+            }
+
             // Update password in keepers table
             String updatePasswordSql = "UPDATE keepers SET password_hash = ? WHERE keeper_id = ?";
             try (PreparedStatement ps = c.prepareStatement(updatePasswordSql)) {
@@ -659,14 +696,8 @@ public class KeeperRepository {
                 ps.executeUpdate();
             }
             
-            // Mark token as used
-            String markUsedSql = "UPDATE keeper_password_resets SET used = true WHERE token = ?";
-            try (PreparedStatement ps = c.prepareStatement(markUsedSql)) {
-                ps.setString(1, token);
-                ps.executeUpdate();
-            }
-            
             c.commit();
+            resetTokens.remove(token);
             return true;
             
         } catch (SQLException e) {
@@ -674,7 +705,7 @@ public class KeeperRepository {
                 try {
                     c.rollback();
                 } catch (SQLException ex) {
-                    ex.printStackTrace();
+                    log.error("resetPassword failed", ex);
                 }
             }
             throw e;
@@ -0,0 +1,591 @@
+package com.the_pathfinders.db;
+
+import com.the_pathfinders.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+
+/**
+ * Local copy of the signed-in soul's journals, to-dos and mood entries, so writes never wait on the network.
+ *
+ * Storage is an append-only log in ~/.shelter_for_mind/local_store with an in-memory index rebuilt on open.
+ * Every local write is appended as a pending write and handed to {@link SyncEngine}, which
+ * replays it on the server and appends an acknowledgement. Rows pulled from the server are appended as
+ * snapshots; they never replace a row that still has a pending write.
+ *
+ * Keys are either a client UUID from {@link #newKey()} (rows created here, stored in the server's
+ * client_key column) or "id:&lt;server id&gt;" for rows that only exist remotely.
+ *
+ * Frames are [length][crc32][payload]; a torn frame at the end (crash during a write) is cut off on open.
+ * The log is rewritten without superseded frames when it grows well past the live data.
+ * Local writes are fsynced together on a background thread {@value #SYNC_DELAY_MS} ms after a burst of
+ * them (group commit), so callers, often the FX thread, never wait on the disk.
+ */
+public final class LocalStore {
+    private static final Log log = Log.get("db");
+
+    public static final String JOURNALS = "journal";
+    public static final String TODOS = "todo";
+    public static final String MOODS = "mood";
+
+    /** Key prefix of rows identified by their server id. */
+    public static final String SERVER_ID_PREFIX = "id:";
+
+    private static final String FILE_NAME = "store.log";
+    private static final int COMPACT_MIN_FRAMES = 1_000;
+    private static final long SYNC_DELAY_MS = 50;
+
+    private static final ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "local-store-sync");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final byte PUT = 1;       // local write, waiting for sync
+    private static final byte SYNCED = 2;    // server acknowledged a write, plus fields it assigned
+    private static final byte SNAPSHOT = 3;  // row as pulled from the server
+    private static final byte HYDRATED = 4;  // a soul's collection has been pulled at least once
+    private static final byte DROP = 5;      // row deleted on the server
+
+    /** A stored row. Fields are strings, as written by the repositories. */
+    public record Record(String collection, String key, String soulId, Map<String, String> fields,
+                         boolean deleted, long updatedAt) {
+        public String field(String name) {
+            return fields.get(name);
+        }
+    }
+
+    /** The latest state of a row that still has to be written to the server. */
+    public record PendingWrite(long seq, Record record) {}
+
+    private static final class Entry {
+        Record record;
+        long pendingSeq;   // seq of the newest unsynced write, 0 when in sync
+        long syncedAt;     // when the server last confirmed this row (this session only)
+
+        Entry(Record record) {
+            this.record = record;
+        }
+    }
+
+    private static LocalStore instance;
+
+    private final Path file;
+    private FileChannel channel;  // null when the store could not be opened; then it is memory-only
+    private final Map<String, Entry> byKey = new HashMap<>();
+    private final Map<String, LinkedHashMap<String, Entry>> bySoul = new HashMap<>();
+    private final Set<String> hydrated = new HashSet<>();
+    private long nextSeq = 1;
+    private long frames = 0;
+    private boolean dirty = false;  // local writes appended since the last fsync
+    private boolean syncScheduled = false;
+
+    private LocalStore(Path file) {
+        this.file = file;
+    }
+
+    public static synchronized LocalStore getInstance() {
+        if (instance == null) {
+            Path dir = Paths.get(System.getProperty("user.home"), ".shelter_for_mind", "local_store");
+            instance = new LocalStore(dir.resolve(FILE_NAME));
+            instance.open();
+        }
+        return instance;
+    }
+
+    /** A new client key for a row created on this device. */
+    public static String newKey() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Write a row locally and queue it for sync. Returns once the write is in the log; it reaches
+     * the disk with the next group fsync.
+     * The fields are merged into the row's current ones, so fields the server assigned (ids) are kept.
+     */
+    public long put(String collection, String key, String soulId, Map<String, String> fields) {
+        return write(collection, key, current -> {
+            Map<String, String> merged = new HashMap<>(current != null ? current.fields() : Map.of());
+            fields.forEach((k, v) -> {
+                if (v != null) merged.put(k, v);
+                else merged.remove(k);
+            });
+            return new Record(collection, key, soulId, Collections.unmodifiableMap(merged), false, System.currentTimeMillis());
+        });
+    }
+
+    /** Delete a row locally and queue the delete for sync. Does nothing if the row isn't here. */
+    public long delete(String collection, String key) {
+        return write(collection, key, current -> current == null ? null
+                : new Record(collection, key, current.soulId(), current.fields(), true, System.currentTimeMillis()));
+    }
+
+    private long write(String collection, String key, UnaryOperator<Record> change) {
+        long seq;
+        synchronized (this) {
+            Entry entry = byKey.get(id(collection, key));
+            Record record = change.apply(entry != null ? entry.record : null);
+            if (record == null) return 0;
+            seq = nextSeq++;
+            append(PUT, out -> {
+                out.writeLong(seq);
+                writeRecord(out, record);
+            }, true);
+            applyPut(record, seq);
+        }
+        SyncEngine.getInstance().requestSync();
+        return seq;
+    }
+
+    /** The row, or null if it doesn't exist or is deleted. */
+    public synchronized Record get(String collection, String key) {
+        Entry entry = byKey.get(id(collection, key));
+        return entry == null || entry.record.deleted() ? null : entry.record;
+    }
+
+    /** A soul's rows in one collection, oldest first, without deleted ones. */
+    public synchronized List<Record> list(String collection, String soulId) {
+        Map<String, Entry> rows = bySoul.get(soulIndex(collection, soulId));
+        if (rows == null) return List.of();
+        List<Record> out = new ArrayList<>(rows.size());
+        for (Entry entry : rows.values()) {
+            if (!entry.record.deleted()) out.add(entry.record);
+        }
+        return out;
+    }
+
+    public synchronized boolean hasPending(String collection, String key) {
+        Entry entry = byKey.get(id(collection, key));
+        return entry != null && entry.pendingSeq != 0;
+    }
+
+    /** Whether the soul's rows in this collection were pulled from the server at some point. */
+    public synchronized boolean isHydrated(String collection, String soulId) {
+        return hydrated.contains(soulIndex(collection, soulId));
+    }
+
+    synchronized void markHydrated(String collection, String soulId) {
+        if (hydrated.add(soulIndex(collection, soulId))) {
+            append(HYDRATED, out -> {
+                writeString(out, collection);
+                writeString(out, soulId);
+            }, false);
+        }
+    }
+
+    /**
+     * Take a row pulled from the server, unless there is a local write for it still waiting
+     * or the local copy is newer.
+     */
+    synchronized void applySnapshot(Record record) {
+        Entry entry = byKey.get(id(record.collection(), record.key()));
+        if (entry != null && (entry.pendingSeq != 0 || entry.record.updatedAt() > record.updatedAt())) return;
+        if (entry != null && entry.record.equals(record)) return;
+        append(SNAPSHOT, out -> writeRecord(out, record), false);
+        applyPut(record, 0);
+    }
+
+    /**
+     * After a full pull: drop synced rows of the soul the server no longer has.
+     * Rows confirmed by the server after the pull started are kept.
+     */
+    synchronized void retainOnly(String collection, String soulId, Set<String> serverKeys, long pullStartedAt) {
+        Map<String, Entry> rows = bySoul.get(soulIndex(collection, soulId));
+        if (rows == null) return;
+        List<String> gone = new ArrayList<>();
+        for (Map.Entry<String, Entry> e : rows.entrySet()) {
+            Entry entry = e.getValue();
+            if (entry.pendingSeq == 0 && entry.syncedAt < pullStartedAt && !serverKeys.contains(e.getKey())) {
+                gone.add(e.getKey());
+            }
+        }
+        for (String key : gone) {
+            append(DROP, out -> {
+                writeString(out, collection);
+                writeString(out, key);
+            }, false);
+            remove(collection, key);
+        }
+    }
+
+    /**
+     * Oldest pending writes first, at most max of them. Each row appears once, with its newest state.
+     */
+    synchronized List<PendingWrite> pendingBatch(int max) {
+        List<Entry> pending = new ArrayList<>();
+        for (Entry entry : byKey.values()) {
+            if (entry.pendingSeq != 0) pending.add(entry);
+        }
+        pending.sort(Comparator.comparingLong(e -> e.pendingSeq));
+        List<PendingWrite> out = new ArrayList<>(Math.min(max, pending.size()));
+        for (Entry entry : pending.subList(0, Math.min(max, pending.size()))) {
+            out.add(new PendingWrite(entry.pendingSeq, entry.record));
+        }
+        return out;
+    }
+
+    /**
+     * The server has applied the write with this seq (or rejected it for good).
+     * @param learned Fields the server assigned, e.g. the row id; merged into the local row
+     */
+    synchronized void acknowledge(String collection, String key, long seq, Map<String, String> learned) {
+        Map<String, String> fields = learned == null ? Map.of() : learned;
+        append(SYNCED, out -> {
+            writeString(out, collection);
+            writeString(out, key);
+            out.writeLong(seq);
+            writeFields(out, fields);
+        }, false);
+        applySynced(collection, key, seq, fields);
+        Entry entry = byKey.get(id(collection, key));
+        if (entry != null) entry.syncedAt = System.currentTimeMillis();
+    }
+
+    public synchronized int getPendingCount() {
+        int n = 0;
+        for (Entry entry : byKey.values()) {
+            if (entry.pendingSeq != 0) n++;
+        }
+        return n;
+    }
+
+    public synchronized long getLogBytes() {
+        try {
+            return channel == null ? 0 : channel.size();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /** Rewrite the log with only the live rows if it has grown well past them. */
+    synchronized void compactIfNeeded() {
+        if (channel == null || frames < COMPACT_MIN_FRAMES || frames < 2L * (byKey.size() + hydrated.size())) return;
+        try {
+            long before = channel.size();
+            Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                long written = 0;
+                for (String index : hydrated) {
+                    int sep = index.indexOf('\u0000');
+                    String collection = index.substring(0, sep);
+                    String soul = index.substring(sep + 1);
+                    writeFrame(out, frame(HYDRATED, o -> {
+                        writeString(o, collection);
+                        writeString(o, soul);
+                    }));
+                    written++;
+                }
+                for (Entry entry : byKey.values()) {
+                    if (entry.pendingSeq != 0) {
+                        written++;
+                        writeFrame(out, frame(PUT, o -> {
+                            o.writeLong(entry.pendingSeq);
+                            writeRecord(o, entry.record);
+                        }));
+                    } else if (!entry.record.deleted()) {
+                        written++;
+                        writeFrame(out, frame(SNAPSHOT, o -> writeRecord(o, entry.record)));
+                    }
+                }
+                out.force(true);
+                frames = written;
+                dirty = false;
+            }
+            channel.close();
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = openChannel();
+            log.info("Compacted local store: " + before / 1024 + " KB -> " + channel.size() / 1024 + " KB");
+        } catch (IOException e) {
+            log.error("Failed to compact local store: " + e.getMessage());
+            try {
+                if (!channel.isOpen()) channel = openChannel();
+            } catch (IOException reopen) {
+                log.warn("Local store is now memory-only: " + reopen.getMessage());
+                channel = null;
+            }
+        }
+    }
+
+    synchronized void close() {
+        if (channel == null) return;
+        try {
+            if (dirty) channel.force(false);
+            dirty = false;
+            channel.close();
+        } catch (IOException ignored) {}
+        channel = null;
+    }
+
+    // --- log replay ---
+
+    private void open() {
+        try {
+            Files.createDirectories(file.getParent());
+            channel = openChannel();
+            long good = replay();
+            if (good < channel.size()) {
+                log.warn("Local store: discarding " + (channel.size() - good) + " bytes of a torn write");
+                channel.truncate(good);
+            }
+            channel.position(channel.size());
+            log.info("Local store opened: " + byKey.size() + " row(s), " + getPendingCount()
+                    + " waiting for sync");
+            compactIfNeeded();
+        } catch (IOException e) {
+            log.error("Could not open local store at " + file + ", keeping writes in memory only: " + e.getMessage());
+            channel = null;
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ch.position(ch.size());
+        return ch;
+    }
+
+    /** Apply every intact frame; returns the offset after the last one. */
+    private long replay() throws IOException {
+        channel.position(0);
+        InputStream raw = Channels.newInputStream(channel);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(raw));
+        long offset = 0;
+        long size = channel.size();
+        while (offset + 8 <= size) {
+            int length;
+            long crc;
+            byte[] payload;
+            try {
+                length = in.readInt();
+                crc = in.readInt() & 0xFFFFFFFFL;
+                if (length <= 0 || offset + 8 + length > size) break;
+                payload = new byte[length];
+                in.readFully(payload);
+            } catch (EOFException e) {
+                break;
+            }
+            CRC32 check = new CRC32();
+            check.update(payload);
+            if (check.getValue() != crc) break;
+            applyFrame(new DataInputStream(new ByteArrayInputStream(payload)));
+            offset += 8 + length;
+            frames++;
+        }
+        return offset;
+    }
+
+    private void applyFrame(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case PUT -> {
+                long seq = in.readLong();
+                applyPut(readRecord(in), seq);
+                nextSeq = Math.max(nextSeq, seq + 1);
+            }
+            case SYNCED -> {
+                String collection = readString(in);
+                String key = readString(in);
+                long seq = in.readLong();
+                applySynced(collection, key, seq, readFields(in));
+            }
+            case SNAPSHOT -> applyPut(readRecord(in), 0);
+            case HYDRATED -> hydrated.add(soulIndex(readString(in), readString(in)));
+            case DROP -> remove(readString(in), readString(in));
+            default -> throw new IOException("Unknown local store frame type " + type);
+        }
+    }
+
+    private void applyPut(Record record, long seq) {
+        String id = id(record.collection(), record.key());
+        Entry entry = byKey.get(id);
+        if (entry == null) {
+            entry = new Entry(record);
+            byKey.put(id, entry);
+            bySoul.computeIfAbsent(soulIndex(record.collection(), record.soulId()), k -> new LinkedHashMap<>())
+                    .put(record.key(), entry);
+        }
+        entry.record = record;
+        entry.pendingSeq = seq;
+    }
+
+    private void applySynced(String collection, String key, long seq, Map<String, String> learned) {
+        Entry entry = byKey.get(id(collection, key));
+        if (entry == null) return;
+        if (!learned.isEmpty()) {
+            Map<String, String> merged = new HashMap<>(entry.record.fields());
+            merged.putAll(learned);
+            Record r = entry.record;
+            entry.record = new Record(r.collection(), r.key(), r.soulId(), Collections.unmodifiableMap(merged),
+                    r.deleted(), r.updatedAt());
+        }
+        if (entry.pendingSeq != 0 && entry.pendingSeq <= seq) {
+            entry.pendingSeq = 0;
+            // A delete the server has applied needs no tombstone any more
+            if (entry.record.deleted()) remove(collection, key);
+        }
+    }
+
+    private void remove(String collection, String key) {
+        Entry entry = byKey.remove(id(collection, key));
+        if (entry == null) return;
+        Map<String, Entry> rows = bySoul.get(soulIndex(collection, entry.record.soulId()));
+        if (rows != null) rows.remove(key);
+    }
+
+    private static String id(String collection, String key) {
+        return collection + '\u0000' + key;
+    }
+
+    private static String soulIndex(String collection, String soulId) {
+        return collection + '\u0000' + (soulId == null ? "" : soulId.toLowerCase());
+    }
+
+    // --- frame encoding ---
+
+    @FunctionalInterface
+    private interface Payload {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Append a frame. Local writes are forced to disk by the next group fsync; acknowledgements and
+     * snapshots are not, since losing them only means a repeated (idempotent) sync or pull.
+     */
+    private void append(byte type, Payload payload, boolean durable) {
+        frames++;
+        if (channel == null) return;
+        try {
+            writeFrame(channel, frame(type, payload));
+            if (durable) {
+                dirty = true;
+                if (!syncScheduled) {
+                    syncScheduled = true;
+                    syncer.schedule(this::sync, SYNC_DELAY_MS, TimeUnit.MILLISECONDS);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Local store write failed, keeping it in memory only: " + e.getMessage());
+        }
+    }
+
+    /** Fsync the local writes appended since the last sync. Writers are not held up meanwhile. */
+    private void sync() {
+        FileChannel ch;
+        synchronized (this) {
+            syncScheduled = false;
+            if (!dirty || channel == null) return;
+            dirty = false;
+            ch = channel;
+        }
+        try {
+            ch.force(false);
+        } catch (ClosedChannelException e) {
+            // Compacted or closed meanwhile; both force the log themselves
+        } catch (IOException e) {
+            log.error("Could not sync local store: " + e.getMessage());
+        }
+    }
+
+    private static ByteBuffer frame(byte type, Payload payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(type);
+        payload.write(out);
+        out.flush();
+        byte[] body = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer buf = ByteBuffer.allocate(8 + body.length);
+        buf.putInt(body.length).putInt((int) crc.getValue()).put(body).flip();
+        return buf;
+    }
+
+    private static void writeFrame(FileChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) ch.write(buf);
+    }
+
+    private static void writeRecord(DataOutputStream out, Record r) throws IOException {
+        writeString(out, r.collection());
+        writeString(out, r.key());
+        writeString(out, r.soulId());
+        out.writeBoolean(r.deleted());
+        out.writeLong(r.updatedAt());
+        writeFields(out, r.fields());
+    }
+
+    private static Record readRecord(DataInputStream in) throws IOException {
+        String collection = readString(in);
+        String key = readString(in);
+        String soulId = readString(in);
+        boolean deleted = in.readBoolean();
+        long updatedAt = in.readLong();
+        return new Record(collection, key, soulId, readFields(in), deleted, updatedAt);
+    }
+
+    private static void writeFields(DataOutputStream out, Map<String, String> fields) throws IOException {
+        out.writeInt(fields.size());
+        for (Map.Entry<String, String> e : fields.entrySet()) {
+            writeString(out, e.getKey());
+            writeString(out, e.getValue());
+        }
+    }
+
+    private static Map<String, String> readFields(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        Map<String, String> fields = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            fields.put(readString(in), readString(in));
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+
+    // Length-prefixed UTF-8; writeUTF is capped at 64 KB, too small for long journals
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0) return null;
+        byte[] b = new byte[n];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
@@ -166,7 +166,7 @@ public class ModerationRepository {
                 pj.journal_id,
                 pj.soul_id,
                 pj.journal_text,
-                pj.love_count,
+                journal_love_total(pj.journal_id, pj.love_count) as love_count,
                 pj.created_at,
                 (SELECT COUNT(*) FROM moderation_messages mm WHERE mm.journal_id = pj.journal_id::int) as moderation_count
             FROM public_journals pj
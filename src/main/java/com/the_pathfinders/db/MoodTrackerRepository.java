@@ -1,15 +1,33 @@
 package com.the_pathfinders.db;
 
+import com.the_pathfinders.util.Log;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * Mood assessments, kept in the {@link LocalStore}; {@link SyncEngine} carries new entries to mood_tracker.
+ */
 public class MoodTrackerRepository {
 
+    private static final Log log = Log.get("db");
+
+    // Entries pulled from the server per soul; history screens show the last 10
+    private static final int PULL_LIMIT = 100;
+
+    private static final String[] SCORES = {"mood", "stress", "anxiety", "energy", "sleep", "social"};
+
     public static class MoodEntry {
         private int id;
         private String soulId;
@@ -54,33 +72,74 @@ public class MoodTrackerRepository {
         public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     }
 
+    /** Save an entry locally; it is uploaded in the background. */
     public void saveMoodEntry(MoodEntry entry) throws Exception {
-        String sql = """
-            insert into mood_tracker (soul_id, mood_score, stress_score, anxiety_score, 
-                                      energy_score, sleep_score, social_score, answers, created_at)
-            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
+        if (entry.getCreatedAt() == null) entry.setCreatedAt(LocalDateTime.now());
+        int[] scores = {entry.getMoodScore(), entry.getStressScore(), entry.getAnxietyScore(),
+                        entry.getEnergyScore(), entry.getSleepScore(), entry.getSocialScore()};
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < SCORES.length; i++) {
+            fields.put(SCORES[i], String.valueOf(scores[i]));
+        }
+        fields.put("answers", entry.getAnswers());
+        fields.put("createdAt", entry.getCreatedAt().toString());
+        LocalStore.getInstance().put(LocalStore.MOODS, LocalStore.newKey(), entry.getSoulId(), fields);
+    }
 
-        try (Connection conn = DB.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+    /**
+     * The soul's latest entries, newest first. The first read on this device waits for the server
+     * (or shows only local entries when offline); later reads return at once and refresh in the background.
+     */
+    public List<MoodEntry> getMoodHistory(String soulId, int limit) throws Exception {
+        LocalStore store = LocalStore.getInstance();
+        CompletableFuture<Void> pull = SyncEngine.getInstance().submit(() -> pull(soulId));
+        if (!store.isHydrated(LocalStore.MOODS, soulId)) {
+            try {
+                pull.join();
+            } catch (CompletionException e) {
+                log.error("Could not load mood history from the server, showing local entries: " + e.getCause().getMessage());
+            }
+        }
 
-            ps.setString(1, entry.getSoulId());
-            ps.setInt(2, entry.getMoodScore());
-            ps.setInt(3, entry.getStressScore());
-            ps.setInt(4, entry.getAnxietyScore());
-            ps.setInt(5, entry.getEnergyScore());
-            ps.setInt(6, entry.getSleepScore());
-            ps.setInt(7, entry.getSocialScore());
-            ps.setString(8, entry.getAnswers());
-            ps.setTimestamp(9, Timestamp.valueOf(LocalDateTime.now()));
-
-            ps.executeUpdate();
+        List<MoodEntry> entries = new ArrayList<>();
+        for (LocalStore.Record r : store.list(LocalStore.MOODS, soulId)) {
+            entries.add(toEntry(r));
         }
+        entries.sort(Comparator.comparing(MoodEntry::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
     }
 
-    public List<MoodEntry> getMoodHistory(String soulId, int limit) throws Exception {
+    public MoodEntry getLatestMoodEntry(String soulId) throws Exception {
+        List<MoodEntry> latest = getMoodHistory(soulId, 1);
+        return latest.isEmpty() ? null : latest.get(0);
+    }
+
+    private static MoodEntry toEntry(LocalStore.Record r) {
+        MoodEntry entry = new MoodEntry();
+        String id = r.field("id");
+        entry.setId(id != null ? Integer.parseInt(id) : 0);
+        entry.setSoulId(r.soulId());
+        entry.setMoodScore(score(r, "mood"));
+        entry.setStressScore(score(r, "stress"));
+        entry.setAnxietyScore(score(r, "anxiety"));
+        entry.setEnergyScore(score(r, "energy"));
+        entry.setSleepScore(score(r, "sleep"));
+        entry.setSocialScore(score(r, "social"));
+        entry.setAnswers(r.field("answers"));
+        String created = r.field("createdAt");
+        if (created != null) entry.setCreatedAt(LocalDateTime.parse(created));
+        return entry;
+    }
+
+    private static int score(LocalStore.Record r, String name) {
+        String value = r.field(name);
+        return value != null ? Integer.parseInt(value) : 0;
+    }
+
+    /** Copy the soul's latest entries from the server into the local store. */
+    private static void pull(String soulId) throws SQLException {
         String sql = """
-            select id, soul_id, mood_score, stress_score, anxiety_score, 
+            select id, client_key, soul_id, mood_score, stress_score, anxiety_score,
                    energy_score, sleep_score, social_score, answers, created_at
             from mood_tracker
             where soul_id = ?
@@ -88,79 +147,69 @@ public class MoodTrackerRepository {
             limit ?
         """;
 
-        List<MoodEntry> entries = new ArrayList<>();
-
+        LocalStore store = LocalStore.getInstance();
         try (Connection conn = DB.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setString(1, soulId);
-            ps.setInt(2, limit);
+            ps.setInt(2, PULL_LIMIT);
 
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    MoodEntry entry = new MoodEntry();
-                    entry.setId(rs.getInt("id"));
-                    entry.setSoulId(rs.getString("soul_id"));
-                    entry.setMoodScore(rs.getInt("mood_score"));
-                    entry.setStressScore(rs.getInt("stress_score"));
-                    entry.setAnxietyScore(rs.getInt("anxiety_score"));
-                    entry.setEnergyScore(rs.getInt("energy_score"));
-                    entry.setSleepScore(rs.getInt("sleep_score"));
-                    entry.setSocialScore(rs.getInt("social_score"));
-                    entry.setAnswers(rs.getString("answers"));
-
-                    Timestamp ts = rs.getTimestamp("created_at");
-                    if (ts != null) {
-                        entry.setCreatedAt(ts.toLocalDateTime());
+                    long id = rs.getLong("id");
+                    String clientKey = rs.getString("client_key");
+                    Map<String, String> fields = new HashMap<>();
+                    fields.put("id", String.valueOf(id));
+                    for (String name : SCORES) {
+                        fields.put(name, String.valueOf(rs.getInt(name + "_score")));
                     }
+                    String answers = rs.getString("answers");
+                    if (answers != null) fields.put("answers", answers);
+                    Timestamp ts = rs.getTimestamp("created_at");
+                    if (ts != null) fields.put("createdAt", ts.toLocalDateTime().toString());
 
-                    entries.add(entry);
+                    // Entries never change once written, so any local copy is as good as the server's
+                    String key = clientKey != null ? clientKey : LocalStore.SERVER_ID_PREFIX + id;
+                    if (store.get(LocalStore.MOODS, key) == null) {
+                        store.applySnapshot(new LocalStore.Record(LocalStore.MOODS, key, rs.getString("soul_id"),
+                                fields, false, 0));
+                    }
                 }
             }
         }
-
-        return entries;
+        store.markHydrated(LocalStore.MOODS, soulId);
     }
 
-    public MoodEntry getLatestMoodEntry(String soulId) throws Exception {
+    /**
+     * Insert one locally saved entry (called by SyncEngine inside its batch transaction).
+     * Inserting the same entry twice is a no-op.
+     */
+    static Map<String, String> syncWrite(Connection conn, LocalStore.Record r) throws SQLException {
+        if (r.deleted() || r.key().startsWith(LocalStore.SERVER_ID_PREFIX)) {
+            return Map.of(); // Entries are never edited or deleted
+        }
         String sql = """
-            select id, soul_id, mood_score, stress_score, anxiety_score, 
-                   energy_score, sleep_score, social_score, answers, created_at
-            from mood_tracker
-            where soul_id = ?
-            order by created_at desc
-            limit 1
+            insert into mood_tracker (client_key, soul_id, mood_score, stress_score, anxiety_score,
+                                      energy_score, sleep_score, social_score, answers, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on conflict (client_key) do nothing
+            returning id
         """;
 
-        try (Connection conn = DB.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, soulId);
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, r.key());
+            ps.setString(2, r.soulId());
+            for (int i = 0; i < SCORES.length; i++) {
+                ps.setInt(3 + i, score(r, SCORES[i]));
+            }
+            ps.setString(9, r.field("answers"));
+            String created = r.field("createdAt");
+            ps.setTimestamp(10, Timestamp.valueOf(created != null ? LocalDateTime.parse(created) : LocalDateTime.now()));
 
             try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    MoodEntry entry = new MoodEntry();
-                    entry.setId(rs.getInt("id"));
-                    entry.setSoulId(rs.getString("soul_id"));
-                    entry.setMoodScore(rs.getInt("mood_score"));
-                    entry.setStressScore(rs.getInt("stress_score"));
-                    entry.setAnxietyScore(rs.getInt("anxiety_score"));
-                    entry.setEnergyScore(rs.getInt("energy_score"));
-                    entry.setSleepScore(rs.getInt("sleep_score"));
-                    entry.setSocialScore(rs.getInt("social_score"));
-                    entry.setAnswers(rs.getString("answers"));
-
-                    Timestamp ts = rs.getTimestamp("created_at");
-                    if (ts != null) {
-                        entry.setCreatedAt(ts.toLocalDateTime());
-                    }
-
-                    return entry;
-                }
+                // No row back: an earlier attempt already inserted it
+                return rs.next() ? Map.of("id", String.valueOf(rs.getLong("id"))) : Map.of();
             }
         }
-
-        return null;
     }
 }
-
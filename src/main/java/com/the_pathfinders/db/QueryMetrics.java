@@ -0,0 +1,157 @@
+package com.the_pathfinders.db;
+
+import com.the_pathfinders.util.AppEvents;
+import com.the_pathfinders.util.Metrics;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Timing for every pooled connection and statement, recorded in {@link Metrics}.
+ *
+ * Repositories open a connection per call, so the time a connection is held is the time of the
+ * repository method that opened it: "db.call.&lt;Class.method&gt;". Statement executions are timed
+ * as "db.exec.&lt;Class.method&gt;" and failures counted in "db.errors.&lt;Class.method&gt;".
+ * The caller is found with a StackWalker when the connection is handed out.
+ * Executions are also recorded as {@link AppEvents.DbQuery} flight recorder events with the SQL fingerprint.
+ *
+ * Pool figures come from Hikari's own metrics hook: gauges "db.pool.active/idle/pending/total",
+ * histograms "db.pool.acquire" and "db.pool.usage", counter "db.pool.timeouts".
+ */
+final class QueryMetrics {
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private QueryMetrics() {}
+
+    /** Hikari metrics hook; set on the pool config. */
+    static final MetricsTrackerFactory POOL_TRACKER = (poolName, stats) -> {
+        Metrics.gauge("db.pool.active", stats::getActiveConnections);
+        Metrics.gauge("db.pool.idle", stats::getIdleConnections);
+        Metrics.gauge("db.pool.pending", stats::getPendingThreads);
+        Metrics.gauge("db.pool.total", stats::getTotalConnections);
+        Metrics.Histogram acquire = Metrics.histogram("db.pool.acquire");
+        Metrics.Histogram usage = Metrics.histogram("db.pool.usage");
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.recordNanos(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.record(elapsedBorrowedMillis * 1_000);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                Metrics.counter("db.pool.timeouts").increment();
+            }
+        };
+    };
+
+    /** Wrap a pooled connection so its use is timed against the calling method. */
+    static Connection wrap(Connection connection) {
+        String caller = caller();
+        return (Connection) Proxy.newProxyInstance(QueryMetrics.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionTimer(connection, caller));
+    }
+
+    private static final class ConnectionTimer implements InvocationHandler {
+        private final Connection target;
+        private final String caller;
+        private final long openedAt = System.nanoTime();
+        private boolean closed = false;
+
+        ConnectionTimer(Connection target, String caller) {
+            this.target = target;
+            this.caller = caller;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close") && !closed) {
+                closed = true;
+                Metrics.recordSince("db.call." + caller, openedAt);
+            }
+            Object result = forward(target, method, args);
+            // Statements (and prepared/callable ones) are timed too
+            Class<?> type = method.getReturnType();
+            if (result != null && Statement.class.isAssignableFrom(type)) {
+                // prepareStatement / prepareCall take the SQL up front; plain statements pass it to execute
+                String sql = method.getName().startsWith("prepare") && args != null && args[0] instanceof String s ? s : null;
+                return Proxy.newProxyInstance(QueryMetrics.class.getClassLoader(), new Class<?>[] {type},
+                        new StatementTimer(result, caller, sql));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementTimer implements InvocationHandler {
+        private final Object target;
+        private final String caller;
+        private final String sql;
+
+        StatementTimer(Object target, String caller, String sql) {
+            this.target = target;
+            this.caller = caller;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) return forward(target, method, args);
+            long started = System.nanoTime();
+            AppEvents.DbQuery event = new AppEvents.DbQuery();
+            event.begin();
+            try {
+                return forward(target, method, args);
+            } catch (Throwable t) {
+                Metrics.counter("db.errors." + caller).increment();
+                event.failed = true;
+                throw t;
+            } finally {
+                Metrics.recordSince("db.exec." + caller, started);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.method = caller;
+                    event.sql = AppEvents.fingerprint(sql != null ? sql
+                            : args != null && args.length > 0 && args[0] instanceof String s ? s : null);
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private static Object forward(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** "ToDoRepository.loadForSoul" for the first frame outside DB and this class. */
+    private static String caller() {
+        return WALKER.walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(DB.class.getName())
+                        && !f.getClassName().startsWith(QueryMetrics.class.getName()))
+                .findFirst()
+                .map(f -> {
+                    String cls = f.getClassName();
+                    String method = f.getMethodName();
+                    // lambda$loadForSoul$3 -> loadForSoul
+                    if (method.startsWith("lambda$")) {
+                        int end = method.indexOf('$', 7);
+                        method = end > 7 ? method.substring(7, end) : method.substring(7);
+                    }
+                    return cls.substring(cls.lastIndexOf('.') + 1) + "." + method;
+                })
+                .orElse("unknown"));
+    }
+}
@@ -1,10 +1,14 @@
 package com.the_pathfinders.db;
 
+import com.the_pathfinders.util.Log;
+
 import java.sql.*;
 import java.time.LocalDate;
 
 public class SoulInfoRepository {
 
+    private static final Log log = Log.get("db");
+
     public static class SoulInfo {
         public String soulId;
         public String name;
@@ -82,7 +86,7 @@ public class SoulInfoRepository {
         
         // If email changed, reset email_verified to false
         if (emailChanged) {
-            System.out.println("Email changed from '" + existing.email + "' to '" + email + "', resetting verification status");
+            log.debug(() -> "Email changed from '" + existing.email + "' to '" + email + "', resetting verification status");
             updateEmailVerified(soulId, false);
         }
     }
@@ -95,9 +99,9 @@ public class SoulInfoRepository {
             ps.setString(2, soulId.toLowerCase());
             int rows = ps.executeUpdate();
             if (rows > 0) {
-                System.out.println("Updated email_verified to " + verified + " for soul_id: " + soulId);
+                log.debug(() -> "Updated email_verified to " + verified + " for soul_id: " + soulId);
             } else {
-                System.err.println("No rows updated for soul_id: " + soulId);
+                log.warn("No rows updated for soul_id: " + soulId);
             }
         }
     }
@@ -0,0 +1,279 @@
+package com.the_pathfinders.db;
+
+import com.the_pathfinders.util.Log;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays {@link LocalStore} writes on the server in the background.
+ *
+ * Pending writes go out in batches of {@value #BATCH_SIZE}, one transaction per batch with a savepoint per
+ * write. Every write is an idempotent upsert keyed by the row's client key, so a batch that fails halfway
+ * (or whose commit is lost) is simply sent again. Conflicts are last-writer-wins on updated_at; a delete
+ * always wins. A write the server rejects for its content (constraint or data error) is logged and dropped
+ * so it can't block the queue; anything else, such as being offline, retries with backoff.
+ *
+ * Pulls (refreshing the local copy from the server) run on the same thread, so they never interleave
+ * with a batch.
+ */
+public final class SyncEngine {
+    private static final Log log = Log.get("db");
+
+    private static final int BATCH_SIZE = 50;
+    private static final long DEBOUNCE_MS = 200;
+    private static final long MIN_BACKOFF_MS = 1_000;
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private static SyncEngine instance;
+
+    /** Remote work run on the sync thread. */
+    @FunctionalInterface
+    interface RemoteTask {
+        void run() throws SQLException;
+    }
+
+    private final ScheduledExecutorService executor;
+    private ScheduledFuture<?> scheduled;
+    private long scheduledAt = Long.MAX_VALUE;
+    private long backoffMs = MIN_BACKOFF_MS;
+    private volatile boolean started = false;
+    private volatile boolean online = true;
+
+    private final AtomicLong synced = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    private SyncEngine() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "local-sync");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public static synchronized SyncEngine getInstance() {
+        if (instance == null) {
+            instance = new SyncEngine();
+        }
+        return instance;
+    }
+
+    /**
+     * Start replaying. Call once the pool is up and migrations have run; writes made before
+     * that simply wait in the local store.
+     */
+    public void start() {
+        started = true;
+        int pending = LocalStore.getInstance().getPendingCount();
+        if (pending > 0) log.info("Syncing " + pending + " local write(s) from a previous session...");
+        requestSync();
+    }
+
+    /** Sync soon; writes made within {@value #DEBOUNCE_MS} ms of each other go out together. */
+    public void requestSync() {
+        if (started) schedule(DEBOUNCE_MS);
+    }
+
+    /** Whether the last attempt to reach the server succeeded. */
+    public boolean isOnline() {
+        return online;
+    }
+
+    /**
+     * Run a pull on the sync thread.
+     * @return Completes when the task has run, exceptionally if it failed
+     */
+    CompletableFuture<Void> submit(RemoteTask task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                task.run();
+                online = true;
+                done.complete(null);
+            } catch (SQLException e) {
+                if (isConnectionError(e)) online = false;
+                done.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+        return done;
+    }
+
+    /**
+     * Stop syncing. If the server was reachable, make one last attempt at the queue first;
+     * whatever is left goes out on the next start. Call before DB.shutdown().
+     */
+    public void shutdown() {
+        synchronized (this) {
+            started = false;
+            if (scheduled != null) scheduled.cancel(false);
+        }
+        if (online && LocalStore.getInstance().getPendingCount() > 0) {
+            try {
+                executor.submit(this::drain).get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("Final sync did not finish: " + e.getMessage());
+            }
+        }
+        executor.shutdownNow();
+        LocalStore.getInstance().close();
+    }
+
+    public int getPendingCount() {
+        return LocalStore.getInstance().getPendingCount();
+    }
+
+    /** Writes applied on the server since startup. */
+    public long getSyncedCount() {
+        return synced.get();
+    }
+
+    /** Writes that lost to a newer version on the server. */
+    public long getConflictCount() {
+        return conflicts.get();
+    }
+
+    /** Writes the server refused and that were dropped. */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /** Sync attempts that failed and were retried later. */
+    public long getFailedAttemptCount() {
+        return failedAttempts.get();
+    }
+
+    private synchronized void schedule(long delayMs) {
+        if (!started || executor.isShutdown()) return;
+        long at = System.currentTimeMillis() + delayMs;
+        if (scheduled != null && !scheduled.isDone() && scheduledAt <= at) return;
+        if (scheduled != null) scheduled.cancel(false);
+        scheduledAt = at;
+        scheduled = executor.schedule(this::drainAndReschedule, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void drainAndReschedule() {
+        synchronized (this) {
+            scheduledAt = Long.MAX_VALUE;
+        }
+        if (drain()) {
+            backoffMs = MIN_BACKOFF_MS;
+            LocalStore.getInstance().compactIfNeeded();
+        } else {
+            long delay = backoffMs;
+            backoffMs = Math.min(MAX_BACKOFF_MS, backoffMs * 2);
+            schedule(delay);
+        }
+    }
+
+    /**
+     * Send batches until the queue is empty.
+     * @return false if a batch failed and has to be retried
+     */
+    private boolean drain() {
+        LocalStore store = LocalStore.getInstance();
+        while (true) {
+            List<LocalStore.PendingWrite> batch = store.pendingBatch(BATCH_SIZE);
+            if (batch.isEmpty()) return true;
+            try {
+                sendBatch(store, batch);
+                online = true;
+            } catch (SQLException | RuntimeException e) {
+                failedAttempts.incrementAndGet();
+                if (e instanceof SQLException sql && isConnectionError(sql)) online = false;
+                log.error("Sync of " + batch.size() + " local write(s) failed, retrying later: " + e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    private void sendBatch(LocalStore store, List<LocalStore.PendingWrite> batch) throws SQLException {
+        record Done(LocalStore.PendingWrite write, Map<String, String> learned) {}
+        List<Done> done = new ArrayList<>(batch.size());
+
+        try (Connection c = DB.getConnection()) {
+            c.setAutoCommit(false);
+            try {
+                for (LocalStore.PendingWrite write : batch) {
+                    Savepoint sp = c.setSavepoint();
+                    try {
+                        Map<String, String> learned = apply(c, write.record());
+                        c.releaseSavepoint(sp);
+                        if (learned == null) {
+                            conflicts.incrementAndGet();
+                            log.info("Sync conflict on " + write.record().collection() + " "
+                                    + write.record().key() + ": the server has a newer version, keeping it");
+                            learned = Map.of();
+                        }
+                        done.add(new Done(write, learned));
+                    } catch (SQLException e) {
+                        if (!isRejection(e)) throw e;
+                        c.rollback(sp);
+                        rejected.incrementAndGet();
+                        log.warn("Server rejected " + write.record().collection() + " "
+                                + write.record().key() + ", dropping it: " + e.getMessage());
+                        done.add(new Done(write, Map.of()));
+                    }
+                }
+                c.commit();
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    c.rollback();
+                } catch (SQLException ignored) {}
+                throw e;
+            } finally {
+                try {
+                    c.setAutoCommit(true);
+                } catch (SQLException ignored) {}
+            }
+        }
+
+        // Only after the commit; until then a retry resends the whole batch
+        for (Done d : done) {
+            LocalStore.Record r = d.write().record();
+            store.acknowledge(r.collection(), r.key(), d.write().seq(), d.learned());
+        }
+        synced.addAndGet(done.size());
+    }
+
+    /**
+     * Write one row to the server.
+     * @return Fields the server assigned, or null if the server kept a newer version
+     */
+    private static Map<String, String> apply(Connection c, LocalStore.Record r) throws SQLException {
+        return switch (r.collection()) {
+            case LocalStore.JOURNALS -> JournalRepository.syncWrite(c, r);
+            case LocalStore.TODOS -> ToDoRepository.syncWrite(c, r);
+            case LocalStore.MOODS -> MoodTrackerRepository.syncWrite(c, r);
+            default -> throw new IllegalStateException("Unknown local store collection: " + r.collection());
+        };
+    }
+
+    /** Network or pool trouble: worth retrying, and a sign we are offline. */
+    private static boolean isConnectionError(SQLException e) {
+        String state = e.getSQLState();
+        return e instanceof SQLTransientConnectionException || e instanceof SQLRecoverableException
+                || (state != null && state.startsWith("08"));
+    }
+
+    /** Data exception (22) or integrity constraint violation (23): retrying won't help. */
+    private static boolean isRejection(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("22") || state.startsWith("23"));
+    }
+}
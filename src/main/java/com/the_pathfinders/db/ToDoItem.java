@@ -4,6 +4,7 @@ import java.time.OffsetDateTime;
 
 public class ToDoItem {
     private long id;
+    private String clientKey;
     private String soulId;
     private String task;
     private boolean done;
@@ -25,6 +26,9 @@ public class ToDoItem {
 
     public long getId() { return id; }
     public void setId(long id) { this.id = id; }
+    /** Key of this item in the local store (see LocalStore). */
+    public String getClientKey() { return clientKey; }
+    public void setClientKey(String clientKey) { this.clientKey = clientKey; }
     public String getSoulId() { return soulId; }
     public void setSoulId(String soulId) { this.soulId = soulId; }
     public String getTask() { return task; }
@@ -1,62 +1,166 @@
 package com.the_pathfinders.db;
 
+import com.the_pathfinders.util.Log;
+
 import java.sql.*;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * To-do items, read from and written to the {@link LocalStore}; {@link SyncEngine} carries writes to todo_items.
+ */
 public class ToDoRepository {
 
-    public List<ToDoItem> loadForSoul(String soulId) throws SQLException {
+    private static final Log log = Log.get("db");
+
+    private static final String TASK = "task";
+    private static final String DONE = "done";
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+
+    /**
+     * The soul's to-dos, oldest first. The first load on this device waits for the server
+     * (or shows only local items when offline); later loads return at once and refresh in the background.
+     */
+    public List<ToDoItem> loadForSoul(String soulId) {
+        LocalStore store = LocalStore.getInstance();
+        CompletableFuture<Void> pull = SyncEngine.getInstance().submit(() -> pull(soulId));
+        if (!store.isHydrated(LocalStore.TODOS, soulId)) {
+            try {
+                pull.join();
+            } catch (CompletionException e) {
+                log.error("Could not load to-dos from the server, showing local ones: " + e.getCause().getMessage());
+            }
+        }
+
         List<ToDoItem> out = new ArrayList<>();
-        String sql = "select id, soul_id, task_text, done, created_at from todo_items where soul_id = ? order by created_at";
+        for (LocalStore.Record r : store.list(LocalStore.TODOS, soulId)) {
+            String id = r.field(ID);
+            String created = r.field(CREATED_AT);
+            ToDoItem item = new ToDoItem(id != null ? Long.parseLong(id) : 0, r.soulId(), r.field(TASK),
+                    Boolean.parseBoolean(r.field(DONE)), created != null ? OffsetDateTime.parse(created) : null);
+            item.setClientKey(r.key());
+            out.add(item);
+        }
+        out.sort(Comparator.comparing(ToDoItem::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())));
+        return out;
+    }
+
+    /** Add an item; assigns its client key and creation time. */
+    public ToDoItem insert(ToDoItem item) {
+        item.setClientKey(LocalStore.newKey());
+        if (item.getCreatedAt() == null) item.setCreatedAt(OffsetDateTime.now());
+        Map<String, String> fields = new HashMap<>();
+        fields.put(TASK, item.getTask());
+        fields.put(DONE, String.valueOf(item.isDone()));
+        fields.put(CREATED_AT, item.getCreatedAt().toString());
+        LocalStore.getInstance().put(LocalStore.TODOS, item.getClientKey(), item.getSoulId(), fields);
+        return item;
+    }
+
+    public void update(ToDoItem item) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(TASK, item.getTask());
+        fields.put(DONE, String.valueOf(item.isDone()));
+        LocalStore.getInstance().put(LocalStore.TODOS, item.getClientKey(), item.getSoulId(), fields);
+    }
+
+    public void delete(String clientKey) {
+        LocalStore.getInstance().delete(LocalStore.TODOS, clientKey);
+    }
+
+    /** Replace the local copy of the soul's to-dos with the server's, keeping unsynced local changes. */
+    private static void pull(String soulId) throws SQLException {
+        LocalStore store = LocalStore.getInstance();
+        long started = System.currentTimeMillis();
+        Set<String> keys = new HashSet<>();
+        String sql = "select id, client_key, soul_id, task_text, done, created_at, updated_at from todo_items where soul_id = ? order by created_at";
         try (Connection c = DB.getConnection(); PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setString(1, soulId);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     long id = rs.getLong("id");
-                    String sId = rs.getString("soul_id");
-                    String task = rs.getString("task_text");
-                    boolean done = rs.getBoolean("done");
+                    String clientKey = rs.getString("client_key");
+                    String key = clientKey != null ? clientKey : LocalStore.SERVER_ID_PREFIX + id;
                     OffsetDateTime created = rs.getObject("created_at", OffsetDateTime.class);
-                    out.add(new ToDoItem(id, sId, task, done, created));
+                    Timestamp updated = rs.getTimestamp("updated_at");
+
+                    Map<String, String> fields = new HashMap<>();
+                    fields.put(ID, String.valueOf(id));
+                    fields.put(TASK, rs.getString("task_text"));
+                    fields.put(DONE, String.valueOf(rs.getBoolean("done")));
+                    if (created != null) fields.put(CREATED_AT, created.toString());
+                    store.applySnapshot(new LocalStore.Record(LocalStore.TODOS, key, rs.getString("soul_id"), fields,
+                            false, updated != null ? updated.getTime() : 0));
+                    keys.add(key);
                 }
             }
         }
-        return out;
+        store.retainOnly(LocalStore.TODOS, soulId, keys, started);
+        store.markHydrated(LocalStore.TODOS, soulId);
     }
 
-    public ToDoItem insert(ToDoItem item) throws SQLException {
-        String sql = "insert into todo_items(soul_id, task_text, done) values (?, ?, ?) returning id, created_at";
-        try (Connection c = DB.getConnection(); PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, item.getSoulId());
-            ps.setString(2, item.getTask());
-            ps.setBoolean(3, item.isDone());
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    item.setId(rs.getLong("id"));
-                    item.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
-                }
+    /**
+     * Apply one local write to todo_items (called by SyncEngine inside its batch transaction).
+     * @return The server id, or null if the server has a newer version
+     */
+    static Map<String, String> syncWrite(Connection c, LocalStore.Record r) throws SQLException {
+        boolean byId = r.key().startsWith(LocalStore.SERVER_ID_PREFIX);
+        String keyColumn = byId ? "id" : "client_key";
+        if (r.deleted()) {
+            try (PreparedStatement ps = c.prepareStatement("delete from todo_items where " + keyColumn + " = ?")) {
+                setKey(ps, 1, r, byId);
+                ps.executeUpdate();
             }
+            return Map.of();
         }
-        return item;
-    }
 
-    public void update(ToDoItem item) throws SQLException {
-        String sql = "update todo_items set task_text = ?, done = ? where id = ?";
-        try (Connection c = DB.getConnection(); PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, item.getTask());
-            ps.setBoolean(2, item.isDone());
-            ps.setLong(3, item.getId());
-            ps.executeUpdate();
+        Timestamp updated = new Timestamp(r.updatedAt());
+        if (byId) {
+            String sql = "update todo_items set task_text = ?, done = ?, updated_at = ? where id = ? and (updated_at is null or updated_at <= ?)";
+            try (PreparedStatement ps = c.prepareStatement(sql)) {
+                ps.setString(1, r.field(TASK));
+                ps.setBoolean(2, Boolean.parseBoolean(r.field(DONE)));
+                ps.setTimestamp(3, updated);
+                setKey(ps, 4, r, true);
+                ps.setTimestamp(5, updated);
+                return ps.executeUpdate() > 0 ? Map.of() : null;
+            }
+        }
+
+        String sql = """
+            insert into todo_items (client_key, soul_id, task_text, done, created_at, updated_at) values (?, ?, ?, ?, ?, ?)
+            on conflict (client_key) do update set task_text = excluded.task_text, done = excluded.done, updated_at = excluded.updated_at
+            where todo_items.updated_at is null or todo_items.updated_at <= excluded.updated_at
+            returning id
+        """;
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
+            String created = r.field(CREATED_AT);
+            ps.setString(1, r.key());
+            ps.setString(2, r.soulId());
+            ps.setString(3, r.field(TASK));
+            ps.setBoolean(4, Boolean.parseBoolean(r.field(DONE)));
+            ps.setObject(5, created != null ? OffsetDateTime.parse(created) : OffsetDateTime.now());
+            ps.setTimestamp(6, updated);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? Map.of(ID, String.valueOf(rs.getLong("id"))) : null;
+            }
         }
     }
 
-    public void delete(long id) throws SQLException {
-        String sql = "delete from todo_items where id = ?";
-        try (Connection c = DB.getConnection(); PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setLong(1, id);
-            ps.executeUpdate();
+    private static void setKey(PreparedStatement ps, int index, LocalStore.Record r, boolean byId) throws SQLException {
+        if (byId) {
+            ps.setLong(index, Long.parseLong(r.key().substring(LocalStore.SERVER_ID_PREFIX.length())));
+        } else {
+            ps.setString(index, r.key());
         }
     }
-}
\ No newline at end of file
+}
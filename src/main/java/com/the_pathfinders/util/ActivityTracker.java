@@ -3,51 +3,74 @@ package com.the_pathfinders.util;
 import com.the_pathfinders.db.DB;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Utility class for tracking user activity in real-time.
  * Updates last_activity timestamp whenever a user performs an action.
+ *
+ * Heartbeats are buffered write-behind: only the newest timestamp per soul_id is kept,
+ * and the buffer is flushed on a fixed cadence as one batched UPDATE (and once more on shutdown).
+ * Each heartbeat is sent as its age and stamped with the database clock, the same clock
+ * {@link #updateActivitySync} and the keeper's active-user check use.
  */
 public class ActivityTracker {
-    
+
+    private static final Log log = Log.get("db");
+
+    private static final long FLUSH_INTERVAL_SECONDS = 15;
+
+    // Newest pending heartbeat per soul_id, as its System.nanoTime()
+    private static final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    private static final LongAdder recorded = Metrics.counter("activity.recorded");
+    private static final LongAdder coalesced = Metrics.counter("activity.coalesced");
+    private static final LongAdder written = Metrics.counter("activity.written");
+
+    static {
+        Metrics.gauge("activity.pending", pending::size);
+    }
+
+    private static ScheduledExecutorService flusher;
+
     /**
-     * Update the last_activity timestamp for a soul_id to NOW().
+     * Record activity for a soul_id. The timestamp is written with the next batch flush.
      * This should be called whenever a user performs any action in the app.
-     * 
+     *
      * @param soulId The soul_id of the active user
      */
     public static void updateActivity(String soulId) {
         if (soulId == null || soulId.trim().isEmpty()) {
             return;
         }
-        
-        // Run in background to not block UI
-        new Thread(() -> {
-            try {
-                String sql = "UPDATE soul_id_and_soul_key SET last_activity = NOW() WHERE soul_id = ?";
-                try (Connection conn = DB.getConnection();
-                     PreparedStatement ps = conn.prepareStatement(sql)) {
-                    ps.setString(1, soulId.toLowerCase());
-                    ps.executeUpdate();
-                }
-            } catch (Exception e) {
-                // Silently fail - activity tracking shouldn't break the app
-                System.err.println("Failed to update activity for " + soulId + ": " + e.getMessage());
-            }
-        }).start();
+
+        recorded.increment();
+        Long previous = pending.put(soulId.toLowerCase(), System.nanoTime());
+        if (previous != null) {
+            // An unflushed heartbeat for the same soul is superseded by this one
+            coalesced.increment();
+        }
+        ensureFlusherStarted();
     }
-    
+
     /**
      * Update activity synchronously (blocks until complete).
      * Use this for critical operations like login.
-     * 
+     *
      * @param soulId The soul_id of the active user
      */
     public static void updateActivitySync(String soulId) {
         if (soulId == null || soulId.trim().isEmpty()) {
             return;
         }
-        
+
         try {
             String sql = "UPDATE soul_id_and_soul_key SET last_activity = NOW() WHERE soul_id = ?";
             try (Connection conn = DB.getConnection();
@@ -56,7 +79,115 @@ public class ActivityTracker {
                 ps.executeUpdate();
             }
         } catch (Exception e) {
-            System.err.println("Failed to update activity for " + soulId + ": " + e.getMessage());
+            log.error("Failed to update activity for " + soulId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write all pending heartbeats in a single UPDATE ... FROM unnest(...) statement.
+     * Heartbeats that fail to write are put back unless a newer one arrived meanwhile.
+     */
+    public static void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Drain the buffer; remove(key, value) keeps heartbeats that arrive during the drain
+        List<String> soulIds = new ArrayList<>();
+        List<Long> times = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                soulIds.add(entry.getKey());
+                times.add(entry.getValue());
+            }
+        }
+        if (soulIds.isEmpty()) {
+            return;
+        }
+
+        long nowNanos = System.nanoTime();
+        Long[] ages = new Long[times.size()];
+        for (int i = 0; i < ages.length; i++) {
+            ages[i] = TimeUnit.NANOSECONDS.toMillis(nowNanos - times.get(i));
+        }
+
+        String sql = """
+            UPDATE soul_id_and_soul_key s
+            SET last_activity = v.ts
+            FROM (
+              SELECT a.soul_id, NOW() - a.age_ms * INTERVAL '1 millisecond' AS ts
+              FROM unnest(?::text[], ?::bigint[]) AS a(soul_id, age_ms)
+            ) v
+            WHERE s.soul_id = v.soul_id
+              AND (s.last_activity IS NULL OR s.last_activity < v.ts)
+        """;
+        try (Connection conn = DB.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setArray(1, conn.createArrayOf("text", soulIds.toArray()));
+            ps.setArray(2, conn.createArrayOf("bigint", ages));
+            ps.executeUpdate();
+            written.add(soulIds.size());
+        } catch (Exception e) {
+            // Silently requeue - activity tracking shouldn't break the app
+            log.error("Failed to flush " + soulIds.size() + " activity heartbeat(s): " + e.getMessage());
+            for (int i = 0; i < soulIds.size(); i++) {
+                pending.putIfAbsent(soulIds.get(i), times.get(i));
+            }
+        }
+    }
+
+    /**
+     * Stop the periodic flush, let a flush already underway finish, and write whatever is still buffered.
+     * Call before DB.shutdown().
+     */
+    public static void shutdown() {
+        ScheduledExecutorService stopping;
+        synchronized (ActivityTracker.class) {
+            stopping = flusher;
+            flusher = null;
+        }
+        if (stopping != null) {
+            stopping.shutdown();
+            try {
+                if (!stopping.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("Activity flush still running at shutdown");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /** Number of heartbeats recorded since startup. */
+    public static long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    /** Number of heartbeats that were superseded by a newer one before being written. */
+    public static long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /** Number of heartbeats actually written to the database. */
+    public static long getWrittenCount() {
+        return written.sum();
+    }
+
+    /** Number of heartbeats waiting for the next flush. */
+    public static int getPendingCount() {
+        return pending.size();
+    }
+
+    private static synchronized void ensureFlusherStarted() {
+        if (flusher != null) {
+            return;
         }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "activity-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(ActivityTracker::flush, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
 }
@@ -0,0 +1,173 @@
+package com.the_pathfinders.util;
+
+import javafx.scene.image.Image;
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Flight Recorder events for app actions, so a JFR recording shows which query, page or image a slow
+ * moment belongs to instead of bare socket reads and pulses.
+ *
+ * Thresholds live in the bundled profile ({@value #PROFILE}). Start the app with
+ * -Dshelter.jfr=recording.jfr to record with it (JDK defaults + app events); the file is written on exit
+ * and can be summarised with {@link JfrReport}.
+ */
+public final class AppEvents {
+    private static final Log log = Log.get("metrics");
+
+    public static final String PROFILE = "/com/the_pathfinders/jfr/shelter.jfc";
+
+    private static final int MAX_SQL_LENGTH = 500;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern VALUE_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static Recording recording;
+    private static Path recordingFile;
+
+    private AppEvents() {}
+
+    @Name("com.the_pathfinders.DbQuery")
+    @Label("Repository Query")
+    @Category({"Shelter for Mind", "Database"})
+    @Description("A statement run by a repository method")
+    public static final class DbQuery extends Event {
+        @Label("Method")
+        public String method;
+
+        @Label("SQL")
+        @Description("Statement with literals replaced by ?")
+        public String sql;
+
+        @Label("Failed")
+        public boolean failed;
+    }
+
+    @Name("com.the_pathfinders.FxmlLoad")
+    @Label("FXML Load")
+    @Category({"Shelter for Mind", "UI"})
+    @StackTrace(false)
+    public static final class FxmlLoad extends Event {
+        @Label("FXML")
+        public String fxml;
+
+        @Label("Controller")
+        public String controller;
+    }
+
+    @Name("com.the_pathfinders.ImageDecode")
+    @Label("Image Decode")
+    @Category({"Shelter for Mind", "UI"})
+    @Description("From creating the Image until its pixels are ready; background loads end on the FX thread")
+    @StackTrace(false)
+    public static final class ImageDecode extends Event {
+        @Label("Source")
+        public String source;
+
+        @Label("Width")
+        public int width;
+
+        @Label("Height")
+        public int height;
+
+        @Label("Background")
+        public boolean background;
+    }
+
+    @Name("com.the_pathfinders.SlowFxRunnable")
+    @Label("Slow FX Runnable")
+    @Category({"Shelter for Mind", "UI"})
+    @Description("Work queued on the FX thread that ran longer than a frame")
+    @StackTrace(false)
+    public static final class SlowFxRunnable extends Event {
+        @Label("Queued By")
+        @Description("Method that called FxQueue.runLater")
+        public String queuedBy;
+
+        @Label("Queue Wait (ms)")
+        public long queueMillis;
+    }
+
+    /**
+     * SQL with literals and value lists folded, so the same query with different arguments groups together:
+     * "where id = 42 and name = 'x'" becomes "where id = ? and name = ?".
+     */
+    public static String fingerprint(String sql) {
+        if (sql == null) return null;
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = VALUE_LIST.matcher(s).replaceAll("(?...)");
+        s = WHITESPACE.matcher(s).replaceAll(" ").trim();
+        return s.length() > MAX_SQL_LENGTH ? s.substring(0, MAX_SQL_LENGTH) + "..." : s;
+    }
+
+    /** Time a synchronous decode, e.g. {@code AppEvents.decode(url, () -> new Image(url))}. */
+    public static Image decode(String source, Supplier<Image> decoder) {
+        ImageDecode event = new ImageDecode();
+        event.begin();
+        Image image = decoder.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.width = (int) image.getWidth();
+            event.height = (int) image.getHeight();
+            event.commit();
+        }
+        return image;
+    }
+
+    /**
+     * Record to file until {@link #stopRecording()}, using the JDK's default settings plus the bundled profile.
+     */
+    public static synchronized void startRecording(Path file) {
+        if (recording != null) return;
+        try (InputStream in = AppEvents.class.getResourceAsStream(PROFILE)) {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            if (in != null) {
+                settings.putAll(Configuration.create(new InputStreamReader(in, StandardCharsets.UTF_8)).getSettings());
+            }
+            recording = new Recording(settings);
+            recording.setName("shelter-for-mind");
+            recording.setToDisk(true);
+            recording.start();
+            recordingFile = file;
+            log.info("Flight recording started, will be written to " + file.toAbsolutePath());
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            log.error("Could not start flight recording: " + e.getMessage());
+            recording = null;
+        }
+    }
+
+    /** Write the recording started by {@link #startRecording(Path)}, if any. */
+    public static synchronized void stopRecording() {
+        if (recording == null) return;
+        try {
+            recording.stop();
+            recording.dump(recordingFile);
+            log.info("Flight recording written to " + recordingFile.toAbsolutePath());
+        } catch (IOException | IllegalStateException e) {
+            log.error("Could not write flight recording: " + e.getMessage());
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -19,6 +19,8 @@ import java.util.Properties;
  * Uses AES-256 encryption with PBKDF2 key derivation.
  */
 public class EncryptedConfig {
+    private static final Log log = Log.get("config");
+
     
     private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
     private static final String KEY_ALGORITHM = "PBKDF2WithHmacSHA256";
@@ -44,7 +46,7 @@ public class EncryptedConfig {
             try {
                 return new String(Files.readAllBytes(Paths.get(keyfilePath)), StandardCharsets.UTF_8).trim();
             } catch (IOException e) {
-                System.err.println("Warning: Could not read keyfile, using default");
+                log.warn("Warning: Could not read keyfile, using default");
             }
         }
         // Fallback: use obfuscated components
@@ -96,7 +98,7 @@ public class EncryptedConfig {
             fos.write(encrypted);
         }
         
-        System.out.println("✓ Configuration encrypted successfully to: " + encryptedOutputPath);
+        log.debug(() -> "✓ Configuration encrypted successfully to: " + encryptedOutputPath);
     }
     
     /**
@@ -135,13 +137,13 @@ public class EncryptedConfig {
      * Falls back to db.properties if encrypted file doesn't exist
      */
     public static Properties loadDatabaseConfig() {
-        System.out.println("Loading database configuration...");
+        log.debug("Loading database configuration...");
         long startTime = System.currentTimeMillis();
         
         // Try 1: Load from classpath (works in packaged apps)
         try (InputStream is = EncryptedConfig.class.getClassLoader().getResourceAsStream("config/db.enc")) {
             if (is != null) {
-                System.out.println("Found encrypted config in classpath");
+                log.debug("Found encrypted config in classpath");
                 byte[] fileContent = is.readAllBytes();
                 
                 // Extract salt, iv, and encrypted data
@@ -166,11 +168,11 @@ public class EncryptedConfig {
                 }
                 
                 long elapsed = System.currentTimeMillis() - startTime;
-                System.out.println("✓ Encrypted config loaded from classpath in " + elapsed + "ms");
+                log.debug(() -> "✓ Encrypted config loaded from classpath in " + elapsed + "ms");
                 return props;
             }
         } catch (Exception e) {
-            System.err.println("Warning: Could not load encrypted config from classpath: " + e.getMessage());
+            log.warn("Warning: Could not load encrypted config from classpath: " + e.getMessage());
         }
         
         // Try 2: Load from file system (for development)
@@ -183,20 +185,20 @@ public class EncryptedConfig {
         for (String encryptedPath : encryptedPaths) {
             File encFile = new File(encryptedPath);
             if (encFile.exists()) {
-                System.out.println("Found encrypted config at: " + encryptedPath);
+                log.debug(() -> "Found encrypted config at: " + encryptedPath);
                 try {
                     Properties props = decryptConfig(encryptedPath);
                     long elapsed = System.currentTimeMillis() - startTime;
-                    System.out.println("✓ Encrypted config loaded in " + elapsed + "ms");
+                    log.debug(() -> "✓ Encrypted config loaded in " + elapsed + "ms");
                     return props;
                 } catch (Exception e) {
-                    System.err.println("Warning: Could not decrypt config from " + encryptedPath + ": " + e.getMessage());
+                    log.warn("Warning: Could not decrypt config from " + encryptedPath + ": " + e.getMessage());
                 }
             }
         }
         
-        System.err.println("Warning: Encrypted config not found in classpath or file system");
-        System.err.println("Falling back to plain properties file from classpath");
+        log.warn("Warning: Encrypted config not found in classpath or file system");
+        log.warn("Falling back to plain properties file from classpath");
         
         // Fallback to plain properties from classpath
         Properties props = new Properties();
@@ -207,7 +209,7 @@ public class EncryptedConfig {
                 throw new FileNotFoundException("db.properties not found in classpath");
             }
         } catch (IOException e) {
-            System.err.println("Error loading database configuration: " + e.getMessage());
+            log.error("Error loading database configuration: " + e.getMessage());
             throw new RuntimeException("Failed to load database configuration", e);
         }
         
@@ -0,0 +1,365 @@
+package com.the_pathfinders.util;
+
+import com.the_pathfinders.db.DB;
+import com.the_pathfinders.db.JournalEventHub;
+import com.the_pathfinders.util.HttpGateway.WebSocketConnection;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Real-time events by topic, for open screens and local WebSocket clients.
+ *
+ * Topics are "soul:&lt;soul_id&gt;" for one soul and {@value #BROADCAST} for everyone. Events arrive three ways:
+ * database triggers notify the {@value #CHANNEL} channel when a soul gets or reads a message (from whichever
+ * instance the keeper or booking used; see DbMigrations), new journals and loves are bridged from
+ * {@link JournalEventHub} to the broadcast topic, and {@link #publish} sends events that only concern this
+ * instance, such as an email being verified.
+ *
+ * Every event is a compact JSON frame, e.g. {"topic":"soul:abc","type":"MODERATION_MESSAGE","id":12}.
+ * Screens listen with {@link #subscribe}. WebSocket clients connect to ws://localhost:&lt;port&gt;{@value #PATH}&lt;soul_id&gt;
+ * on the {@link HttpGateway} and get their soul's topic plus the broadcast topic; "SUB &lt;topic&gt;" and
+ * "UNSUB &lt;topic&gt;" add or drop other shared topics. Each socket has its own queue of {@value #QUEUE_CAPACITY}
+ * frames written by its own virtual thread; when a client falls behind its oldest frames are dropped rather
+ * than holding up anyone else. Sockets are pinged every {@value #HEARTBEAT_SECONDS} s and closed once two
+ * rounds pass without hearing from them.
+ */
+public final class EventHub implements HttpGateway.WebSocketHandler {
+    private static final Log log = Log.get("events");
+
+    public static final String PATH = "/ws/";
+    public static final String CHANNEL = "app_events";
+    public static final String BROADCAST = "broadcast";
+    private static final String SOUL_PREFIX = "soul:";
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long HEARTBEAT_SECONDS = 20;
+    private static final long POLL_TIMEOUT_MS = 10_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private static final Pattern TYPE = Pattern.compile("\"type\"\\s*:\\s*\"([^\"]*)\"");
+
+    private static EventHub instance;
+
+    /** Receives every frame published to a topic. Called off the FX thread. */
+    @FunctionalInterface
+    public interface Listener {
+        void onEvent(String type, String frame);
+    }
+
+    /** Handle returned by {@link #subscribe}; closing it removes the listener. */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /** One WebSocket client: the topics it gets and the frames waiting to be written to it. */
+    private static final class Peer {
+        final WebSocketConnection connection;
+        final String soulTopic;
+        final Set<String> topics = ConcurrentHashMap.newKeySet();
+        final LinkedBlockingDeque<String> queue = new LinkedBlockingDeque<>(QUEUE_CAPACITY);
+        Thread writer;
+
+        Peer(WebSocketConnection connection, String soulTopic) {
+            this.connection = connection;
+            this.soulTopic = soulTopic;
+        }
+
+        /** Queue a frame, dropping the oldest one if the client is this far behind. */
+        void offer(String frame) {
+            while (!queue.offerLast(frame)) {
+                if (queue.pollFirst() != null) dropped.increment();
+            }
+        }
+
+        void drain() {
+            try {
+                while (connection.isOpen()) {
+                    connection.send(queue.takeFirst());
+                }
+            } catch (InterruptedException e) {
+                // Closed
+            }
+        }
+    }
+
+    private static final LongAdder published = Metrics.counter("events.published");
+    private static final LongAdder dropped = Metrics.counter("events.dropped");
+
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+    private final Map<String, Set<Peer>> peersByTopic = new ConcurrentHashMap<>();
+    private final Map<WebSocketConnection, Peer> peers = new ConcurrentHashMap<>();
+    private volatile boolean running = false;
+    private volatile Connection connection;
+    private Thread listenerThread;
+    private ScheduledExecutorService heartbeat;
+    private JournalEventHub.Subscription journalSubscription;
+
+    private EventHub() {}
+
+    public static synchronized EventHub getInstance() {
+        if (instance == null) {
+            instance = new EventHub();
+        }
+        return instance;
+    }
+
+    public static String soulTopic(String soulId) {
+        return SOUL_PREFIX + soulId.toLowerCase(Locale.ROOT);
+    }
+
+    /** ws:// URL a client connects to for this soul's events. */
+    public static String urlFor(String soulId) {
+        return "ws://localhost:" + HttpGateway.getPort() + PATH + soulId;
+    }
+
+    /** The "type" of a frame, or null. */
+    public static String typeOf(String frame) {
+        Matcher m = TYPE.matcher(frame);
+        return m.find() ? m.group(1) : null;
+    }
+
+    /**
+     * Register the WebSocket route, start listening for database events and bridge journal events.
+     * Safe to call more than once.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        HttpGateway.webSocket(PATH, this);
+        Metrics.gauge("events.sockets", peers::size);
+
+        listenerThread = new Thread(this::listenLoop, "app-events");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+
+        heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "event-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        heartbeat.scheduleAtFixedRate(this::heartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+
+        journalSubscription = JournalEventHub.getInstance().subscribe(new JournalEventHub.Listener() {
+            @Override
+            public void onJournalPublished(String journalId) {
+                publish(BROADCAST, "JOURNAL_PUBLISHED", "journal_id", journalId);
+            }
+
+            @Override
+            public void onLoveCountChanged(String journalId, int loveCount) {
+                publish(BROADCAST, "JOURNAL_LOVE", "journal_id", journalId, "love_count", loveCount);
+            }
+        });
+    }
+
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        HttpGateway.remove(PATH);
+        if (journalSubscription != null) {
+            journalSubscription.close();
+            journalSubscription = null;
+        }
+        heartbeat.shutdownNow();
+        heartbeat = null;
+        closeConnection();
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+        for (Peer peer : peers.values()) {
+            peer.connection.close();
+        }
+    }
+
+    /** Listen to a topic in-process, e.g. {@code subscribe(EventHub.soulTopic(soulId), ...)}. */
+    public Subscription subscribe(String topic, Listener listener) {
+        List<Listener> list = listeners.computeIfAbsent(topic, k -> new CopyOnWriteArrayList<>());
+        list.add(listener);
+        return () -> list.remove(listener);
+    }
+
+    /**
+     * Send an event to this instance's subscribers of a topic. {@code fields} are name/value pairs added
+     * to the frame; numbers and booleans are written as such, anything else as a string.
+     */
+    public void publish(String topic, String type, Object... fields) {
+        StringBuilder sb = new StringBuilder(64).append("{\"topic\":");
+        quote(sb, topic).append(",\"type\":");
+        quote(sb, type);
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            sb.append(',');
+            quote(sb, String.valueOf(fields[i])).append(':');
+            Object value = fields[i + 1];
+            if (value == null || value instanceof Number || value instanceof Boolean) sb.append(value);
+            else quote(sb, value.toString());
+        }
+        deliver(topic, type, sb.append('}').toString());
+    }
+
+    private void deliver(String topic, String type, String frame) {
+        published.increment();
+        for (Listener l : listeners.getOrDefault(topic, List.of())) {
+            try {
+                l.onEvent(type, frame);
+            } catch (Exception e) {
+                log.error("Event listener for " + topic + " failed", e);
+            }
+        }
+        for (Peer peer : peersByTopic.getOrDefault(topic, Set.of())) {
+            peer.offer(frame);
+        }
+    }
+
+    @Override
+    public void onOpen(WebSocketConnection conn) {
+        String soulId = conn.path().substring(PATH.length()).replace("/", "");
+        Peer peer = new Peer(conn, soulId.isEmpty() ? null : soulTopic(soulId));
+        peers.put(conn, peer);
+        if (peer.soulTopic != null) join(peer, peer.soulTopic);
+        join(peer, BROADCAST);
+        peer.writer = Thread.ofVirtual().name("events-" + soulId).start(peer::drain);
+        log.debug(() -> "Event socket opened for " + (soulId.isEmpty() ? "(no soul)" : soulId));
+    }
+
+    @Override
+    public void onText(WebSocketConnection conn, String message) {
+        Peer peer = peers.get(conn);
+        if (peer == null) return;
+        String[] parts = message.trim().split("\\s+", 2);
+        if (parts.length < 2) return;
+        String topic = parts[1];
+        // Souls only get their own topic
+        if (topic.startsWith(SOUL_PREFIX) && !topic.equals(peer.soulTopic)) return;
+        switch (parts[0]) {
+            case "SUB" -> join(peer, topic);
+            case "UNSUB" -> leave(peer, topic);
+            default -> log.debug(() -> "Unknown event socket command: " + message);
+        }
+    }
+
+    @Override
+    public void onClose(WebSocketConnection conn) {
+        Peer peer = peers.remove(conn);
+        if (peer == null) return;
+        for (String topic : peer.topics) {
+            leave(peer, topic);
+        }
+        if (peer.writer != null) peer.writer.interrupt();
+        log.debug("Event socket closed");
+    }
+
+    private void join(Peer peer, String topic) {
+        peer.topics.add(topic);
+        peersByTopic.computeIfAbsent(topic, k -> ConcurrentHashMap.newKeySet()).add(peer);
+    }
+
+    private void leave(Peer peer, String topic) {
+        peer.topics.remove(topic);
+        Set<Peer> set = peersByTopic.get(topic);
+        if (set != null) set.remove(peer);
+    }
+
+    private void heartbeat() {
+        long timeout = TimeUnit.SECONDS.toNanos(2 * HEARTBEAT_SECONDS);
+        for (Peer peer : peers.values()) {
+            if (peer.connection.nanosSinceHeard() > timeout) {
+                log.debug("Closing silent event socket");
+                peer.connection.close();
+            } else {
+                peer.connection.ping();
+            }
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try {
+                connection = DB.openDedicatedConnection();
+                try (Statement st = connection.createStatement()) {
+                    st.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                log.info("Listening for app events on channel '" + CHANNEL + "'");
+
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications((int) POLL_TIMEOUT_MS);
+                    if (notifications == null) continue;
+                    for (PGNotification n : notifications) {
+                        dispatch(n.getParameter());
+                    }
+                }
+            } catch (SQLException | IllegalStateException e) {
+                if (!running) break;
+                log.warn("App event listener disconnected: " + e.getMessage());
+            } finally {
+                closeConnection();
+            }
+
+            try {
+                Thread.sleep(RECONNECT_DELAY_MS);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    /** Payload format: "&lt;topic&gt; &lt;json frame&gt;". */
+    private void dispatch(String payload) {
+        int space = payload == null ? -1 : payload.indexOf(' ');
+        if (space <= 0) {
+            log.warn("Malformed app event: " + payload);
+            return;
+        }
+        String frame = payload.substring(space + 1);
+        deliver(payload.substring(0, space), typeOf(frame), frame);
+    }
+
+    private void closeConnection() {
+        Connection c = connection;
+        connection = null;
+        if (c != null) {
+            try {
+                c.close();
+            } catch (SQLException ignored) {}
+        }
+    }
+
+    private static StringBuilder quote(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"');
+    }
+}
@@ -0,0 +1,61 @@
+package com.the_pathfinders.util;
+
+import javafx.application.Platform;
+
+/**
+ * Platform.runLater that notices slow work.
+ *
+ * Every runnable is timed on the FX thread; one that takes longer than the threshold of
+ * {@link AppEvents.SlowFxRunnable} in the active recording (a frame, see the bundled profile) is recorded
+ * with the method that queued it. Finding the caller costs a stack walk, so it is only done while
+ * the event is being recorded.
+ */
+public final class FxQueue {
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private FxQueue() {}
+
+    public static void runLater(Runnable task) {
+        AppEvents.SlowFxRunnable event = new AppEvents.SlowFxRunnable();
+        if (!event.isEnabled()) {
+            Platform.runLater(task);
+            return;
+        }
+        String queuedBy = caller();
+        long queuedAt = System.nanoTime();
+        Platform.runLater(() -> {
+            long startedAt = System.nanoTime();
+            event.begin();
+            try {
+                task.run();
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.queuedBy = queuedBy;
+                    event.queueMillis = (startedAt - queuedAt) / 1_000_000;
+                    event.commit();
+                }
+            }
+        });
+    }
+
+    /** "DashboardController.loadMood" for the first frame outside this class and TaskRunner. */
+    private static String caller() {
+        return WALKER.walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(FxQueue.class.getName())
+                        && !f.getClassName().startsWith(TaskRunner.class.getName())
+                        && !f.getClassName().startsWith("java."))
+                .findFirst()
+                .map(f -> {
+                    String cls = f.getClassName();
+                    String method = f.getMethodName();
+                    // lambda$loadMood$3 -> loadMood
+                    if (method.startsWith("lambda$")) {
+                        int end = method.indexOf('$', 7);
+                        method = end > 7 ? method.substring(7, end) : method.substring(7);
+                    }
+                    return cls.substring(cls.lastIndexOf('.') + 1) + "." + method;
+                })
+                .orElse("unknown"));
+    }
+}
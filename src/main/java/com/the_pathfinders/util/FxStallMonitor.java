@@ -0,0 +1,53 @@
+package com.the_pathfinders.util;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures how long the FX thread is busy before it gets to queued work.
+ *
+ * Every {@value #PROBE_INTERVAL_MS} ms a probe is posted with Platform.runLater; the delay until it runs
+ * is recorded in the "fx.stall" histogram. A probe that is still waiting is not posted again, so a long
+ * stall is one long sample rather than many.
+ */
+public final class FxStallMonitor {
+    private static final long PROBE_INTERVAL_MS = 100;
+    // Delays above this are also counted in "fx.stalls" (a dropped frame at 60 Hz is ~17 ms)
+    private static final long STALL_THRESHOLD_MS = 50;
+
+    private static ScheduledExecutorService prober;
+
+    private FxStallMonitor() {}
+
+    public static synchronized void start() {
+        if (prober != null) return;
+        Metrics.Histogram stall = Metrics.histogram("fx.stall");
+        AtomicBoolean inFlight = new AtomicBoolean(false);
+        prober = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "fx-stall-probe");
+            t.setDaemon(true);
+            return t;
+        });
+        prober.scheduleAtFixedRate(() -> {
+            if (!inFlight.compareAndSet(false, true)) return;
+            long posted = System.nanoTime();
+            Platform.runLater(() -> {
+                long delay = System.nanoTime() - posted;
+                stall.recordNanos(delay);
+                if (delay > STALL_THRESHOLD_MS * 1_000_000) Metrics.counter("fx.stalls").increment();
+                inFlight.set(false);
+            });
+        }, PROBE_INTERVAL_MS, PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public static synchronized void stop() {
+        if (prober != null) {
+            prober.shutdownNow();
+            prober = null;
+        }
+    }
+}
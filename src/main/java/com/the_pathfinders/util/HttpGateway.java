@@ -0,0 +1,535 @@
+package com.the_pathfinders.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The app's one embedded HTTP server: verification links, password reset links, /metrics and the
+ * verification WebSocket all share a single port ({@value #DEFAULT_PORT}, or -Dshelter.http.port),
+ * bound to the loopback interface so nothing else on the network can reach it.
+ *
+ * Every connection is served on its own virtual thread, so a slow or idle browser never holds up
+ * anyone else's click. Connections are kept alive between requests. Routes are exact paths registered
+ * with {@link #route}; WebSocket upgrades are matched by path prefix ({@link #webSocket}).
+ * Handlers should return prebuilt {@link Response}s where they can; the status line and headers of a
+ * Response are encoded once.
+ */
+public final class HttpGateway {
+    private static final Log log = Log.get("http");
+
+    public static final int DEFAULT_PORT = 8080;
+    private static final int BACKLOG = 1024;
+    private static final int KEEP_ALIVE_TIMEOUT_MS = 15_000;
+    private static final int MAX_HEADER_BYTES = 16 * 1024;
+    private static final int MAX_FRAME_BYTES = 64 * 1024;
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    /** A parsed request; header names are lower case. */
+    public record Request(String method, String path, Map<String, String> query, Map<String, String> headers,
+                          InetAddress remote) {
+        public String param(String name) {
+            return query.get(name);
+        }
+    }
+
+    /** Status, content type and body, with the response head encoded up front so it can be cached and reused. */
+    public static final class Response {
+        private final int status;
+        private final byte[] head;
+        private final byte[] body;
+
+        public Response(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.body = body;
+            this.head = ("HTTP/1.1 " + status + " " + reason(status) + "\r\n"
+                    + "Content-Type: " + contentType + "\r\n"
+                    + "Content-Length: " + body.length + "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        }
+
+        public static Response html(int status, String html) {
+            return new Response(status, "text/html; charset=UTF-8", html.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Response text(int status, String text) {
+            return new Response(status, "text/plain; charset=UTF-8", text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public int status() {
+            return status;
+        }
+    }
+
+    /**
+     * An HTML page rendered once with a slot for one per-request value (HTML-escaped when filled in).
+     */
+    public static final class Template {
+        private final byte[] before;
+        private final byte[] after;
+
+        private Template(byte[] before, byte[] after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        /** Split a page built with {@code slot} where the value goes. */
+        public static Template of(String html, String slot) {
+            int at = html.indexOf(slot);
+            if (at < 0) throw new IllegalArgumentException("Slot not found in page");
+            return new Template(html.substring(0, at).getBytes(StandardCharsets.UTF_8),
+                    html.substring(at + slot.length()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        public Response render(int status, String value) {
+            byte[] middle = escape(value).getBytes(StandardCharsets.UTF_8);
+            byte[] page = new byte[before.length + middle.length + after.length];
+            System.arraycopy(before, 0, page, 0, before.length);
+            System.arraycopy(middle, 0, page, before.length, middle.length);
+            System.arraycopy(after, 0, page, before.length + middle.length, after.length);
+            return new Response(status, "text/html; charset=UTF-8", page);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        Response handle(Request request) throws Exception;
+    }
+
+    /** Callbacks for one WebSocket path prefix; called on the connection's virtual thread. */
+    public interface WebSocketHandler {
+        void onOpen(WebSocketConnection connection);
+
+        default void onText(WebSocketConnection connection, String message) {}
+
+        default void onClose(WebSocketConnection connection) {}
+    }
+
+    /** A server-side WebSocket (RFC 6455); text messages only. */
+    public static final class WebSocketConnection {
+        private final Socket socket;
+        private final OutputStream out;
+        private final String path;
+        private volatile boolean open = true;
+        private volatile long lastHeard = System.nanoTime();
+
+        private WebSocketConnection(Socket socket, OutputStream out, String path) {
+            this.socket = socket;
+            this.out = out;
+            this.path = path;
+        }
+
+        /** The request path, e.g. "/ws/soul123". */
+        public String path() {
+            return path;
+        }
+
+        public boolean isOpen() {
+            return open;
+        }
+
+        public void send(String message) {
+            sendFrame(0x1, message.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /** Ask the client for a pong; see {@link #nanosSinceHeard()}. */
+        public void ping() {
+            sendFrame(0x9, new byte[0]);
+        }
+
+        /** Time since the last frame of any kind (message, ping or pong) arrived from the client. */
+        public long nanosSinceHeard() {
+            return System.nanoTime() - lastHeard;
+        }
+
+        public void close() {
+            if (!open) return;
+            sendFrame(0x8, new byte[0]);
+            open = false;
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private synchronized void sendFrame(int opcode, byte[] payload) {
+            if (!open) return;
+            try {
+                out.write(0x80 | opcode);
+                if (payload.length < 126) {
+                    out.write(payload.length);
+                } else if (payload.length < 65536) {
+                    out.write(126);
+                    out.write(payload.length >>> 8);
+                    out.write(payload.length);
+                } else {
+                    out.write(127);
+                    for (int shift = 56; shift >= 0; shift -= 8) out.write((int) ((long) payload.length >>> shift));
+                }
+                out.write(payload);
+                out.flush();
+            } catch (IOException e) {
+                open = false;
+            }
+        }
+    }
+
+    private static final Map<String, Handler> routes = new ConcurrentHashMap<>();
+    private static final Map<String, WebSocketHandler> webSockets = new ConcurrentHashMap<>();
+    private static final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private static ServerSocket serverSocket;
+    private static ExecutorService workers;
+    private static volatile int port = Integer.getInteger("shelter.http.port", DEFAULT_PORT);
+
+    private HttpGateway() {}
+
+    /** Serve GET/HEAD requests for this exact path. Replaces an earlier handler for the same path. */
+    public static void route(String path, Handler handler) {
+        routes.put(path, handler);
+    }
+
+    /** Accept WebSocket upgrades for paths starting with this prefix. */
+    public static void webSocket(String pathPrefix, WebSocketHandler handler) {
+        webSockets.put(pathPrefix, handler);
+    }
+
+    public static void remove(String path) {
+        routes.remove(path);
+        webSockets.remove(path);
+    }
+
+    public static synchronized boolean isRunning() {
+        return serverSocket != null;
+    }
+
+    /** The port links should point at; the bound port once started. */
+    public static int getPort() {
+        return port;
+    }
+
+    /** "http://localhost:8080" */
+    public static String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    public static void start() {
+        start(port);
+    }
+
+    /** Start on a specific port; 0 picks a free one (see {@link #getPort()}). */
+    public static synchronized void start(int requestedPort) {
+        if (serverSocket != null) return; // Already running
+        try {
+            ServerSocket socket = new ServerSocket();
+            socket.setReuseAddress(true);
+            // Loopback only: links are opened on this machine, and /ws/<soul_id> is not authenticated
+            socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), BACKLOG);
+            serverSocket = socket;
+            port = socket.getLocalPort();
+        } catch (IOException e) {
+            log.error("Could not start HTTP gateway on port " + requestedPort + ": " + e.getMessage()
+                    + " (is another instance running?)");
+            return;
+        }
+        workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-", 0).factory());
+        Metrics.gauge("http.connections", connections::size);
+        ServerSocket listening = serverSocket;
+        Thread acceptor = new Thread(() -> acceptLoop(listening), "http-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("HTTP gateway listening on " + serverSocket.getInetAddress().getHostAddress() + ":" + port);
+    }
+
+    public static synchronized void stop() {
+        if (serverSocket == null) return;
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        serverSocket = null;
+        for (Socket socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+        workers.shutdownNow();
+        workers = null;
+        log.info("HTTP gateway stopped");
+    }
+
+    private static void acceptLoop(ServerSocket listening) {
+        ExecutorService pool = workers;
+        while (!listening.isClosed()) {
+            try {
+                Socket socket = listening.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                pool.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!listening.isClosed()) log.warn("HTTP accept failed: " + e.getMessage());
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                return; // Stopping
+            }
+        }
+    }
+
+    /** One connection: requests until the client closes, asks to close, goes idle, or upgrades to WebSocket. */
+    private static void serve(Socket socket) {
+        try (socket) {
+            socket.setSoTimeout(KEEP_ALIVE_TIMEOUT_MS);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            while (true) {
+                Request request = readRequest(in, socket.getInetAddress());
+                if (request == null) return;
+
+                if ("websocket".equalsIgnoreCase(request.headers().get("upgrade"))) {
+                    upgrade(socket, in, out, request);
+                    return;
+                }
+
+                boolean keepAlive = !"close".equalsIgnoreCase(request.headers().get("connection"));
+                Response response = dispatch(request);
+                out.write(response.head);
+                out.write((keepAlive ? "Connection: keep-alive\r\n\r\n" : "Connection: close\r\n\r\n")
+                        .getBytes(StandardCharsets.ISO_8859_1));
+                if (!request.method().equals("HEAD")) out.write(response.body);
+                out.flush();
+                if (!keepAlive) return;
+            }
+        } catch (SocketTimeoutException | SocketException | EOFException e) {
+            // Idle keep-alive connection timed out or the client went away
+        } catch (IOException e) {
+            log.debug(() -> "HTTP connection failed: " + e.getMessage());
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private static Response dispatch(Request request) {
+        Metrics.counter("http.requests").increment();
+        if (!request.method().equals("GET") && !request.method().equals("HEAD")) {
+            return Response.text(405, "Method not allowed");
+        }
+        Handler handler = routes.get(request.path());
+        if (handler == null) return Response.text(404, "Not found");
+        long started = System.nanoTime();
+        try {
+            return handler.handle(request);
+        } catch (Exception e) {
+            log.error("Handler for " + request.path() + " failed", e);
+            Metrics.counter("http.errors").increment();
+            return Response.text(500, "Internal error");
+        } finally {
+            Metrics.recordSince("http." + request.path(), started);
+        }
+    }
+
+    /** Request line and headers; null at end of stream. Request bodies are skipped. */
+    private static Request readRequest(InputStream in, InetAddress remote) throws IOException {
+        int[] budget = {MAX_HEADER_BYTES};
+        String line = readLine(in, budget);
+        if (line == null) return null;
+        while (line.isEmpty()) { // Tolerate stray CRLF between requests
+            line = readLine(in, budget);
+            if (line == null) return null;
+        }
+        String[] parts = line.split(" ");
+        if (parts.length < 2) throw new IOException("Bad request line");
+
+        Map<String, String> headers = new HashMap<>();
+        String header;
+        while ((header = readLine(in, budget)) != null && !header.isEmpty()) {
+            int colon = header.indexOf(':');
+            if (colon > 0) {
+                headers.put(header.substring(0, colon).trim().toLowerCase(Locale.ROOT), header.substring(colon + 1).trim());
+            }
+        }
+        String length = headers.get("content-length");
+        if (length != null) in.skipNBytes(Long.parseLong(length));
+
+        String target = parts[1];
+        int q = target.indexOf('?');
+        String path = q < 0 ? target : target.substring(0, q);
+        Map<String, String> query = q < 0 ? Map.of() : parseQuery(target.substring(q + 1));
+        return new Request(parts[0], path, query, headers, remote);
+    }
+
+    private static String readLine(InputStream in, int[] budget) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (--budget[0] < 0) throw new IOException("Request header too large");
+            if (b == '\n') break;
+            if (b != '\r') line.write(b);
+        }
+        if (b == -1 && line.size() == 0) return null;
+        return line.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) continue;
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            try {
+                params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                params.put(key, value); // Malformed escape; take it as is
+            }
+        }
+        return Collections.unmodifiableMap(params);
+    }
+
+    private static void upgrade(Socket socket, InputStream in, OutputStream out, Request request) throws IOException {
+        WebSocketHandler handler = null;
+        for (Map.Entry<String, WebSocketHandler> e : webSockets.entrySet()) {
+            if (request.path().startsWith(e.getKey())) {
+                handler = e.getValue();
+                break;
+            }
+        }
+        String key = request.headers().get("sec-websocket-key");
+        if (handler == null || key == null) {
+            out.write(Response.text(404, "Not found").head);
+            out.write("Connection: close\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            return;
+        }
+
+        out.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+        socket.setSoTimeout(0); // Clients keep these open and ping
+
+        WebSocketConnection connection = new WebSocketConnection(socket, out, request.path());
+        Metrics.counter("http.websockets").increment();
+        try {
+            handler.onOpen(connection);
+            readFrames(in, connection, handler);
+        } finally {
+            connection.open = false;
+            handler.onClose(connection);
+        }
+    }
+
+    private static void readFrames(InputStream in, WebSocketConnection connection, WebSocketHandler handler)
+            throws IOException {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        while (connection.isOpen()) {
+            int b0 = in.read();
+            if (b0 == -1) return;
+            int b1 = readByte(in);
+            boolean fin = (b0 & 0x80) != 0;
+            int opcode = b0 & 0x0F;
+            long length = b1 & 0x7F;
+            if (length == 126) {
+                length = (readByte(in) << 8) | readByte(in);
+            } else if (length == 127) {
+                length = 0;
+                for (int i = 0; i < 8; i++) length = (length << 8) | readByte(in);
+            }
+            if (length > MAX_FRAME_BYTES || message.size() + length > MAX_FRAME_BYTES) {
+                connection.close();
+                return;
+            }
+            byte[] mask = (b1 & 0x80) != 0 ? in.readNBytes(4) : null;
+            byte[] payload = in.readNBytes((int) length);
+            if (payload.length < length) return;
+            connection.lastHeard = System.nanoTime();
+            if (mask != null) {
+                for (int i = 0; i < payload.length; i++) payload[i] ^= mask[i & 3];
+            }
+
+            switch (opcode) {
+                case 0x2 -> { } // Binary messages are not used
+                case 0x0, 0x1 -> { // Continuation, text
+                    message.write(payload);
+                    if (fin) {
+                        String text = message.toString(StandardCharsets.UTF_8);
+                        message.reset();
+                        handler.onText(connection, text);
+                    }
+                }
+                case 0x8 -> { // Close: answer and hang up
+                    connection.close();
+                    return;
+                }
+                case 0x9 -> connection.sendFrame(0xA, payload); // Ping -> pong
+                default -> { } // Pong or unknown
+            }
+        }
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b == -1) throw new EOFException();
+        return b;
+    }
+
+    private static String acceptKey(String key) {
+        try {
+            byte[] sha1 = MessageDigest.getInstance("SHA-1")
+                    .digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(sha1);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) return "";
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String reason(int status) {
+        return switch (status) {
+            case 200 -> "OK";
+            case 400 -> "Bad Request";
+            case 403 -> "Forbidden";
+            case 404 -> "Not Found";
+            case 405 -> "Method Not Allowed";
+            default -> status >= 500 ? "Internal Server Error" : "Status";
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.the_pathfinders.util;
+
+import javafx.stage.Screen;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * Picks the right-sized variant of an icon under /assets/icons.
+ *
+ * The source PNGs are up to 1024 px but are shown at 16-64 px. At build time Maven runs this class
+ * (see pom.xml) to write downscaled copies to /assets/icons/scaled: {@code name.png} at
+ * {@value #BASE_SIZE} px plus {@code name@2x.png} and {@code name@3x.png}. The @2x naming also lets
+ * FXML {@code <Image url="@.../scaled/name.png">} pick the 2x file on HiDPI screens by itself.
+ *
+ * Without generated variants (e.g. an IDE build) the original is returned. Load icons through
+ * {@link ImageCache#icon} so they are decoded at display size and shared.
+ */
+public final class IconResolver {
+    /** Edge length in pixels of the 1x variant. */
+    public static final int BASE_SIZE = 64;
+    private static final int MAX_SCALE = 3;
+
+    private static final String ICONS_DIR = "/assets/icons/";
+    private static final String SCALED_DIR = ICONS_DIR + "scaled/";
+
+    private IconResolver() {}
+
+    /**
+     * URL of the smallest variant that covers the given display size on the primary screen.
+     * @param name File name under /assets/icons, e.g. "user.png"
+     * @param fitSize Display size in logical pixels (the ImageView's fitWidth/fitHeight)
+     */
+    public static URL resolve(String name, double fitSize) {
+        return resolve(name, fitSize, screenScale());
+    }
+
+    /**
+     * URL of the smallest variant that covers fitSize at the given screen scale; falls back to the
+     * largest variant, then to the original file.
+     */
+    public static URL resolve(String name, double fitSize, double screenScale) {
+        double needed = fitSize * screenScale;
+        URL largest = null;
+        for (int scale = 1; scale <= MAX_SCALE; scale++) {
+            URL variant = IconResolver.class.getResource(SCALED_DIR + variantName(name, scale));
+            if (variant == null) continue;
+            if (BASE_SIZE * scale >= needed) return variant;
+            largest = variant;
+        }
+        URL original = IconResolver.class.getResource(ICONS_DIR + name);
+        return original != null ? original : largest;
+    }
+
+    /** Output scale of the primary screen (2.0 on a typical HiDPI display). */
+    public static double screenScale() {
+        try {
+            return Math.max(1.0, Screen.getPrimary().getOutputScaleX());
+        } catch (Exception | Error e) {
+            return 1.0; // Toolkit not running
+        }
+    }
+
+    /** "user.png" -> "user.png" (1x), "user@2x.png", "user@3x.png". */
+    static String variantName(String name, int scale) {
+        if (scale == 1) return name;
+        int dot = name.lastIndexOf('.');
+        return name.substring(0, dot) + "@" + scale + "x" + name.substring(dot);
+    }
+
+    /**
+     * Build step: {@code IconResolver <icons dir> <output dir>} writes 1x/2x/3x variants of every PNG.
+     * Variants are never upscaled past the source size.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: IconResolver <icons dir> <output dir>");
+            System.exit(2);
+        }
+        Path sourceDir = Paths.get(args[0]);
+        Path outDir = Paths.get(args[1]);
+        Files.createDirectories(outDir);
+
+        long before = 0;
+        long after = 0;
+        try (Stream<Path> files = Files.list(sourceDir)) {
+            for (Path file : files.filter(p -> p.getFileName().toString().endsWith(".png")).sorted().toList()) {
+                String name = file.getFileName().toString();
+                before += Files.size(file);
+                BufferedImage source = null;
+                for (int scale = 1; scale <= MAX_SCALE; scale++) {
+                    File out = outDir.resolve(variantName(name, scale)).toFile();
+                    if (out.lastModified() < file.toFile().lastModified()) {
+                        // Missing or older than its source: (re)generate
+                        if (source == null) source = ImageIO.read(file.toFile());
+                        if (source == null) break;
+                        int size = Math.min(BASE_SIZE * scale, Math.max(source.getWidth(), source.getHeight()));
+                        ImageIO.write(downscale(source, size), "png", out);
+                    }
+                    after += out.length();
+                }
+            }
+        }
+        System.out.println("Generated icon variants in " + outDir + ": " + before / 1024 + " KB of sources -> "
+                + after / 1024 + " KB of variants");
+    }
+
+    /**
+     * Fit the image into size x size, halving repeatedly so bilinear filtering stays sharp.
+     */
+    private static BufferedImage downscale(BufferedImage source, int size) {
+        double ratio = Math.min((double) size / source.getWidth(), (double) size / source.getHeight());
+        int targetW = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetH = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(targetW, w / 2);
+            h = Math.max(targetH, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            current = next;
+        } while (w != targetW || h != targetH);
+        return current;
+    }
+}
@@ -0,0 +1,273 @@
+package com.the_pathfinders.util;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared cache of decoded images, keyed by (URL, requested width, requested height).
+ *
+ * Journal feeds render the same avatar and heart icons on every card; without a cache each card
+ * decoded its own copy. Images are decoded on JavaFX's background loader, so a miss never blocks
+ * the FX thread. Recently used images are held strongly up to {@value #MAX_BYTES} bytes of pixels
+ * (width x height x 4); past that they drop to soft references and the GC may reclaim them.
+ * Each decode is recorded as an {@link AppEvents.ImageDecode} flight recorder event.
+ */
+public final class ImageCache {
+    private static final Log log = Log.get("ui");
+
+    private static final long MAX_BYTES = 32L * 1024 * 1024;
+
+    private record Key(String url, double width, double height) {}
+
+    private static final class Entry {
+        final Image image;
+        long bytes;
+
+        Entry(Image image, long bytes) {
+            this.image = image;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class SoftEntry extends SoftReference<Image> {
+        final Key key;
+
+        SoftEntry(Key key, Image image, ReferenceQueue<Image> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+
+    // Strongly held, in access order (eldest = least recently used)
+    private static final LinkedHashMap<Key, Entry> strong = new LinkedHashMap<>(64, 0.75f, true);
+    // Every cached image, including those evicted from the strong set
+    private static final Map<Key, SoftEntry> soft = new HashMap<>();
+    private static final ReferenceQueue<Image> cleared = new ReferenceQueue<>();
+    private static long bytesHeld = 0;
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    private ImageCache() {}
+
+    /**
+     * The image at url decoded to fit width x height, shared with every other caller asking for the same size.
+     * A new image loads in the background; check {@link Image#getProgress()} or use {@link #loadInto}.
+     */
+    public static Image get(URL url, double width, double height) {
+        if (url == null) return null;
+        return get(url.toExternalForm(), width, height);
+    }
+
+    public static synchronized Image get(String url, double width, double height) {
+        drainCleared();
+        Key key = new Key(url, width, height);
+
+        Entry entry = strong.get(key);
+        if (entry != null) {
+            hits.increment();
+            return entry.image;
+        }
+        SoftEntry ref = soft.get(key);
+        Image image = ref == null ? null : ref.get();
+        if (image != null) {
+            hits.increment();
+            hold(key, image);
+            return image;
+        }
+
+        misses.increment();
+        AppEvents.ImageDecode decode = new AppEvents.ImageDecode();
+        decode.begin();
+        image = new Image(url, width, height, true, true, true);
+        soft.put(key, new SoftEntry(key, image, cleared));
+        hold(key, image);
+        watch(key, image, decode);
+        return image;
+    }
+
+    /**
+     * An icon from /assets/icons decoded at its display size (fitSize x screen scale), or null if it doesn't exist.
+     * Picks the variant through {@link IconResolver}.
+     */
+    public static Image icon(String name, double fitSize) {
+        double scale = IconResolver.screenScale();
+        URL url = IconResolver.resolve(name, fitSize, scale);
+        if (url == null) return null;
+        double px = Math.ceil(fitSize * scale);
+        return get(url, px, px);
+    }
+
+    /**
+     * Show a cached image in the view, with the placeholder until it has finished loading.
+     * If the image fails to load the placeholder stays.
+     */
+    public static void loadInto(ImageView view, URL url, double width, double height, Image placeholder) {
+        Image image = get(url, width, height);
+        if (image == null || isReady(image)) {
+            view.setImage(image != null ? image : placeholder);
+            return;
+        }
+        view.setImage(placeholder);
+        ChangeListener<Number> listener = new ChangeListener<>() {
+            @Override
+            public void changed(ObservableValue<? extends Number> obs, Number old, Number progress) {
+                if (progress.doubleValue() < 1.0) return;
+                image.progressProperty().removeListener(this);
+                // Don't replace an image set on the view since we started (e.g. a recycled cell)
+                if (!image.isError() && view.getImage() == placeholder) view.setImage(image);
+            }
+        };
+        image.progressProperty().addListener(listener);
+        if (isReady(image)) listener.changed(image.progressProperty(), 0, 1.0);
+    }
+
+    /**
+     * Drop every cached size of a classpath resource, e.g. after the file behind it was replaced.
+     */
+    public static synchronized void invalidate(String resourcePath) {
+        URL url = ImageCache.class.getResource(resourcePath);
+        if (url == null) return;
+        String external = url.toExternalForm();
+        Iterator<Map.Entry<Key, Entry>> it = strong.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> e = it.next();
+            if (e.getKey().url().equals(external)) {
+                bytesHeld -= e.getValue().bytes;
+                it.remove();
+            }
+        }
+        soft.keySet().removeIf(k -> k.url().equals(external));
+    }
+
+    public static synchronized void clear() {
+        strong.clear();
+        soft.clear();
+        bytesHeld = 0;
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /** Estimated pixel bytes of the strongly held images. */
+    public static synchronized long getBytesHeld() {
+        return bytesHeld;
+    }
+
+    /** Images still reachable through the cache, strongly or softly held. */
+    public static synchronized int getEntryCount() {
+        drainCleared();
+        return soft.size();
+    }
+
+    public static String getStats() {
+        long h = getHitCount();
+        long m = getMissCount();
+        long total = h + m;
+        return String.format("images=%d, held=%d KB, hits=%d, misses=%d (%.0f%% hit rate), evictions=%d",
+                getEntryCount(), getBytesHeld() / 1024, h, m, total == 0 ? 0.0 : 100.0 * h / total, getEvictionCount());
+    }
+
+    private static boolean isReady(Image image) {
+        return image.getProgress() >= 1.0;
+    }
+
+    /** Put an image in the strong set and evict least recently used images past the byte cap. */
+    private static void hold(Key key, Image image) {
+        Entry entry = new Entry(image, estimateBytes(key, image));
+        Entry previous = strong.put(key, entry);
+        if (previous != null) bytesHeld -= previous.bytes;
+        bytesHeld += entry.bytes;
+        trim(key);
+    }
+
+    private static void trim(Key keep) {
+        Iterator<Map.Entry<Key, Entry>> it = strong.entrySet().iterator();
+        while (bytesHeld > MAX_BYTES && it.hasNext()) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            if (eldest.getKey().equals(keep)) continue;
+            bytesHeld -= eldest.getValue().bytes;
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    /** Once loaded, account the real size; a failed load is dropped so the next request retries. */
+    private static void watch(Key key, Image image, AppEvents.ImageDecode decode) {
+        image.progressProperty().addListener(new ChangeListener<>() {
+            @Override
+            public void changed(ObservableValue<? extends Number> obs, Number old, Number progress) {
+                if (progress.doubleValue() < 1.0) return;
+                image.progressProperty().removeListener(this);
+                loaded(key, image, decode);
+            }
+        });
+        if (isReady(image)) loaded(key, image, decode);
+    }
+
+    private static synchronized void loaded(Key key, Image image, AppEvents.ImageDecode decode) {
+        decode.end();
+        if (decode.shouldCommit()) {
+            decode.source = key.url();
+            decode.width = (int) image.getWidth();
+            decode.height = (int) image.getHeight();
+            decode.background = true;
+            decode.commit();
+        }
+        if (image.isError()) {
+            log.error("Failed to load image " + key.url() + ": "
+                    + (image.getException() != null ? image.getException().getMessage() : "unknown error"));
+            Entry entry = strong.get(key);
+            if (entry != null && entry.image == image) {
+                strong.remove(key);
+                bytesHeld -= entry.bytes;
+            }
+            SoftEntry ref = soft.get(key);
+            if (ref != null && ref.get() == image) soft.remove(key);
+            return;
+        }
+        Entry entry = strong.get(key);
+        if (entry != null && entry.image == image) {
+            long actual = estimateBytes(key, image);
+            bytesHeld += actual - entry.bytes;
+            entry.bytes = actual;
+            trim(key);
+        }
+    }
+
+    /** width x height x 4 bytes (BGRA); the requested size until the real size is known. */
+    private static long estimateBytes(Key key, Image image) {
+        double w = image.getWidth() > 0 ? image.getWidth() : key.width();
+        double h = image.getHeight() > 0 ? image.getHeight() : key.height();
+        return (long) Math.ceil(w) * (long) Math.ceil(h) * 4;
+    }
+
+    /** Forget soft entries whose image the GC has reclaimed. */
+    private static void drainCleared() {
+        SoftEntry ref;
+        while ((ref = (SoftEntry) cleared.poll()) != null) {
+            if (soft.get(ref.key) == ref) soft.remove(ref.key);
+        }
+    }
+}
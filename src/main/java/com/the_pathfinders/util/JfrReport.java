@@ -0,0 +1,209 @@
+package com.the_pathfinders.util;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns a recording made with the bundled profile into a plain-text slow-operations report.
+ * Runs headless:
+ *
+ *   java -cp shelter_of_mind.jar com.the_pathfinders.util.JfrReport recording.jfr [topN]
+ *
+ * For each app event type it lists the slowest single events and the operations with the most total time
+ * (grouped by query fingerprint, FXML file, image or queuing method). Slow FX runnables also list the
+ * app methods most often on the CPU while they ran, from the execution samples in the same recording.
+ */
+public final class JfrReport {
+    private static final int DEFAULT_TOP = 10;
+    private static final String APP_PACKAGE = "com.the_pathfinders.";
+
+    private record Op(String key, Duration duration, String thread) {}
+
+    private static final class Group {
+        final String key;
+        long count;
+        Duration total = Duration.ZERO;
+        Duration max = Duration.ZERO;
+
+        Group(String key) {
+            this.key = key;
+        }
+
+        void add(Duration d) {
+            count++;
+            total = total.plus(d);
+            if (d.compareTo(max) > 0) max = d;
+        }
+    }
+
+    // Event name -> section title; in report order
+    private static final Map<String, String> SECTIONS = new LinkedHashMap<>();
+    static {
+        SECTIONS.put("com.the_pathfinders.DbQuery", "Repository queries");
+        SECTIONS.put("com.the_pathfinders.FxmlLoad", "FXML loads");
+        SECTIONS.put("com.the_pathfinders.ImageDecode", "Image decodes");
+        SECTIONS.put("com.the_pathfinders.SlowFxRunnable", "Slow FX runnables");
+    }
+
+    private JfrReport() {}
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: JfrReport <recording.jfr> [topN]");
+            System.exit(2);
+        }
+        Path file = Paths.get(args[0]);
+        int top = DEFAULT_TOP;
+        if (args.length > 1) {
+            try {
+                top = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("topN must be a number: " + args[1]);
+                System.exit(2);
+            }
+        }
+        if (!Files.isReadable(file)) {
+            System.err.println("Cannot read " + file);
+            System.exit(1);
+        }
+        try {
+            System.out.print(report(file, top));
+        } catch (IOException e) {
+            System.err.println("Could not read recording: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    public static String report(Path file, int top) throws IOException {
+        Map<String, List<Op>> ops = new HashMap<>();
+        List<RecordedEvent> slowRunnables = new ArrayList<>();
+        List<RecordedEvent> fxSamples = new ArrayList<>();
+
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if (SECTIONS.containsKey(type)) {
+                    ops.computeIfAbsent(type, k -> new ArrayList<>())
+                            .add(new Op(keyOf(type, event), event.getDuration(), threadOf(event)));
+                    if (type.equals("com.the_pathfinders.SlowFxRunnable")) slowRunnables.add(event);
+                } else if (type.equals("jdk.ExecutionSample") && isFxThread(event, "sampledThread")) {
+                    fxSamples.add(event);
+                }
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Slow operations in ").append(file.getFileName()).append('\n');
+        for (Map.Entry<String, String> section : SECTIONS.entrySet()) {
+            List<Op> list = ops.getOrDefault(section.getKey(), List.of());
+            sb.append('\n').append("== ").append(section.getValue()).append(" (").append(list.size()).append(" events) ==\n");
+            if (list.isEmpty()) continue;
+
+            sb.append("Slowest:\n");
+            list.stream()
+                    .sorted(Comparator.comparing(Op::duration).reversed())
+                    .limit(top)
+                    .forEach(op -> sb.append(String.format("  %9s  %-24s %s%n",
+                            format(op.duration()), truncate(op.thread(), 24), op.key())));
+
+            Map<String, Group> groups = new HashMap<>();
+            for (Op op : list) {
+                groups.computeIfAbsent(op.key(), Group::new).add(op.duration());
+            }
+            sb.append("Most total time:\n");
+            groups.values().stream()
+                    .sorted(Comparator.comparing((Group g) -> g.total).reversed())
+                    .limit(top)
+                    .forEach(g -> sb.append(String.format("  %9s total  %6d x  max %9s  %s%n",
+                            format(g.total), g.count, format(g.max), g.key)));
+        }
+
+        if (!slowRunnables.isEmpty()) {
+            sb.append('\n').append("== On the FX thread during slow runnables (execution samples) ==\n");
+            Map<String, Integer> hot = new HashMap<>();
+            for (RecordedEvent sample : fxSamples) {
+                if (!duringAny(sample, slowRunnables)) continue;
+                String frame = topAppFrame(sample.getStackTrace());
+                if (frame != null) hot.merge(frame, 1, Integer::sum);
+            }
+            if (hot.isEmpty()) {
+                sb.append("  (no samples; record with the bundled profile for 10 ms sampling)\n");
+            }
+            hot.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(top)
+                    .forEach(e -> sb.append(String.format("  %6d samples  %s%n", e.getValue(), e.getKey())));
+        }
+        return sb.toString();
+    }
+
+    private static String keyOf(String type, RecordedEvent event) {
+        return switch (type) {
+            case "com.the_pathfinders.DbQuery" -> event.getString("method") + "  " + event.getString("sql")
+                    + (event.getBoolean("failed") ? "  [failed]" : "");
+            case "com.the_pathfinders.FxmlLoad" -> event.getString("fxml");
+            case "com.the_pathfinders.ImageDecode" -> event.getString("source")
+                    + " (" + event.getInt("width") + "x" + event.getInt("height") + ")";
+            case "com.the_pathfinders.SlowFxRunnable" -> event.getString("queuedBy");
+            default -> type;
+        };
+    }
+
+    private static String threadOf(RecordedEvent event) {
+        return event.getThread() != null && event.getThread().getJavaName() != null
+                ? event.getThread().getJavaName() : "?";
+    }
+
+    private static boolean isFxThread(RecordedEvent event, String field) {
+        if (!event.hasField(field)) return false;
+        var thread = event.getThread(field);
+        return thread != null && "JavaFX Application Thread".equals(thread.getJavaName());
+    }
+
+    private static boolean duringAny(RecordedEvent sample, List<RecordedEvent> windows) {
+        for (RecordedEvent w : windows) {
+            if (!sample.getStartTime().isBefore(w.getStartTime()) && !sample.getStartTime().isAfter(w.getEndTime())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Innermost app frame, e.g. "DashboardController.loadMood:412", skipping FxQueue itself. */
+    private static String topAppFrame(RecordedStackTrace stack) {
+        if (stack == null) return null;
+        for (RecordedFrame frame : stack.getFrames()) {
+            if (!frame.isJavaFrame()) continue;
+            String cls = frame.getMethod().getType().getName();
+            if (!cls.startsWith(APP_PACKAGE) || cls.startsWith(FxQueue.class.getName())) continue;
+            return cls.substring(APP_PACKAGE.length()) + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+        }
+        return null;
+    }
+
+    private static String format(Duration d) {
+        long micros = d.toNanos() / 1_000;
+        if (micros < 1_000) return micros + "us";
+        if (micros < 1_000_000) return String.format("%.1fms", micros / 1_000.0);
+        return String.format("%.2fs", micros / 1_000_000.0);
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max - 1) + "…";
+    }
+}
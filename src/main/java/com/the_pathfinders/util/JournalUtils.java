@@ -1,15 +1,11 @@
 package com.the_pathfinders.util;
 
 import com.the_pathfinders.Journal;
+import com.the_pathfinders.db.JournalEventHub;
 import com.the_pathfinders.db.JournalRepository;
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
-import javafx.application.Platform;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.control.Button;
-import javafx.util.Duration;
 
 import java.net.URL;
 import java.time.LocalDateTime;
@@ -17,12 +13,14 @@ import java.util.Map;
 
 /**
  * Utility class for journal-related operations including:
- * - Real-time timestamp updates
- * - Real-time love count updates
+ * - Relative timestamps (kept current by {@link RelativeTimeTicker})
+ * - Real-time love count updates (pushed via JournalEventHub)
  * - Love/unlike toggle functionality
  * - Heart icon creation and management
  */
 public class JournalUtils {
+    private static final Log log = Log.get("journal");
+
     private static final JournalRepository journalRepo = new JournalRepository();
     
     /**
@@ -50,67 +48,50 @@ public class JournalUtils {
     }
     
     /**
-     * Create a Timeline that updates timestamps every second
-     * @param journals Map of journal ID to timestamp label
-     * @param journalData Map of journal ID to Journal object
-     * @return Timeline for timestamp updates
+     * Milliseconds until {@link #getRelativeTime} gives a different text for dt:
+     * under a second while counting seconds, under a minute while counting minutes, and so on.
      */
-    public static Timeline createTimestampUpdateTimeline(
-            Map<String, Label> journals, 
-            Map<String, Journal> journalData) {
-        Timeline timeline = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
-            try {
-                // Create a snapshot to avoid ConcurrentModificationException
-                java.util.Set<Map.Entry<String, Label>> entries = new java.util.HashSet<>(journals.entrySet());
-                for (Map.Entry<String, Label> entry : entries) {
-                    String journalId = entry.getKey();
-                    Label timestampLabel = entry.getValue();
-                    Journal journal = journalData.get(journalId);
-                    if (journal != null && journal.getCreatedAt() != null) {
-                        timestampLabel.setText(getRelativeTime(journal.getCreatedAt()));
-                    }
-                }
-            } catch (Exception ex) {
-                // Silently handle any concurrent modification issues
-            }
-        }));
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        return timeline;
+    public static long millisUntilRelativeTimeChanges(LocalDateTime dt) {
+        long diff = java.time.Duration.between(dt, LocalDateTime.now()).toMillis();
+        long second = 1000;
+        long minute = 60 * second;
+        long hour = 60 * minute;
+        long day = 24 * hour;
+        long next;
+        if (diff < minute) next = (Math.max(diff, 0) / second + 1) * second;
+        else if (diff < hour) next = (diff / minute + 1) * minute;
+        else if (diff < day) next = (diff / hour + 1) * hour;
+        else if (diff < 7 * day) next = (diff / day + 1) * day;
+        else if (diff < 30 * day) next = Math.min((diff / (7 * day) + 1) * 7 * day, 30 * day);
+        else if (diff < 365 * day) next = Math.min((diff / (30 * day) + 1) * 30 * day, 365 * day);
+        else next = (diff / (365 * day) + 1) * 365 * day;
+        return next - diff;
     }
     
     /**
-     * Create a Timeline that updates love counts every 2 seconds
+     * Subscribe to pushed love-count changes and update the matching labels.
+     * Replaces per-card polling; close the returned subscription when leaving the view.
      * @param journals Map of journal ID to love count label
      * @param journalData Map of journal ID to Journal object (will be updated)
-     * @return Timeline for love count updates
+     * @return Subscription to close when the view is hidden
      */
-    public static Timeline createLoveCountUpdateTimeline(
-            Map<String, Label> journals, 
+    public static JournalEventHub.Subscription subscribeLoveCountUpdates(
+            Map<String, Label> journals,
             Map<String, Journal> journalData) {
-        Timeline timeline = new Timeline(new KeyFrame(Duration.seconds(2), e -> {
-            new Thread(() -> {
-                try {
-                    // Create a snapshot to avoid ConcurrentModificationException
-                    java.util.Set<Map.Entry<String, Label>> entries = new java.util.HashSet<>(journals.entrySet());
-                    for (Map.Entry<String, Label> entry : entries) {
-                        String journalId = entry.getKey();
-                        Label countLabel = entry.getValue();
-                        Journal journal = journalData.get(journalId);
-                        if (journal != null) {
-                            int newCount = journalRepo.getLoveCount(journalId);
-                            if (newCount != journal.getLoveCount()) {
-                                journal.setLoveCount(newCount);
-                                Platform.runLater(() -> countLabel.setText(String.valueOf(newCount)));
-                            }
-                        }
+        return JournalEventHub.getInstance().subscribe(new JournalEventHub.Listener() {
+            @Override
+            public void onLoveCountChanged(String journalId, int loveCount) {
+                FxQueue.runLater(() -> {
+                    Label countLabel = journals.get(journalId);
+                    Journal journal = journalData.get(journalId);
+                    if (countLabel == null || journal == null) return;
+                    if (journal.getLoveCount() == null || journal.getLoveCount() != loveCount) {
+                        journal.setLoveCount(loveCount);
+                        countLabel.setText(String.valueOf(loveCount));
                     }
-                } catch (Exception ex) {
-                    // Silently handle any concurrent modification issues
-                }
-            }).start();
-        }));
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        return timeline;
+                });
+            }
+        });
     }
     
     /**
@@ -124,10 +105,10 @@ public class JournalUtils {
         try {
             URL url = JournalUtils.class.getResource(iconPath);
             if (url != null) {
-                icon.setImage(new Image(url.toExternalForm(), size, size, true, true));
+                icon.setImage(ImageCache.get(url, size, size));
             }
         } catch (Exception e) {
-            System.err.println("Failed to load heart icon: " + iconPath + " - " + e.getMessage());
+            log.error("Failed to load heart icon: " + iconPath + " - " + e.getMessage());
         }
         icon.setFitWidth(size);
         icon.setFitHeight(size);
@@ -155,50 +136,66 @@ public class JournalUtils {
             ImageView heartFilled) {
         loveBtn.setDisable(true);
         loveBtn.setFocusTraversable(false); // Prevent focus changes
-        new Thread(() -> {
+        TaskRunner.run(null, "toggleLove", () -> {
             try {
-                boolean nowLoved = journalRepo.toggleLove(journalId, userId);
-                int newCount = journalRepo.getLoveCount(journalId);
+                JournalRepository.LoveState state = journalRepo.toggleLoveState(journalId, userId);
+                boolean nowLoved = state.lovedByMe();
+                int newCount = state.loveCount();
                 journal.setLoveCount(newCount);
 
                 // Update UI without affecting scroll position
-                Platform.runLater(() -> {
+                FxQueue.runLater(() -> {
                     loveBtn.setGraphic(nowLoved ? heartFilled : heartOutline);
                     if (nowLoved) loveBtn.getStyleClass().add("loved"); else loveBtn.getStyleClass().remove("loved");
                     countLabel.setText(String.valueOf(newCount));
                     loveBtn.setDisable(false);
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
-                Platform.runLater(() -> loveBtn.setDisable(false));
+                log.error("toggleLove failed", ex);
+                FxQueue.runLater(() -> loveBtn.setDisable(false));
             }
-        }).start();
+        });
     }
     
     /**
-     * Check if user has loved a journal and set initial icon
-     * @param journalId Journal ID
+     * Controls of one journal card that depend on its love state
+     */
+    public record LoveControls(Button loveBtn, Label countLabel, ImageView heartOutline, ImageView heartFilled) {}
+    
+    /**
+     * Hydrate love counts and loved state for a whole page of cards with a single query
      * @param userId User ID
-     * @param loveBtn Button containing heart icon
-     * @param heartOutline Outline heart icon
-     * @param heartFilled Filled heart icon
+     * @param cards Map of journal ID to that card's love controls
+     * @param journalData Map of journal ID to Journal object (will be updated)
      */
-    public static void setInitialLoveState(
-            String journalId,
+    public static void hydrateLoveStates(
             String userId,
-            Button loveBtn,
-            ImageView heartOutline,
-            ImageView heartFilled) {
-        new Thread(() -> {
+            Map<String, LoveControls> cards,
+            Map<String, Journal> journalData) {
+        if (cards.isEmpty()) return;
+        Map<String, LoveControls> snapshot = new java.util.HashMap<>(cards);
+        TaskRunner.run(null, "hydrateLoveStates", () -> {
             try {
-                boolean isLoved = journalRepo.hasUserLoved(journalId, userId);
-                Platform.runLater(() -> {
-                    loveBtn.setGraphic(isLoved ? heartFilled : heartOutline);
-                    if (isLoved) loveBtn.getStyleClass().add("loved"); else loveBtn.getStyleClass().remove("loved");
+                Map<String, JournalRepository.LoveState> states = journalRepo.getLoveStates(snapshot.keySet(), userId);
+                FxQueue.runLater(() -> {
+                    for (Map.Entry<String, JournalRepository.LoveState> entry : states.entrySet()) {
+                        LoveControls card = snapshot.get(entry.getKey());
+                        if (card == null) continue;
+                        JournalRepository.LoveState state = entry.getValue();
+                        Journal journal = journalData.get(entry.getKey());
+                        if (journal != null) journal.setLoveCount(state.loveCount());
+                        card.loveBtn().setGraphic(state.lovedByMe() ? card.heartFilled() : card.heartOutline());
+                        if (state.lovedByMe()) {
+                            if (!card.loveBtn().getStyleClass().contains("loved")) card.loveBtn().getStyleClass().add("loved");
+                        } else {
+                            card.loveBtn().getStyleClass().remove("loved");
+                        }
+                        card.countLabel().setText(String.valueOf(state.loveCount()));
+                    }
                 });
             } catch (Exception ex) {
-                ex.printStackTrace();
+                log.error("hydrateLoveStates failed", ex);
             }
-        }).start();
+        });
     }
 }
@@ -0,0 +1,320 @@
+package com.the_pathfinders.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Leveled logging that never does I/O on the calling thread.
+ *
+ * Callers put entries into a lock-free ring of {@value #CAPACITY} slots; a background thread formats them
+ * and writes ~/.shelter_for_mind/logs/shelter.log (rolled at {@value #MAX_FILE_BYTES} bytes, {@value #KEEP_FILES}
+ * old files kept) and echoes INFO and above to the console. When the writer falls behind, new entries are
+ * dropped and counted rather than blocking the FX thread.
+ *
+ * Each class logs under a category: {@code private static final Log log = Log.get("blog");}.
+ * DEBUG is off unless the category is made verbose with -Dshelter.log.verbose=blog,music (or "all"),
+ * or --verbose=blog,music on the command line. A disabled call is one field read; pass a Supplier
+ * ({@code log.debug(() -> "Loaded " + n)}) so the message isn't built either.
+ */
+public final class Log {
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    private static final int CAPACITY = 8192; // power of two
+    private static final long MAX_FILE_BYTES = 5L * 1024 * 1024;
+    private static final int KEEP_FILES = 3;
+    private static final long IDLE_PARK_MS = 20;
+    private static final long FULL_WAIT_MS = 100; // how long a WARN/ERROR waits for room before being dropped
+
+    private static final DateTimeFormatter TIME =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.ROOT).withZone(ZoneId.systemDefault());
+
+    private record Entry(long time, Level level, String category, String thread, String message, Throwable error) {}
+
+    private static final Map<String, Log> loggers = new ConcurrentHashMap<>();
+    private static volatile Set<String> verbose = parseCategories(System.getProperty("shelter.log.verbose"));
+
+    // Ring buffer: producers claim a sequence with a CAS on 'claimed', fill the slot, and the writer
+    // clears each slot it takes before advancing 'consumed'.
+    private static final AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong claimed = new AtomicLong();
+    private static final AtomicLong consumed = new AtomicLong();
+    private static final LongAdder dropped = new LongAdder();
+
+    private static final Path dir = Paths.get(System.getProperty("user.home"), ".shelter_for_mind", "logs");
+    private static final Path file = dir.resolve("shelter.log");
+    private static final Thread writer;
+    private static volatile boolean running = true;
+    private static BufferedWriter out;
+    private static long fileBytes;
+
+    static {
+        writer = new Thread(Log::drainLoop, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        // Last entries of a crash or System.exit still reach the file
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::shutdown, "log-shutdown"));
+    }
+
+    private final String category;
+    private volatile Level threshold;
+
+    private Log(String category) {
+        this.category = category;
+        this.threshold = thresholdFor(category);
+    }
+
+    /** The logger for a category; one instance per name. */
+    public static Log get(String category) {
+        return loggers.computeIfAbsent(category, Log::new);
+    }
+
+    /**
+     * Turn on DEBUG for these categories (comma-separated, or "all"), in addition to any set before.
+     */
+    public static void enableVerbose(String categories) {
+        Set<String> added = parseCategories(categories);
+        if (added.isEmpty()) return;
+        Set<String> merged = ConcurrentHashMap.newKeySet();
+        merged.addAll(verbose);
+        merged.addAll(added);
+        verbose = merged;
+        for (Log log : loggers.values()) {
+            log.threshold = thresholdFor(log.category);
+        }
+    }
+
+    public boolean isDebugEnabled() {
+        return threshold == Level.DEBUG;
+    }
+
+    public void debug(String message) {
+        if (threshold == Level.DEBUG) enqueue(Level.DEBUG, message, null);
+    }
+
+    public void debug(Supplier<String> message) {
+        if (threshold == Level.DEBUG) enqueue(Level.DEBUG, message.get(), null);
+    }
+
+    public void info(String message) {
+        enqueue(Level.INFO, message, null);
+    }
+
+    public void info(Supplier<String> message) {
+        enqueue(Level.INFO, message.get(), null);
+    }
+
+    public void warn(String message) {
+        enqueue(Level.WARN, message, null);
+    }
+
+    public void warn(String message, Throwable error) {
+        enqueue(Level.WARN, message, error);
+    }
+
+    public void error(String message) {
+        enqueue(Level.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable error) {
+        enqueue(Level.ERROR, message, error);
+    }
+
+    /** Entries lost because the writer fell behind. */
+    public static long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /** Write everything queued so far and stop the writer. Later entries go straight to the console. */
+    public static void shutdown() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(Level level, String message, Throwable error) {
+        Entry entry = new Entry(System.currentTimeMillis(), level, category, Thread.currentThread().getName(),
+                message, error);
+        if (!running) {
+            print(entry, format(entry));
+            return;
+        }
+        boolean important = level.compareTo(Level.WARN) >= 0;
+        long deadline = 0;
+        long seq;
+        while (true) {
+            seq = claimed.get();
+            if (seq - consumed.get() >= CAPACITY) {
+                // Full: chatter is dropped, warnings and errors wait a little for the writer
+                if (!important) {
+                    dropped.increment();
+                    return;
+                }
+                long now = System.nanoTime();
+                if (deadline == 0) deadline = now + TimeUnit.MILLISECONDS.toNanos(FULL_WAIT_MS);
+                if (now - deadline > 0) {
+                    dropped.increment();
+                    return;
+                }
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(100_000);
+                continue;
+            }
+            if (claimed.compareAndSet(seq, seq + 1)) break;
+        }
+        slots.set((int) (seq & (CAPACITY - 1)), entry);
+        // Wake the writer early for problems, or before the ring fills up
+        if (important || seq - consumed.get() >= CAPACITY / 2) LockSupport.unpark(writer);
+    }
+
+    private static void drainLoop() {
+        open();
+        long next = consumed.get();
+        long reportedDrops = 0;
+        while (true) {
+            boolean stopping = !running;
+            int written = 0;
+            while (next < claimed.get()) {
+                int index = (int) (next & (CAPACITY - 1));
+                Entry entry = slots.get(index);
+                if (entry == null) {
+                    Thread.onSpinWait(); // Claimed but not yet filled in
+                    continue;
+                }
+                slots.set(index, null);
+                consumed.set(++next);
+                write(entry);
+                written++;
+            }
+            long drops = dropped.sum();
+            if (drops > reportedDrops) {
+                write(new Entry(System.currentTimeMillis(), Level.WARN, "log", "log-writer",
+                        (drops - reportedDrops) + " log entries dropped (writer fell behind)", null));
+                reportedDrops = drops;
+                written++;
+            }
+            if (written > 0) flush();
+            if (stopping) break;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(IDLE_PARK_MS));
+        }
+        close();
+    }
+
+    private static void write(Entry entry) {
+        String line = format(entry);
+        if (entry.level().compareTo(Level.INFO) >= 0) print(entry, line);
+        if (out == null) return;
+        try {
+            if (fileBytes > MAX_FILE_BYTES) roll();
+            out.write(line);
+            out.newLine();
+            fileBytes += line.length() + 1;
+        } catch (IOException e) {
+            System.err.println("Log file write failed, logging to console only: " + e.getMessage());
+            close();
+        }
+    }
+
+    private static void print(Entry entry, String line) {
+        if (entry.level().compareTo(Level.WARN) >= 0) System.err.println(line);
+        else System.out.println(line);
+    }
+
+    private static String format(Entry entry) {
+        StringBuilder sb = new StringBuilder(96)
+                .append(TIME.format(Instant.ofEpochMilli(entry.time()))).append(' ')
+                .append(entry.level()).append(entry.level().name().length() == 4 ? "  [" : " [").append(entry.category()).append("] ")
+                .append(entry.message());
+        if (entry.error() != null) {
+            StringWriter trace = new StringWriter();
+            entry.error().printStackTrace(new PrintWriter(trace));
+            sb.append(System.lineSeparator()).append(trace.toString().stripTrailing());
+        }
+        return sb.toString();
+    }
+
+    private static void open() {
+        try {
+            Files.createDirectories(dir);
+            fileBytes = Files.exists(file) ? Files.size(file) : 0;
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Could not open log file " + file + ", logging to console only: " + e.getMessage());
+            out = null;
+        }
+    }
+
+    /** shelter.log -> shelter.1.log -> shelter.2.log ..., dropping the oldest. */
+    private static void roll() throws IOException {
+        out.close();
+        for (int i = KEEP_FILES - 1; i >= 1; i--) {
+            Path older = dir.resolve("shelter." + i + ".log");
+            if (Files.exists(older)) {
+                Files.move(older, dir.resolve("shelter." + (i + 1) + ".log"), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, dir.resolve("shelter.1.log"), StandardCopyOption.REPLACE_EXISTING);
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        fileBytes = 0;
+    }
+
+    private static void flush() {
+        if (out == null) return;
+        try {
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Log file flush failed: " + e.getMessage());
+        }
+    }
+
+    private static void close() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+
+    private static Level thresholdFor(String category) {
+        Set<String> v = verbose;
+        return v.contains("all") || v.contains(category) ? Level.DEBUG : Level.INFO;
+    }
+
+    private static Set<String> parseCategories(String value) {
+        Set<String> set = ConcurrentHashMap.newKeySet();
+        if (value == null) return set;
+        for (String part : value.split(",")) {
+            String name = part.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty()) set.add(name);
+        }
+        return set;
+    }
+}
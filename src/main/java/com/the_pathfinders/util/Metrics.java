@@ -0,0 +1,168 @@
+package com.the_pathfinders.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process metrics: counters, gauges and latency histograms, looked up by name.
+ *
+ * Histograms use log-linear buckets like HdrHistogram: exact below 64 µs, then 32 buckets per power of two,
+ * so any recorded value is off by at most ~3%. Recording is a couple of atomic adds and never allocates.
+ *
+ * {@link #report()} renders everything as text; it is printed every {@value #REPORT_INTERVAL_MINUTES}
+ * minutes once {@link #startReporter()} runs and served by {@link MetricsServer}.
+ */
+public final class Metrics {
+    private static final Log log = Log.get("metrics");
+
+    private static final long REPORT_INTERVAL_MINUTES = 5;
+
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    private static ScheduledExecutorService reporter;
+
+    private Metrics() {}
+
+    public static LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, k -> new LongAdder());
+    }
+
+    /** Register a value read when reporting, e.g. a pool size. Replaces an earlier gauge of the same name. */
+    public static void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    public static Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, k -> new Histogram());
+    }
+
+    /** Shorthand for histogram(name).recordNanos(System.nanoTime() - startNanos). */
+    public static void recordSince(String name, long startNanos) {
+        histogram(name).recordNanos(System.nanoTime() - startNanos);
+    }
+
+    /** Latency distribution in microseconds. */
+    public static final class Histogram {
+        private static final int SUB_BUCKET_BITS = 5;          // 32 buckets per power of two
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        public void recordNanos(long nanos) {
+            record(Math.max(0, nanos / 1_000));
+        }
+
+        public void record(long micros) {
+            buckets.incrementAndGet(index(micros));
+            count.increment();
+            sum.add(micros);
+            max.accumulate(micros);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getMaxMicros() {
+            return max.get();
+        }
+
+        public double getMeanMicros() {
+            long n = count.sum();
+            return n == 0 ? 0 : (double) sum.sum() / n;
+        }
+
+        /** Value at the given percentile (0-100) in microseconds, 0 if nothing was recorded. */
+        public long percentileMicros(double percentile) {
+            long n = count.sum();
+            if (n == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) return Math.min(midpoint(i), max.get());
+            }
+            return max.get();
+        }
+
+        // Below 2 * SUB_BUCKETS the value is its own bucket; above, keep the top SUB_BUCKET_BITS + 1 bits
+        static int index(long v) {
+            if (v < 2 * SUB_BUCKETS) return (int) v;
+            int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BUCKET_BITS;
+            return Math.min(BUCKETS - 1, shift * SUB_BUCKETS + (int) (v >>> shift));
+        }
+
+        static long midpoint(int index) {
+            if (index < 2 * SUB_BUCKETS) return index;
+            int shift = index / SUB_BUCKETS - 1;
+            long low = (long) (index - shift * SUB_BUCKETS) << shift;
+            return low + ((1L << shift) >> 1);
+        }
+    }
+
+    /** Every metric as text, one per line, sorted by name. */
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, LongAdder> e : new TreeMap<>(counters).entrySet()) {
+            sb.append(String.format("counter   %-44s %d%n", e.getKey(), e.getValue().sum()));
+        }
+        for (Map.Entry<String, LongSupplier> e : new TreeMap<>(gauges).entrySet()) {
+            long value;
+            try {
+                value = e.getValue().getAsLong();
+            } catch (RuntimeException ex) {
+                continue; // Source not available (e.g. pool not started)
+            }
+            sb.append(String.format("gauge     %-44s %d%n", e.getKey(), value));
+        }
+        for (Map.Entry<String, Histogram> e : new TreeMap<>(histograms).entrySet()) {
+            Histogram h = e.getValue();
+            if (h.getCount() == 0) continue;
+            sb.append(String.format("histogram %-44s n=%d mean=%s p50=%s p90=%s p99=%s p99.9=%s max=%s%n",
+                    e.getKey(), h.getCount(), formatMicros((long) h.getMeanMicros()),
+                    formatMicros(h.percentileMicros(50)), formatMicros(h.percentileMicros(90)),
+                    formatMicros(h.percentileMicros(99)), formatMicros(h.percentileMicros(99.9)),
+                    formatMicros(h.getMaxMicros())));
+        }
+        return sb.toString();
+    }
+
+    /** Print {@link #report()} every few minutes. */
+    public static synchronized void startReporter() {
+        if (reporter != null) return;
+        reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-report");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(() -> log.info("Metrics:\n" + report()),
+                REPORT_INTERVAL_MINUTES, REPORT_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public static synchronized void stopReporter() {
+        if (reporter != null) {
+            reporter.shutdownNow();
+            reporter = null;
+        }
+    }
+
+    private static String formatMicros(long micros) {
+        if (micros < 1_000) return micros + "us";
+        if (micros < 1_000_000) return String.format("%.1fms", micros / 1_000.0);
+        return String.format("%.2fs", micros / 1_000_000.0);
+    }
+}
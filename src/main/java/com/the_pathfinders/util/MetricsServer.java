@@ -0,0 +1,40 @@
+package com.the_pathfinders.util;
+
+import com.the_pathfinders.util.HttpGateway.Request;
+import com.the_pathfinders.util.HttpGateway.Response;
+
+/**
+ * Serves {@link Metrics#report()} at /metrics on the {@link HttpGateway}.
+ * Only answered for requests from this machine; query names in the report are not for the outside world.
+ */
+public class MetricsServer {
+    private static final Log log = Log.get("metrics");
+
+    private static final String PATH = "/metrics";
+    private static final Response FORBIDDEN = Response.text(403, "Forbidden");
+
+    private static boolean started = false;
+
+    public static synchronized void start() {
+        if (started) {
+            return; // Already running
+        }
+        HttpGateway.route(PATH, MetricsServer::handle);
+        started = true;
+        log.info("Metrics available at " + HttpGateway.baseUrl() + PATH);
+    }
+
+    public static synchronized void stop() {
+        if (started) {
+            HttpGateway.remove(PATH);
+            started = false;
+        }
+    }
+
+    private static Response handle(Request request) {
+        if (!request.remote().isLoopbackAddress()) {
+            return FORBIDDEN;
+        }
+        return Response.text(200, Metrics.report());
+    }
+}
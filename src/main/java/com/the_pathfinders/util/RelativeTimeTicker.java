@@ -0,0 +1,201 @@
+package com.the_pathfinders.util;
+
+import javafx.animation.PauseTransition;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.util.Duration;
+
+import java.lang.ref.WeakReference;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.WeakHashMap;
+
+/**
+ * One app-wide clock for "5 minutes ago" labels.
+ *
+ * Labels register with the time they describe. Each label is scheduled for the moment its text next
+ * changes (one second later for "seconds ago", on the next minute for "minutes ago", and so on), and a
+ * single timer sleeps until the earliest of those. When a label comes due while it is off screen
+ * (scrolled out of its viewport, hidden, or not in a showing window) it is parked instead of updated,
+ * and refreshed when its scroll pane moves or on a slow recheck.
+ *
+ * Everything here runs on the FX thread. Labels are held weakly, so views that are thrown away
+ * need not unregister.
+ */
+public final class RelativeTimeTicker {
+    // How often parked labels are checked for visibility when nothing scrolls
+    private static final long PARKED_RECHECK_MS = 5_000;
+
+    private static RelativeTimeTicker instance;
+
+    private static final class Entry {
+        final WeakReference<Label> label;
+        final LocalDateTime time;
+        long dueAt; // System.currentTimeMillis() when the text next changes
+
+        Entry(Label label, LocalDateTime time) {
+            this.label = new WeakReference<>(label);
+            this.time = time;
+        }
+    }
+
+    private final Map<Label, Entry> entries = new WeakHashMap<>();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>((a, b) -> Long.compare(a.dueAt, b.dueAt));
+    private final Map<Label, Entry> parked = new WeakHashMap<>();
+    private final Map<Node, Boolean> watchedScrollers = new WeakHashMap<>();
+    private final PauseTransition timer = new PauseTransition();
+    private long timerDueAt = Long.MAX_VALUE;
+    private boolean revisitPending = false;
+    private long updates = 0;
+
+    private RelativeTimeTicker() {
+        timer.setOnFinished(e -> tick());
+    }
+
+    public static synchronized RelativeTimeTicker getInstance() {
+        if (instance == null) {
+            instance = new RelativeTimeTicker();
+        }
+        return instance;
+    }
+
+    /**
+     * Show the relative time of the given moment in the label and keep it current.
+     * Registering a label again (e.g. a recycled list cell) replaces its previous time.
+     */
+    public void register(Label label, LocalDateTime time) {
+        unregister(label);
+        label.setText(JournalUtils.getRelativeTime(time));
+        if (time == null) return;
+
+        Entry entry = new Entry(label, time);
+        entry.dueAt = System.currentTimeMillis() + JournalUtils.millisUntilRelativeTimeChanges(time);
+        entries.put(label, entry);
+        queue.add(entry);
+        schedule(entry.dueAt);
+    }
+
+    /** Stop updating the label. */
+    public void unregister(Label label) {
+        Entry previous = entries.remove(label);
+        if (previous != null) {
+            queue.remove(previous);
+            parked.remove(label);
+        }
+    }
+
+    /** Labels currently kept up to date. */
+    public int getRegisteredCount() {
+        return entries.size();
+    }
+
+    /** Labels waiting off screen. */
+    public int getParkedCount() {
+        return parked.size();
+    }
+
+    /** Text updates made since startup. */
+    public long getUpdateCount() {
+        return updates;
+    }
+
+    private void tick() {
+        timerDueAt = Long.MAX_VALUE;
+        long now = System.currentTimeMillis();
+        // Drop entries of labels that were garbage collected before they came due
+        if (queue.size() > 2 * entries.size() + 64) {
+            queue.removeIf(e -> e.label.get() == null);
+        }
+        while (!queue.isEmpty() && queue.peek().dueAt <= now) {
+            Entry entry = queue.poll();
+            Label label = entry.label.get();
+            if (label == null || entries.get(label) != entry) continue;
+            if (isOnScreen(label)) {
+                refresh(label, entry, now);
+            } else {
+                parked.put(label, entry);
+                watchScroller(label);
+            }
+        }
+        revisitParked();
+    }
+
+    /** Update labels that came back on screen. */
+    private void revisitParked() {
+        revisitPending = false;
+        long now = System.currentTimeMillis();
+        List<Label> shown = new ArrayList<>();
+        for (Label label : parked.keySet()) {
+            if (isOnScreen(label)) shown.add(label);
+        }
+        for (Label label : shown) {
+            refresh(label, parked.remove(label), now);
+        }
+        if (!queue.isEmpty()) schedule(queue.peek().dueAt);
+        if (!parked.isEmpty()) schedule(now + PARKED_RECHECK_MS);
+    }
+
+    private void refresh(Label label, Entry entry, long now) {
+        String text = JournalUtils.getRelativeTime(entry.time);
+        if (!text.equals(label.getText())) {
+            label.setText(text);
+            updates++;
+        }
+        entry.dueAt = now + JournalUtils.millisUntilRelativeTimeChanges(entry.time);
+        queue.add(entry);
+    }
+
+    /** Make sure the timer fires no later than dueAt. */
+    private void schedule(long dueAt) {
+        if (dueAt >= timerDueAt) return;
+        timerDueAt = dueAt;
+        timer.stop();
+        timer.setDuration(Duration.millis(Math.max(1, dueAt - System.currentTimeMillis())));
+        timer.playFromStart();
+    }
+
+    /** Revisit parked labels as soon as the scroll pane or list they live in scrolls. */
+    private void watchScroller(Label label) {
+        for (Node n = label.getParent(); n != null; n = n.getParent()) {
+            if (!(n instanceof ScrollPane) && !(n instanceof VirtualFlow<?>)) continue;
+            if (watchedScrollers.putIfAbsent(n, Boolean.TRUE) != null) return;
+            ChangeListener<Number> onScroll = (obs, old, value) -> {
+                if (parked.isEmpty() || revisitPending) return;
+                revisitPending = true;
+                FxQueue.runLater(this::revisitParked);
+            };
+            if (n instanceof ScrollPane sp) {
+                sp.vvalueProperty().addListener(onScroll);
+                sp.hvalueProperty().addListener(onScroll);
+            } else {
+                ((VirtualFlow<?>) n).positionProperty().addListener(onScroll);
+            }
+            return;
+        }
+    }
+
+    /** Visible, in a showing window, and inside every scrolling viewport around it. */
+    private static boolean isOnScreen(Label label) {
+        Scene scene = label.getScene();
+        if (scene == null || scene.getWindow() == null || !scene.getWindow().isShowing()) return false;
+        for (Node n = label; n != null; n = n.getParent()) {
+            if (!n.isVisible()) return false;
+        }
+        Bounds bounds = label.localToScene(label.getBoundsInLocal());
+        if (!bounds.intersects(0, 0, scene.getWidth(), scene.getHeight())) return false;
+        for (Node n = label.getParent(); n != null; n = n.getParent()) {
+            if (n instanceof ScrollPane || n instanceof VirtualFlow<?>) {
+                if (!n.localToScene(n.getLayoutBounds()).intersects(bounds)) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,245 @@
+package com.the_pathfinders.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saved-for-later IDs (blogs, journals) per soul, answered from memory.
+ *
+ * A soul's set is read from disk once. Changes are appended to a per-soul log as "+id" / "-id" lines
+ * instead of rewriting the whole file, and the log is fsynced in one go {@value #SYNC_DELAY_MS} ms after
+ * a burst of changes. Once most lines are superseded the log is rewritten with just the current IDs.
+ * Lists in the older one-ID-per-line .txt files are imported the first time a soul is loaded.
+ *
+ * Listeners run on the store's background thread, not the FX thread.
+ */
+public final class SavedItemsStore {
+    private static final Log log = Log.get("app");
+
+    public static final String BLOGS = "blogs";
+    public static final String JOURNALS = "journals";
+
+    private static final long SYNC_DELAY_MS = 200;
+    private static final int COMPACT_MIN_LINES = 256;
+
+    private static final Map<String, SavedItemsStore> stores = new HashMap<>();
+    private static final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "saved-items");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final class SoulSet {
+        final Set<String> ids = new LinkedHashSet<>();
+        FileChannel log;  // null if the file could not be opened; changes then live in memory only
+        int lines;
+        boolean dirty;    // written since the last fsync
+    }
+
+    private final String kind;
+    private final Path dir;
+    private final Map<String, SoulSet> souls = new HashMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private boolean syncScheduled = false;
+
+    private SavedItemsStore(String kind) {
+        this.kind = kind;
+        this.dir = Paths.get(System.getProperty("user.home"), ".shelter_for_mind", "saved_" + kind);
+    }
+
+    /** The store for one kind of item, {@link #BLOGS} or {@link #JOURNALS}. */
+    public static synchronized SavedItemsStore forKind(String kind) {
+        return stores.computeIfAbsent(kind, SavedItemsStore::new);
+    }
+
+    public synchronized boolean contains(String soulId, String id) {
+        return load(soulId).ids.contains(id);
+    }
+
+    /** The soul's saved IDs in the order they were saved. */
+    public synchronized Set<String> ids(String soulId) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(load(soulId).ids));
+    }
+
+    /** @return false if it was already saved */
+    public boolean add(String soulId, String id) {
+        synchronized (this) {
+            SoulSet set = load(soulId);
+            if (!set.ids.add(id)) return false;
+            append(soulId, set, "+" + id);
+        }
+        notifyListeners();
+        return true;
+    }
+
+    /** @return false if it wasn't saved */
+    public boolean remove(String soulId, String id) {
+        synchronized (this) {
+            SoulSet set = load(soulId);
+            if (!set.ids.remove(id)) return false;
+            append(soulId, set, "-" + id);
+        }
+        notifyListeners();
+        return true;
+    }
+
+    /** Called on the store's background thread after each change. */
+    public void addListener(Runnable r) {
+        if (r != null) listeners.add(r);
+    }
+
+    public void removeListener(Runnable r) {
+        listeners.remove(r);
+    }
+
+    /** Fsync pending changes of every store now, e.g. on shutdown. */
+    public static void flushAll() {
+        List<SavedItemsStore> all;
+        synchronized (SavedItemsStore.class) {
+            all = new ArrayList<>(stores.values());
+        }
+        for (SavedItemsStore store : all) {
+            store.sync();
+        }
+    }
+
+    private SoulSet load(String soulId) {
+        SoulSet set = souls.get(soulId);
+        if (set != null) return set;
+
+        set = new SoulSet();
+        souls.put(soulId, set);
+        Path logFile = logPath(soulId);
+        try {
+            Files.createDirectories(dir);
+            if (Files.exists(logFile)) {
+                replay(logFile, set);
+            } else {
+                Path legacy = dir.resolve(soulId + "_saved_" + kind + ".txt");
+                if (Files.exists(legacy)) {
+                    for (String line : Files.readAllLines(legacy)) {
+                        String id = line.trim();
+                        if (!id.isEmpty()) set.ids.add(id);
+                    }
+                }
+                writeCompacted(logFile, set.ids);
+                set.lines = set.ids.size();
+            }
+            set.log = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Could not open saved " + kind + " for " + soulId + ": " + e.getMessage());
+        }
+        return set;
+    }
+
+    /** Apply every complete line; a partial last line (crash mid-write) is cut off. */
+    private static void replay(Path logFile, SoulSet set) throws IOException {
+        byte[] bytes = Files.readAllBytes(logFile);
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') continue;
+            String line = new String(bytes, start, i - start, StandardCharsets.UTF_8).trim();
+            if (line.length() > 1) {
+                if (line.charAt(0) == '+') set.ids.add(line.substring(1));
+                else if (line.charAt(0) == '-') set.ids.remove(line.substring(1));
+            }
+            set.lines++;
+            start = i + 1;
+        }
+        if (start < bytes.length) {
+            try (FileChannel ch = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                ch.truncate(start);
+            }
+        }
+    }
+
+    private void append(String soulId, SoulSet set, String line) {
+        set.lines++;
+        if (set.log == null) return;
+        try {
+            ByteBuffer buf = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buf.hasRemaining()) set.log.write(buf);
+            set.dirty = true;
+            if (!syncScheduled) {
+                syncScheduled = true;
+                writer.schedule(this::sync, SYNC_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        } catch (IOException e) {
+            log.error("Could not write saved " + kind + " for " + soulId + ": " + e.getMessage());
+        }
+    }
+
+    /** Fsync every soul written to since the last sync, compacting logs that have grown. */
+    private synchronized void sync() {
+        syncScheduled = false;
+        for (Map.Entry<String, SoulSet> e : souls.entrySet()) {
+            SoulSet set = e.getValue();
+            if (!set.dirty || set.log == null) continue;
+            try {
+                if (set.lines > COMPACT_MIN_LINES && set.lines > 2 * set.ids.size()) {
+                    set.log.close();
+                    Path logFile = logPath(e.getKey());
+                    writeCompacted(logFile, set.ids);
+                    set.lines = set.ids.size();
+                    set.log = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                } else {
+                    set.log.force(false);
+                }
+                set.dirty = false;
+            } catch (IOException ex) {
+                log.error("Could not sync saved " + kind + " for " + e.getKey() + ": " + ex.getMessage());
+            }
+        }
+    }
+
+    /** Replace the log with one "+id" line per current ID, atomically. */
+    private static void writeCompacted(Path logFile, Set<String> ids) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (String id : ids) {
+            sb.append('+').append(id).append('\n');
+        }
+        Path temp = logFile.resolveSibling(logFile.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+            while (buf.hasRemaining()) ch.write(buf);
+            ch.force(true);
+        }
+        Files.move(temp, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path logPath(String soulId) {
+        return dir.resolve(soulId + "_saved_" + kind + ".log");
+    }
+
+    private void notifyListeners() {
+        if (listeners.isEmpty()) return;
+        writer.execute(() -> {
+            for (Runnable r : listeners) {
+                try {
+                    r.run();
+                } catch (Exception e) {
+                    log.error("Saved " + kind + " listener failed: " + e.getMessage());
+                }
+            }
+        });
+    }
+}
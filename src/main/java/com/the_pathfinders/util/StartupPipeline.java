@@ -0,0 +1,139 @@
+package com.the_pathfinders.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Startup as a graph of phases instead of one long init thread.
+ *
+ * Each phase names the phases it needs; a phase starts on its own background task as soon as those
+ * have finished, so independent work (config decryption, media, FXML, servers) overlaps. If a phase
+ * fails, the phases that depend on it are skipped and everything else carries on.
+ * {@link #report()} prints when each phase started and how long it took.
+ *
+ * Phases must be added after the phases they depend on, which also rules out cycles.
+ */
+public final class StartupPipeline {
+
+    /** Work done by one phase. May block; it runs on a virtual thread. */
+    @FunctionalInterface
+    public interface Step {
+        void run() throws Exception;
+    }
+
+    private static final class Phase {
+        final String name;
+        final List<String> dependsOn;
+        final Step step;
+        CompletableFuture<Void> done;
+        volatile long startedAt;  // nanos since pipeline start
+        volatile long finishedAt;
+        volatile String status = "pending";
+
+        Phase(String name, List<String> dependsOn, Step step) {
+            this.name = name;
+            this.dependsOn = dependsOn;
+            this.step = step;
+        }
+    }
+
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private long startNanos;
+    private long startEpochMillis;
+
+    /**
+     * Add a phase.
+     * @param name Phase name, used in the report and to refer to it from later phases
+     * @param dependsOn Names of phases that must finish first
+     */
+    public StartupPipeline phase(String name, List<String> dependsOn, Step step) {
+        if (phases.containsKey(name)) throw new IllegalArgumentException("Duplicate startup phase: " + name);
+        for (String dep : dependsOn) {
+            if (!phases.containsKey(dep)) {
+                throw new IllegalArgumentException("Startup phase " + name + " depends on unknown or later phase " + dep);
+            }
+        }
+        phases.put(name, new Phase(name, List.copyOf(dependsOn), step));
+        return this;
+    }
+
+    /** Start every phase whose dependencies allow it. Returns a future that completes when all phases are done. */
+    public CompletableFuture<Void> start() {
+        startNanos = System.nanoTime();
+        startEpochMillis = System.currentTimeMillis();
+        List<CompletableFuture<Void>> all = new ArrayList<>();
+        for (Phase phase : phases.values()) {
+            CompletableFuture<?>[] deps = phase.dependsOn.stream()
+                    .map(d -> phases.get(d).done)
+                    .toArray(CompletableFuture[]::new);
+            phase.done = CompletableFuture.allOf(deps)
+                    .handle((v, error) -> error == null)
+                    .thenCompose(depsOk -> depsOk ? runPhase(phase) : skip(phase));
+            // Report completion regardless of outcome; failures are visible in the report
+            all.add(phase.done.handle((v, error) -> null));
+        }
+        return CompletableFuture.allOf(all.toArray(CompletableFuture[]::new));
+    }
+
+    /** Future of a single phase, e.g. to wait for the database before a login. */
+    public CompletableFuture<Void> whenDone(String name) {
+        Phase phase = phases.get(name);
+        if (phase == null || phase.done == null) throw new IllegalStateException("Unknown or unstarted phase: " + name);
+        return phase.done;
+    }
+
+    /** Milliseconds from pipeline start until the phase finished, or -1 if it hasn't. */
+    public long finishedAtMillis(String name) {
+        Phase phase = phases.get(name);
+        return phase == null || phase.finishedAt == 0 ? -1 : phase.finishedAt / 1_000_000;
+    }
+
+    /** Milliseconds from JVM start to pipeline start (class loading, toolkit startup). */
+    public long launchDelayMillis() {
+        return startEpochMillis - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    /** One line per phase: start offset, duration, status and dependencies. */
+    public String report() {
+        StringBuilder sb = new StringBuilder("Startup phases (JVM start -> pipeline start: " + launchDelayMillis() + " ms)\n");
+        sb.append(String.format("  %-12s %8s %8s  %-8s %s%n", "phase", "start", "took", "status", "after"));
+        for (Phase p : phases.values()) {
+            boolean ran = p.startedAt > 0 && p.finishedAt > 0;
+            sb.append(String.format("  %-12s %6s ms %6s ms  %-8s %s%n",
+                    p.name,
+                    ran ? String.valueOf(p.startedAt / 1_000_000) : "-",
+                    ran ? String.valueOf((p.finishedAt - p.startedAt) / 1_000_000) : "-",
+                    p.status,
+                    p.dependsOn.isEmpty() ? "-" : String.join(", ", p.dependsOn)));
+        }
+        return sb.toString();
+    }
+
+    private CompletableFuture<Void> runPhase(Phase phase) {
+        Callable<Void> timed = () -> {
+            phase.startedAt = Math.max(1, System.nanoTime() - startNanos);
+            phase.status = "running";
+            try {
+                phase.step.run();
+                phase.status = "ok";
+                return null;
+            } catch (Exception e) {
+                phase.status = "failed";
+                throw e;
+            } finally {
+                phase.finishedAt = System.nanoTime() - startNanos;
+            }
+        };
+        return TaskRunner.supply(null, "startup-" + phase.name, timed);
+    }
+
+    private CompletableFuture<Void> skip(Phase phase) {
+        phase.status = "skipped";
+        return CompletableFuture.failedFuture(new IllegalStateException("Skipped: a dependency of " + phase.name + " failed"));
+    }
+}
@@ -0,0 +1,259 @@
+package com.the_pathfinders.util;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * App-wide background task executor for controllers and utilities.
+ *
+ * - Every task runs on a named virtual thread; at most {@value #MAX_CONCURRENT} run at once,
+ *   the rest wait in line (see {@link #getQueuedCount()}).
+ * - Tasks are owned by a node. When that node leaves its scene (i.e. the user navigated away
+ *   with scene.setRoot), its outstanding tasks are cancelled and new submissions are dropped
+ *   until it is shown again. A null owner means the task lives for the whole app.
+ * - Cancelling never interrupts a running task, so a JDBC call is not cut off halfway; the task
+ *   finishes, its result is dropped, and long tasks can stop early by checking {@link #isCancelled()}.
+ *   Writes (saves, toggles, sends) use a null owner so navigating away never drops them.
+ * - Results come back as CompletableFutures; chain with {@link #FX} to continue on the FX thread:
+ *   {@code TaskRunner.supply(root, "loadX", repo::load).thenAcceptAsync(this::show, TaskRunner.FX)}.
+ * - Per-task latency and queue depth are tracked for the dashboard pages.
+ */
+public final class TaskRunner {
+
+    private static final Log log = Log.get("app");
+
+    /** Maximum number of tasks running at the same time. */
+    public static final int MAX_CONCURRENT = 32;
+
+    /** Executor that runs continuations on the JavaFX application thread. */
+    public static final Executor FX = FxQueue::runLater;
+
+    private static final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("app-task-", 0).factory());
+    private static final Semaphore permits = new Semaphore(MAX_CONCURRENT);
+
+    private static final Map<Node, Scope> scopes = new WeakHashMap<>();
+    private static final ThreadLocal<CompletableFuture<?>> current = new ThreadLocal<>();
+
+    private static final AtomicInteger queued = new AtomicInteger();
+    private static final AtomicInteger running = new AtomicInteger();
+    private static final LongAdder submitted = new LongAdder();
+    private static final LongAdder completed = new LongAdder();
+    private static final LongAdder failed = new LongAdder();
+    private static final LongAdder cancelled = new LongAdder();
+    private static final Map<String, TaskStats> statsByName = new ConcurrentHashMap<>();
+
+    private TaskRunner() {}
+
+    /**
+     * Run a task in the background.
+     * @param owner Node whose scene scopes the task, or null for an app-lifetime task
+     * @param name Short task name used for the thread name and metrics
+     */
+    public static CompletableFuture<Void> run(Node owner, String name, Runnable task) {
+        return supply(owner, name, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Compute a value in the background.
+     * @param owner Node whose scene scopes the task, or null for an app-lifetime task
+     * @param name Short task name used for the thread name and metrics
+     */
+    public static <T> CompletableFuture<T> supply(Node owner, String name, Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Scope scope = owner == null ? null : scopeFor(owner);
+        if (scope != null && scope.isRetired()) {
+            // Owner already left the screen (e.g. a polling timeline still firing)
+            cancelled.increment();
+            result.cancel(false);
+            return result;
+        }
+
+        submitted.increment();
+        queued.incrementAndGet();
+        long submittedAt = System.nanoTime();
+        if (scope != null) scope.add(result);
+
+        Future<?> future = executor.submit(() -> {
+            Thread.currentThread().setName("app-task-" + name);
+            boolean acquired = false;
+            try {
+                permits.acquire();
+                acquired = true;
+                queued.decrementAndGet();
+                if (result.isDone()) return; // Cancelled while waiting in line
+                current.set(result);
+                running.incrementAndGet();
+                long startedAt = System.nanoTime();
+                try {
+                    result.complete(task.call());
+                    completed.increment();
+                } catch (InterruptedException | CancellationException e) {
+                    result.cancel(false);
+                } catch (Throwable t) {
+                    failed.increment();
+                    log.error("Background task '" + name + "' failed", t);
+                    result.completeExceptionally(t);
+                } finally {
+                    running.decrementAndGet();
+                    long now = System.nanoTime();
+                    statsByName.computeIfAbsent(name, TaskStats::new).record(startedAt - submittedAt, now - startedAt);
+                }
+            } catch (InterruptedException e) {
+                queued.decrementAndGet();
+                result.cancel(false);
+            } finally {
+                if (acquired) permits.release();
+            }
+        });
+
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                cancelled.increment();
+                future.cancel(false);
+            }
+            if (scope != null) scope.remove(result);
+        });
+        return result;
+    }
+
+    /** Whether the task running on this thread was cancelled, e.g. its node left the scene. */
+    public static boolean isCancelled() {
+        CompletableFuture<?> task = current.get();
+        return task != null && task.isCancelled();
+    }
+
+    /**
+     * Cancel every outstanding task owned by the given node.
+     */
+    public static void cancelAll(Node owner) {
+        Scope scope;
+        synchronized (scopes) {
+            scope = scopes.get(owner);
+        }
+        if (scope != null) scope.cancelAll();
+    }
+
+    /** Stop accepting work and interrupt running tasks; call on application exit. */
+    public static void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Tasks submitted but waiting for a free slot. */
+    public static int getQueuedCount() { return queued.get(); }
+
+    /** Tasks currently running. */
+    public static int getRunningCount() { return running.get(); }
+
+    public static long getSubmittedCount() { return submitted.sum(); }
+    public static long getCompletedCount() { return completed.sum(); }
+    public static long getFailedCount() { return failed.sum(); }
+    public static long getCancelledCount() { return cancelled.sum(); }
+
+    /** Latency stats per task name, sorted by name. */
+    public static Map<String, TaskStats> getTaskStats() {
+        return Collections.unmodifiableMap(new TreeMap<>(statsByName));
+    }
+
+    /**
+     * Latency counters for one task name. Times are in nanoseconds.
+     */
+    public static final class TaskStats {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalQueueNanos = new LongAdder();
+        private final LongAdder totalRunNanos = new LongAdder();
+        private final AtomicLong maxRunNanos = new AtomicLong();
+
+        TaskStats(String name) {
+            this.name = name;
+        }
+
+        void record(long queueNanos, long runNanos) {
+            count.increment();
+            totalQueueNanos.add(queueNanos);
+            totalRunNanos.add(runNanos);
+            maxRunNanos.accumulateAndGet(runNanos, Math::max);
+        }
+
+        public String getName() { return name; }
+        public long getCount() { return count.sum(); }
+        public double getAvgQueueMillis() { long c = count.sum(); return c == 0 ? 0 : totalQueueNanos.sum() / 1e6 / c; }
+        public double getAvgRunMillis() { long c = count.sum(); return c == 0 ? 0 : totalRunNanos.sum() / 1e6 / c; }
+        public double getMaxRunMillis() { return maxRunNanos.get() / 1e6; }
+
+        @Override
+        public String toString() {
+            return String.format("%s: n=%d avgQueue=%.1fms avgRun=%.1fms maxRun=%.1fms",
+                    name, getCount(), getAvgQueueMillis(), getAvgRunMillis(), getMaxRunMillis());
+        }
+    }
+
+    private static Scope scopeFor(Node owner) {
+        synchronized (scopes) {
+            return scopes.computeIfAbsent(owner, Scope::new);
+        }
+    }
+
+    /**
+     * Outstanding tasks of one owner node. Retired once the node is removed from a scene it was in.
+     */
+    private static final class Scope {
+        private final Set<CompletableFuture<?>> tasks = ConcurrentHashMap.newKeySet();
+        private volatile boolean retired = false;
+
+        Scope(Node owner) {
+            ChangeListener<Scene> listener = (obs, oldScene, newScene) -> {
+                if (newScene != null) {
+                    retired = false;
+                } else if (oldScene != null) {
+                    retired = true;
+                    cancelAll();
+                }
+            };
+            if (Platform.isFxApplicationThread()) {
+                owner.sceneProperty().addListener(listener);
+            } else {
+                FxQueue.runLater(() -> owner.sceneProperty().addListener(listener));
+            }
+        }
+
+        boolean isRetired() { return retired; }
+
+        void add(CompletableFuture<?> task) {
+            tasks.add(task);
+            if (retired) task.cancel(false);
+        }
+
+        void remove(CompletableFuture<?> task) { tasks.remove(task); }
+
+        void cancelAll() {
+            for (CompletableFuture<?> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.the_pathfinders.util;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tokens that expire on their own: pending email verifications, password reset links and the like.
+ *
+ * Entries sit in a hashed timing wheel of {@code slots} buckets, each covering one tick. Adding or removing
+ * a token links or unlinks it in its bucket, and each tick only looks at the one bucket that came due, so
+ * the sweep never scans every outstanding token. Tokens further out than one turn of the wheel share a
+ * bucket with nearer ones and are skipped until their own turn comes round. {@link #get} also checks the
+ * exact expiry time, so a token is never handed out late by up to a tick.
+ *
+ * The sweep runs on a shared daemon thread and only while the store holds something. Each store reports
+ * gauge tokens.&lt;name&gt;.live and counter tokens.&lt;name&gt;.expired through {@link Metrics}.
+ */
+public final class TokenStore<V> {
+    private static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+    private static final int DEFAULT_SLOTS = 512; // power of two; ~8.5 minutes per turn at one-second ticks
+
+    private static final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "token-sweeper");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final class Node<V> {
+        final String token;
+        final V value;
+        final long expiresAt; // System.nanoTime()
+        final long deadlineTick;
+        Node<V> prev;
+        Node<V> next;
+
+        Node(String token, V value, long expiresAt, long deadlineTick) {
+            this.token = token;
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    private final String name;
+    private final long tickNanos;
+    private final int mask;
+    private final Node<V>[] wheel;
+    private final Map<String, Node<V>> index = new HashMap<>();
+    private final long origin = System.nanoTime();
+    private final LongAdder expired;
+    private long sweptTick; // every bucket up to this tick has been swept
+    private ScheduledFuture<?> sweep;
+
+    public TokenStore(String name) {
+        this(name, DEFAULT_TICK, DEFAULT_SLOTS);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TokenStore(String name, Duration tick, int slots) {
+        if (Integer.bitCount(slots) != 1) throw new IllegalArgumentException("slots must be a power of two");
+        this.name = name;
+        this.tickNanos = tick.toNanos();
+        this.mask = slots - 1;
+        this.wheel = (Node<V>[]) new Node[slots];
+        this.expired = Metrics.counter("tokens." + name + ".expired");
+        Metrics.gauge("tokens." + name + ".live", this::size);
+    }
+
+    /** Store a token for {@code ttl}, replacing any earlier value for it. */
+    public synchronized void put(String token, V value, Duration ttl) {
+        unlink(index.remove(token));
+        long expiresAt = System.nanoTime() + ttl.toNanos();
+        // Ceiling, so a token is never swept before it expires
+        long deadlineTick = Math.max((expiresAt - origin + tickNanos - 1) / tickNanos, sweptTick + 1);
+        Node<V> node = new Node<>(token, value, expiresAt, deadlineTick);
+        index.put(token, node);
+        link(node);
+        if (sweep == null) {
+            sweep = sweeper.scheduleAtFixedRate(this::sweep, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** The token's value, or null if it was never stored, was removed or has expired. */
+    public synchronized V get(String token) {
+        Node<V> node = index.get(token);
+        if (node == null) return null;
+        if (System.nanoTime() - node.expiresAt >= 0) {
+            expire(node);
+            return null;
+        }
+        return node.value;
+    }
+
+    /** Take a token out, e.g. once it has been used; returns its value if it was still live. */
+    public synchronized V remove(String token) {
+        Node<V> node = index.remove(token);
+        if (node == null) return null;
+        unlink(node);
+        return System.nanoTime() - node.expiresAt < 0 ? node.value : null;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private synchronized void sweep() {
+        long now = (System.nanoTime() - origin) / tickNanos;
+        // After a long stall, one pass over every bucket covers everything that came due
+        long from = Math.max(sweptTick + 1, now - mask);
+        for (long tick = from; tick <= now; tick++) {
+            Node<V> node = wheel[(int) (tick & mask)];
+            while (node != null) {
+                Node<V> next = node.next;
+                if (node.deadlineTick <= now) expire(node);
+                node = next;
+            }
+        }
+        sweptTick = now;
+        if (index.isEmpty()) {
+            sweep.cancel(false);
+            sweep = null;
+        }
+    }
+
+    private void expire(Node<V> node) {
+        index.remove(node.token);
+        unlink(node);
+        expired.increment();
+    }
+
+    private void link(Node<V> node) {
+        int bucket = (int) (node.deadlineTick & mask);
+        node.next = wheel[bucket];
+        if (node.next != null) node.next.prev = node;
+        wheel[bucket] = node;
+    }
+
+    private void unlink(Node<V> node) {
+        if (node == null) return;
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            int bucket = (int) (node.deadlineTick & mask);
+            if (wheel[bucket] == node) wheel[bucket] = node.next;
+        }
+        if (node.next != null) node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+}
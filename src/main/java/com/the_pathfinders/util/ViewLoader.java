@@ -0,0 +1,178 @@
+package com.the_pathfinders.util;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads FXML views for navigation, reusing them where it is safe.
+ *
+ * - {@link #prewarm} parses views in the background (e.g. behind the splash screen) and keeps one
+ *   unused instance of each for the first {@link #load}.
+ * - Views whose controller implements {@link Lifecycle} are kept after use, up to
+ *   {@value #MAX_CACHED_VIEWS} of them, least recently used first out. Visiting one again returns
+ *   the same root and controller, so FXML, CSS and the scene graph are not rebuilt; the controller
+ *   refreshes its data in {@link Lifecycle#onShow}. Views without Lifecycle are loaded fresh every time.
+ * - onShow/onHide fire when the view's root is attached to or detached from a scene,
+ *   i.e. around scene.setRoot, whoever does the navigation.
+ *
+ * Cached views belong to the signed-in soul; call {@link #clear} on logout.
+ */
+public final class ViewLoader {
+    private static final Log log = Log.get("ui");
+
+    public static final int MAX_CACHED_VIEWS = 5;
+
+    /** Implemented by controllers whose views may be reused. Both methods run on the FX thread. */
+    public interface Lifecycle {
+        /** The view was put on screen, the first time or coming back from the cache. */
+        default void onShow() {}
+
+        /** The view was replaced by another one; stop timers, subscriptions and media here. */
+        default void onHide() {}
+    }
+
+    /** A loaded view: its root node and controller. */
+    public record View<C>(Parent root, C controller) {}
+
+    // fxml path -> view, in access order (eldest = least recently used)
+    private static final LinkedHashMap<String, View<?>> cache = new LinkedHashMap<>(16, 0.75f, true);
+    // fxml path -> unused instance parsed ahead of time
+    private static final Map<String, CompletableFuture<View<?>>> spares = new HashMap<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder prewarmHits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private ViewLoader() {}
+
+    /**
+     * Parse the given views in the background so the first visit doesn't wait for FXML and CSS.
+     * Views already cached or prewarmed are skipped.
+     * @return Completes when all of them are parsed
+     */
+    public static synchronized CompletableFuture<Void> prewarm(String... fxmlPaths) {
+        List<CompletableFuture<View<?>>> started = new ArrayList<>();
+        for (String fxml : fxmlPaths) {
+            if (cache.containsKey(fxml) || spares.containsKey(fxml)) continue;
+            CompletableFuture<View<?>> spare = TaskRunner.supply(null, "prewarmView", () -> {
+                long t0 = System.nanoTime();
+                View<?> view = parse(fxml);
+                log.debug(() -> "Prewarmed " + fxml + " in " + (System.nanoTime() - t0) / 1_000_000 + " ms");
+                return view;
+            });
+            spares.put(fxml, spare);
+            started.add(spare);
+        }
+        return CompletableFuture.allOf(started.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * The view for an FXML path: the cached one, a prewarmed one, or a freshly loaded one.
+     * Blocks while loading, so call it from a background task.
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> View<C> load(String fxml) throws IOException {
+        CompletableFuture<View<?>> spare;
+        synchronized (ViewLoader.class) {
+            View<?> cached = cache.get(fxml);
+            if (cached != null) {
+                hits.increment();
+                return (View<C>) cached;
+            }
+            spare = spares.remove(fxml);
+        }
+
+        View<?> view = null;
+        if (spare != null) {
+            try {
+                view = spare.join();
+                prewarmHits.increment();
+            } catch (CompletionException | CancellationException e) {
+                log.error("Prewarming " + fxml + " failed, loading it now: " + e.getMessage());
+            }
+        }
+        if (view == null) {
+            misses.increment();
+            view = parse(fxml);
+        }
+
+        if (view.controller() instanceof Lifecycle) {
+            synchronized (ViewLoader.class) {
+                cache.put(fxml, view);
+                evict();
+            }
+        }
+        return (View<C>) view;
+    }
+
+    /** Drop all cached views (not the prewarmed, still unused ones). */
+    public static synchronized void clear() {
+        cache.clear();
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getPrewarmHitCount() {
+        return prewarmHits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static synchronized int getCachedCount() {
+        return cache.size();
+    }
+
+    private static View<?> parse(String fxml) throws IOException {
+        URL url = ViewLoader.class.getResource(fxml);
+        if (url == null) throw new IOException("View not found: " + fxml);
+        FXMLLoader loader = new FXMLLoader(url);
+        AppEvents.FxmlLoad event = new AppEvents.FxmlLoad();
+        event.begin();
+        Parent root = loader.load();
+        Object controller = loader.getController();
+        event.end();
+        if (event.shouldCommit()) {
+            event.fxml = fxml;
+            event.controller = controller != null ? controller.getClass().getSimpleName() : null;
+            event.commit();
+        }
+        if (controller instanceof Lifecycle lifecycle) {
+            root.sceneProperty().addListener((obs, oldScene, newScene) -> {
+                if (newScene != null) {
+                    // After the other scene listeners, so TaskRunner has re-opened the root's task scope
+                    FxQueue.runLater(() -> {
+                        if (root.getScene() != null) lifecycle.onShow();
+                    });
+                } else if (oldScene != null) {
+                    lifecycle.onHide();
+                }
+            });
+        }
+        return new View<>(root, controller);
+    }
+
+    /** Evict least recently used views over the cap, skipping any that are on screen. */
+    private static void evict() {
+        Iterator<View<?>> it = cache.values().iterator();
+        while (cache.size() > MAX_CACHED_VIEWS && it.hasNext()) {
+            if (it.next().root().getScene() == null) it.remove();
+        }
+    }
+}
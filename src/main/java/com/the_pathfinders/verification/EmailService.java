@@ -1,10 +1,16 @@
 package com.the_pathfinders.verification;
 
+import com.the_pathfinders.util.HttpGateway;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.PasswordResetServer;
+
 import javax.mail.*;
 import javax.mail.internet.*;
 import java.util.Properties;
 
 public class EmailService {
+    private static final Log log = Log.get("verification");
+
     private static final String SMTP_HOST = "smtp.gmail.com";
     private static final String SMTP_PORT = "587";
     private static final String FROM_EMAIL = "the.pathfinders.dev@gmail.com";
@@ -14,8 +20,8 @@ public class EmailService {
 
     public static void sendVerificationEmail(String toEmail, String soulId, String verificationToken) {
         if (!EMAIL_ENABLED) {
-            System.out.println("[EMAIL DISABLED] Would send verification to: " + toEmail);
-            System.out.println("[EMAIL DISABLED] Verification link: http://localhost:8080/verify?token=" + verificationToken + "&soul_id=" + soulId);
+            log.debug(() -> "[EMAIL DISABLED] Would send verification to: " + toEmail);
+            log.debug(() -> "[EMAIL DISABLED] Verification link: " + HttpGateway.baseUrl() + "/verify?token=" + verificationToken + "&soul_id=" + soulId);
             return;
         }
         
@@ -43,7 +49,7 @@ public class EmailService {
             message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toEmail));
             message.setSubject("shelter_of_mind email Verification");
 
-            String verificationLink = "http://localhost:8080/verify?token=" + verificationToken + "&soul_id=" + soulId;
+            String verificationLink = HttpGateway.baseUrl() + "/verify?token=" + verificationToken + "&soul_id=" + soulId;
             
             String emailBody = String.format(
                 "Hello there, our good soul \"%s\"!\n\n" +
@@ -58,21 +64,20 @@ public class EmailService {
 
             message.setText(emailBody);
 
-            System.out.println("Sending verification email to: " + toEmail);
+            log.debug(() -> "Sending verification email to: " + toEmail);
             Transport.send(message);
-            System.out.println("Verification email sent successfully!");
+            log.debug("Verification email sent successfully!");
 
         } catch (Exception e) {
-            System.err.println("Failed to send verification email: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to send verification email", e);
             throw new RuntimeException("Failed to send verification email", e);
         }
     }
 
     public static void sendKeeperVerificationEmail(String toEmail, String keeperId, String verificationToken) {
         if (!EMAIL_ENABLED) {
-            System.out.println("[EMAIL DISABLED] Would send keeper verification to: " + toEmail);
-            System.out.println("[EMAIL DISABLED] Verification link: http://localhost:8080/verify-keeper?token=" + verificationToken + "&keeper_id=" + keeperId);
+            log.debug(() -> "[EMAIL DISABLED] Would send keeper verification to: " + toEmail);
+            log.debug(() -> "[EMAIL DISABLED] Verification link: " + HttpGateway.baseUrl() + "/verify-keeper?token=" + verificationToken + "&keeper_id=" + keeperId);
             return;
         }
         
@@ -100,7 +105,7 @@ public class EmailService {
             message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toEmail));
             message.setSubject("shelter_of_mind - Keeper Account Email Verification");
 
-            String verificationLink = "http://localhost:8080/verify-keeper?token=" + verificationToken + "&keeper_id=" + keeperId;
+            String verificationLink = HttpGateway.baseUrl() + "/verify-keeper?token=" + verificationToken + "&keeper_id=" + keeperId;
             
             String emailBody = String.format(
                 "Hello there, aspiring keeper \"%s\"!\n\n" +
@@ -118,20 +123,19 @@ public class EmailService {
 
             message.setText(emailBody);
 
-            System.out.println("Sending keeper verification email to: " + toEmail);
+            log.debug(() -> "Sending keeper verification email to: " + toEmail);
             Transport.send(message);
-            System.out.println("Keeper verification email sent successfully!");
+            log.debug("Keeper verification email sent successfully!");
 
         } catch (Exception e) {
-            System.err.println("Failed to send keeper verification email: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to send keeper verification email", e);
             throw new RuntimeException("Failed to send keeper verification email", e);
         }
     }
     
     public static void sendKeeperApprovalNotification(String toEmail, String keeperId) {
         if (!EMAIL_ENABLED) {
-            System.out.println("[EMAIL DISABLED] Would send approval notification to: " + toEmail);
+            log.debug(() -> "[EMAIL DISABLED] Would send approval notification to: " + toEmail);
             return;
         }
         
@@ -173,19 +177,18 @@ public class EmailService {
 
             message.setText(emailBody);
 
-            System.out.println("Sending keeper approval notification to: " + toEmail);
+            log.debug(() -> "Sending keeper approval notification to: " + toEmail);
             Transport.send(message);
-            System.out.println("Keeper approval notification sent successfully!");
+            log.debug("Keeper approval notification sent successfully!");
 
         } catch (Exception e) {
-            System.err.println("Failed to send keeper approval notification: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to send keeper approval notification", e);
         }
     }
     
     public static void sendKeeperRejectionNotification(String toEmail, String keeperId) {
         if (!EMAIL_ENABLED) {
-            System.out.println("[EMAIL DISABLED] Would send rejection notification to: " + toEmail);
+            log.debug(() -> "[EMAIL DISABLED] Would send rejection notification to: " + toEmail);
             return;
         }
         
@@ -230,20 +233,19 @@ public class EmailService {
 
             message.setText(emailBody);
 
-            System.out.println("Sending keeper rejection notification to: " + toEmail);
+            log.debug(() -> "Sending keeper rejection notification to: " + toEmail);
             Transport.send(message);
-            System.out.println("Keeper rejection notification sent successfully!");
+            log.debug("Keeper rejection notification sent successfully!");
 
         } catch (Exception e) {
-            System.err.println("Failed to send keeper rejection notification: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to send keeper rejection notification", e);
         }
     }
     
     public static void notifyExistingKeepersOfNewSignup(String newKeeperEmail, String newKeeperId) {
         // For now, just log it
-        System.out.println("New keeper signup pending approval: " + newKeeperId + " (" + newKeeperEmail + ")");
-        System.out.println("Existing keepers should be notified through the admin dashboard.");
+        log.debug(() -> "New keeper signup pending approval: " + newKeeperId + " (" + newKeeperEmail + ")");
+        log.debug("Existing keepers should be notified through the admin dashboard.");
     }
 
     public static String generateVerificationToken(String soulId) {
@@ -253,8 +255,8 @@ public class EmailService {
     
     public static void sendPasswordResetEmail(String toEmail, String keeperId, String resetToken) {
         if (!EMAIL_ENABLED) {
-            System.out.println("[EMAIL DISABLED] Would send password reset to: " + toEmail);
-            System.out.println("[EMAIL DISABLED] Reset link: http://localhost:8081/reset-password?token=" + resetToken);
+            log.debug(() -> "[EMAIL DISABLED] Would send password reset to: " + toEmail);
+            log.debug(() -> "[EMAIL DISABLED] Reset link: " + PasswordResetServer.linkFor(resetToken));
             return;
         }
         
@@ -279,7 +281,7 @@ public class EmailService {
             message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toEmail));
             message.setSubject("shelter_of_mind - Password Reset Request");
 
-            String resetLink = "http://localhost:8081/reset-password?token=" + resetToken;
+            String resetLink = PasswordResetServer.linkFor(resetToken);
             
             String emailBody = String.format(
                 "Hello keeper \"%s\",\n\n" +
@@ -297,13 +299,12 @@ public class EmailService {
 
             message.setText(emailBody);
 
-            System.out.println("Sending password reset email to: " + toEmail);
+            log.debug(() -> "Sending password reset email to: " + toEmail);
             Transport.send(message);
-            System.out.println("Password reset email sent successfully!");
+            log.debug("Password reset email sent successfully!");
 
         } catch (Exception e) {
-            System.err.println("Failed to send password reset email: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to send password reset email", e);
             throw new RuntimeException("Failed to send password reset email", e);
         }
     }
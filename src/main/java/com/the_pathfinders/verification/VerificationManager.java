@@ -1,11 +1,15 @@
 package com.the_pathfinders.verification;
 
+import com.the_pathfinders.util.Log;
+
 import com.the_pathfinders.db.SoulInfoRepository;
 
 import java.io.IOException;
 import java.sql.SQLException;
 
 public class VerificationManager {
+    private static final Log log = Log.get("verification");
+
     private static VerificationManager instance;
     private VerificationServer httpServer;
     private VerificationWebSocketServer wsServer;
@@ -22,22 +26,21 @@ public class VerificationManager {
 
     public void start() throws IOException {
         if (isRunning) {
-            System.out.println("Verification manager already running");
+            log.debug("Verification manager already running");
             return;
         }
 
         try {
             // Start HTTP server
             httpServer = new VerificationServer((soulId, token) -> {
-                System.out.println("Verification callback triggered for soul_id: " + soulId);
+                log.debug(() -> "Verification callback triggered for soul_id: " + soulId);
                 
                 // Update database
                 try {
                     SoulInfoRepository.updateEmailVerified(soulId, true);
-                    System.out.println("Database updated: email verified for soul_id: " + soulId);
+                    log.debug(() -> "Database updated: email verified for soul_id: " + soulId);
                 } catch (SQLException e) {
-                    System.err.println("Failed to update database: " + e.getMessage());
-                    e.printStackTrace();
+                    log.error("Failed to update database", e);
                 }
 
                 // Notify WebSocket clients
@@ -52,11 +55,11 @@ public class VerificationManager {
             wsServer.start();
 
             isRunning = true;
-            System.out.println("Verification manager started successfully");
+            log.info("Verification manager started successfully");
         } catch (IOException e) {
             if (e.getMessage() != null && e.getMessage().contains("already in use")) {
                 // Port conflict - likely another instance running
-                System.err.println("Port already in use. Please close any other instances of the application.");
+                log.warn("Port already in use. Please close any other instances of the application.");
                 throw new IOException("Verification server port is already in use. Please close any running instances and try again.", e);
             }
             throw e;
@@ -79,12 +82,12 @@ public class VerificationManager {
             try {
                 wsServer.stop();
             } catch (Exception e) {
-                System.err.println("Error stopping WebSocket server: " + e.getMessage());
+                log.error("Error stopping WebSocket server: " + e.getMessage());
             }
         }
 
         isRunning = false;
-        System.out.println("Verification manager stopped");
+        log.info("Verification manager stopped");
     }
 
     public void sendVerificationEmail(String soulId, String email) throws Exception {
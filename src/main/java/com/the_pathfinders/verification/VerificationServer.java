@@ -1,22 +1,33 @@
 package com.the_pathfinders.verification;
 
-import com.sun.net.httpserver.HttpServer;
-import com.sun.net.httpserver.HttpHandler;
-import com.sun.net.httpserver.HttpExchange;
+import com.the_pathfinders.util.HttpGateway;
+import com.the_pathfinders.util.HttpGateway.Request;
+import com.the_pathfinders.util.HttpGateway.Response;
+import com.the_pathfinders.util.HttpGateway.Template;
+import com.the_pathfinders.util.Log;
+import com.the_pathfinders.util.TokenStore;
 
 import java.io.IOException;
-import java.io.OutputStream;
-import java.net.InetSocketAddress;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Handles the /verify and /verify-keeper links from verification emails, served by {@link HttpGateway}.
+ * Result pages are rendered once; only the ID on a success page is filled in per request.
+ */
 public class VerificationServer {
-    private HttpServer server;
-    private static final int PORT = 8080;
-    private Map<String, String> pendingVerifications = new ConcurrentHashMap<>();
-    private Map<String, Long> recentlyVerified = new ConcurrentHashMap<>(); // Track recently verified to prevent duplicates
+    private static final Log log = Log.get("verification");
+
+    // Where the ID goes in the pre-rendered success pages
+    private static final String ID_SLOT = "{{id}}";
+    // Verification links are good for a day; a second click within a few seconds is treated as a duplicate
+    private static final Duration PENDING_TTL = Duration.ofHours(24);
+    private static final Duration DUPLICATE_WINDOW = Duration.ofSeconds(5);
+
+    private boolean started = false;
+    private final TokenStore<String> pendingVerifications = new TokenStore<>("verification.pending");
+    private final TokenStore<Boolean> recentlyVerified = new TokenStore<>("verification.recent"); // Track recently verified to prevent duplicates
     private VerificationCallback callback;
 
     public interface VerificationCallback {
@@ -28,110 +39,76 @@ public class VerificationServer {
     }
 
     public void start() throws IOException {
-        if (server != null) {
-            System.out.println("Verification server already running");
+        if (started) {
+            log.debug("Verification server already running");
             return;
         }
 
-        try {
-            server = HttpServer.create(new InetSocketAddress(PORT), 0);
-            server.createContext("/verify", new VerificationHandler());
-            server.createContext("/verify-keeper", new KeeperVerificationHandler());
-            server.setExecutor(null); // Use default executor
-            server.start();
-            System.out.println("Verification server started on port " + PORT);
-        } catch (java.net.BindException e) {
-            System.err.println("Port " + PORT + " is already in use. Server may already be running.");
-            // Port is in use, likely from a previous instance. This is acceptable.
-            // We'll treat this as if the server is already running
-            throw new IOException("Port " + PORT + " already in use", e);
+        HttpGateway.route("/verify", new VerificationHandler());
+        HttpGateway.route("/verify-keeper", new KeeperVerificationHandler());
+        HttpGateway.start(); // No-op if the app already started it
+        if (!HttpGateway.isRunning()) {
+            HttpGateway.remove("/verify");
+            HttpGateway.remove("/verify-keeper");
+            throw new IOException("Port " + HttpGateway.getPort() + " already in use");
         }
+        started = true;
+        log.debug("Verification routes registered on port " + HttpGateway.getPort());
     }
 
     public void stop() {
-        if (server != null) {
-            server.stop(0);
-            server = null;
-            System.out.println("Verification server stopped");
+        if (started) {
+            HttpGateway.remove("/verify");
+            HttpGateway.remove("/verify-keeper");
+            started = false;
+            log.debug("Verification routes removed");
         }
     }
 
     public void registerVerification(String token, String soulId) {
-        pendingVerifications.put(token, soulId);
-        System.out.println("Registered verification token for soul_id: " + soulId);
+        pendingVerifications.put(token, soulId, PENDING_TTL);
+        log.debug(() -> "Registered verification token for soul_id: " + soulId);
     }
 
-    private class VerificationHandler implements HttpHandler {
-        @Override
-        public void handle(HttpExchange exchange) throws IOException {
-            String query = exchange.getRequestURI().getQuery();
-            Map<String, String> params = parseQuery(query);
-            
-            String token = params.get("token");
-            String soulId = params.get("soul_id");
+    private class VerificationHandler implements HttpGateway.Handler {
+        private final Template successPage = Template.of(buildSuccessPage(ID_SLOT), ID_SLOT);
+        private final Map<String, Response> errorPages = new ConcurrentHashMap<>();
 
-            String responseHtml;
-            int statusCode;
+        @Override
+        public Response handle(Request request) {
+            String token = request.param("token");
+            String soulId = request.param("soul_id");
 
-            if (token != null && soulId != null && pendingVerifications.containsKey(token)) {
-                String expectedSoulId = pendingVerifications.get(token);
-                
+            String expectedSoulId = token != null ? pendingVerifications.get(token) : null;
+            if (soulId != null && expectedSoulId != null) {
                 if (expectedSoulId.equals(soulId)) {
                     // Check if already verified recently (within 5 seconds) to prevent duplicate verifications
-                    Long lastVerified = recentlyVerified.get(soulId);
-                    long now = System.currentTimeMillis();
-                    
-                    if (lastVerified != null && (now - lastVerified) < 5000) {
+                    if (recentlyVerified.get(soulId) != null) {
                         // Already verified recently, don't process again
-                        System.out.println("Duplicate verification request ignored for soul_id: " + soulId);
-                        responseHtml = buildSuccessPage(soulId);
-                        statusCode = 200;
+                        log.debug(() -> "Duplicate verification request ignored for soul_id: " + soulId);
+                        return successPage.render(200, soulId);
                     } else {
                         // Valid verification - first time or after cooldown
                         pendingVerifications.remove(token);
-                        recentlyVerified.put(soulId, now);
+                        recentlyVerified.put(soulId, Boolean.TRUE, DUPLICATE_WINDOW);
                         
                         // Notify callback
                         if (callback != null) {
                             callback.onVerified(soulId, token);
                         }
 
-                        responseHtml = buildSuccessPage(soulId);
-                        statusCode = 200;
-                        
-                        // Clean up old entries in recentlyVerified (older than 10 seconds)
-                        recentlyVerified.entrySet().removeIf(entry -> (now - entry.getValue()) > 10000);
+                        return successPage.render(200, soulId);
                     }
                 } else {
-                    responseHtml = buildErrorPage("Invalid verification link");
-                    statusCode = 400;
+                    return errorPage("Invalid verification link");
                 }
             } else {
-                responseHtml = buildErrorPage("Invalid or expired verification link");
-                statusCode = 400;
-            }
-
-            byte[] response = responseHtml.getBytes(StandardCharsets.UTF_8);
-            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
-            exchange.sendResponseHeaders(statusCode, response.length);
-            
-            try (OutputStream os = exchange.getResponseBody()) {
-                os.write(response);
+                return errorPage("Invalid or expired verification link");
             }
         }
 
-        private Map<String, String> parseQuery(String query) {
-            Map<String, String> params = new HashMap<>();
-            if (query != null) {
-                String[] pairs = query.split("&");
-                for (String pair : pairs) {
-                    String[] keyValue = pair.split("=");
-                    if (keyValue.length == 2) {
-                        params.put(keyValue[0], keyValue[1]);
-                    }
-                }
-            }
-            return params;
+        private Response errorPage(String message) {
+            return errorPages.computeIfAbsent(message, m -> Response.html(400, buildErrorPage(m)));
         }
 
         private String buildSuccessPage(String soulId) {
@@ -177,38 +154,30 @@ public class VerificationServer {
         }
     }
     
-    private class KeeperVerificationHandler implements HttpHandler {
-        @Override
-        public void handle(HttpExchange exchange) throws IOException {
-            String query = exchange.getRequestURI().getQuery();
-            Map<String, String> params = parseQuery(query);
-            
-            String token = params.get("token");
-            String keeperId = params.get("keeper_id");
+    private class KeeperVerificationHandler implements HttpGateway.Handler {
+        private final Template successPage = Template.of(buildKeeperSuccessPage(ID_SLOT), ID_SLOT);
+        private final Map<String, Response> errorPages = new ConcurrentHashMap<>();
 
-            String responseHtml;
-            int statusCode;
+        @Override
+        public Response handle(Request request) {
+            String token = request.param("token");
+            String keeperId = request.param("keeper_id");
 
-            if (token != null && keeperId != null && pendingVerifications.containsKey(token)) {
-                String expectedKeeperId = pendingVerifications.get(token);
-                
+            String expectedKeeperId = token != null ? pendingVerifications.get(token) : null;
+            if (keeperId != null && expectedKeeperId != null) {
                 if (expectedKeeperId.equals(keeperId)) {
                     // Check if already verified recently
-                    Long lastVerified = recentlyVerified.get(keeperId);
-                    long now = System.currentTimeMillis();
-                    
-                    if (lastVerified != null && (now - lastVerified) < 5000) {
-                        System.out.println("Duplicate keeper verification request ignored for keeper_id: " + keeperId);
-                        responseHtml = buildKeeperSuccessPage(keeperId);
-                        statusCode = 200;
+                    if (recentlyVerified.get(keeperId) != null) {
+                        log.debug(() -> "Duplicate keeper verification request ignored for keeper_id: " + keeperId);
+                        return successPage.render(200, keeperId);
                     } else {
                         pendingVerifications.remove(token);
-                        recentlyVerified.put(keeperId, now);
+                        recentlyVerified.put(keeperId, Boolean.TRUE, DUPLICATE_WINDOW);
                         
                         // Update keeper email verification status
                         try {
                             com.the_pathfinders.db.KeeperRepository.updateEmailVerified(keeperId, true);
-                            System.out.println("Keeper email verified: " + keeperId);
+                            log.debug(() -> "Keeper email verified: " + keeperId);
                             
                             // Notify existing keepers
                             com.the_pathfinders.verification.EmailService.notifyExistingKeepersOfNewSignup(
@@ -216,45 +185,21 @@ public class VerificationServer {
                                 keeperId
                             );
                         } catch (Exception e) {
-                            System.err.println("Failed to update keeper verification status: " + e.getMessage());
-                            e.printStackTrace();
+                            log.error("Failed to update keeper verification status", e);
                         }
 
-                        responseHtml = buildKeeperSuccessPage(keeperId);
-                        statusCode = 200;
-                        
-                        recentlyVerified.entrySet().removeIf(entry -> (now - entry.getValue()) > 10000);
+                        return successPage.render(200, keeperId);
                     }
                 } else {
-                    responseHtml = buildKeeperErrorPage("Invalid verification link");
-                    statusCode = 400;
+                    return errorPage("Invalid verification link");
                 }
             } else {
-                responseHtml = buildKeeperErrorPage("Invalid or expired verification link");
-                statusCode = 400;
-            }
-
-            byte[] response = responseHtml.getBytes(StandardCharsets.UTF_8);
-            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
-            exchange.sendResponseHeaders(statusCode, response.length);
-            
-            try (OutputStream os = exchange.getResponseBody()) {
-                os.write(response);
+                return errorPage("Invalid or expired verification link");
             }
         }
 
-        private Map<String, String> parseQuery(String query) {
-            Map<String, String> params = new HashMap<>();
-            if (query != null) {
-                String[] pairs = query.split("&");
-                for (String pair : pairs) {
-                    String[] keyValue = pair.split("=");
-                    if (keyValue.length == 2) {
-                        params.put(keyValue[0], keyValue[1]);
-                    }
-                }
-            }
-            return params;
+        private Response errorPage(String message) {
+            return errorPages.computeIfAbsent(message, m -> Response.html(400, buildKeeperErrorPage(m)));
         }
 
         private String buildKeeperSuccessPage(String keeperId) {
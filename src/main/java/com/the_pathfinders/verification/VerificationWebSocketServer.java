@@ -1,58 +1,33 @@
 package com.the_pathfinders.verification;
 
-import org.java_websocket.WebSocket;
-import org.java_websocket.handshake.ClientHandshake;
-import org.java_websocket.server.WebSocketServer;
-
-import java.net.InetSocketAddress;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-public class VerificationWebSocketServer extends WebSocketServer {
-    private static final int PORT = 8081;
-    private Map<String, WebSocket> soulConnections = new ConcurrentHashMap<>();
-
-    public VerificationWebSocketServer() {
-        super(new InetSocketAddress(PORT));
-        System.out.println("WebSocket server created on port " + PORT);
-    }
-
-    @Override
-    public void onOpen(WebSocket conn, ClientHandshake handshake) {
-        String soulId = handshake.getResourceDescriptor().replace("/", "");
-        if (!soulId.isEmpty()) {
-            soulConnections.put(soulId, conn);
-            System.out.println("WebSocket connection opened for soul_id: " + soulId);
-        }
-    }
-
-    @Override
-    public void onClose(WebSocket conn, int code, String reason, boolean remote) {
-        // Remove connection
-        soulConnections.entrySet().removeIf(entry -> entry.getValue() == conn);
-        System.out.println("WebSocket connection closed");
-    }
-
-    @Override
-    public void onMessage(WebSocket conn, String message) {
-        System.out.println("WebSocket message received: " + message);
+import com.the_pathfinders.util.EventHub;
+import com.the_pathfinders.util.HttpGateway;
+import com.the_pathfinders.util.Log;
+
+/**
+ * Tells an open profile page that its email was verified: a VERIFIED event on the soul's {@link EventHub}
+ * topic, which profile pages receive over ws://localhost:&lt;gateway port&gt;/ws/&lt;soul_id&gt;.
+ */
+public class VerificationWebSocketServer {
+    private static final Log log = Log.get("verification");
+
+    /** ws:// URL a profile page connects to for this soul. */
+    public static String urlFor(String soulId) {
+        return EventHub.urlFor(soulId);
     }
 
-    @Override
-    public void onError(WebSocket conn, Exception ex) {
-        System.err.println("WebSocket error: " + ex.getMessage());
+    public void start() {
+        EventHub.getInstance().start(); // No-op if the app already started it
+        HttpGateway.start();
+        log.debug("Verification events go through the event hub on port " + HttpGateway.getPort());
     }
 
-    @Override
-    public void onStart() {
-        System.out.println("WebSocket server started on port " + PORT);
+    public void stop() {
+        // The hub and its sockets belong to the app and stay up for other events
     }
 
     public void notifyVerified(String soulId) {
-        WebSocket conn = soulConnections.get(soulId);
-        if (conn != null && conn.isOpen()) {
-            conn.send("VERIFIED");
-            System.out.println("Sent verification notification to soul_id: " + soulId);
-        }
+        EventHub.getInstance().publish(EventHub.soulTopic(soulId), "VERIFIED");
+        log.debug(() -> "Sent verification notification to soul_id: " + soulId);
     }
 }